@@ -19,6 +19,7 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.CompressedResendDataNotification;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.jsonrpc.notification.LogMessageNotification;
@@ -64,6 +65,8 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 			this.handleDataNotification(AggregatedDataNotification.from(notification), wsData);
 		case ResendDataNotification.METHOD ->
 			this.handleResendDataNotification(ResendDataNotification.from(notification), wsData);
+		case CompressedResendDataNotification.METHOD -> this.handleResendDataNotification(
+				CompressedResendDataNotification.from(notification).toResendDataNotification(), wsData);
 		case SystemLogNotification.METHOD ->
 			this.handleSystemLogNotification(SystemLogNotification.from(notification), wsData);
 		case LogMessageNotification.METHOD ->
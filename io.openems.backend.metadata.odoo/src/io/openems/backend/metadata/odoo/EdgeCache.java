@@ -2,18 +2,31 @@ package io.openems.backend.metadata.odoo;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import io.openems.backend.common.edge.jsonrpc.UpdateMetadataCache;
 import io.openems.backend.common.metadata.Edge;
 import io.openems.backend.metadata.odoo.Field.EdgeDevice;
+import io.openems.backend.metadata.odoo.odoo.OdooUtils;
 import io.openems.backend.metadata.odoo.postgres.PgUtils;
 import io.openems.common.exceptions.OpenemsException;
-import io.openems.common.types.SemanticVersion;
 
+/**
+ * Caches the Edges of the Odoo database.
+ *
+ * <p>
+ * Reads are lock-free: every index is a {@link ConcurrentHashMap} and can be
+ * queried by many threads while an update is in progress. Writers are
+ * serialized on the {@link EdgeCache} instance, so that all indexes are updated
+ * consistently. A new Edge is first added to the Edge-ID index; the other
+ * indexes point directly to the same instance.
+ */
 public class EdgeCache {
 
 	public static final int EXPECTED_CACHE_SIZE = 1_000;
@@ -23,24 +36,67 @@ public class EdgeCache {
 	/**
 	 * Map Edge-ID (String) to Edge. Initialized with expected cache size.
 	 */
-	private final Map<String, MyEdge> edgeIdToEdge = new HashMap<>(EXPECTED_CACHE_SIZE);
+	private final ConcurrentHashMap<String, MyEdge> edgeIdToEdge = new ConcurrentHashMap<>(EXPECTED_CACHE_SIZE);
 
 	/**
-	 * Map Odoo-ID (Integer) to Edge-ID (String). Initialized with expected cache
-	 * size.
+	 * Map Odoo-ID (Integer) to Edge. Initialized with expected cache size.
 	 */
-	private final Map<Integer, String> odooIdToEdgeId = new HashMap<>(EXPECTED_CACHE_SIZE);
+	private final ConcurrentHashMap<Integer, MyEdge> odooIdToEdge = new ConcurrentHashMap<>(EXPECTED_CACHE_SIZE);
 
 	/**
-	 * Map Apikey (String) to Edge-ID (String). Initialized with expected cache
-	 * size.
+	 * Map Apikey (String) to Edge. Initialized with expected cache size.
 	 */
-	private final Map<String, String> apikeyToEdgeId = new HashMap<>(EXPECTED_CACHE_SIZE);
+	private final ConcurrentHashMap<String, MyEdge> apikeyToEdge = new ConcurrentHashMap<>(EXPECTED_CACHE_SIZE);
 
 	public EdgeCache(MetadataOdoo parent) {
 		this.parent = parent;
 	}
 
+	/**
+	 * The raw values of an Edge from the Postgres database.
+	 *
+	 * <p>
+	 * Rows are read sequentially from a {@link ResultSet}; building the
+	 * {@link MyEdge} from it - parsing version and timestamps - can happen on
+	 * another thread.
+	 *
+	 * @param odooId      the Odoo-ID
+	 * @param edgeId      the Edge-ID
+	 * @param apikey      the Apikey
+	 * @param comment     the comment
+	 * @param version     the OpenEMS version
+	 * @param producttype the producttype
+	 * @param lastmessage the unparsed timestamp of the last message; possibly
+	 *                    null
+	 */
+	public record EdgeRow(int odooId, String edgeId, String apikey, String comment, String version,
+			String producttype, String lastmessage) {
+
+		/**
+		 * Reads an {@link EdgeRow} from the current row of a SQL ResultSet.
+		 *
+		 * @param rs the ResultSet record
+		 * @return the {@link EdgeRow}
+		 * @throws SQLException     on error
+		 * @throws OpenemsException on error
+		 */
+		public static EdgeRow from(ResultSet rs) throws SQLException, OpenemsException {
+			return new EdgeRow(//
+					PgUtils.getAsInt(rs, EdgeDevice.ID), //
+					PgUtils.getAsString(rs, EdgeDevice.NAME), //
+					PgUtils.getAsString(rs, EdgeDevice.APIKEY), //
+					PgUtils.getAsStringOrElse(rs, EdgeDevice.COMMENT, ""), //
+					PgUtils.getAsStringOrElse(rs, EdgeDevice.OPENEMS_VERSION, ""), //
+					PgUtils.getAsStringOrElse(rs, EdgeDevice.PRODUCTTYPE, ""), //
+					PgUtils.getAsStringOrElse(rs, EdgeDevice.LASTMESSAGE, null));
+		}
+
+		private MyEdge toEdge(MetadataOdoo parent) {
+			return new MyEdge(parent, this.odooId, this.edgeId, this.apikey, this.comment, this.version,
+					this.producttype, OdooUtils.DateTime.stringToDateTime(this.lastmessage));
+		}
+	}
+
 	/**
 	 * Adds a Edge or Updates an existing Edge from a SQL ResultSet.
 	 *
@@ -49,31 +105,74 @@ public class EdgeCache {
 	 * @throws SQLException     on error
 	 * @throws OpenemsException on error
 	 */
-	public synchronized MyEdge addOrUpdate(ResultSet rs) throws SQLException, OpenemsException {
-		// simple fields
-		var edgeId = PgUtils.getAsString(rs, EdgeDevice.NAME);
-		var odooId = PgUtils.getAsInt(rs, EdgeDevice.ID);
-		var apikey = PgUtils.getAsString(rs, EdgeDevice.APIKEY);
-
-		// more simple fields
-		var comment = PgUtils.getAsStringOrElse(rs, EdgeDevice.COMMENT, "");
-		var version = PgUtils.getAsStringOrElse(rs, EdgeDevice.OPENEMS_VERSION, "");
-		var producttype = PgUtils.getAsStringOrElse(rs, EdgeDevice.PRODUCTTYPE, "");
-		var lastmessage = PgUtils.getAsDateOrElse(rs, EdgeDevice.LASTMESSAGE, null);
+	public MyEdge addOrUpdate(ResultSet rs) throws SQLException, OpenemsException {
+		final var edge = EdgeRow.from(rs).toEdge(this.parent);
+		synchronized (this) {
+			return this.addOrUpdate(edge);
+		}
+	}
+
+	/**
+	 * Adds or updates multiple Edges.
+	 *
+	 * <p>
+	 * The Edges are built from the {@link EdgeRow}s on the calling thread; the
+	 * write lock is taken only once to add them. Readers are not blocked meanwhile.
+	 * Edges are available from the cache as soon as this method returns.
+	 *
+	 * @param rows the {@link EdgeRow}s
+	 */
+	public void addOrUpdateAll(List<EdgeRow> rows) {
+		this.addOrUpdateAll(rows, e -> {
+			throw e;
+		});
+	}
 
+	/**
+	 * Adds or updates multiple Edges; skips invalid rows.
+	 *
+	 * <p>
+	 * Like {@link #addOrUpdateAll(List)}, but a row that cannot be added is passed
+	 * to 'onError' and does not stop the other rows.
+	 *
+	 * @param rows    the {@link EdgeRow}s
+	 * @param onError called for every row that could not be added
+	 */
+	public void addOrUpdateAll(List<EdgeRow> rows, Consumer<RuntimeException> onError) {
+		final var edges = new ArrayList<MyEdge>(rows.size());
+		for (var row : rows) {
+			try {
+				edges.add(row.toEdge(this.parent));
+			} catch (RuntimeException e) {
+				onError.accept(e);
+			}
+		}
+		synchronized (this) {
+			for (var edge : edges) {
+				try {
+					this.addOrUpdate(edge);
+				} catch (RuntimeException e) {
+					onError.accept(e);
+				}
+			}
+		}
+	}
+
+	private MyEdge addOrUpdate(MyEdge newEdge) {
+		final var edgeId = newEdge.getId();
 		var edge = this.edgeIdToEdge.get(edgeId);
 		if (edge == null) {
-			// This is new -> create instance of Edge
-			edge = new MyEdge(this.parent, odooId, edgeId, apikey, comment, version, producttype, lastmessage);
+			// This is new -> add instance of Edge
+			edge = newEdge;
 			this.edgeIdToEdge.put(edgeId, edge);
-			this.odooIdToEdgeId.put(odooId, edgeId);
-			this.apikeyToEdgeId.put(apikey, edgeId);
+			this.odooIdToEdge.put(edge.getOdooId(), edge);
+			this.apikeyToEdge.put(edge.getApikey(), edge);
 		} else {
 			// Edge exists -> update information
-			edge.setComment(comment);
-			edge.setVersion(SemanticVersion.fromStringOrZero(version));
-			edge.setProducttype(producttype);
-			edge.setLastmessage(lastmessage);
+			edge.setComment(newEdge.getComment());
+			edge.setVersion(newEdge.getVersion());
+			edge.setProducttype(newEdge.getProducttype());
+			edge.setLastmessage(newEdge.getLastmessage());
 		}
 
 		return edge;
@@ -85,7 +184,10 @@ public class EdgeCache {
 	 * @param edgeId the Edge-ID
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeFromEdgeId(String edgeId) {
+	public MyEdge getEdgeFromEdgeId(String edgeId) {
+		if (edgeId == null) {
+			return null;
+		}
 		return this.edgeIdToEdge.get(edgeId);
 	}
 
@@ -95,12 +197,8 @@ public class EdgeCache {
 	 * @param odooId the Odoo-ID
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeFromOdooId(int odooId) {
-		var edgeId = this.odooIdToEdgeId.get(odooId);
-		if (edgeId == null) {
-			return null;
-		}
-		return this.getEdgeFromEdgeId(edgeId);
+	public MyEdge getEdgeFromOdooId(int odooId) {
+		return this.odooIdToEdge.get(odooId);
 	}
 
 	/**
@@ -109,17 +207,20 @@ public class EdgeCache {
 	 * @param apikey the Apikey
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeForApikey(String apikey) {
-		var edgeId = this.apikeyToEdgeId.get(apikey);
-		if (edgeId == null) {
+	public MyEdge getEdgeForApikey(String apikey) {
+		if (apikey == null) {
 			return null;
 		}
-		return this.getEdgeFromEdgeId(edgeId);
+		return this.apikeyToEdge.get(apikey);
 	}
 
 	/**
 	 * Gets all Edges as an unmodifiable Collection.
 	 *
+	 * <p>
+	 * The Collection is a live view; iterating it while Edges are added never
+	 * fails, but may or may not include the new Edges.
+	 *
 	 * @return a collection of Edges
 	 */
 	public Collection<Edge> getAllEdges() {
@@ -132,7 +233,9 @@ public class EdgeCache {
 	 * @return the notification
 	 */
 	public UpdateMetadataCache.Notification generateUpdateMetadataCacheNotification() {
-		return new UpdateMetadataCache.Notification(this.apikeyToEdgeId);
+		final var apikeysToEdgeIds = new HashMap<String, String>(this.apikeyToEdge.size());
+		this.apikeyToEdge.forEach((apikey, edge) -> apikeysToEdgeIds.put(apikey, edge.getId()));
+		return new UpdateMetadataCache.Notification(apikeysToEdgeIds);
 	}
 
 }
@@ -728,6 +728,14 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 			executorMetrics.compute(key, (t, u) -> u == null ? value : value + u);
 		});
 
+		final var postgresHandler = this.postgresHandler;
+		if (postgresHandler != null) {
+			final var periodicWriteWorker = postgresHandler.getPeriodicWriteWorker();
+			executorMetrics.put("periodicWrite/queueDepth", (long) periodicWriteWorker.getQueueDepth());
+			executorMetrics.put("periodicWrite/lastFlushSize", (long) periodicWriteWorker.getLastFlushSize());
+			executorMetrics.put("periodicWrite/lastFlushDuration", periodicWriteWorker.getLastFlushDuration());
+		}
+
 		return executorMetrics.entrySet().stream() //
 				.collect(toUnmodifiableMap(//
 						// TODO implement getId()
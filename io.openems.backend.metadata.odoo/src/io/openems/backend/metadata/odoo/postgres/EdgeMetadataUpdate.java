@@ -0,0 +1,59 @@
+package io.openems.backend.metadata.odoo.postgres;
+
+import io.openems.common.channel.Level;
+
+/**
+ * Pending changes of the frequently written metadata fields of one Edge.
+ *
+ * @param odooId      the Odoo-ID of the Edge
+ * @param lastMessage true if 'lastmessage' should be set to now
+ * @param isConnected the new 'openems_is_connected' value; null for unchanged
+ * @param sumState    the new 'openems_sum_state' value; null for unchanged
+ */
+public record EdgeMetadataUpdate(int odooId, boolean lastMessage, Boolean isConnected, Level sumState) {
+
+	/**
+	 * Creates an {@link EdgeMetadataUpdate} for a received message.
+	 *
+	 * @param odooId the Odoo-ID
+	 * @return the {@link EdgeMetadataUpdate}
+	 */
+	public static EdgeMetadataUpdate lastMessage(int odooId) {
+		return new EdgeMetadataUpdate(odooId, true, null, null);
+	}
+
+	/**
+	 * Creates an {@link EdgeMetadataUpdate} for a changed connection state.
+	 *
+	 * @param odooId      the Odoo-ID
+	 * @param isConnected true if online; false if offline
+	 * @return the {@link EdgeMetadataUpdate}
+	 */
+	public static EdgeMetadataUpdate isConnected(int odooId, boolean isConnected) {
+		return new EdgeMetadataUpdate(odooId, false, isConnected, null);
+	}
+
+	/**
+	 * Creates an {@link EdgeMetadataUpdate} for a changed Sum-State.
+	 *
+	 * @param odooId   the Odoo-ID
+	 * @param sumState the Sum-State {@link Level}
+	 * @return the {@link EdgeMetadataUpdate}
+	 */
+	public static EdgeMetadataUpdate sumState(int odooId, Level sumState) {
+		return new EdgeMetadataUpdate(odooId, false, null, sumState);
+	}
+
+	/**
+	 * Combines this {@link EdgeMetadataUpdate} with a newer one of the same Edge.
+	 *
+	 * @param newer the newer {@link EdgeMetadataUpdate}
+	 * @return the combined {@link EdgeMetadataUpdate}; values of the newer one win
+	 */
+	public EdgeMetadataUpdate merge(EdgeMetadataUpdate newer) {
+		return new EdgeMetadataUpdate(this.odooId, //
+				this.lastMessage || newer.lastMessage, //
+				newer.isConnected != null ? newer.isConnected : this.isConnected, //
+				newer.sumState != null ? newer.sumState : this.sumState);
+	}
+}
@@ -2,21 +2,41 @@ package io.openems.backend.metadata.odoo.postgres;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.zaxxer.hikari.HikariDataSource;
 
+import io.openems.backend.metadata.odoo.EdgeCache;
+import io.openems.backend.metadata.odoo.EdgeCache.EdgeRow;
 import io.openems.backend.metadata.odoo.Field;
 import io.openems.backend.metadata.odoo.Field.EdgeDevice;
+import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.utils.ThreadPoolUtils;
 
 public class InitializeEdgesWorker {
 
+	/**
+	 * Rows per fetch of the server-side cursor; also the size of a parsed batch.
+	 */
+	protected static final int FETCH_SIZE = 1_000;
+
+	private static final int PARSER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
 	private final Logger log = LoggerFactory.getLogger(InitializeEdgesWorker.class);
 	protected final PostgresHandler parent;
 	private final HikariDataSource dataSource;
@@ -68,21 +88,98 @@ public class InitializeEdgesWorker {
 	}
 
 	private void readAllEdgesFromPostgres(Connection con) {
-		try (var pst = this.psQueryAllEdges(con); //
-				var rs = pst.executeQuery();) {
-			var counter = 0;
-			while (rs.next()) {
-				this.logCachingProgress(counter, 1000);
-				try {
-					this.parent.edgeCache.addOrUpdate(rs);
-				} catch (Exception e) {
-					this.logError("Unable to read Edge: ", e);
+		final var parser = Executors.newFixedThreadPool(PARSER_THREADS,
+				new ThreadFactoryBuilder().setNameFormat("Metadata.Odoo.InitializeEdges-%d").build());
+		try {
+			// PostgreSQL streams rows with a server-side cursor only outside of
+			// auto-commit mode
+			con.setAutoCommit(false);
+			try (var pst = this.psQueryAllEdges(con)) {
+				pst.setFetchSize(FETCH_SIZE);
+				try (var rs = pst.executeQuery()) {
+					var counter = readAllEdges(rs, this.parent.edgeCache, parser, PARSER_THREADS * 2, //
+							e -> this.logError("Unable to read Edge: ", e), //
+							c -> this.logCachingProgress(c, 1000));
+					this.logCachingProgress(counter, 1);
 				}
-				counter++;
 			}
-			this.logCachingProgress(counter, 1);
+			con.commit();
 		} catch (SQLException e) {
 			this.logError("Unable to initialize Edges: ", e);
+		} finally {
+			try {
+				con.setAutoCommit(true);
+			} catch (SQLException e) {
+				this.logError("Unable to reset auto-commit: ", e);
+			}
+			ThreadPoolUtils.shutdownAndAwaitTermination(parser, 5);
+		}
+	}
+
+	/**
+	 * Reads all Edges from the {@link ResultSet} and adds them to the
+	 * {@link EdgeCache}.
+	 *
+	 * <p>
+	 * Rows are read sequentially in batches of {@link #FETCH_SIZE}; every batch
+	 * is parsed and added to the {@link EdgeCache} on the executor while the next
+	 * batch is read. Edges of a batch are available from the {@link EdgeCache} as
+	 * soon as the batch is added.
+	 *
+	 * @param rs                the {@link ResultSet}
+	 * @param edgeCache         the {@link EdgeCache}
+	 * @param executor          the {@link Executor} for parsing
+	 * @param maxPendingBatches the maximum number of read but not yet added batches
+	 * @param onError           called for every row that could not be read
+	 * @param onProgress        called with the number of read rows after every
+	 *                          batch
+	 * @return the number of read rows
+	 * @throws SQLException on error
+	 */
+	protected static int readAllEdges(ResultSet rs, EdgeCache edgeCache, Executor executor, int maxPendingBatches,
+			Consumer<Exception> onError, IntConsumer onProgress) throws SQLException {
+		final var pendingBatches = new Semaphore(maxPendingBatches);
+		final var futures = new ArrayList<CompletableFuture<Void>>();
+		var batch = new ArrayList<EdgeRow>(FETCH_SIZE);
+		var counter = 0;
+		while (rs.next()) {
+			try {
+				batch.add(EdgeRow.from(rs));
+			} catch (SQLException | OpenemsException e) {
+				onError.accept(e);
+			}
+			counter++;
+			if (batch.size() == FETCH_SIZE) {
+				futures.add(addBatch(edgeCache, batch, executor, pendingBatches, onError));
+				batch = new ArrayList<>(FETCH_SIZE);
+				onProgress.accept(counter);
+			}
+		}
+		if (!batch.isEmpty()) {
+			futures.add(addBatch(edgeCache, batch, executor, pendingBatches, onError));
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		return counter;
+	}
+
+	private static CompletableFuture<Void> addBatch(EdgeCache edgeCache, List<EdgeRow> batch, Executor executor,
+			Semaphore pendingBatches, Consumer<Exception> onError) {
+		pendingBatches.acquireUninterruptibly();
+		try {
+			return CompletableFuture.runAsync(() -> {
+				try {
+					edgeCache.addOrUpdateAll(batch, onError::accept);
+				} catch (RuntimeException e) {
+					onError.accept(e);
+				} finally {
+					pendingBatches.release();
+				}
+			}, executor);
+
+		} catch (RejectedExecutionException e) {
+			pendingBatches.release();
+			onError.accept(e);
+			return CompletableFuture.completedFuture(null);
 		}
 	}
 
@@ -1,32 +1,23 @@
 package io.openems.backend.metadata.odoo.postgres;
 
-import static java.util.Collections.emptySet;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.mapping;
-import static java.util.stream.Collectors.toSet;
-
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.function.Consumer;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.openems.backend.common.metadata.Edge;
@@ -35,8 +26,16 @@ import io.openems.common.channel.Level;
 import io.openems.common.utils.ThreadPoolUtils;
 
 /**
- * This worker combines writes to lastMessage and lastUpdate fields, to avoid
- * DDOSing Odoo/Postgres by writing too often.
+ * This worker combines writes to lastMessage, connection state and Sum-State
+ * fields, to avoid DDOSing Odoo/Postgres by writing too often.
+ *
+ * <p>
+ * All changes are coalesced per Edge. A flush writes all pending Edges with
+ * set-based statements of at most {@link #MAX_EDGES_PER_STATEMENT} Edges, see
+ * {@link PgEdgeHandler#updateEdgeMetadata(List)}. A flush is triggered once
+ * {@link #FLUSH_THRESHOLD} Edges have pending changes - e.g. during a reconnect
+ * storm - but at least every {@link #UPDATE_INTERVAL_IN_SECONDS}. Flushes are
+ * executed one after the other, so statements never compete for the same rows.
  */
 public class PeriodicWriteWorker {
 
@@ -47,6 +46,16 @@ public class PeriodicWriteWorker {
 
 	private static final int UPDATE_INTERVAL_IN_SECONDS = 30;
 
+	/**
+	 * Number of Edges with pending changes that triggers a flush.
+	 */
+	protected static final int FLUSH_THRESHOLD = 1_000;
+
+	/**
+	 * Maximum number of Edges per statement; keeps row locks short.
+	 */
+	protected static final int MAX_EDGES_PER_STATEMENT = 1_000;
+
 	private final Logger log = LoggerFactory.getLogger(PeriodicWriteWorker.class);
 	private final PostgresHandler parent;
 
@@ -56,11 +65,17 @@ public class PeriodicWriteWorker {
 	private ScheduledFuture<?> future = null;
 
 	/**
-	 * Executor for subscriptions task.
+	 * Executor for flushes; single-threaded to serialize writes.
 	 */
-	private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(10,
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
 			new ThreadFactoryBuilder().setNameFormat("Metadata.Odoo.PGPeriodic-%d").build());
 
+	private final ConcurrentHashMap<Integer, EdgeMetadataUpdate> pendingUpdates = new ConcurrentHashMap<>();
+	private final AtomicBoolean isFlushScheduled = new AtomicBoolean(false);
+
+	private volatile long lastFlushDuration = 0; // [ms]
+	private volatile int lastFlushSize = 0;
+
 	public PeriodicWriteWorker(PostgresHandler parent) {
 		this.parent = parent;
 	}
@@ -87,52 +102,37 @@ public class PeriodicWriteWorker {
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
 	}
 
-	private final LinkedBlockingQueue<Integer> lastMessageOdooIds = new LinkedBlockingQueue<>();
-	private ExchangableObject<Map<Integer, Boolean>> connectionStatesToUpdate = new ExchangableObject<>(
-			new ConcurrentHashMap<>());
-	private ExchangableObject<Map<Integer, Level>> sumStatesToUpdate = new ExchangableObject<>(
-			new ConcurrentHashMap<>());
-
 	private final void applyChanges() {
-		final var edge = this.parent.edge;
+		this.isFlushScheduled.set(false);
 		if (PeriodicWriteWorker.DEBUG_MODE) {
 			this.debugLog();
 		}
 
-		try {
-			// Last Message
-			edge.updateLastMessage(drainToSet(this.lastMessageOdooIds));
-
-			// Online/Offline
-			final var connectionToUpdate = this.connectionStatesToUpdate.exchange(new ConcurrentHashMap<>());
-			final var edgesByConnection = connectionToUpdate.entrySet().stream() //
-					.collect(groupingBy(Entry::getValue, mapping(Entry::getKey, toSet())));
-			edge.updateOpenemsIsConnected(edgesByConnection.getOrDefault(false, emptySet()), false);
-			edge.updateOpenemsIsConnected(edgesByConnection.getOrDefault(true, emptySet()), true);
-			if (PeriodicWriteWorker.DEBUG_MODE) {
-				this.parent.logInfo(this.log,
-						"Update Edge connection states online["
-								+ edgesByConnection.getOrDefault(true, emptySet()).size() + "] offline["
-								+ edgesByConnection.getOrDefault(false, emptySet()).size() + "]");
-			}
-
-			// Sum-State
-			final var statesToUpdate = this.sumStatesToUpdate.exchange(new ConcurrentHashMap<>());
-			final var edgesByState = statesToUpdate.entrySet().stream()
-					.collect(groupingBy(Entry::getValue, mapping(Entry::getKey, toSet())));
-			for (var stateEntry : edgesByState.entrySet()) {
-				edge.updateSumState(stateEntry.getValue(), stateEntry.getKey());
-			}
-			if (PeriodicWriteWorker.DEBUG_MODE) {
-				this.parent.logInfo(this.log, "Update Edge sum states " + Stream.of(Level.values()) //
-						.map(level -> {
-							final var itemsToUpdate = edgesByState.getOrDefault(level, emptySet());
-							return level.getName() + "[" + itemsToUpdate.size() + "]";
-						}).collect(joining(" ")));
+		final var updates = drainToList(this.pendingUpdates);
+		final var start = System.nanoTime();
+		var rows = 0;
+		for (var chunk : Lists.partition(updates, MAX_EDGES_PER_STATEMENT)) {
+			try {
+				rows += this.parent.edge.updateEdgeMetadata(chunk);
+
+			} catch (SQLException e) {
+				this.log.error("Unable to execute WriteWorker task: " + e.getMessage());
+				// Keep failed changes for the next flush; newer changes win
+				for (var update : chunk) {
+					this.pendingUpdates.merge(update.odooId(), update, (newer, failed) -> failed.merge(newer));
+				}
 			}
-
-		} catch (SQLException e) {
-			this.log.error("Unable to execute WriteWorker task: " + e.getMessage());
+		}
+		this.lastFlushDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		this.lastFlushSize = updates.size();
+
+		if (PeriodicWriteWorker.DEBUG_MODE && !updates.isEmpty()) {
+			this.parent.logInfo(this.log, "Update Edge metadata " //
+					+ "edges[" + updates.size() + "] rows[" + rows + "] " //
+					+ "lastMessage[" + updates.stream().filter(EdgeMetadataUpdate::lastMessage).count() + "] " //
+					+ "connection[" + updates.stream().filter(u -> u.isConnected() != null).count() + "] " //
+					+ "sumState[" + updates.stream().filter(u -> u.sumState() != null).count() + "] " //
+					+ "in [" + this.lastFlushDuration + "ms]");
 		}
 	}
 
@@ -142,7 +142,7 @@ public class PeriodicWriteWorker {
 	 * @param edge the {@link MyEdge}.
 	 */
 	public void onLastMessage(MyEdge edge) {
-		this.lastMessageOdooIds.add(edge.getOdooId());
+		this.addUpdate(EdgeMetadataUpdate.lastMessage(edge.getOdooId()));
 	}
 
 	/**
@@ -152,10 +152,7 @@ public class PeriodicWriteWorker {
 	 * @param isOnline true if online, false if offline
 	 */
 	public void onSetOnline(MyEdge edge, boolean isOnline) {
-		final var odooId = edge.getOdooId();
-		this.connectionStatesToUpdate.lockReading(t -> {
-			t.put(odooId, isOnline);
-		});
+		this.addUpdate(EdgeMetadataUpdate.isConnected(edge.getOdooId(), isOnline));
 	}
 
 	/**
@@ -165,22 +162,65 @@ public class PeriodicWriteWorker {
 	 * @param sumState Sum-State {@link Level}
 	 */
 	public void onSetSumState(MyEdge edge, Level sumState) {
-		final var odooId = edge.getOdooId();
-		this.sumStatesToUpdate.lockReading(t -> {
-			t.put(odooId, sumState);
-		});
+		this.addUpdate(EdgeMetadataUpdate.sumState(edge.getOdooId(), sumState));
+	}
+
+	private void addUpdate(EdgeMetadataUpdate update) {
+		this.pendingUpdates.merge(update.odooId(), update, EdgeMetadataUpdate::merge);
+		if (this.pendingUpdates.size() >= FLUSH_THRESHOLD && this.isFlushScheduled.compareAndSet(false, true)) {
+			try {
+				this.executor.execute(this::applyChanges);
+			} catch (RejectedExecutionException e) {
+				this.isFlushScheduled.set(false);
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of Edges with pending changes.
+	 *
+	 * @return the queue depth
+	 */
+	public int getQueueDepth() {
+		return this.pendingUpdates.size();
 	}
 
 	/**
-	 * Moves all entries of a {@link LinkedBlockingQueue} to a Set and clears the
-	 * queue. This is thread-safe.
-	 * 
-	 * @param queue the {@link LinkedBlockingQueue}
-	 * @return the {@link Set}
+	 * Gets the duration of the last flush.
+	 *
+	 * @return the duration in [ms]
 	 */
-	protected static Set<Integer> drainToSet(LinkedBlockingQueue<Integer> queue) {
-		Set<Integer> result = new HashSet<>(queue.size());
-		queue.drainTo(result);
+	public long getLastFlushDuration() {
+		return this.lastFlushDuration;
+	}
+
+	/**
+	 * Gets the number of Edges written by the last flush.
+	 *
+	 * @return the number of Edges
+	 */
+	public int getLastFlushSize() {
+		return this.lastFlushSize;
+	}
+
+	/**
+	 * Removes all entries of a {@link ConcurrentHashMap} and returns them sorted
+	 * by Odoo-ID. This is thread-safe; an entry that is changed concurrently is
+	 * either returned or stays in the map.
+	 *
+	 * @param pendingUpdates the {@link ConcurrentHashMap}
+	 * @return the {@link EdgeMetadataUpdate}s
+	 */
+	protected static List<EdgeMetadataUpdate> drainToList(
+			ConcurrentHashMap<Integer, EdgeMetadataUpdate> pendingUpdates) {
+		final var result = new ArrayList<EdgeMetadataUpdate>(pendingUpdates.size());
+		for (var odooId : pendingUpdates.keySet()) {
+			final var update = pendingUpdates.remove(odooId);
+			if (update != null) {
+				result.add(update);
+			}
+		}
+		result.sort(Comparator.comparingInt(EdgeMetadataUpdate::odooId));
 		return result;
 	}
 
@@ -199,35 +239,4 @@ public class PeriodicWriteWorker {
 		this.lastExecute = now;
 	}
 
-	private static class ExchangableObject<T> {
-		private final ReadWriteLock lock = new ReentrantReadWriteLock();
-		private volatile T currentObject;
-
-		public ExchangableObject(T currentObject) {
-			super();
-			this.currentObject = currentObject;
-		}
-
-		public T exchange(T newObject) {
-			this.lock.writeLock().lock();
-			try {
-				final var prev = this.currentObject;
-				this.currentObject = newObject;
-				return prev;
-			} finally {
-				this.lock.writeLock().unlock();
-			}
-		}
-
-		public void lockReading(Consumer<T> block) {
-			this.lock.readLock().lock();
-			try {
-				block.accept(this.currentObject);
-			} finally {
-				this.lock.readLock().unlock();
-			}
-		}
-
-	}
-
 }
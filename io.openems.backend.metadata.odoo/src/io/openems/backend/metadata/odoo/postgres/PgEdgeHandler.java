@@ -3,18 +3,16 @@ package io.openems.backend.metadata.odoo.postgres;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.List;
 
 import com.zaxxer.hikari.HikariDataSource;
 
 import io.openems.backend.common.metadata.Metadata.GenericSystemLog;
-import io.openems.backend.metadata.odoo.Field;
 import io.openems.backend.metadata.odoo.Field.EdgeConfigUpdate;
 import io.openems.backend.metadata.odoo.Field.EdgeDevice;
-import io.openems.common.channel.Level;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.EdgeConfig;
@@ -191,83 +189,70 @@ public final class PgEdgeHandler {
 	}
 
 	/**
-	 * Updates the OpenemsIsConnected field for multiple Edge-IDs.
-	 * 
-	 * @param odooIds     the Odoo-IDs
-	 * @param isConnected true if online; false if offline
+	 * Updates LastMessage, OpenemsIsConnected and Sum-State fields for multiple
+	 * Edges with one set-based statement.
+	 *
+	 * <p>
+	 * The pending values are joined as a VALUES list, i.e. every Edge row is
+	 * locked and written only once, no matter how many fields changed.
+	 *
+	 * @param updates the {@link EdgeMetadataUpdate}s; sorted by Odoo-ID to lock
+	 *                rows in a consistent order
+	 * @return the number of updated rows
 	 * @throws SQLException on error
 	 */
-	public void updateOpenemsIsConnected(Set<Integer> odooIds, boolean isConnected) throws SQLException {
-		if (odooIds.isEmpty()) {
-			return;
-		}
-
-		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.OPENEMS_IS_CONNECTED.id()).append(" = ")
-					.append(isConnected ? "TRUE" : "FALSE") //
-					.append(" WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
-		}
-	}
-
-	/**
-	 * Updates the LastMessage field for multiple Edge-IDs.
-	 * 
-	 * @param odooIds the Odoo-IDs
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
-	 */
-	public void updateLastMessage(Set<Integer> odooIds) throws SQLException {
-		if (odooIds.isEmpty()) {
-			return;
+	public int updateEdgeMetadata(List<EdgeMetadataUpdate> updates) throws SQLException {
+		if (updates.isEmpty()) {
+			return 0;
 		}
 
 		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.LASTMESSAGE.id()).append(" = (now() at time zone 'UTC')") //
-					.append(" WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
+				var pst = con.prepareStatement(buildUpdateEdgeMetadataSql(updates.size()))) {
+			var i = 1;
+			for (var update : updates) {
+				pst.setInt(i++, update.odooId());
+				pst.setBoolean(i++, update.lastMessage());
+				if (update.isConnected() != null) {
+					pst.setBoolean(i++, update.isConnected());
+				} else {
+					pst.setNull(i++, Types.BOOLEAN);
+				}
+				if (update.sumState() != null) {
+					pst.setString(i++, update.sumState().getName().toLowerCase());
+				} else {
+					pst.setNull(i++, Types.VARCHAR);
+				}
+			}
+			return pst.executeUpdate();
 		}
 	}
 
 	/**
-	 * Updates the Sum-State field for multiple Edge-IDs.
-	 * 
-	 * @param odooIds the Odoo-IDs
-	 * @param level   the Sum-State {@link Level}
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
+	 * Builds the statement for {@link #updateEdgeMetadata(List)}.
+	 *
+	 * @param rows the number of Edges
+	 * @return the SQL statement with four parameters per Edge
 	 */
-	public void updateSumState(Set<Integer> odooIds, Level level) throws SQLException {
-		if (odooIds.isEmpty()) {
-			return;
-		}
-
-		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.OPENEMS_SUM_STATE.id()).append(" = '")
-					.append(level.getName().toLowerCase()) //
-					.append("' WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
+	protected static String buildUpdateEdgeMetadataSql(int rows) {
+		final var lastMessage = EdgeDevice.LASTMESSAGE.id();
+		final var isConnected = EdgeDevice.OPENEMS_IS_CONNECTED.id();
+		final var sumState = EdgeDevice.OPENEMS_SUM_STATE.id();
+		final var sb = new StringBuilder() //
+				.append("UPDATE ").append(EdgeDevice.ODOO_TABLE).append(" AS e SET ") //
+				.append(lastMessage).append(" = CASE WHEN v.last_message THEN (now() at time zone 'UTC') ELSE e.") //
+				.append(lastMessage).append(" END, ") //
+				.append(isConnected).append(" = COALESCE(v.is_connected, e.").append(isConnected).append("), ") //
+				.append(sumState).append(" = COALESCE(v.sum_state, e.").append(sumState).append(")") //
+				.append(" FROM (VALUES ");
+		for (var i = 0; i < rows; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append("(?::integer, ?::boolean, ?::boolean, ?::varchar)");
 		}
+		return sb //
+				.append(") AS v(id, last_message, is_connected, sum_state)") //
+				.append(" WHERE e.id = v.id") //
+				.toString();
 	}
-}
\ No newline at end of file
+}
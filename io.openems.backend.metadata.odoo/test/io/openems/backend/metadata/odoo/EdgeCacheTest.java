@@ -0,0 +1,162 @@
+package io.openems.backend.metadata.odoo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import io.openems.backend.metadata.odoo.EdgeCache.EdgeRow;
+import io.openems.common.utils.ThreadPoolUtils;
+
+public class EdgeCacheTest {
+
+	private static EdgeRow row(int i) {
+		return new EdgeRow(i, "edge" + i, "apikey" + i, "", "2025.1.0", "", null);
+	}
+
+	private static List<EdgeRow> rows(int from, int to) {
+		final var result = new ArrayList<EdgeRow>(to - from);
+		for (var i = from; i < to; i++) {
+			result.add(row(i));
+		}
+		return result;
+	}
+
+	@Test
+	public void testIndexes() {
+		final var sut = new EdgeCache(null);
+		sut.addOrUpdateAll(rows(0, 3));
+
+		final var edge = sut.getEdgeFromEdgeId("edge1");
+		assertEquals(1, edge.getOdooId());
+		assertSame(edge, sut.getEdgeFromOdooId(1));
+		assertSame(edge, sut.getEdgeForApikey("apikey1"));
+		assertNull(sut.getEdgeFromEdgeId("edge3"));
+		assertNull(sut.getEdgeFromEdgeId(null));
+		assertNull(sut.getEdgeForApikey(null));
+		assertEquals(3, sut.getAllEdges().size());
+
+		// Update keeps the instance
+		sut.addOrUpdateAll(List.of(new EdgeRow(1, "edge1", "apikey1", "updated", "2025.1.0", "", null)));
+		assertSame(edge, sut.getEdgeForApikey("apikey1"));
+		assertEquals("updated", edge.getComment());
+
+		assertEquals("edge2", sut.generateUpdateMetadataCacheNotification().getApikeysToEdgeIds().get("apikey2"));
+	}
+
+	@Test
+	public void testInvalidRow() {
+		final var sut = new EdgeCache(null);
+		final var errors = new ArrayList<RuntimeException>();
+		sut.addOrUpdateAll(List.of(row(0), new EdgeRow(1, null, "apikey1", "", "2025.1.0", "", null), row(2)),
+				errors::add);
+
+		// Only the invalid row is skipped
+		assertEquals(1, errors.size());
+		assertEquals(2, sut.getAllEdges().size());
+		assertNull(sut.getEdgeForApikey("apikey1"));
+		assertEquals("edge2", sut.getEdgeForApikey("apikey2").getId());
+	}
+
+	@Test(timeout = 10_000)
+	public void testReadersDoNotBlockOnWriter() throws Exception {
+		final var sut = new EdgeCache(null);
+		sut.addOrUpdateAll(rows(0, 10));
+
+		// Hold the write lock while reading from another thread
+		synchronized (sut) {
+			final var edge = CompletableFuture.supplyAsync(() -> sut.getEdgeForApikey("apikey5")) //
+					.get(5, TimeUnit.SECONDS);
+			assertEquals("edge5", edge.getId());
+		}
+	}
+
+	@Test(timeout = 30_000)
+	public void testMixedReadWriteThroughput() throws Exception {
+		final var initialEdges = 10_000;
+		final var readers = 4;
+		final var writers = 2;
+		final var durationMillis = 500;
+
+		final var sut = new EdgeCache(null);
+		sut.addOrUpdateAll(rows(0, initialEdges));
+
+		final var executor = Executors.newFixedThreadPool(readers + writers);
+		final var start = new CountDownLatch(1);
+		final var stop = new AtomicBoolean(false);
+		final var reads = new AtomicLong();
+		final var writes = new AtomicLong();
+		final var errors = new ConcurrentLinkedQueue<String>();
+		try {
+			for (var r = 0; r < readers; r++) {
+				final var seed = r;
+				executor.execute(() -> {
+					await(start);
+					var i = seed;
+					var count = 0L;
+					while (!stop.get()) {
+						i = (i + 7_919) % initialEdges;
+						final var byApikey = sut.getEdgeForApikey("apikey" + i);
+						final var byOdooId = sut.getEdgeFromOdooId(i);
+						if (byApikey == null || byApikey != byOdooId || byApikey != sut.getEdgeFromEdgeId("edge" + i)) {
+							errors.add("Inconsistent indexes for Edge " + i);
+						}
+						// New Edges are either fully visible by Edge-ID or not at all
+						final var added = sut.getEdgeFromEdgeId("edge" + (initialEdges + i));
+						if (added != null && added.getOdooId() != initialEdges + i) {
+							errors.add("Wrong Edge for " + (initialEdges + i));
+						}
+						count += 4;
+					}
+					reads.addAndGet(count);
+				});
+			}
+			for (var w = 0; w < writers; w++) {
+				final var offset = initialEdges + w;
+				executor.execute(() -> {
+					await(start);
+					var i = 0;
+					while (!stop.get()) {
+						// Alternate between updates of existing and adding of new Edges
+						final var id = i % 2 == 0 ? i % initialEdges : offset + (i * writers) % initialEdges;
+						sut.addOrUpdateAll(List.of(row(id)));
+						writes.incrementAndGet();
+						i++;
+					}
+				});
+			}
+
+			start.countDown();
+			Thread.sleep(durationMillis);
+			stop.set(true);
+
+		} finally {
+			ThreadPoolUtils.shutdownAndAwaitTermination(executor, 5);
+		}
+
+		assertTrue(errors.toString(), errors.isEmpty());
+		assertTrue(reads.get() > 0);
+		assertTrue(writes.get() > 0);
+		assertTrue(sut.getAllEdges().size() > initialEdges);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package io.openems.backend.metadata.odoo.postgres;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.backend.metadata.odoo.EdgeCache;
+import io.openems.backend.metadata.odoo.Field.EdgeDevice;
+import io.openems.common.utils.ThreadPoolUtils;
+
+public class InitializeEdgesWorkerTest {
+
+	/**
+	 * Creates an in-memory {@link ResultSet} with the queried columns of the Edge
+	 * table.
+	 *
+	 * @param rows the number of rows
+	 * @return the {@link ResultSet}
+	 */
+	private static ResultSet createResultSet(int rows) {
+		final var row = new AtomicInteger(-1);
+		return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+				new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+					return switch (method.getName()) {
+					case "next" -> row.incrementAndGet() < rows;
+					case "getInt" -> getValue(row.get(), (int) args[0]) instanceof Integer i ? i : 0;
+					case "getString" -> {
+						final var value = getValue(row.get(), (int) args[0]);
+						yield value == null ? null : value.toString();
+					}
+					case "close" -> null;
+					default -> throw new UnsupportedOperationException(method.getName());
+					};
+				});
+	}
+
+	private static Object getValue(int row, int index) {
+		if (index == EdgeDevice.ID.index()) {
+			return row;
+		} else if (index == EdgeDevice.NAME.index()) {
+			return "edge" + row;
+		} else if (index == EdgeDevice.APIKEY.index()) {
+			return "apikey" + row;
+		} else if (index == EdgeDevice.OPENEMS_VERSION.index()) {
+			return "2025.1.0";
+		} else if (index == EdgeDevice.LASTMESSAGE.index()) {
+			return "2025-01-01 12:00:00";
+		}
+		return null;
+	}
+
+	@Test
+	public void testEdgesAreAvailableProgressively() throws Exception {
+		final var edgeCache = new EdgeCache(null);
+		final var batches = new AtomicInteger();
+
+		var count = InitializeEdgesWorker.readAllEdges(createResultSet(2_500), edgeCache, Runnable::run, 1, //
+				e -> fail(e.getMessage()), //
+				c -> {
+					batches.incrementAndGet();
+					// Rows of the finished batch are available; later rows are not read yet
+					assertNotNull(edgeCache.getEdgeForApikey("apikey" + (c - 1)));
+					assertNull(edgeCache.getEdgeForApikey("apikey" + c));
+				});
+
+		assertEquals(2_500, count);
+		assertEquals(2, batches.get()); // the last batch is incomplete
+		assertEquals(2_500, edgeCache.getAllEdges().size());
+
+		final var edge = edgeCache.getEdgeForApikey("apikey2499");
+		assertEquals("edge2499", edge.getId());
+		assertEquals(2499, edge.getOdooId());
+		assertEquals("2025.1.0", edge.getVersion().toString());
+		assertNotNull(edge.getLastmessage());
+		assertEquals(edge, edgeCache.getEdgeFromOdooId(2499));
+	}
+
+	// The timeout only detects a deadlock of the bounded pending batches
+	@Test(timeout = 30_000)
+	public void testParallelBatches() throws Exception {
+		final var rows = 50_000;
+		final var edgeCache = new EdgeCache(null);
+		final var executor = Executors.newFixedThreadPool(4);
+		try {
+			var count = InitializeEdgesWorker.readAllEdges(createResultSet(rows), edgeCache, executor, 8, //
+					e -> fail(e.getMessage()), //
+					c -> {
+					});
+
+			assertEquals(rows, count);
+			assertEquals(rows, edgeCache.getAllEdges().size());
+			for (var i = 0; i < rows; i++) {
+				assertEquals("edge" + i, edgeCache.getEdgeForApikey("apikey" + i).getId());
+			}
+
+		} finally {
+			ThreadPoolUtils.shutdownAndAwaitTermination(executor, 5);
+		}
+	}
+
+	@Test
+	public void testInvalidRow() throws Exception {
+		final var edgeCache = new EdgeCache(null);
+		final var errors = new AtomicInteger();
+		final var rs = createResultSet(3);
+		final var invalid = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+				new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+					// Row 1 has no Apikey
+					if (method.getName().equals("getString") && (int) args[0] == EdgeDevice.APIKEY.index()
+							&& rs.getInt(EdgeDevice.ID.index()) == 1) {
+						return null;
+					}
+					return method.invoke(rs, args);
+				});
+
+		var count = InitializeEdgesWorker.readAllEdges(invalid, edgeCache, Runnable::run, 1, //
+				e -> errors.incrementAndGet(), //
+				c -> {
+				});
+
+		assertEquals(3, count);
+		assertEquals(1, errors.get());
+		assertEquals(2, edgeCache.getAllEdges().size());
+	}
+}
@@ -1,24 +1,55 @@
 package io.openems.backend.metadata.odoo.postgres;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.Test;
 
+import io.openems.common.channel.Level;
+
 public class PeriodicWriteWorkerTest {
 
 	@Test
-	public void testDrainToSet() {
-		final LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>();
-		queue.add(1);
-		queue.add(2);
-		queue.add(3);
-		queue.add(2);
-		queue.add(4);
-		var set = PeriodicWriteWorker.drainToSet(queue);
-		assertEquals(4, set.size());
-		assertEquals(0, queue.size());
+	public void testMerge() {
+		var sut = EdgeMetadataUpdate.lastMessage(1) //
+				.merge(EdgeMetadataUpdate.isConnected(1, true)) //
+				.merge(EdgeMetadataUpdate.sumState(1, Level.WARNING)) //
+				.merge(EdgeMetadataUpdate.isConnected(1, false));
+		assertEquals(new EdgeMetadataUpdate(1, true, false, Level.WARNING), sut);
+
+		sut = EdgeMetadataUpdate.sumState(2, Level.FAULT) //
+				.merge(EdgeMetadataUpdate.sumState(2, Level.OK));
+		assertFalse(sut.lastMessage());
+		assertEquals(null, sut.isConnected());
+		assertEquals(Level.OK, sut.sumState());
+	}
+
+	@Test
+	public void testDrainToList() {
+		final var map = new ConcurrentHashMap<Integer, EdgeMetadataUpdate>();
+		map.put(3, EdgeMetadataUpdate.lastMessage(3));
+		map.put(1, EdgeMetadataUpdate.isConnected(1, true));
+		map.put(2, EdgeMetadataUpdate.sumState(2, Level.OK));
+
+		var list = PeriodicWriteWorker.drainToList(map);
+		assertEquals(List.of(1, 2, 3), list.stream().map(EdgeMetadataUpdate::odooId).toList());
+		assertTrue(map.isEmpty());
+	}
+
+	@Test
+	public void testBuildUpdateEdgeMetadataSql() {
+		assertEquals("UPDATE openems_device AS e SET " //
+				+ "lastmessage = CASE WHEN v.last_message THEN (now() at time zone 'UTC') ELSE e.lastmessage END, " //
+				+ "openems_is_connected = COALESCE(v.is_connected, e.openems_is_connected), " //
+				+ "openems_sum_state_level = COALESCE(v.sum_state, e.openems_sum_state_level) " //
+				+ "FROM (VALUES (?::integer, ?::boolean, ?::boolean, ?::varchar), " //
+				+ "(?::integer, ?::boolean, ?::boolean, ?::varchar)) " //
+				+ "AS v(id, last_message, is_connected, sum_state) WHERE e.id = v.id", //
+				PgEdgeHandler.buildUpdateEdgeMetadataSql(2));
 	}
 
 }
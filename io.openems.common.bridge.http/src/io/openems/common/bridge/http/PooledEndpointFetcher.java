@@ -0,0 +1,394 @@
+package io.openems.common.bridge.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.bridge.http.api.BridgeHttp;
+import io.openems.common.bridge.http.api.EndpointFetcher;
+import io.openems.common.bridge.http.api.HttpError;
+import io.openems.common.bridge.http.api.HttpMethod;
+import io.openems.common.bridge.http.api.HttpResponse;
+import io.openems.common.types.DebugMode;
+import io.openems.common.types.HttpStatus;
+import io.openems.common.utils.ThreadPoolUtils;
+
+/**
+ * {@link EndpointFetcher} based on a shared {@link HttpClient}.
+ *
+ * <p>
+ * Compared to opening a new connection for every request this implementation
+ * <ul>
+ * <li>keeps connections alive and reuses them for all components which fetch
+ * from the same host (HTTP/2 via ALPN for https, HTTP/1.1 otherwise)
+ * <li>coalesces identical {@link HttpMethod#GET} requests which are in flight
+ * at the same time, so several subscribers polling the same url only cause one
+ * request
+ * <li>sends conditional requests (If-None-Match/If-Modified-Since) if the
+ * device provided an ETag or Last-Modified header and answers with the last
+ * known body on "304 Not Modified"
+ * <li>decodes response bodies while they are received, without buffering the
+ * raw bytes first
+ * <li>collects per-host statistics, see {@link #getHostStatistics()}; they are
+ * logged every {@link #STATISTICS_LOG_INTERVAL} per host
+ * </ul>
+ */
+@Component
+public class PooledEndpointFetcher implements EndpointFetcher {
+
+	/**
+	 * Maximum number of responses kept for conditional requests.
+	 */
+	private static final int MAX_CACHED_RESPONSES = 256;
+
+	/**
+	 * Interval for logging the statistics of a host.
+	 */
+	private static final Duration STATISTICS_LOG_INTERVAL = Duration.ofMinutes(15);
+
+	private static final String HEADER_ETAG = "ETag";
+	private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+	private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+	private static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+
+	public record HostStatistics(//
+			long requests, //
+			long coalesced, //
+			long notModified, //
+			long errors, //
+			long averageLatencyMs, //
+			long maxLatencyMs //
+	) {
+
+	}
+
+	private static final class HostCounters {
+		private final String host;
+		private final AtomicLong lastLogNanos = new AtomicLong(System.nanoTime());
+		private final AtomicLong requests = new AtomicLong();
+		private final AtomicLong coalesced = new AtomicLong();
+		private final AtomicLong notModified = new AtomicLong();
+		private final AtomicLong errors = new AtomicLong();
+		private final AtomicLong totalLatencyMs = new AtomicLong();
+		private final LongAccumulator maxLatencyMs = new LongAccumulator(Math::max, 0);
+
+		private HostCounters(String host) {
+			this.host = host;
+		}
+
+		/**
+		 * Is it time to log the statistics? Returns true only once per
+		 * {@link #STATISTICS_LOG_INTERVAL}.
+		 *
+		 * @param nanos the current {@link System#nanoTime()}
+		 * @return true if the statistics should be logged
+		 */
+		private boolean shouldLog(long nanos) {
+			final var last = this.lastLogNanos.get();
+			return nanos - last >= STATISTICS_LOG_INTERVAL.toNanos() //
+					&& this.lastLogNanos.compareAndSet(last, nanos);
+		}
+
+		private HostStatistics toStatistics() {
+			final var requests = this.requests.get();
+			return new HostStatistics(//
+					requests, //
+					this.coalesced.get(), //
+					this.notModified.get(), //
+					this.errors.get(), //
+					requests == 0 ? 0 : this.totalLatencyMs.get() / requests, //
+					this.maxLatencyMs.get());
+		}
+	}
+
+	private record CachedResponse(String etag, String lastModified, HttpResponse<String> response) {
+
+	}
+
+	private final Logger log = LoggerFactory.getLogger(PooledEndpointFetcher.class);
+
+	private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().factory());
+	private final Map<Integer, HttpClient> clientsByConnectTimeout = new ConcurrentHashMap<>();
+	private final Map<BridgeHttp.Endpoint, CompletableFuture<HttpResponse<String>>> inFlight = new ConcurrentHashMap<>();
+	private final Map<String, HostCounters> hostCounters = new ConcurrentHashMap<>();
+	private final Map<BridgeHttp.Endpoint, CachedResponse> cachedResponses = Collections
+			.synchronizedMap(new LinkedHashMap<BridgeHttp.Endpoint, CachedResponse>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<BridgeHttp.Endpoint, CachedResponse> eldest) {
+					return this.size() > MAX_CACHED_RESPONSES;
+				}
+			});
+
+	/**
+	 * Deactivate method.
+	 */
+	@Deactivate
+	public void deactivate() {
+		this.clientsByConnectTimeout.values().forEach(HttpClient::shutdownNow);
+		this.clientsByConnectTimeout.clear();
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
+	}
+
+	@Override
+	public HttpResponse<String> fetchEndpoint(final BridgeHttp.Endpoint endpoint, DebugMode mode) throws HttpError {
+		final var counters = this.getHostCounters(endpoint);
+		if (endpoint.method() != HttpMethod.GET) {
+			return this.fetchAndCount(endpoint, mode, counters);
+		}
+
+		final var ownFuture = new CompletableFuture<HttpResponse<String>>();
+		final var runningFuture = this.inFlight.putIfAbsent(endpoint, ownFuture);
+		if (runningFuture != null) {
+			counters.coalesced.incrementAndGet();
+			return await(runningFuture);
+		}
+
+		try {
+			final var response = this.fetchAndCount(endpoint, mode, counters);
+			ownFuture.complete(response);
+			return response;
+		} catch (HttpError e) {
+			ownFuture.completeExceptionally(e);
+			throw e;
+		} catch (RuntimeException e) {
+			ownFuture.completeExceptionally(new HttpError.UnknownError(e));
+			throw e;
+		} finally {
+			this.inFlight.remove(endpoint, ownFuture);
+		}
+	}
+
+	/**
+	 * Gets a snapshot of the statistics of all hosts which were requested so far.
+	 *
+	 * @return a map of host to {@link HostStatistics}
+	 */
+	public Map<String, HostStatistics> getHostStatistics() {
+		final var result = new TreeMap<String, HostStatistics>();
+		this.hostCounters.forEach((host, counters) -> result.put(host, counters.toStatistics()));
+		return result;
+	}
+
+	private HttpResponse<String> fetchAndCount(//
+			final BridgeHttp.Endpoint endpoint, //
+			final DebugMode mode, //
+			final HostCounters counters //
+	) throws HttpError {
+		final var start = System.nanoTime();
+		try {
+			return this.fetch(endpoint, mode, counters);
+		} catch (HttpError e) {
+			counters.errors.incrementAndGet();
+			throw e;
+		} finally {
+			final var end = System.nanoTime();
+			final var latencyMs = Duration.ofNanos(end - start).toMillis();
+			counters.requests.incrementAndGet();
+			counters.totalLatencyMs.addAndGet(latencyMs);
+			counters.maxLatencyMs.accumulate(latencyMs);
+			if (counters.shouldLog(end)) {
+				this.log.info("HTTP statistics for [" + counters.host + "]: " + counters.toStatistics());
+			}
+		}
+	}
+
+	private HttpResponse<String> fetch(//
+			final BridgeHttp.Endpoint endpoint, //
+			final DebugMode mode, //
+			final HostCounters counters //
+	) throws HttpError {
+		final HttpRequest.Builder builder;
+		try {
+			final var uri = URI.create(endpoint.url());
+			builder = HttpRequest.newBuilder(uri) //
+					.timeout(Duration.ofMillis(endpoint.connectTimeout() + endpoint.readTimeout())) //
+					// HTTP/2 is only negotiated via ALPN to not send h2c upgrade
+					// headers to simple devices
+					.version("https".equalsIgnoreCase(uri.getScheme()) ? Version.HTTP_2 : Version.HTTP_1_1);
+		} catch (IllegalArgumentException e) {
+			throw new HttpError.UnknownError(e);
+		}
+
+		endpoint.properties().forEach((key, value) -> {
+			try {
+				builder.setHeader(key, value);
+			} catch (IllegalArgumentException e) {
+				// restricted headers like "Connection" are handled by the client itself
+				this.log.debug("Unable to set header [{}] for {}: {}", key, endpoint.url(), e.getMessage());
+			}
+		});
+
+		if (endpoint.method().isBodyAllowed() && endpoint.body() != null) {
+			builder.method(endpoint.method().name(), BodyPublishers.ofString(endpoint.body(), StandardCharsets.UTF_8));
+		} else {
+			builder.method(endpoint.method().name(), BodyPublishers.noBody());
+		}
+
+		final var cached = endpoint.method() == HttpMethod.GET ? this.cachedResponses.get(endpoint) : null;
+		if (cached != null) {
+			if (cached.etag() != null && !endpoint.properties().containsKey(HEADER_IF_NONE_MATCH)) {
+				builder.setHeader(HEADER_IF_NONE_MATCH, cached.etag());
+			}
+			if (cached.lastModified() != null && !endpoint.properties().containsKey(HEADER_IF_MODIFIED_SINCE)) {
+				builder.setHeader(HEADER_IF_MODIFIED_SINCE, cached.lastModified());
+			}
+		}
+
+		final java.net.http.HttpResponse<InputStream> response;
+		try {
+			response = this.getClient(endpoint.connectTimeout()) //
+					.send(builder.build(), BodyHandlers.ofInputStream());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HttpError.UnknownError(e);
+		} catch (IOException | RuntimeException e) {
+			throw new HttpError.UnknownError(e);
+		}
+
+		final var headers = response.headers().map();
+		if (mode.equals(DebugMode.DETAILED)) {
+			this.log.info("Headers: {}", headers);
+		}
+
+		if (cached != null && response.statusCode() == HttpStatus.NOT_MODIFIED.code()) {
+			closeQuietly(response.body());
+			counters.notModified.incrementAndGet();
+			if (mode.equals(DebugMode.DETAILED)) {
+				this.log.info("Endpoint not modified: " + endpoint);
+			}
+			return cached.response();
+		}
+
+		// The JDK HttpClient does not provide the reason phrase
+		final var status = HttpStatus.fromCodeOrCustom(response.statusCode(), "");
+		final var body = readBody(response);
+		if (status.isError()) {
+			throw new HttpError.ResponseError(status, body);
+		}
+		if (mode.equals(DebugMode.DETAILED)) {
+			this.log.info("Fetched Endpoint for request: " + "\n" //
+					+ "endpoint: " + endpoint + "\n" //
+					+ "result: " + body //
+			);
+		}
+
+		final var result = new HttpResponse<>(status, headers, body);
+		if (endpoint.method() == HttpMethod.GET) {
+			final var etag = response.headers().firstValue(HEADER_ETAG).orElse(null);
+			final var lastModified = response.headers().firstValue(HEADER_LAST_MODIFIED).orElse(null);
+			if (etag != null || lastModified != null) {
+				this.cachedResponses.put(endpoint, new CachedResponse(etag, lastModified, result));
+			} else if (cached != null) {
+				this.cachedResponses.remove(endpoint);
+			}
+		}
+		return result;
+	}
+
+	private HttpClient getClient(int connectTimeout) {
+		return this.clientsByConnectTimeout.computeIfAbsent(connectTimeout, timeout -> HttpClient.newBuilder() //
+				.connectTimeout(Duration.ofMillis(timeout)) //
+				.followRedirects(Redirect.NORMAL) //
+				.executor(this.executor) //
+				.build());
+	}
+
+	private HostCounters getHostCounters(BridgeHttp.Endpoint endpoint) {
+		String host;
+		try {
+			final var uri = URI.create(endpoint.url());
+			host = uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+		} catch (IllegalArgumentException e) {
+			host = null;
+		}
+		return this.hostCounters.computeIfAbsent(host == null ? "UNDEFINED" : host, HostCounters::new);
+	}
+
+	/**
+	 * Reads the body of a response; it is decoded while it is received.
+	 *
+	 * @param response the response
+	 * @return the body
+	 * @throws HttpError on error
+	 */
+	private static String readBody(java.net.http.HttpResponse<InputStream> response) throws HttpError {
+		try (var reader = new InputStreamReader(response.body(), getCharset(response))) {
+			final var result = new StringWriter();
+			reader.transferTo(result);
+			return result.toString();
+		} catch (IOException e) {
+			throw new HttpError.UnknownError(e);
+		}
+	}
+
+	private static void closeQuietly(InputStream in) {
+		try {
+			in.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
+	private static Charset getCharset(java.net.http.HttpResponse<?> response) {
+		return response.headers().firstValue("Content-Type") //
+				.flatMap(contentType -> {
+					for (var part : contentType.split(";")) {
+						final var trimmed = part.trim();
+						if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+							try {
+								return Optional.of(Charset.forName(trimmed.substring(8).replace("\"", "")));
+							} catch (IllegalArgumentException e) {
+								return Optional.empty();
+							}
+						}
+					}
+					return Optional.empty();
+				}) //
+				.orElse(StandardCharsets.UTF_8);
+	}
+
+	private static HttpResponse<String> await(CompletableFuture<HttpResponse<String>> future) throws HttpError {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HttpError.UnknownError(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof HttpError httpError) {
+				throw httpError;
+			}
+			throw new HttpError.UnknownError(e.getCause());
+		}
+	}
+
+}
@@ -7,7 +7,7 @@ import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.ComponentServiceObjects;
 
 import io.openems.common.bridge.http.BridgeHttpImpl;
-import io.openems.common.bridge.http.NetworkEndpointFetcher;
+import io.openems.common.bridge.http.PooledEndpointFetcher;
 import io.openems.common.bridge.http.api.BridgeHttp;
 import io.openems.common.bridge.http.api.BridgeHttpExecutor;
 import io.openems.common.bridge.http.api.BridgeHttpFactory;
@@ -76,7 +76,7 @@ public class DummyBridgeHttpFactory extends BridgeHttpFactory {
 	 * @return the created {@link EndpointFetcher}
 	 */
 	public static EndpointFetcher networkEndpointFetcher() {
-		return new NetworkEndpointFetcher();
+		return new PooledEndpointFetcher();
 	}
 
 	/**
@@ -0,0 +1,136 @@
+package io.openems.common.bridge.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.openems.common.bridge.http.api.BridgeHttp;
+import io.openems.common.types.DebugMode;
+
+public class PooledEndpointFetcherTest {
+
+	private HttpServer server;
+	private PooledEndpointFetcher fetcher;
+	private final AtomicInteger requests = new AtomicInteger();
+	private final AtomicInteger notModified = new AtomicInteger();
+	private final CountDownLatch received = new CountDownLatch(1);
+	private volatile CountDownLatch release = new CountDownLatch(0);
+
+	@Before
+	public void before() throws Exception {
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.server.createContext("/status", exchange -> {
+			this.requests.incrementAndGet();
+			this.received.countDown();
+			try {
+				this.release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+				this.notModified.incrementAndGet();
+				exchange.sendResponseHeaders(304, -1);
+				exchange.close();
+				return;
+			}
+			final var body = "{\"power\":42}".getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("ETag", "\"v1\"");
+			exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+			exchange.sendResponseHeaders(200, body.length);
+			try (var os = exchange.getResponseBody()) {
+				os.write(body);
+			}
+		});
+		this.server.start();
+		this.fetcher = new PooledEndpointFetcher();
+	}
+
+	@After
+	public void after() {
+		this.fetcher.deactivate();
+		this.server.stop(0);
+	}
+
+	private String url() {
+		return "http://127.0.0.1:" + this.server.getAddress().getPort() + "/status";
+	}
+
+	@Test
+	public void testConditionalRequest() throws Exception {
+		final var endpoint = BridgeHttp.create(this.url()).build();
+
+		assertEquals("{\"power\":42}", this.fetcher.fetchEndpoint(endpoint, DebugMode.OFF).data());
+		assertEquals("{\"power\":42}", this.fetcher.fetchEndpoint(endpoint, DebugMode.OFF).data());
+
+		assertEquals(2, this.requests.get());
+		assertEquals(1, this.notModified.get());
+
+		final var statistics = this.fetcher.getHostStatistics().values().iterator().next();
+		assertEquals(2, statistics.requests());
+		assertEquals(1, statistics.notModified());
+		assertEquals(0, statistics.errors());
+	}
+
+	@Test
+	public void testCoalesceInFlightRequests() throws Exception {
+		final var endpoint = BridgeHttp.create(this.url()).build();
+		this.release = new CountDownLatch(1);
+
+		final var executor = Executors.newVirtualThreadPerTaskExecutor();
+		final var futures = new ArrayList<CompletableFuture<String>>();
+		for (var i = 0; i < 5; i++) {
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					return this.fetcher.fetchEndpoint(endpoint, DebugMode.OFF).data();
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			}, executor));
+		}
+
+		// The server blocks the first request until all other callers joined it
+		assertTrue(this.received.await(5, TimeUnit.SECONDS));
+		this.awaitCoalesced(4);
+		this.release.countDown();
+
+		for (var future : futures) {
+			assertEquals("{\"power\":42}", future.get(5, TimeUnit.SECONDS));
+		}
+		executor.shutdown();
+		assertEquals(1, this.requests.get());
+		assertEquals(4, this.fetcher.getHostStatistics().values().iterator().next().coalesced());
+	}
+
+	/**
+	 * Waits until the given number of callers joined an in-flight request.
+	 *
+	 * @param expected the expected number of coalesced requests
+	 * @throws InterruptedException on interrupt
+	 */
+	private void awaitCoalesced(int expected) throws InterruptedException {
+		final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (this.fetcher.getHostStatistics().values().iterator().next().coalesced() < expected) {
+			if (System.nanoTime() > deadline) {
+				fail("Only " + this.fetcher.getHostStatistics().values().iterator().next().coalesced()
+						+ " of " + expected + " requests were coalesced");
+			}
+			Thread.sleep(1);
+		}
+	}
+
+}
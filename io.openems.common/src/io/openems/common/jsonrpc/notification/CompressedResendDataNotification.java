@@ -0,0 +1,414 @@
+package io.openems.common.jsonrpc.notification;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Represents a JSON-RPC Notification for resending aggregated data in a
+ * compact, compressed format.
+ *
+ * <p>
+ * Carries the same data as a {@link ResendDataNotification}, but the table is
+ * stored column by column: the timestamps once as deltas, followed by one
+ * column of values per Channel. The binary representation is deflated and
+ * Base64 encoded.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "method": "resendDataCompressed",
+ *   "params": {
+ *     "version": 1,
+ *     "data": string // Base64 encoded, deflated binary data
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>
+ * Binary data (before compression):
+ *
+ * <pre>
+ * varint  number of timestamps
+ * varint  for every timestamp [epoch in milliseconds]: delta to the previous one
+ * varint  number of Channels
+ * for every Channel:
+ *   string  Channel-Address
+ *   for every timestamp: one value tag, followed by the value
+ * </pre>
+ *
+ * <p>
+ * All varints are zig-zag encoded variable-length longs; strings are UTF-8
+ * bytes prefixed with their length. Integral values - of integer types or
+ * doubles without fraction - are stored as delta to the previous integral value
+ * of the same Channel.
+ */
+public final class CompressedResendDataNotification extends JsonrpcNotification {
+
+	public static final String METHOD = "resendDataCompressed";
+
+	public static final int VERSION = 1;
+
+	/** Maximum size of the decompressed binary data in bytes. */
+	protected static final int MAX_DECOMPRESSED_SIZE = 4 * 1024 * 1024;
+
+	/** Maximum number of timestamps or Channels. */
+	protected static final int MAX_COUNT = 10_000;
+
+	private static final byte TAG_ABSENT = 0;
+	private static final byte TAG_NULL = 1;
+	private static final byte TAG_LONG = 2;
+	private static final byte TAG_DOUBLE = 3;
+	private static final byte TAG_INTEGRAL_DOUBLE = 4;
+	private static final byte TAG_STRING = 5;
+	private static final byte TAG_TRUE = 6;
+	private static final byte TAG_FALSE = 7;
+	private static final byte TAG_JSON = 8;
+
+	/**
+	 * Parses a {@link JsonrpcNotification} to a
+	 * {@link CompressedResendDataNotification}.
+	 *
+	 * @param notification the {@link JsonrpcNotification}
+	 * @return the {@link CompressedResendDataNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static CompressedResendDataNotification from(JsonrpcNotification notification)
+			throws OpenemsNamedException {
+		final var params = notification.getParams();
+		final var version = JsonUtils.getAsInt(params, "version");
+		if (version != VERSION) {
+			throw new OpenemsException("Unsupported version [" + version + "] of " + METHOD);
+		}
+		try {
+			return new CompressedResendDataNotification(
+					Base64.getDecoder().decode(JsonUtils.getAsString(params, "data")));
+		} catch (IllegalArgumentException e) {
+			throw new OpenemsException("Invalid data of " + METHOD + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Builds a {@link CompressedResendDataNotification} from the data of a
+	 * {@link ResendDataNotification}.
+	 *
+	 * @param data the data
+	 * @return the {@link CompressedResendDataNotification}
+	 */
+	public static CompressedResendDataNotification of(TreeBasedTable<Long, String, JsonElement> data) {
+		return new CompressedResendDataNotification(encode(data));
+	}
+
+	private final byte[] compressed;
+
+	private CompressedResendDataNotification(byte[] compressed) {
+		super(METHOD);
+		this.compressed = compressed;
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("version", VERSION) //
+				.addProperty("data", Base64.getEncoder().encodeToString(this.compressed)) //
+				.build();
+	}
+
+	/**
+	 * Gets the size of the compressed binary data.
+	 *
+	 * @return the size in bytes
+	 */
+	public int getCompressedSize() {
+		return this.compressed.length;
+	}
+
+	/**
+	 * Decodes the data to a {@link ResendDataNotification}.
+	 *
+	 * @return the {@link ResendDataNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	public ResendDataNotification toResendDataNotification() throws OpenemsNamedException {
+		return new ResendDataNotification(decode(this.compressed));
+	}
+
+	/**
+	 * Encodes the data to compressed binary data.
+	 *
+	 * @param data the data
+	 * @return the compressed binary data
+	 */
+	protected static byte[] encode(TreeBasedTable<Long, String, JsonElement> data) {
+		final var bytes = new ByteArrayOutputStream();
+		try (var out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+			final var timestamps = new ArrayList<>(data.rowKeySet());
+			writeVarLong(out, zigZag(timestamps.size()));
+			var previousTimestamp = 0L;
+			for (var timestamp : timestamps) {
+				writeVarLong(out, zigZag(timestamp - previousTimestamp));
+				previousTimestamp = timestamp;
+			}
+
+			final var columns = data.columnMap();
+			writeVarLong(out, zigZag(columns.size()));
+			for (var column : columns.entrySet()) {
+				writeString(out, column.getKey());
+				final var values = column.getValue();
+				var previous = 0L;
+				for (var timestamp : timestamps) {
+					previous = writeValue(out, values.get(timestamp), previous);
+				}
+			}
+
+		} catch (IOException e) {
+			// ByteArrayOutputStream does not throw
+			throw new IllegalStateException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Decodes compressed binary data.
+	 *
+	 * <p>
+	 * The decompressed data is limited to {@link #MAX_DECOMPRESSED_SIZE} bytes and
+	 * {@link #MAX_COUNT} timestamps and Channels.
+	 *
+	 * @param compressed the compressed binary data
+	 * @return the data
+	 * @throws OpenemsNamedException on error
+	 */
+	protected static TreeBasedTable<Long, String, JsonElement> decode(byte[] compressed)
+			throws OpenemsNamedException {
+		final var data = TreeBasedTable.<Long, String, JsonElement>create();
+		try (var in = new DataInputStream(new LimitedInputStream(
+				new InflaterInputStream(new ByteArrayInputStream(compressed)), MAX_DECOMPRESSED_SIZE))) {
+			final var size = readCount(in);
+			final var timestamps = new ArrayList<Long>();
+			var previousTimestamp = 0L;
+			for (var i = 0; i < size; i++) {
+				previousTimestamp += unZigZag(readVarLong(in));
+				timestamps.add(previousTimestamp);
+			}
+
+			final var columns = readCount(in);
+			for (var c = 0; c < columns; c++) {
+				final var address = readString(in);
+				var previous = 0L;
+				for (var timestamp : timestamps) {
+					final var tag = in.readByte();
+					final JsonElement value;
+					switch (tag) {
+					case TAG_ABSENT -> value = null;
+					case TAG_NULL -> value = JsonNull.INSTANCE;
+					case TAG_LONG -> {
+						previous += unZigZag(readVarLong(in));
+						value = new JsonPrimitive(previous);
+					}
+					case TAG_INTEGRAL_DOUBLE -> {
+						previous += unZigZag(readVarLong(in));
+						value = new JsonPrimitive((double) previous);
+					}
+					case TAG_DOUBLE -> value = new JsonPrimitive(in.readDouble());
+					case TAG_STRING -> value = new JsonPrimitive(readString(in));
+					case TAG_TRUE -> value = new JsonPrimitive(true);
+					case TAG_FALSE -> value = new JsonPrimitive(false);
+					case TAG_JSON -> value = JsonParser.parseString(readString(in));
+					default -> throw new OpenemsException("Unknown value tag [" + tag + "] in " + METHOD);
+					}
+					if (value != null) {
+						data.put(timestamp, address, value);
+					}
+				}
+			}
+
+		} catch (IOException | RuntimeException e) {
+			throw new OpenemsException("Unable to decode " + METHOD + ": " + e.getMessage());
+		}
+		return data;
+	}
+
+	private static long writeValue(DataOutputStream out, JsonElement value, long previous) throws IOException {
+		if (value == null) {
+			out.writeByte(TAG_ABSENT);
+			return previous;
+		}
+		if (value.isJsonNull()) {
+			out.writeByte(TAG_NULL);
+			return previous;
+		}
+		if (value.isJsonPrimitive()) {
+			final var p = value.getAsJsonPrimitive();
+			if (p.isBoolean()) {
+				out.writeByte(p.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+				return previous;
+			}
+			if (p.isString()) {
+				out.writeByte(TAG_STRING);
+				writeString(out, p.getAsString());
+				return previous;
+			}
+			final var n = p.getAsNumber();
+			if (n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte) {
+				out.writeByte(TAG_LONG);
+				writeVarLong(out, zigZag(n.longValue() - previous));
+				return n.longValue();
+			}
+			if (n instanceof Double || n instanceof Float) {
+				final var d = n.doubleValue();
+				final var l = (long) d;
+				if (l == d && l != Long.MIN_VALUE && l != Long.MAX_VALUE && !isNegativeZero(d)) {
+					out.writeByte(TAG_INTEGRAL_DOUBLE);
+					writeVarLong(out, zigZag(l - previous));
+					return l;
+				}
+				out.writeByte(TAG_DOUBLE);
+				out.writeDouble(d);
+				return previous;
+			}
+		}
+		// Any other value, e.g. a lazily parsed number, is kept as JSON
+		out.writeByte(TAG_JSON);
+		writeString(out, value.toString());
+		return previous;
+	}
+
+	private static boolean isNegativeZero(double d) {
+		return d == 0 && Double.doubleToRawLongBits(d) != 0;
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	private static long readVarLong(DataInputStream in) throws IOException {
+		var result = 0L;
+		for (var shift = 0; shift < 64; shift += 7) {
+			final var b = in.readByte();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new IOException("Malformed variable-length number");
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		final var bytes = value.getBytes(UTF_8);
+		writeVarLong(out, zigZag(bytes.length));
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		final var length = readLength(in);
+		final var bytes = in.readNBytes(length);
+		if (bytes.length != length) {
+			throw new EOFException();
+		}
+		return new String(bytes, UTF_8);
+	}
+
+	private static int readCount(DataInputStream in) throws IOException {
+		final var count = readLength(in);
+		if (count > MAX_COUNT) {
+			throw new IOException("Count [" + count + "] exceeds maximum of [" + MAX_COUNT + "]");
+		}
+		return count;
+	}
+
+	private static int readLength(DataInputStream in) throws IOException {
+		final var length = unZigZag(readVarLong(in));
+		if (length < 0 || length > MAX_DECOMPRESSED_SIZE) {
+			throw new IOException("Invalid length [" + length + "]");
+		}
+		return (int) length;
+	}
+
+	/**
+	 * Fails reading once more than a maximum number of bytes were read.
+	 */
+	private static final class LimitedInputStream extends FilterInputStream {
+
+		private final int maxSize;
+		private int remaining;
+
+		private LimitedInputStream(InputStream in, int maxSize) {
+			super(in);
+			this.maxSize = maxSize;
+			this.remaining = maxSize;
+		}
+
+		@Override
+		public int read() throws IOException {
+			final var b = super.read();
+			if (b != -1) {
+				this.count(1);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			if (this.remaining == 0) {
+				// Only the end of the stream is allowed
+				return this.read();
+			}
+			final var n = super.read(b, off, Math.min(len, this.remaining));
+			if (n > 0) {
+				this.count(n);
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			throw new IOException("Skip is not supported");
+		}
+
+		private void count(int n) throws IOException {
+			this.remaining -= n;
+			if (this.remaining < 0) {
+				throw new IOException("Decompressed data exceeds [" + this.maxSize + "] bytes");
+			}
+		}
+	}
+}
@@ -0,0 +1,286 @@
+package io.openems.common.jsonrpc.notification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.type.SubscribeCurrentDataDelta;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Represents a JSON-RPC Notification for sending only the changed values of
+ * the subscribed Channels.
+ *
+ * <p>
+ * Every Notification carries a sequence number that is incremented by one per
+ * Notification. A 'full' Notification contains the values of all subscribed
+ * Channels and replaces all previously received values; otherwise only values
+ * that changed since the previous Notification are included. Channels that are
+ * not available anymore are sent once with a 'null' value.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "method": "currentDataDelta",
+ *   "params": {
+ *     "sequence": number,
+ *     "full": boolean,
+ *     "data": {
+ *       [channelAddress]: string | number
+ *     }
+ *   }
+ * }
+ * </pre>
+ *
+ * @see SubscribeCurrentDataDelta
+ */
+public class CurrentDataDeltaNotification extends JsonrpcNotification {
+
+	public static final String METHOD = "currentDataDelta";
+
+	/**
+	 * Parses a {@link JsonrpcNotification} to a
+	 * {@link CurrentDataDeltaNotification}.
+	 *
+	 * @param n the {@link JsonrpcNotification}
+	 * @return the {@link CurrentDataDeltaNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static CurrentDataDeltaNotification from(JsonrpcNotification n) throws OpenemsNamedException {
+		final var params = n.getParams();
+		final var data = new HashMap<String, JsonElement>();
+		for (var entry : JsonUtils.getAsJsonObject(params, "data").entrySet()) {
+			data.put(entry.getKey(), entry.getValue());
+		}
+		return new CurrentDataDeltaNotification(//
+				JsonUtils.getAsLong(params, "sequence"), //
+				JsonUtils.getAsBoolean(params, "full"), //
+				data);
+	}
+
+	private final long sequence;
+	private final boolean full;
+	private final Map<String, JsonElement> data;
+
+	public CurrentDataDeltaNotification(long sequence, boolean full, Map<String, JsonElement> data) {
+		super(CurrentDataDeltaNotification.METHOD);
+		this.sequence = sequence;
+		this.full = full;
+		this.data = data;
+	}
+
+	public long getSequence() {
+		return this.sequence;
+	}
+
+	public boolean isFull() {
+		return this.full;
+	}
+
+	public Map<String, JsonElement> getData() {
+		return this.data;
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("sequence", this.sequence) //
+				.addProperty("full", this.full) //
+				.add("data", this.data.entrySet().stream() //
+						.collect(JsonUtils.toJsonObject(Entry::getKey, Entry::getValue))) //
+				.build();
+	}
+
+	/**
+	 * Builds {@link CurrentDataDeltaNotification}s on the sending side.
+	 *
+	 * <p>
+	 * Must be called in the order the values were read, i.e. once per Cycle.
+	 */
+	public static class Encoder {
+
+		private Map<String, JsonElement> lastValues = null;
+		private long sequence = 0;
+
+		/**
+		 * Sends all values with the next Notification, e.g. because the receiver
+		 * detected a gap or the subscribed Channels changed.
+		 */
+		public synchronized void requestFullUpdate() {
+			this.lastValues = null;
+		}
+
+		/**
+		 * Builds the Notification for the current values.
+		 *
+		 * @param values the current values of all subscribed Channels
+		 * @return the {@link CurrentDataDeltaNotification}; null if nothing changed
+		 */
+		public synchronized CurrentDataDeltaNotification next(Map<String, JsonElement> values) {
+			if (this.lastValues == null) {
+				this.lastValues = new HashMap<>(values);
+				return new CurrentDataDeltaNotification(++this.sequence, true,
+						Collections.unmodifiableMap(new HashMap<>(values)));
+			}
+
+			final var changes = new HashMap<String, JsonElement>();
+			for (var entry : values.entrySet()) {
+				final var previous = this.lastValues.put(entry.getKey(), entry.getValue());
+				if (!entry.getValue().equals(previous)) {
+					changes.put(entry.getKey(), entry.getValue());
+				}
+			}
+			if (this.lastValues.size() > values.size()) {
+				final var removed = new ArrayList<String>();
+				for (var channel : this.lastValues.keySet()) {
+					if (!values.containsKey(channel)) {
+						removed.add(channel);
+					}
+				}
+				for (var channel : removed) {
+					this.lastValues.remove(channel);
+					changes.put(channel, JsonNull.INSTANCE);
+				}
+			}
+
+			if (changes.isEmpty()) {
+				return null;
+			}
+			return new CurrentDataDeltaNotification(++this.sequence, false, Collections.unmodifiableMap(changes));
+		}
+	}
+
+	/**
+	 * Applies received {@link CurrentDataDeltaNotification}s in order of their
+	 * sequence numbers.
+	 *
+	 * <p>
+	 * Notifications may be handled concurrently and arrive out of order; those are
+	 * held back until the missing ones arrived. If more than 'maxPending'
+	 * Notifications are held back, a Notification got lost and a full update is
+	 * required.
+	 */
+	public static class Decoder {
+
+		/**
+		 * The result of {@link Decoder#apply(CurrentDataDeltaNotification)}.
+		 *
+		 * @param changes           the changed values; possibly empty
+		 * @param requestFullUpdate true if a full update should be requested from the
+		 *                          sender
+		 */
+		public record Result(Map<String, JsonElement> changes, boolean requestFullUpdate) {
+		}
+
+		private final int maxPending;
+		private final Map<String, JsonElement> values = new HashMap<>();
+		private final TreeMap<Long, CurrentDataDeltaNotification> pending = new TreeMap<>();
+		private Long lastSequence = null;
+		private boolean awaitingFullUpdate = false;
+
+		public Decoder(int maxPending) {
+			this.maxPending = maxPending;
+		}
+
+		/**
+		 * Applies a {@link CurrentDataDeltaNotification}.
+		 *
+		 * @param notification the {@link CurrentDataDeltaNotification}
+		 * @return the {@link Result}
+		 */
+		public synchronized Result apply(CurrentDataDeltaNotification notification) {
+			final var changes = new HashMap<String, JsonElement>();
+			if (notification.isFull()) {
+				if (this.lastSequence != null && notification.getSequence() <= this.lastSequence) {
+					// Outdated
+					return new Result(changes, false);
+				}
+				// Channels that are not included anymore are reported as 'null'
+				for (var channel : this.values.keySet()) {
+					if (!notification.getData().containsKey(channel)) {
+						changes.put(channel, JsonNull.INSTANCE);
+					}
+				}
+				this.values.clear();
+				this.applyInOrder(notification, changes);
+				this.awaitingFullUpdate = false;
+
+			} else if (this.lastSequence != null && notification.getSequence() <= this.lastSequence) {
+				// Duplicate or outdated
+				return new Result(changes, false);
+
+			} else if (this.lastSequence != null && notification.getSequence() == this.lastSequence + 1) {
+				this.applyInOrder(notification, changes);
+
+			} else {
+				this.pending.put(notification.getSequence(), notification);
+			}
+
+			// Apply held back Notifications that are now in order
+			if (this.lastSequence != null) {
+				this.pending.headMap(this.lastSequence, true).clear();
+				CurrentDataDeltaNotification next;
+				while ((next = this.pending.remove(this.lastSequence + 1)) != null) {
+					this.applyInOrder(next, changes);
+				}
+			}
+
+			if (this.pending.size() > this.maxPending) {
+				this.pending.clear();
+				this.awaitingFullUpdate = true;
+				return new Result(changes, true);
+			}
+			return new Result(changes, false);
+		}
+
+		private void applyInOrder(CurrentDataDeltaNotification notification, Map<String, JsonElement> changes) {
+			for (var entry : notification.getData().entrySet()) {
+				if (entry.getValue().isJsonNull() && !notification.isFull()) {
+					this.values.remove(entry.getKey());
+				} else {
+					this.values.put(entry.getKey(), entry.getValue());
+				}
+				changes.put(entry.getKey(), entry.getValue());
+			}
+			this.lastSequence = notification.getSequence();
+		}
+
+		/**
+		 * Is a requested full update still outstanding?.
+		 *
+		 * @return true if waiting for a full update
+		 */
+		public synchronized boolean isAwaitingFullUpdate() {
+			return this.awaitingFullUpdate;
+		}
+
+		/**
+		 * Gets a copy of all current values.
+		 *
+		 * @return the values
+		 */
+		public synchronized Map<String, JsonElement> getValues() {
+			return new HashMap<>(this.values);
+		}
+
+		/**
+		 * Resets the state, e.g. after a reconnect.
+		 */
+		public synchronized void reset() {
+			this.values.clear();
+			this.pending.clear();
+			this.lastSequence = null;
+			this.awaitingFullUpdate = false;
+		}
+	}
+
+}
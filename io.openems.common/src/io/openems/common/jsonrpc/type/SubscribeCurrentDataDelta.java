@@ -0,0 +1,67 @@
+package io.openems.common.jsonrpc.type;
+
+import static io.openems.common.jsonrpc.serialization.JsonSerializerUtil.jsonObjectSerializer;
+
+import io.openems.common.jsonrpc.notification.CurrentDataDeltaNotification;
+import io.openems.common.jsonrpc.serialization.EmptyObject;
+import io.openems.common.jsonrpc.serialization.EndpointRequestType;
+import io.openems.common.jsonrpc.serialization.JsonSerializer;
+import io.openems.common.jsonrpc.type.SubscribeCurrentDataDelta.Request;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Represents a JSON-RPC Request for 'subscribeCurrentDataDelta'.
+ *
+ * <p>
+ * If subscribed, the values of the subscribed Channels are sent as
+ * {@link CurrentDataDeltaNotification} containing only the changed values
+ * instead of a full 'currentData' Notification every Cycle. Subscribing again
+ * forces a full update with the next Notification.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "method": "subscribeCurrentDataDelta",
+ *   "params": {
+ *     "subscribe": boolean
+ *   }
+ * }
+ * </pre>
+ */
+public class SubscribeCurrentDataDelta implements EndpointRequestType<Request, EmptyObject> {
+
+	@Override
+	public String getMethod() {
+		return "subscribeCurrentDataDelta";
+	}
+
+	@Override
+	public JsonSerializer<Request> getRequestSerializer() {
+		return Request.serializer();
+	}
+
+	@Override
+	public JsonSerializer<EmptyObject> getResponseSerializer() {
+		return EmptyObject.serializer();
+	}
+
+	public record Request(boolean subscribe) {
+
+		/**
+		 * Returns a {@link JsonSerializer} for a
+		 * {@link SubscribeCurrentDataDelta.Request}.
+		 * 
+		 * @return the created {@link JsonSerializer}
+		 */
+		public static JsonSerializer<Request> serializer() {
+			return jsonObjectSerializer(Request.class, //
+					json -> new Request(json.getBoolean("subscribe")), //
+					obj -> JsonUtils.buildJsonObject() //
+							.addProperty("subscribe", obj.subscribe()) //
+							.build());
+		}
+
+	}
+
+}
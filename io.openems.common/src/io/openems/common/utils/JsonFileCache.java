@@ -0,0 +1,120 @@
+package io.openems.common.utils;
+
+import static io.openems.common.utils.JsonUtils.buildJsonObject;
+import static io.openems.common.utils.JsonUtils.getAsInt;
+import static io.openems.common.utils.JsonUtils.getAsJsonObject;
+import static io.openems.common.utils.JsonUtils.getAsString;
+import static io.openems.common.utils.JsonUtils.parseToJsonObject;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.OpenemsConstants;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+
+/**
+ * Persists one {@link JsonObject} of a Component as a file in the OpenEMS Data
+ * Directory.
+ *
+ * <p>
+ * The data is stored together with a format version and a key. It is only
+ * loaded again if both match, e.g. if the key - built from configuration
+ * parameters or a device fingerprint - did not change since it was stored.
+ * Files are replaced atomically, so a crash while storing never leaves a
+ * partially written file behind.
+ */
+public class JsonFileCache {
+
+	/**
+	 * A {@link JsonFileCache} that never stores nor loads anything.
+	 */
+	public static final JsonFileCache DISABLED = new JsonFileCache(null, 0);
+
+	/**
+	 * Gets the {@link JsonFileCache} for the given Component-ID.
+	 *
+	 * <p>
+	 * The cache is {@link #DISABLED} if no OpenEMS Data Directory is configured.
+	 *
+	 * @param folder      the folder inside the OpenEMS Data Directory
+	 * @param componentId the Component-ID
+	 * @param version     the version of the data format
+	 * @return the {@link JsonFileCache}
+	 */
+	public static JsonFileCache of(String folder, String componentId, int version) {
+		final var dataDir = OpenemsConstants.getOpenemsDataDir();
+		if (dataDir.isBlank() || componentId == null) {
+			return DISABLED;
+		}
+		return new JsonFileCache(Paths.get(dataDir, folder, componentId + ".json"), version);
+	}
+
+	private final Path file;
+	private final int version;
+
+	public JsonFileCache(Path file, int version) {
+		this.file = file;
+		this.version = version;
+	}
+
+	/**
+	 * Is this cache enabled?.
+	 *
+	 * @return false if this is {@link #DISABLED}
+	 */
+	public boolean isEnabled() {
+		return this.file != null;
+	}
+
+	/**
+	 * Loads the cached data.
+	 *
+	 * @param key the expected key, see {@link #store(String, JsonObject)}
+	 * @return the data; null if nothing valid was cached
+	 */
+	public JsonObject load(String key) {
+		if (this.file == null || !Files.isReadable(this.file)) {
+			return null;
+		}
+		try {
+			final var json = parseToJsonObject(Files.readString(this.file, UTF_8));
+			if (getAsInt(json, "version") != this.version || !Objects.equals(getAsString(json, "key"), key)) {
+				return null;
+			}
+			return getAsJsonObject(json, "data");
+
+		} catch (IOException | OpenemsNamedException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the data, replacing any previously cached data.
+	 *
+	 * @param key  the key
+	 * @param data the data
+	 * @throws IOException on error
+	 */
+	public void store(String key, JsonObject data) throws IOException {
+		if (this.file == null) {
+			return;
+		}
+		final var json = buildJsonObject() //
+				.addProperty("version", this.version) //
+				.addProperty("key", key) //
+				.add("data", data) //
+				.build();
+
+		Files.createDirectories(this.file.getParent());
+		final var tmp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+		Files.writeString(tmp, json.toString(), UTF_8);
+		Files.move(tmp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+}
@@ -0,0 +1,138 @@
+package io.openems.common.jsonrpc.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+import io.openems.common.utils.JsonUtils;
+
+public class CompressedResendDataNotificationTest {
+
+	/**
+	 * Creates resend data like it is read from RRD4j: 5 minute values of 'days'
+	 * days for 'channels' Channels.
+	 *
+	 * @param days     the number of days
+	 * @param channels the number of Channels
+	 * @return the data
+	 */
+	private static TreeBasedTable<Long, String, JsonElement> createData(int days, int channels) {
+		final var data = TreeBasedTable.<Long, String, JsonElement>create();
+		final var start = 1_700_000_100_000L;
+		for (var t = 0; t < days * 288; t++) {
+			for (var c = 0; c < channels; c++) {
+				final JsonElement value = switch (c % 3) {
+				case 0 -> new JsonPrimitive(100_000.0 + t * c); // energy counter
+				case 1 -> new JsonPrimitive(Math.sin(t / 10.0) * 5000); // power
+				default -> new JsonPrimitive((double) (t % 7)); // state
+				};
+				data.put(start + t * 300_000L, "component" + c / 10 + "/Channel" + c, value);
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		final var data = TreeBasedTable.<Long, String, JsonElement>create();
+		data.put(1_000L, "ess0/Soc", new JsonPrimitive(50));
+		data.put(1_000L, "ess0/ActivePower", new JsonPrimitive(-1234.5));
+		data.put(1_000L, "meter0/Energy", new JsonPrimitive(12345.0));
+		data.put(1_000L, "_sum/State", new JsonPrimitive("Ok"));
+		data.put(2_000L, "ess0/Soc", new JsonPrimitive(Long.MIN_VALUE));
+		data.put(2_000L, "ess0/ActivePower", new JsonPrimitive(Double.NaN));
+		data.put(2_000L, "meter0/Energy", new JsonPrimitive(-0.0));
+		data.put(2_000L, "ess0/Enabled", new JsonPrimitive(true));
+		data.put(2_000L, "_sum/State", JsonNull.INSTANCE);
+		data.put(900L, "ess0/Soc", new JsonPrimitive(Long.MAX_VALUE));
+		data.put(900L, "ess0/Enabled", new JsonPrimitive(false));
+		data.put(900L, "meter0/Lazy", JsonParser.parseString("1.50"));
+		data.put(900L, "meter0/Array", JsonUtils.buildJsonArray().add(new JsonPrimitive(1)).build());
+		data.put(900L, "meter0/Text", new JsonPrimitive("\u00e4\u00f6\u00fc ".repeat(30_000)));
+
+		final var decoded = CompressedResendDataNotification.decode(CompressedResendDataNotification.encode(data));
+		assertEquals(data, decoded);
+
+		// Number types are kept
+		assertTrue(decoded.get(1_000L, "ess0/Soc").getAsNumber() instanceof Long);
+		assertTrue(decoded.get(1_000L, "meter0/Energy").getAsNumber() instanceof Double);
+		assertEquals("1.50", decoded.get(900L, "meter0/Lazy").toString());
+		assertEquals(Double.doubleToRawLongBits(-0.0),
+				Double.doubleToRawLongBits(decoded.get(2_000L, "meter0/Energy").getAsDouble()));
+	}
+
+	@Test
+	public void testEmpty() throws Exception {
+		final var data = TreeBasedTable.<Long, String, JsonElement>create();
+		assertEquals(data, CompressedResendDataNotification.decode(CompressedResendDataNotification.encode(data)));
+	}
+
+	@Test
+	public void testJsonrpc() throws Exception {
+		final var data = createData(1, 30);
+		final var notification = CompressedResendDataNotification.of(data);
+
+		final var parsed = CompressedResendDataNotification
+				.from(GenericJsonrpcNotification.from(notification.toJsonObject().toString()));
+		assertEquals(data, parsed.toResendDataNotification().getData());
+	}
+
+	@Test
+	public void testSize() throws Exception {
+		// Three days of outage
+		final var data = createData(3, 200);
+		final var json = new ResendDataNotification(data).toString().length();
+		final var compressed = CompressedResendDataNotification.of(data).toString().length();
+
+		assertTrue("Compressed " + compressed + " vs. JSON " + json, compressed * 5 < json);
+	}
+
+	@Test
+	public void testInvalid() throws Exception {
+		final var valid = CompressedResendDataNotification.of(createData(1, 3)).toJsonObject();
+
+		final var otherVersion = valid.deepCopy();
+		otherVersion.getAsJsonObject("params").addProperty("version", 2);
+		assertThrows(OpenemsException.class, () -> CompressedResendDataNotification
+				.from(GenericJsonrpcNotification.from(otherVersion)));
+
+		final var noBase64 = valid.deepCopy();
+		noBase64.getAsJsonObject("params").addProperty("data", "%%%");
+		assertThrows(OpenemsException.class, () -> CompressedResendDataNotification
+				.from(GenericJsonrpcNotification.from(noBase64)));
+
+		final var truncated = CompressedResendDataNotification.encode(createData(1, 3));
+		assertThrows(OpenemsException.class, () -> CompressedResendDataNotification
+				.decode(Arrays.copyOf(truncated, truncated.length / 2)));
+		assertThrows(OpenemsException.class,
+				() -> CompressedResendDataNotification.decode(new byte[] { 1, 2, 3 }));
+	}
+
+	@Test
+	public void testOversized() throws Exception {
+		// Too many timestamps
+		final var timestamps = CompressedResendDataNotification.encode(createData(35, 1));
+		assertThrows(OpenemsException.class, () -> CompressedResendDataNotification.decode(timestamps));
+
+		// Decompresses to more than the allowed size
+		final var data = TreeBasedTable.<Long, String, JsonElement>create();
+		data.put(1_000L, "meter0/Text",
+				new JsonPrimitive("x".repeat(CompressedResendDataNotification.MAX_DECOMPRESSED_SIZE)));
+		final var large = CompressedResendDataNotification.encode(data);
+		assertTrue(large.length < 100_000);
+		assertThrows(OpenemsException.class, () -> CompressedResendDataNotification.decode(large));
+	}
+
+}
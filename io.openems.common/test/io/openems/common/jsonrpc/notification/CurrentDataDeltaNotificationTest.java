@@ -0,0 +1,176 @@
+package io.openems.common.jsonrpc.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+import io.openems.common.jsonrpc.notification.CurrentDataDeltaNotification.Decoder;
+import io.openems.common.jsonrpc.notification.CurrentDataDeltaNotification.Encoder;
+
+public class CurrentDataDeltaNotificationTest {
+
+	private static Map<String, JsonElement> values(int... values) {
+		final var result = new HashMap<String, JsonElement>();
+		for (var i = 0; i < values.length; i++) {
+			result.put("ess0/Channel" + i, new JsonPrimitive(values[i]));
+		}
+		return result;
+	}
+
+	@Test
+	public void testEncoder() {
+		final var sut = new Encoder();
+
+		final var first = sut.next(values(1, 2, 3));
+		assertEquals(1, first.getSequence());
+		assertTrue(first.isFull());
+		assertEquals(values(1, 2, 3), first.getData());
+
+		// Nothing changed
+		assertNull(sut.next(values(1, 2, 3)));
+
+		final var second = sut.next(values(1, 5, 3));
+		assertEquals(2, second.getSequence());
+		assertFalse(second.isFull());
+		assertEquals(Map.of("ess0/Channel1", new JsonPrimitive(5)), second.getData());
+
+		// Channel2 is not available anymore
+		final var third = sut.next(values(1, 5));
+		assertEquals(Map.of("ess0/Channel2", JsonNull.INSTANCE), third.getData());
+
+		sut.requestFullUpdate();
+		final var fourth = sut.next(values(1, 5));
+		assertEquals(4, fourth.getSequence());
+		assertTrue(fourth.isFull());
+		assertEquals(values(1, 5), fourth.getData());
+	}
+
+	@Test
+	public void testSerialization() throws Exception {
+		final var notification = new CurrentDataDeltaNotification(42, false, values(7, 8));
+		final var parsed = CurrentDataDeltaNotification
+				.from(GenericJsonrpcNotification.from(notification.toJsonObject()));
+		assertEquals(42, parsed.getSequence());
+		assertFalse(parsed.isFull());
+		assertEquals(values(7, 8), parsed.getData());
+	}
+
+	@Test
+	public void testDecoderInOrder() {
+		final var encoder = new Encoder();
+		final var sut = new Decoder(10);
+
+		var result = sut.apply(encoder.next(values(1, 2, 3)));
+		assertEquals(values(1, 2, 3), result.changes());
+		assertFalse(result.requestFullUpdate());
+
+		result = sut.apply(encoder.next(values(1, 2, 4)));
+		assertEquals(Map.of("ess0/Channel2", new JsonPrimitive(4)), result.changes());
+		assertEquals(values(1, 2, 4), sut.getValues());
+
+		result = sut.apply(encoder.next(values(1, 2)));
+		assertEquals(Map.of("ess0/Channel2", JsonNull.INSTANCE), result.changes());
+		assertEquals(values(1, 2), sut.getValues());
+	}
+
+	@Test
+	public void testDecoderReordered() {
+		final var encoder = new Encoder();
+		final var sut = new Decoder(10);
+
+		final var full = encoder.next(values(0, 0));
+		final var delta1 = encoder.next(values(1, 0));
+		final var delta2 = encoder.next(values(1, 2));
+
+		// Delta before the full update is held back
+		assertTrue(sut.apply(delta2).changes().isEmpty());
+		assertTrue(sut.apply(full).changes().size() == 2);
+		assertEquals(values(0, 0), sut.getValues());
+
+		// Missing delta arrives; held back delta is applied afterwards
+		final var result = sut.apply(delta1);
+		assertEquals(values(1, 2), result.changes());
+		assertEquals(values(1, 2), sut.getValues());
+
+		// Duplicates are ignored
+		assertTrue(sut.apply(delta1).changes().isEmpty());
+		assertTrue(sut.apply(full).changes().isEmpty());
+	}
+
+	@Test
+	public void testDecoderGap() {
+		final var encoder = new Encoder();
+		final var sut = new Decoder(3);
+
+		sut.apply(encoder.next(values(0)));
+		encoder.next(values(1)); // lost
+		for (var i = 2; i < 5; i++) {
+			assertFalse(sut.apply(encoder.next(values(i))).requestFullUpdate());
+		}
+		assertTrue(sut.apply(encoder.next(values(5))).requestFullUpdate());
+		assertTrue(sut.isAwaitingFullUpdate());
+		assertEquals(values(0), sut.getValues());
+
+		// Resync
+		encoder.requestFullUpdate();
+		final var result = sut.apply(encoder.next(values(6)));
+		assertFalse(result.requestFullUpdate());
+		assertFalse(sut.isAwaitingFullUpdate());
+		assertEquals(values(6), result.changes());
+		assertEquals(values(6), sut.getValues());
+
+		assertEquals(values(7), sut.apply(encoder.next(values(7))).changes());
+	}
+
+	@Test
+	public void testFleet() {
+		// Many Channels of which only a few change every Cycle; delivered with
+		// local reordering
+		final var random = new Random(1);
+		final var channels = 2_000;
+		final var encoder = new Encoder();
+		final var sut = new Decoder(16);
+		final var current = new int[channels];
+		var fullSize = 0L;
+		var deltaSize = 0L;
+
+		final var inFlight = new ArrayList<CurrentDataDeltaNotification>();
+		for (var cycle = 0; cycle < 500; cycle++) {
+			for (var i = 0; i < 20; i++) {
+				current[random.nextInt(channels)] = random.nextInt(100);
+			}
+			final var values = values(current);
+			fullSize += new CurrentDataNotification(values).toString().length();
+
+			final var notification = encoder.next(values);
+			if (notification != null) {
+				deltaSize += notification.toString().length();
+				inFlight.add(notification);
+			}
+			if (inFlight.size() == 4) {
+				Collections.shuffle(inFlight, random);
+				inFlight.forEach(n -> assertFalse(sut.apply(n).requestFullUpdate()));
+				inFlight.clear();
+			}
+		}
+		inFlight.forEach(sut::apply);
+
+		assertEquals(values(current), sut.getValues());
+		assertTrue("Delta " + deltaSize + " vs. full " + fullSize, deltaSize * 20 < fullSize);
+	}
+
+}
@@ -0,0 +1,54 @@
+package io.openems.common.utils;
+
+import static io.openems.common.utils.JsonUtils.buildJsonObject;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JsonFileCacheTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	@Test
+	public void testStoreAndLoad() throws Exception {
+		final var file = this.tempFolder.getRoot().toPath().resolve("folder").resolve("cmp0.json");
+		final var sut = new JsonFileCache(file, 1);
+		assertTrue(sut.isEnabled());
+
+		// Nothing cached yet
+		assertNull(sut.load("foo"));
+
+		final var data = buildJsonObject() //
+				.addProperty("bar", 42) //
+				.build();
+		sut.store("foo", data);
+		assertEquals(data, sut.load("foo"));
+		assertFalse(Files.exists(file.resolveSibling("cmp0.json.tmp")));
+
+		// Different key
+		assertNull(sut.load("bar"));
+
+		// Different version
+		assertNull(new JsonFileCache(file, 2).load("foo"));
+
+		// Invalid file
+		Files.writeString(file, "{");
+		assertNull(sut.load("foo"));
+	}
+
+	@Test
+	public void testDisabled() throws Exception {
+		assertFalse(JsonFileCache.DISABLED.isEnabled());
+		JsonFileCache.DISABLED.store("foo", buildJsonObject().build());
+		assertNull(JsonFileCache.DISABLED.load("foo"));
+	}
+
+}
@@ -0,0 +1,84 @@
+package io.openems.edge.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+
+/**
+ * Measures the switch of the process image, i.e.
+ * {@link Channel#nextProcessImage()} for all Channels of many Components, as
+ * it is done by the Cycle on every 'BEFORE_PROCESS_IMAGE' event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChannelBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	public int noOfComponents;
+
+	private final List<Channel<?>> channels = new ArrayList<>();
+	private final List<Channel<?>> integerChannels = new ArrayList<>();
+	private int value = 0;
+
+	/**
+	 * Creates the Components.
+	 */
+	@Setup
+	public void setup() {
+		for (var i = 0; i < this.noOfComponents; i++) {
+			var ess = new DummyManagedSymmetricEss("ess" + i);
+			for (var channel : ess.channels()) {
+				this.channels.add(channel);
+				if (channel.getType() == OpenemsType.INTEGER) {
+					this.integerChannels.add(channel);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Switches the process image without changed values.
+	 */
+	@Benchmark
+	public void nextProcessImage() {
+		for (var channel : this.channels) {
+			channel.nextProcessImage();
+		}
+	}
+
+	/**
+	 * Sets a changed value on every Integer-Channel, then switches the process
+	 * image. This triggers the 'onChange' callbacks.
+	 */
+	@Benchmark
+	public void setNextValueAndNextProcessImage() {
+		final var value = this.value++ % 2;
+		for (var channel : this.integerChannels) {
+			channel.setNextValue(value);
+		}
+		for (var channel : this.channels) {
+			channel.nextProcessImage();
+		}
+	}
+
+}
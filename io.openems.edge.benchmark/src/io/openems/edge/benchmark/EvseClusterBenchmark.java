@@ -0,0 +1,118 @@
+package io.openems.edge.benchmark;
+
+import static io.openems.edge.common.type.Phase.SingleOrThreePhase.THREE_PHASE;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableMap;
+
+import io.openems.common.jscalendar.JSCalendar;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.controller.evse.cluster.DistributionStrategy;
+import io.openems.edge.controller.evse.cluster.EnergyScheduler.SingleModes;
+import io.openems.edge.controller.evse.cluster.LogVerbosity;
+import io.openems.edge.controller.evse.cluster.RunUtils;
+import io.openems.edge.controller.evse.cluster.RunUtils.PowerDistribution;
+import io.openems.edge.controller.evse.single.CombinedAbilities;
+import io.openems.edge.controller.evse.single.ControllerEvseSingle;
+import io.openems.edge.controller.evse.single.Params;
+import io.openems.edge.controller.evse.single.PhaseSwitching;
+import io.openems.edge.controller.evse.single.Types.History;
+import io.openems.edge.controller.evse.test.DummyControllerEvseSingle;
+import io.openems.edge.evse.api.chargepoint.Profile.ChargePointAbilities;
+import io.openems.edge.evse.api.common.ApplySetPoint;
+import io.openems.edge.evse.api.electricvehicle.Profile.ElectricVehicleAbilities;
+
+/**
+ * Measures one run of the EVSE Cluster power distribution
+ * ({@link RunUtils#calculate}) for charge parks of different sizes.
+ *
+ * <p>
+ * All Charge-Points are in SURPLUS mode; the surplus power is not sufficient
+ * to charge all of them with maximum power, so the equal distribution and the
+ * power limit per phase are both active.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvseClusterBenchmark {
+
+	@Param({ "10", "100", "500" })
+	public int noOfChargePoints;
+
+	private final Clock clock = Clock.systemDefaultZone();
+	private final SingleModes singleModes = new SingleModes(ImmutableMap.of());
+	private final DummySum sum = new DummySum();
+	private List<ControllerEvseSingle> ctrls;
+	private int hardwarePowerLimitPerPhase;
+
+	/**
+	 * Creates the Charge-Point-Controllers.
+	 */
+	@Setup
+	public void setup() {
+		this.ctrls = new ArrayList<>();
+		for (var i = 0; i < this.noOfChargePoints; i++) {
+			final var id = "ctrlEvseSingle" + i;
+			final var combinedAbilities = CombinedAbilities.createFrom(//
+					ChargePointAbilities.create() //
+							.setApplySetPoint(new ApplySetPoint.Ability.MilliAmpere(THREE_PHASE, 6000, 6000 + (i % 11) * 1000)) //
+							.setIsReadyForCharging(true) //
+							.build(), //
+					ElectricVehicleAbilities.create() //
+							.setSinglePhaseLimitInMilliAmpere(6000, 32000) //
+							.setThreePhaseLimitInMilliAmpere(6000, 16000) //
+							.build()) //
+					.build();
+			this.ctrls.add(new DummyControllerEvseSingle(id) //
+					.withParams(new Params(id, io.openems.edge.evse.api.chargepoint.Mode.SURPLUS, 4140, 0, 0,
+							new History(), PhaseSwitching.DISABLE, combinedAbilities, JSCalendar.Tasks.empty())));
+		}
+
+		// Surplus for ~10 kW per Charge-Point; fuse for ~3 kW per Charge-Point
+		this.sum.withGridActivePower(-10_000 * this.noOfChargePoints);
+		this.hardwarePowerLimitPerPhase = 3_000 * this.noOfChargePoints;
+	}
+
+	/**
+	 * Distributes power with {@link DistributionStrategy#EQUAL_POWER}.
+	 *
+	 * @return the {@link PowerDistribution}
+	 */
+	@Benchmark
+	public PowerDistribution equalPower() {
+		return RunUtils.calculate(this.clock, DistributionStrategy.EQUAL_POWER, this.hardwarePowerLimitPerPhase,
+				this.sum, this.ctrls, this.singleModes, LogVerbosity.NONE, message -> {
+				});
+	}
+
+	/**
+	 * Distributes power with {@link DistributionStrategy#BY_PRIORITY}.
+	 *
+	 * @return the {@link PowerDistribution}
+	 */
+	@Benchmark
+	public PowerDistribution byPriority() {
+		return RunUtils.calculate(this.clock, DistributionStrategy.BY_PRIORITY, this.hardwarePowerLimitPerPhase,
+				this.sum, this.ctrls, this.singleModes, LogVerbosity.NONE, message -> {
+				});
+	}
+}
@@ -0,0 +1,94 @@
+package io.openems.edge.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+
+/**
+ * Measures parsing of typical JSON-RPC messages via
+ * {@link JsonrpcMessage#from(String)} and
+ * {@link JsonrpcMessage#from(JsonObject)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonrpcMessageBenchmark {
+
+	public static enum Message {
+		REQUEST("""
+				{"jsonrpc":"2.0","id":"c5f5a4d8-6e49-4b0b-9b8e-5d6d1f1f4f2a","method":"edgeRpc",\
+				"params":{"edgeId":"edge0","payload":{"jsonrpc":"2.0","id":"0b8f7c5e-0f2f-4a39-8f3b-0b0f3d4b7e1d",\
+				"method":"subscribeChannels","params":{"count":1,"channels":["_sum/EssSoc",\
+				"_sum/GridActivePower","_sum/ProductionActivePower","_sum/ConsumptionActivePower"]}}}}"""), //
+		RESPONSE("""
+				{"jsonrpc":"2.0","id":"c5f5a4d8-6e49-4b0b-9b8e-5d6d1f1f4f2a","result":{}}"""), //
+		NOTIFICATION("""
+				{"jsonrpc":"2.0","method":"currentData","params":{"_sum/EssSoc":50,\
+				"_sum/GridActivePower":-2000,"_sum/ProductionActivePower":5000,\
+				"_sum/ConsumptionActivePower":1500,"_sum/EssActivePower":-1500,\
+				"ess0/ActivePower":-1500,"meter0/ActivePower":-2000,"meter1/ActivePower":5000}}""");
+
+		private final String json;
+
+		private Message(String json) {
+			this.json = json;
+		}
+	}
+
+	@Param
+	public Message message;
+
+	private String string;
+	private JsonObject jsonObject;
+
+	/**
+	 * Prepares the message.
+	 */
+	@Setup
+	public void setup() {
+		this.string = this.message.json;
+		this.jsonObject = JsonParser.parseString(this.string).getAsJsonObject();
+	}
+
+	/**
+	 * Parses the message from a String.
+	 *
+	 * @return the {@link JsonrpcMessage}
+	 * @throws OpenemsNamedException on error
+	 */
+	@Benchmark
+	public JsonrpcMessage fromString() throws OpenemsNamedException {
+		return JsonrpcMessage.from(this.string);
+	}
+
+	/**
+	 * Parses the message from a {@link JsonObject}.
+	 *
+	 * @return the {@link JsonrpcMessage}
+	 * @throws OpenemsNamedException on error
+	 */
+	@Benchmark
+	public JsonrpcMessage fromJsonObject() throws OpenemsNamedException {
+		return JsonrpcMessage.from(this.jsonObject);
+	}
+
+}
@@ -0,0 +1,101 @@
+package io.openems.edge.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ghgande.j2mod.modbus.procimg.Register;
+import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
+
+import io.openems.edge.bridge.modbus.api.element.FloatDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.SignedWordElement;
+import io.openems.edge.bridge.modbus.api.element.StringWordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.WordOrder;
+
+/**
+ * Measures decoding of read registers to values and encoding of write values
+ * to registers by the Modbus Elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModbusElementBenchmark {
+
+	private static final Register[] ONE_WORD = new Register[] { //
+			new SimpleRegister((byte) 0xFF, (byte) 0x38) };
+	private static final Register[] TWO_WORDS = new Register[] { //
+			new SimpleRegister((byte) 0x00, (byte) 0x01), new SimpleRegister((byte) 0x86, (byte) 0xA0) };
+	private static final Register[] STRING_WORDS = new Register[] { //
+			new SimpleRegister((byte) 'O', (byte) 'p'), new SimpleRegister((byte) 'e', (byte) 'n'), //
+			new SimpleRegister((byte) 'E', (byte) 'M'), new SimpleRegister((byte) 'S', (byte) 0) };
+
+	private SignedWordElement signedWord;
+	private UnsignedDoublewordElement unsignedDoubleword;
+	private FloatDoublewordElement floatDoubleword;
+	private StringWordElement stringWord;
+	private Object lastValue;
+
+	/**
+	 * Creates the Elements.
+	 */
+	@Setup
+	public void setup() {
+		this.signedWord = new SignedWordElement(0) //
+				.onUpdateCallback(value -> this.lastValue = value);
+		this.unsignedDoubleword = new UnsignedDoublewordElement(1) //
+				.wordOrder(WordOrder.MSWLSW) //
+				.onUpdateCallback(value -> this.lastValue = value);
+		this.floatDoubleword = new FloatDoublewordElement(3) //
+				.wordOrder(WordOrder.LSWMSW) //
+				.onUpdateCallback(value -> this.lastValue = value);
+		this.stringWord = new StringWordElement(5, STRING_WORDS.length) //
+				.onUpdateCallback(value -> this.lastValue = value);
+	}
+
+	/**
+	 * Decodes registers of typical Elements.
+	 *
+	 * @param blackhole the {@link Blackhole}
+	 */
+	@Benchmark
+	public void decode(Blackhole blackhole) {
+		this.signedWord.setInputValue(ONE_WORD);
+		blackhole.consume(this.lastValue);
+		this.unsignedDoubleword.setInputValue(TWO_WORDS);
+		blackhole.consume(this.lastValue);
+		this.floatDoubleword.setInputValue(TWO_WORDS);
+		blackhole.consume(this.lastValue);
+		this.stringWord.setInputValue(STRING_WORDS);
+		blackhole.consume(this.lastValue);
+	}
+
+	/**
+	 * Encodes write values of typical Elements.
+	 *
+	 * @param blackhole the {@link Blackhole}
+	 */
+	@Benchmark
+	public void encode(Blackhole blackhole) {
+		this.signedWord.setNextWriteValue((short) -200);
+		blackhole.consume(this.signedWord.getNextWriteValueAndReset());
+		this.unsignedDoubleword.setNextWriteValue(100_000L);
+		blackhole.consume(this.unsignedDoubleword.getNextWriteValueAndReset());
+		this.floatDoubleword.setNextWriteValue(1.5F);
+		blackhole.consume(this.floatDoubleword.getNextWriteValueAndReset());
+	}
+
+}
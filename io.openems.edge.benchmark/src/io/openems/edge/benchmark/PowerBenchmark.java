@@ -0,0 +1,118 @@
+package io.openems.edge.benchmark;
+
+import static io.openems.edge.common.type.Phase.SingleOrAllPhase.ALL;
+import static io.openems.edge.ess.power.api.Pwr.ACTIVE;
+import static io.openems.edge.ess.power.api.Relationship.EQUALS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.api.SymmetricEss;
+import io.openems.edge.ess.core.power.Data;
+import io.openems.edge.ess.core.power.Solver;
+import io.openems.edge.ess.power.api.SolverStrategy;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+import io.openems.edge.ess.test.DummyMetaEss;
+
+/**
+ * Measures one Cycle of the ESS Power {@link Solver}, as it is executed by
+ * EssPowerImpl on every 'BEFORE_WRITE' event: initialize the Cycle, add the
+ * Controller Constraint and solve.
+ *
+ * <p>
+ * For more than one inverter the ESS are combined in a Cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PowerBenchmark {
+
+	@Param({ "1", "5", "20" })
+	public int noOfInverters;
+
+	@Param({ "false", "true" })
+	public boolean fastPath;
+
+	private BenchmarkData data;
+	private BenchmarkSolver solver;
+	private String essId;
+	private int setPoint = 0;
+
+	/**
+	 * Creates the ESS and the {@link Solver}.
+	 */
+	@Setup
+	public void setup() {
+		final var esss = new ArrayList<ManagedSymmetricEss>();
+		for (var i = 1; i <= this.noOfInverters; i++) {
+			esss.add(new DummyManagedSymmetricEss("ess" + i) //
+					.withAllowedChargePower(-10_000) //
+					.withAllowedDischargePower(10_000) //
+					.withMaxApparentPower(10_000));
+		}
+		if (this.noOfInverters == 1) {
+			this.essId = "ess1";
+		} else {
+			this.essId = "ess0";
+			esss.add(0, new DummyMetaEss(this.essId, esss.toArray(SymmetricEss[]::new)));
+		}
+
+		this.data = new BenchmarkData(esss);
+		this.solver = new BenchmarkSolver(this.data, this.fastPath);
+	}
+
+	/**
+	 * Solves one Cycle with an alternating setpoint.
+	 *
+	 * @throws OpenemsException on error
+	 */
+	@Benchmark
+	public void solve() throws OpenemsException {
+		this.setPoint = this.setPoint == 3_000 ? -2_000 : 3_000;
+		this.data.initializeCycle();
+		this.data.addSimpleConstraint("Benchmark", this.essId, ALL, ACTIVE, EQUALS, this.setPoint);
+		this.solver.solve(SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
+	}
+
+	private static class BenchmarkData extends Data {
+
+		public BenchmarkData(List<ManagedSymmetricEss> esss) {
+			for (var ess : esss) {
+				this.addEss(ess);
+			}
+			this.initializeCycle();
+		}
+
+		@Override
+		protected synchronized void initializeCycle() {
+			super.initializeCycle();
+		}
+	}
+
+	private static class BenchmarkSolver extends Solver {
+
+		public BenchmarkSolver(Data data, boolean fastPath) {
+			super(data);
+			this.setFastPath(fastPath);
+		}
+	}
+
+}
@@ -0,0 +1,92 @@
+package io.openems.edge.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
+import io.openems.edge.controller.ess.timeofusetariff.EnergyScheduler;
+import io.openems.edge.controller.test.DummyController;
+import io.openems.edge.energy.api.handler.EnergyScheduleHandler.Fitness;
+import io.openems.edge.energy.api.simulation.GlobalOptimizationContext;
+import io.openems.edge.energy.api.test.DummyGlobalOptimizationContext;
+import io.openems.edge.energy.optimizer.Simulator;
+
+/**
+ * Measures {@link Simulator#calculateFitness(int[])} of one Schedule, i.e. the
+ * fitness function that is called for every individual of the genetic
+ * algorithm.
+ *
+ * <p>
+ * The fitness cache of the {@link Simulator} compares Schedules by identity,
+ * so every invocation passes a copy of the Schedule to always miss the cache.
+ * The {@link Simulator} is recreated for every iteration to keep the cache
+ * small.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulatorBenchmark {
+
+	private static final int NO_OF_SCHEDULES = 64;
+
+	private GlobalOptimizationContext goc;
+	private Simulator simulator;
+	private int[][] schedules;
+	private int index = 0;
+
+	/**
+	 * Creates the {@link GlobalOptimizationContext} with a Time-of-Use-Tariff
+	 * Controller and random Schedules.
+	 */
+	@Setup
+	public void setup() {
+		final var esh = EnergyScheduler.buildEnergyScheduleHandler(new DummyController("ctrlEssTimeOfUseTariff0"), //
+				() -> new EnergyScheduler.Config(ControlMode.CHARGE_CONSUMPTION));
+		this.goc = DummyGlobalOptimizationContext.fromHandlers(esh);
+		this.createSimulator();
+
+		final var random = new Random(0);
+		final var noOfPeriods = this.goc.periods().size();
+		final var noOfModeCombinations = this.simulator.modeCombinations.size();
+		this.schedules = new int[NO_OF_SCHEDULES][];
+		for (var i = 0; i < NO_OF_SCHEDULES; i++) {
+			this.schedules[i] = random.ints(noOfPeriods, 0, noOfModeCombinations).toArray();
+		}
+	}
+
+	/**
+	 * Creates a new {@link Simulator} with an empty fitness cache. This also
+	 * initializes the EnergyScheduleHandlers.
+	 */
+	@Setup(Level.Iteration)
+	public void createSimulator() {
+		this.simulator = new Simulator(this.goc);
+	}
+
+	/**
+	 * Simulates one Schedule.
+	 *
+	 * @return the {@link Fitness}
+	 */
+	@Benchmark
+	public Fitness simulate() {
+		final var schedule = this.schedules[this.index++ % NO_OF_SCHEDULES];
+		return this.simulator.calculateFitness(schedule.clone());
+	}
+
+}
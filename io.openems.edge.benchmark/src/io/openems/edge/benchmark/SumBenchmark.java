@@ -0,0 +1,76 @@
+package io.openems.edge.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.openems.common.types.MeterType;
+import io.openems.edge.common.test.ComponentTest;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.core.sum.SumImpl;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+import io.openems.edge.meter.test.DummyElectricityMeter;
+
+/**
+ * Measures {@link SumImpl#updateChannelsBeforeProcessImage()}, i.e. the
+ * calculation of all '_sum' Channels and the combined State on every Cycle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SumBenchmark {
+
+	@Param({ "1", "10", "100" })
+	public int noOfEss;
+
+	private SumImpl sum;
+
+	/**
+	 * Creates the {@link SumImpl} with the given number of ESS, one grid meter and
+	 * one production meter.
+	 *
+	 * @throws Exception on error
+	 */
+	@Setup
+	public void setup() throws Exception {
+		final var componentManager = new DummyComponentManager();
+		for (var i = 0; i < this.noOfEss; i++) {
+			componentManager.addComponent(new DummyManagedSymmetricEss("ess" + i) //
+					.withSoc(50) //
+					.withCapacity(10_000) //
+					.withActivePower(1_000 + i));
+		}
+		componentManager.addComponent(new DummyElectricityMeter("meter0") //
+				.withMeterType(MeterType.GRID) //
+				.withActivePower(-2_000));
+		componentManager.addComponent(new DummyElectricityMeter("meter1") //
+				.withMeterType(MeterType.PRODUCTION) //
+				.withActivePower(5_000));
+
+		this.sum = new SumImpl();
+		new ComponentTest(this.sum) //
+				.addReference("componentManager", componentManager);
+	}
+
+	/**
+	 * Calculates all '_sum' Channels.
+	 */
+	@Benchmark
+	public void updateChannelsBeforeProcessImage() {
+		this.sum.updateChannelsBeforeProcessImage();
+	}
+
+}
@@ -1,5 +1,8 @@
 package io.openems.edge.bridge.http.cycle;
 
+import static java.util.Collections.emptyMap;
+
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -7,23 +10,49 @@ import java.util.function.Consumer;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ServiceScope;
 import org.osgi.service.event.Event;
-import org.osgi.service.event.EventHandler;
-import org.osgi.service.event.propertytypes.EventTopics;
 
+import io.openems.edge.common.cycle.CycleListener;
 import io.openems.edge.common.event.EdgeEventConstants;
 
+/**
+ * Notifies the subscribed handlers once per Cycle.
+ *
+ * <p>
+ * Is called directly by the Core Cycle as a {@link CycleListener}, i.e.
+ * without going through the OSGi EventAdmin.
+ */
 @Component(//
 		scope = ServiceScope.SINGLETON, //
-		service = { CycleSubscriber.class, EventHandler.class } //
+		service = { CycleSubscriber.class, CycleListener.class } //
 )
-@EventTopics({ //
-		EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE //
-})
-public class CycleSubscriber implements EventHandler {
+public class CycleSubscriber implements CycleListener {
+
+	private static final Set<Phase> CYCLE_PHASES = EnumSet.of(Phase.BEFORE_PROCESS_IMAGE);
+
+	private static final Event BEFORE_PROCESS_IMAGE_EVENT = new Event(
+			EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, emptyMap());
 
 	private final Set<Consumer<Event>> eventHandler = new HashSet<>();
 
 	@Override
+	public Set<Phase> getCyclePhases() {
+		return CYCLE_PHASES;
+	}
+
+	@Override
+	public void onCyclePhase(Phase phase) {
+		switch (phase) {
+		case BEFORE_PROCESS_IMAGE -> this.handleEvent(BEFORE_PROCESS_IMAGE_EVENT);
+		default -> {
+		}
+		}
+	}
+
+	/**
+	 * Passes the {@link Event} to all subscribed handlers.
+	 *
+	 * @param event the {@link Event}
+	 */
 	public void handleEvent(Event event) {
 		switch (event.getTopic()) {
 		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE -> {
@@ -36,7 +65,7 @@ public class CycleSubscriber implements EventHandler {
 
 	/**
 	 * Subscribes to the events of the topics this component is subscribed to.
-	 * 
+	 *
 	 * @param eventHandler the handler to execute on every event
 	 */
 	public void subscribe(Consumer<Event> eventHandler) {
@@ -47,7 +76,7 @@ public class CycleSubscriber implements EventHandler {
 
 	/**
 	 * Unsubscribes a event handler.
-	 * 
+	 *
 	 * @param eventHandler the handler to remove
 	 * @return true if the handler was successfully removed; if the handler was not
 	 *         found returs false
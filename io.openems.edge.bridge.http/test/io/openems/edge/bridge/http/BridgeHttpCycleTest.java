@@ -4,7 +4,6 @@ import static java.util.Collections.emptyMap;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
-import java.util.HashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -17,7 +16,6 @@ import io.openems.edge.bridge.http.cycle.HttpBridgeCycleServiceDefinition;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
-import org.osgi.service.event.Event;
 
 import io.openems.common.utils.FunctionUtils;
 import io.openems.common.bridge.http.BridgeHttpImpl;
@@ -25,7 +23,7 @@ import io.openems.common.bridge.http.api.BridgeHttp.Endpoint;
 import io.openems.edge.bridge.http.cycle.HttpBridgeCycleService.CycleEndpoint;
 import io.openems.common.bridge.http.dummy.DummyBridgeHttpExecutor;
 import io.openems.common.bridge.http.dummy.DummyEndpointFetcher;
-import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.cycle.CycleListener.Phase;
 
 public class BridgeHttpCycleTest {
 
@@ -133,8 +131,7 @@ public class BridgeHttpCycleTest {
 	}
 
 	private void nextCycle() {
-		this.cycleSubscriber
-				.handleEvent(new Event(EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, new HashMap<>()));
+		this.cycleSubscriber.onCyclePhase(Phase.BEFORE_PROCESS_IMAGE);
 	}
 
 }
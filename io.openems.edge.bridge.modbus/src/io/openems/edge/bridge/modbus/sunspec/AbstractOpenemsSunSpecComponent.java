@@ -8,14 +8,18 @@ import static io.openems.edge.bridge.modbus.sunspec.Utils.toUpperUnderscore;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toMap;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.osgi.service.cm.ConfigurationAdmin;
@@ -60,6 +64,11 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 	 */
 	private static final int MAXIMUM_TASK_LENGTH = 126;
 
+	/**
+	 * Registers from 40000 up to the end of the serial number in the Common block.
+	 */
+	private static final int COMMON_BLOCK_FINGERPRINT_LENGTH = 68;
+
 	private final Logger log = LoggerFactory.getLogger(AbstractOpenemsSunSpecComponent.class);
 
 	public record SunSpecModelEntry(SunSpecModel sunSpecModel, Priority priority, boolean required) {
@@ -120,7 +129,10 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 	private final List<SunSpecModel> readModels = new CopyOnWriteArrayList<>();
 	private final ModbusProtocol modbusProtocol;
 
+	private final List<SunSpecLayoutCache.Block> discoveredBlocks = new CopyOnWriteArrayList<>();
+
 	private int readFromCommonBlockNo = 1;
+	private SunSpecLayoutCache layoutCache = SunSpecLayoutCache.DISABLED;
 
 	private final AtomicBoolean isSunSpecInitializationCompleted = new AtomicBoolean(false);
 	private CompletableFuture<Void> runningInitialization;
@@ -186,6 +198,7 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 			ConfigurationAdmin cm, String modbusReference, String modbusId, int readFromCommonBlockNo)
 			throws OpenemsException {
 		this.readFromCommonBlockNo = readFromCommonBlockNo;
+		this.layoutCache = SunSpecLayoutCache.of(id);
 
 		this.reinitializeSunSpecChannels(true);
 
@@ -212,26 +225,180 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 
 		this.removeAllSunSpecChannels();
 		this.readModels.clear();
+		this.discoveredBlocks.clear();
 
 		final var expectedBlocks = this.activeModels.stream() //
 				.collect(toMap(t -> t.sunSpecModel().getBlockId(), Function.identity()));
 
-		this.runningInitialization = this.isSunSpec().thenCompose(isSunSpec -> {
-			if (!isSunSpec) {
-				throw new IllegalArgumentException("This modbus device is not SunSpec!");
-			}
-
-			return this.readNextBlock(40_002, expectedBlocks, 0).whenComplete((result, error) -> {
-				if (error != null) {
-					this.log.error("Error during SunSpec initialization", error);
-					return;
+		final CompletableFuture<Void> initialization;
+		if (force && this.layoutCache.isEnabled()) {
+			// Try to build the protocol from the cached layout
+			initialization = this.readLayoutCacheKey().thenCompose(key -> {
+				if (key != null && this.addCachedBlocks(this.layoutCache.load(key), expectedBlocks)) {
+					return completedFuture(null);
 				}
-				this.isSunSpecInitializationCompleted.set(true);
-				this.onSunSpecInitializationCompleted();
+				return this.discoverBlocks(expectedBlocks, key);
 			});
+		} else {
+			initialization = this.discoverBlocks(expectedBlocks, null);
+		}
+
+		this.runningInitialization = initialization.whenComplete((result, error) -> {
+			if (error != null) {
+				this.log.error("Error during SunSpec initialization", error);
+				return;
+			}
+			this.isSunSpecInitializationCompleted.set(true);
+			this.onSunSpecInitializationCompleted();
 		});
 	}
 
+	/**
+	 * Discovers the SunSpec blocks by walking the model chain.
+	 *
+	 * <p>
+	 * The "SunS" marker is read together with a speculative bulk read of the first
+	 * blocks. If the device answers the bulk read, the following blocks are also
+	 * discovered with reads of up to {@link #MAXIMUM_TASK_LENGTH} registers;
+	 * otherwise the chain is walked header by header. See
+	 * {@link SunSpecModelChain}.
+	 *
+	 * @param expectedBlocks the blocks expected to read
+	 * @param cacheKey       the key for the {@link SunSpecLayoutCache}; null to not
+	 *                       store the discovered layout
+	 * @return a future that completes once discovery finished
+	 */
+	private CompletableFuture<Void> discoverBlocks(Map<Integer, SunSpecModelEntry> expectedBlocks,
+			String cacheKey) {
+		final var chain = new SunSpecModelChain(40_002, MAXIMUM_TASK_LENGTH);
+
+		return this.isSunSpec() //
+				.thenCombine(this.readRegistersOnce(40_000, MAXIMUM_TASK_LENGTH), (isSunSpec, values) -> {
+					if (!isSunSpec) {
+						throw new IllegalArgumentException("This modbus device is not SunSpec!");
+					}
+					return values;
+				}) //
+				.thenCompose(values -> {
+					final int commonBlockCounter;
+					if (values == null) {
+						chain.onError(); // Bulk read not supported -> read header by header
+						commonBlockCounter = 0;
+					} else {
+						commonBlockCounter = this.handleHeaders(chain.onResponse(40_000, values), expectedBlocks, 0);
+					}
+					return this.readNextBlock(chain, expectedBlocks, commonBlockCounter);
+				}) //
+				.thenRun(() -> {
+					this.log.debug("Finished SunSpec discovery after " + chain.getReads() + " reads [bulk="
+							+ chain.isBulk() + "]");
+					if (cacheKey == null || !this.areRequiredModelsRead()) {
+						return;
+					}
+					try {
+						this.layoutCache.store(cacheKey, List.copyOf(this.discoveredBlocks));
+					} catch (IOException e) {
+						this.logWarn(this.log, "Unable to store SunSpec layout: " + e.getMessage());
+					}
+				});
+	}
+
+	/**
+	 * Adds the blocks of a cached layout.
+	 *
+	 * @param cachedBlocks   the cached {@link SunSpecLayoutCache.Block}s; possibly
+	 *                       null
+	 * @param expectedBlocks the blocks expected to read
+	 * @return true if the cached layout was applied; false if a full discovery is
+	 *         required
+	 */
+	private boolean addCachedBlocks(List<SunSpecLayoutCache.Block> cachedBlocks,
+			Map<Integer, SunSpecModelEntry> expectedBlocks) {
+		if (cachedBlocks == null || cachedBlocks.isEmpty()) {
+			return false;
+		}
+		final var entries = new ArrayList<SunSpecModelEntry>();
+		for (var block : cachedBlocks) {
+			final var entry = expectedBlocks.get(block.blockId());
+			if (entry == null) {
+				// Cache does not fit the active models
+				return false;
+			}
+			entries.add(entry);
+		}
+
+		this.logInfo(this.log, "Using cached SunSpec layout");
+		for (var i = 0; i < cachedBlocks.size(); i++) {
+			final var block = cachedBlocks.get(i);
+			final var entry = entries.get(i);
+			expectedBlocks.remove(block.blockId());
+			this.discoveredBlocks.add(block);
+			this.addBlock(block.startAddress(), entry.sunSpecModel(), entry.priority());
+		}
+		return true;
+	}
+
+	/**
+	 * Reads the SunSpec marker and the Common block with one read and builds the
+	 * key for the {@link SunSpecLayoutCache}.
+	 *
+	 * <p>
+	 * The key consists of manufacturer, model, firmware version ('Vr') and
+	 * serial number of the device, the 'readFromCommonBlockNo' setting and the
+	 * active models. A firmware update may change the model layout, so it
+	 * invalidates the cached layout.
+	 *
+	 * @return a future key; null if the device could not be identified
+	 */
+	private CompletableFuture<String> readLayoutCacheKey() {
+		final var elements = new UnsignedWordElement[COMMON_BLOCK_FINGERPRINT_LENGTH];
+		for (var i = 0; i < elements.length; i++) {
+			elements[i] = new UnsignedWordElement(40_000 + i);
+		}
+		return readElementsOnce(FC3, this.modbusProtocol, //
+				// Retry on error, but not on "Illegal Data Address"
+				(executeState, value) -> {
+					if (value != null) {
+						return false;
+					}
+					if (executeState instanceof ExecuteState.Error(Exception exception)
+							&& exception instanceof ModbusSlaveException mse) {
+						return !mse.isType(ILLEGAL_ADDRESS_EXCEPTION);
+					}
+					return true;
+				}, elements) //
+				.thenApply(rer -> {
+					final var values = rer.values();
+					if (values.contains(null) //
+							|| values.get(0) != 0x5375 || values.get(1) != 0x6e53 // "SunS"
+							|| values.get(2) != 1 /* SunSpecModel.S_1 */) {
+						return null;
+					}
+					final var manufacturer = toString(values, 4, 16);
+					final var model = toString(values, 20, 16);
+					final var version = toString(values, 44, 8);
+					final var serialNumber = toString(values, 52, 16);
+					if (serialNumber.isBlank()) {
+						return null;
+					}
+					return String.join("|", manufacturer, model, version, serialNumber, //
+							String.valueOf(this.readFromCommonBlockNo), //
+							this.activeModels.stream() //
+									.map(e -> String.valueOf(e.sunSpecModel().getBlockId())) //
+									.sorted() //
+									.collect(Collectors.joining(",")));
+				});
+	}
+
+	private static String toString(List<Integer> values, int offset, int length) {
+		final var b = new StringBuilder();
+		for (var i = offset; i < offset + length; i++) {
+			final int value = values.get(i);
+			b.append((char) ((value >> 8) & 0xFF)).append((char) (value & 0xFF));
+		}
+		return b.toString().replace("\0", "").trim();
+	}
+
 	private void removeAllSunSpecChannels() {
 		for (var channel : new ArrayList<>(this.channels())) {
 			if (channel.channelId() instanceof SunSChannelId) {
@@ -276,19 +443,18 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 	}
 
 	/**
-	 * Reads the next SunSpec block.
+	 * Reads the next SunSpec block(s).
 	 *
-	 * @param startAddress       the startAddress
+	 * @param chain              the {@link SunSpecModelChain}
 	 * @param remainingBlocks    the remaining blocks expected to read
 	 * @param commonBlockCounter the number of already read common blocks
-	 * @return a future that completes once reading the block finished
+	 * @return a future that completes once reading the blocks finished
 	 */
-	private CompletableFuture<Void> readNextBlock(final int startAddress,
+	private CompletableFuture<Void> readNextBlock(final SunSpecModelChain chain,
 			final Map<Integer, SunSpecModelEntry> remainingBlocks, final int commonBlockCounter) {
-		this.log.debug("Read next SunSpec value at " + startAddress + ", remainingBlocks=" + remainingBlocks);
-
 		// Finish if all expected Blocks have been read
 		if (remainingBlocks.isEmpty()) {
+			chain.finish();
 			return completedFuture(null);
 		}
 
@@ -300,6 +466,93 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 		 * and that some blocks are not read - especially when one component is used for
 		 * multiple devices like single and three phase inverter.
 		 */
+		final var read = chain.nextRead();
+		if (read == null) {
+			// END_OF_MAP
+			if (!this.areRequiredModelsRead()) {
+				this.log.warn(
+						"Reached end of SunSpec but required blocks are still missing. Update Modbus protocol or remove required blocks.");
+			}
+			return completedFuture(null);
+		}
+		this.log.debug("Read next SunSpec value at " + read.startAddress() + ", remainingBlocks=" + remainingBlocks);
+
+		final CompletableFuture<List<Integer>> values;
+		if (chain.isBulk()) {
+			values = this.readRegistersOnce(read.startAddress(), read.length());
+		} else {
+			values = this.readHeaderOnce(read.startAddress());
+		}
+		return values.thenCompose(v -> {
+			final int blockCounter;
+			if (v == null) {
+				chain.onError();
+				blockCounter = commonBlockCounter;
+			} else {
+				blockCounter = this.handleHeaders(chain.onResponse(read.startAddress(), v), remainingBlocks,
+						commonBlockCounter);
+			}
+
+			// Announce finished when next block (recursively) is finished
+			return this.readNextBlock(chain, remainingBlocks, blockCounter);
+		});
+	}
+
+	/**
+	 * Adds the blocks of the given SunSpec model headers.
+	 *
+	 * @param headers            the {@link SunSpecModelChain.Header}s in order
+	 * @param remainingBlocks    the remaining blocks expected to read
+	 * @param commonBlockCounter the number of already read common blocks
+	 * @return the updated number of read common blocks
+	 */
+	private int handleHeaders(List<SunSpecModelChain.Header> headers,
+			Map<Integer, SunSpecModelEntry> remainingBlocks, int commonBlockCounter) {
+		var blockCounter = commonBlockCounter;
+		for (var header : headers) {
+			if (remainingBlocks.isEmpty()) {
+				break;
+			}
+			final var blockId = header.blockId();
+			final var startAddress = header.startAddress();
+			this.log.debug("Read next SunSpec value at " + startAddress + ", blockId=" + blockId);
+
+			// Handle SunSpec Block
+			if (blockId == 1 /* SunSpecModel.S_1 */) {
+				blockCounter++;
+			}
+
+			if (blockCounter < this.readFromCommonBlockNo) {
+				// ignore all SunSpec blocks before 'readFromCommonBlockNo' was passed
+				continue;
+			}
+
+			// Should this Block be considered?
+			final var activeEntry = this.getActiveModelForId(blockId);
+			if (activeEntry != null) {
+				final var sunSpecModel = activeEntry.sunSpecModel();
+				if (remainingBlocks.remove(sunSpecModel.getBlockId()) != null) {
+					this.discoveredBlocks.add(new SunSpecLayoutCache.Block(blockId, startAddress));
+					this.addBlock(startAddress, sunSpecModel, activeEntry.priority());
+				} else {
+					this.log.warn("Skip model {}; already added", sunSpecModel.getBlockId());
+				}
+			} else {
+				// This block is not considered, because the Model is not active
+				this.logInfo(this.log, "Ignoring SunSpec-Model [" + blockId + "] starting at [" + startAddress + "]");
+			}
+		}
+		return blockCounter;
+	}
+
+	/**
+	 * Reads a single SunSpec model header.
+	 *
+	 * @param startAddress the address of the header
+	 * @return a future of Block-ID and Length; values are null on END_OF_MAP or
+	 *         permanent read error
+	 */
+	private CompletableFuture<List<Integer>> readHeaderOnce(int startAddress) {
 		return readElementsOnce(FC3, this.modbusProtocol, //
 				// Retry if value is null and error is not "Illegal Data Address".
 				// Background: some SMA inverters do not provide an END_OF_MAP register.
@@ -322,57 +575,47 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 
 				new UnsignedWordElement(startAddress), // Block-ID
 				new UnsignedWordElement(startAddress + 1)) // Length of Block
+				.thenApply(rer -> rer.values());
+	}
 
-				.thenCompose(rer -> {
-					var blockCounter = commonBlockCounter;
-
-					var values = rer.values();
-					var blockId = values.get(0);
-
-					this.log.debug("Read next SunSpec value at " + startAddress + ", blockId=" + blockId);
-					// END_OF_MAP
-					if (blockId == null || blockId == 0xFFFF) {
-						if (!this.areRequiredModelsRead()) {
-							this.log.warn(
-									"Reached end of SunSpec but required blocks are still missing. Update Modbus protocol or remove required blocks.");
-						}
-
-						return completedFuture(null);
-					}
-
-					// Handle SunSpec Block
-					if (blockId == 1 /* SunSpecModel.S_1 */) {
-						blockCounter++;
-					}
-
-					if (blockCounter < this.readFromCommonBlockNo) {
-						// ignore all SunSpec blocks before 'readFromCommonBlockNo' was passed
-
-					} else {
-
-						// Should this Block be considered?
-						final var activeEntry = this.getActiveModelForId(blockId);
-						if (activeEntry != null) {
-							final var sunSpecModel = activeEntry.sunSpecModel();
-							if (remainingBlocks.remove(sunSpecModel.getBlockId()) != null) {
-								this.addBlock(startAddress, sunSpecModel, activeEntry.priority());
-							} else {
-								this.log.warn("Skip model {}; already added", sunSpecModel.getBlockId());
-							}
-						} else {
-							// This block is not considered, because the Model is not active
-							this.logInfo(this.log,
-									"Ignoring SunSpec-Model [" + blockId + "] starting at [" + startAddress + "]");
-						}
-
+	/**
+	 * Reads a range of registers once, without retry.
+	 *
+	 * <p>
+	 * Unlike {@link ModbusUtils#readElementsOnce} the future completes on the
+	 * first failed execution, so a speculative read does not delay the fallback.
+	 *
+	 * @param startAddress the start address
+	 * @param length       the number of registers
+	 * @return a future of the values; null on error
+	 */
+	private CompletableFuture<List<Integer>> readRegistersOnce(int startAddress, int length) {
+		final var result = new CompletableFuture<List<Integer>>();
+		final var values = new Integer[length];
+		final var missing = new AtomicInteger(length);
+		final var elements = new UnsignedWordElement[length];
+		for (var i = 0; i < length; i++) {
+			final var index = i;
+			elements[i] = new UnsignedWordElement(startAddress + i);
+			elements[i].onUpdateCallback(value -> {
+				if (value == null) {
+					result.complete(null);
+				} else if (values[index] == null) {
+					values[index] = value;
+					if (missing.decrementAndGet() == 0) {
+						result.complete(Arrays.asList(values));
 					}
+				}
+			});
+		}
+		final var task = new FC3ReadRegistersTask(executeState -> {
+			if (executeState instanceof ExecuteState.Error) {
+				result.complete(null);
+			}
+		}, startAddress, Priority.HIGH, elements);
+		this.modbusProtocol.addTask(task);
 
-					// Read next block recursively
-					var nextBlockStartAddress = startAddress + 2 + values.get(1);
-
-					// Announce finished when next block (recursively) is finished
-					return this.readNextBlock(nextBlockStartAddress, remainingBlocks, blockCounter);
-				});
+		return result.whenComplete((ignore, error) -> this.modbusProtocol.removeTask(task));
 	}
 
 	/**
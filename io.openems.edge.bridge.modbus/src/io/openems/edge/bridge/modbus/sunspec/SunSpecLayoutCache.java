@@ -0,0 +1,125 @@
+package io.openems.edge.bridge.modbus.sunspec;
+
+import static io.openems.common.utils.JsonUtils.buildJsonArray;
+import static io.openems.common.utils.JsonUtils.buildJsonObject;
+import static io.openems.common.utils.JsonUtils.getAsInt;
+import static io.openems.common.utils.JsonUtils.getAsJsonArray;
+import static io.openems.common.utils.JsonUtils.getAsJsonObject;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.utils.JsonFileCache;
+
+/**
+ * Persists the SunSpec model layout, i.e. the start addresses of the
+ * discovered SunSpec blocks, of a Component in the OpenEMS Data Directory.
+ *
+ * <p>
+ * On the next activation the Modbus protocol can be built straight from the
+ * cache instead of walking the model chain header by header. A cached layout
+ * is only used if it was stored with the same key, which contains the device
+ * fingerprint (manufacturer, model, firmware version and serial number of the
+ * Common block). Storage is delegated to a {@link JsonFileCache}.
+ */
+public class SunSpecLayoutCache {
+
+	/**
+	 * A {@link SunSpecLayoutCache} that never stores nor loads anything.
+	 */
+	public static final SunSpecLayoutCache DISABLED = new SunSpecLayoutCache(JsonFileCache.DISABLED);
+
+	/**
+	 * One discovered SunSpec block.
+	 *
+	 * @param blockId      the SunSpec Block-ID
+	 * @param startAddress the start address of the block header
+	 */
+	public record Block(int blockId, int startAddress) {
+	}
+
+	private static final String CACHE_FOLDER = "sunspec";
+	private static final int VERSION = 2;
+
+	/**
+	 * Gets the {@link SunSpecLayoutCache} for the given Component-ID.
+	 *
+	 * <p>
+	 * The cache is {@link #DISABLED} if no OpenEMS Data Directory is configured.
+	 *
+	 * @param componentId the Component-ID
+	 * @return the {@link SunSpecLayoutCache}
+	 */
+	public static SunSpecLayoutCache of(String componentId) {
+		return new SunSpecLayoutCache(JsonFileCache.of(CACHE_FOLDER, componentId, VERSION));
+	}
+
+	private final JsonFileCache cache;
+
+	public SunSpecLayoutCache(Path file) {
+		this(new JsonFileCache(file, VERSION));
+	}
+
+	private SunSpecLayoutCache(JsonFileCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Is this cache enabled?.
+	 *
+	 * @return false if this is {@link #DISABLED}
+	 */
+	public boolean isEnabled() {
+		return this.cache.isEnabled();
+	}
+
+	/**
+	 * Loads the cached layout.
+	 *
+	 * @param key the expected key, see {@link #store(String, List)}
+	 * @return the {@link Block}s; null if nothing valid was cached
+	 */
+	public List<Block> load(String key) {
+		final var json = this.cache.load(key);
+		if (json == null) {
+			return null;
+		}
+		try {
+			final var result = new ArrayList<Block>();
+			for (var element : getAsJsonArray(json, "blocks")) {
+				final var block = getAsJsonObject(element);
+				result.add(new Block(getAsInt(block, "blockId"), getAsInt(block, "startAddress")));
+			}
+			return result;
+
+		} catch (OpenemsNamedException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the layout, replacing any previously cached layout.
+	 *
+	 * @param key    the key, e.g. built from the device fingerprint
+	 * @param blocks the {@link Block}s
+	 * @throws IOException on error
+	 */
+	public void store(String key, List<Block> blocks) throws IOException {
+		if (!this.cache.isEnabled()) {
+			return;
+		}
+		final var array = buildJsonArray();
+		for (var block : blocks) {
+			array.add(buildJsonObject() //
+					.addProperty("blockId", block.blockId()) //
+					.addProperty("startAddress", block.startAddress()) //
+					.build());
+		}
+		this.cache.store(key, buildJsonObject() //
+				.add("blocks", array.build()) //
+				.build());
+	}
+}
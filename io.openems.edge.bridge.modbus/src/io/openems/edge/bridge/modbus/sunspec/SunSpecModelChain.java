@@ -0,0 +1,186 @@
+package io.openems.edge.bridge.modbus.sunspec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plans the Modbus reads for walking a SunSpec model chain and parses the model
+ * headers from the responses.
+ *
+ * <p>
+ * In bulk mode every read covers up to 'maxReadLength' registers starting at
+ * the next expected model header. All headers that are completely contained in
+ * the response are parsed at once, so a chain of small models is discovered with
+ * a few reads instead of one read per model.
+ *
+ * <p>
+ * If a bulk read fails - e.g. because the device does not provide registers
+ * behind the end of its map - the read length is halved for the remaining chain.
+ * If already the first read fails, the device is assumed to not support bulk
+ * reads and the chain falls back to reading only the two header registers per
+ * model, like a classic SunSpec client.
+ *
+ * <p>
+ * This class is not thread-safe; it is driven by one discovery at a time.
+ */
+public class SunSpecModelChain {
+
+	/** The Block-ID that marks the end of the SunSpec map. */
+	public static final int END_OF_MAP = 0xFFFF;
+
+	/** Number of registers of a model header: Block-ID and Length. */
+	public static final int HEADER_LENGTH = 2;
+
+	private static final int MAX_ADDRESS = 0xFFFF;
+
+	/**
+	 * A SunSpec model header.
+	 *
+	 * @param blockId      the SunSpec Block-ID
+	 * @param startAddress the address of the header
+	 * @param length       the length of the block without the header
+	 */
+	public record Header(int blockId, int startAddress, int length) {
+
+		/**
+		 * Gets the address of the header of the following block.
+		 *
+		 * @return the address
+		 */
+		public int nextAddress() {
+			return this.startAddress + HEADER_LENGTH + this.length;
+		}
+	}
+
+	/**
+	 * A planned Modbus read.
+	 *
+	 * @param startAddress the start address
+	 * @param length       the number of registers
+	 */
+	public record Read(int startAddress, int length) {
+	}
+
+	private int nextAddress;
+	private int readLength;
+	private boolean bulkSucceeded = false;
+	private boolean finished = false;
+	private int reads = 0;
+
+	/**
+	 * Builds a {@link SunSpecModelChain}.
+	 *
+	 * @param startAddress  the address of the first model header, i.e. directly
+	 *                      after the "SunS" marker
+	 * @param maxReadLength the maximum number of registers per read
+	 */
+	public SunSpecModelChain(int startAddress, int maxReadLength) {
+		this.nextAddress = startAddress;
+		this.readLength = Math.max(HEADER_LENGTH, maxReadLength);
+	}
+
+	/**
+	 * Gets the next {@link Read}.
+	 *
+	 * @return the {@link Read}; null if the chain is finished
+	 */
+	public Read nextRead() {
+		if (this.finished) {
+			return null;
+		}
+		final var available = MAX_ADDRESS + 1 - this.nextAddress;
+		if (available < HEADER_LENGTH) {
+			this.finished = true;
+			return null;
+		}
+		return new Read(this.nextAddress, Math.min(this.readLength, available));
+	}
+
+	/**
+	 * Parses the model headers from the response of a read.
+	 *
+	 * <p>
+	 * The response may start before the next expected header, e.g. if the "SunS"
+	 * marker was read together with the first block.
+	 *
+	 * @param startAddress the start address of the response
+	 * @param values       the register values
+	 * @return the parsed {@link Header}s in order; the END_OF_MAP is not included
+	 */
+	public List<Header> onResponse(int startAddress, List<Integer> values) {
+		this.reads++;
+		if (values.size() > HEADER_LENGTH) {
+			this.bulkSucceeded = true;
+		}
+		final var result = new ArrayList<Header>();
+		var offset = this.nextAddress - startAddress;
+		while (!this.finished && offset >= 0 && offset + HEADER_LENGTH <= values.size()) {
+			final var blockId = values.get(offset);
+			final var length = values.get(offset + 1);
+			if (blockId == null || blockId == END_OF_MAP || length == null) {
+				this.finished = true;
+				break;
+			}
+			final var header = new Header(blockId, this.nextAddress, length);
+			result.add(header);
+			this.nextAddress = header.nextAddress();
+			if (this.nextAddress > MAX_ADDRESS) {
+				this.finished = true;
+			}
+			offset = this.nextAddress - startAddress;
+		}
+		return result;
+	}
+
+	/**
+	 * Handles a failed read.
+	 *
+	 * <p>
+	 * A failed bulk read halves the read length - or switches to reading single
+	 * headers if no bulk read succeeded so far; a failed header read finishes the
+	 * chain.
+	 */
+	public void onError() {
+		this.reads++;
+		if (!this.isBulk()) {
+			this.finished = true;
+		} else if (this.bulkSucceeded) {
+			this.readLength = Math.max(HEADER_LENGTH, this.readLength / 2);
+		} else {
+			this.readLength = HEADER_LENGTH;
+		}
+	}
+
+	/**
+	 * Finishes the chain, e.g. because all expected blocks were found.
+	 */
+	public void finish() {
+		this.finished = true;
+	}
+
+	public boolean isFinished() {
+		return this.finished;
+	}
+
+	/**
+	 * Are reads longer than a single header?.
+	 *
+	 * @return true for bulk reads
+	 */
+	public boolean isBulk() {
+		return this.readLength > HEADER_LENGTH;
+	}
+
+	/**
+	 * Gets the number of handled reads, including failed ones.
+	 *
+	 * @return the number of reads
+	 */
+	public int getReads() {
+		return this.reads;
+	}
+
+	public int getNextAddress() {
+		return this.nextAddress;
+	}
+}
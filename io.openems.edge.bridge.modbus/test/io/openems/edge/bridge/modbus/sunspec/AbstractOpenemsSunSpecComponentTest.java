@@ -6,12 +6,16 @@ import static java.util.stream.IntStream.range;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 
 import org.junit.Before;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import com.ghgande.j2mod.modbus.procimg.SimpleProcessImage;
 import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
@@ -61,6 +65,10 @@ public class AbstractOpenemsSunSpecComponentTest {
 	}
 
 	private static final int UNIT_ID = 1;
+	private static final String OPENEMS_DATA_DIR = "openems.data.dir";
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
 
 	@Before
 	public void changeLogLevel() {
@@ -105,34 +113,154 @@ public class AbstractOpenemsSunSpecComponentTest {
 						.setReadFromModbusBlock(1) //
 						.build())
 
-				.next(new TestCase()) //
+				// Registers are dense -> "SunS" and blocks 1, 101 and 103 with the first read
 				.next(new TestCase() //
 						.output(c(S1.MN), null) //
-						.output(c(S1.MD), null))
+						.output(c(S101.A), null) //
+						.output(c(S103.A), null) //
+						.also(t -> assertFalse(sut.isSunSpecInitializationCompleted()))) //
 
+				// Blocks 701 and 702 with the second read. LOW: block 1. HIGH: block 103,
+				// without Scale-Factor in its first read
 				.next(new TestCase() //
 						.output(c(S1.MN), "My Manufacturer") //
-						.output(c(S1.MD), "My Model"))
+						.output(c(S1.MD), "My Model") //
+						.output(c(S103.A), null) //
+						.output(c(S701.A_C_TYPE), S701_ACType.UNDEFINED) //
+						.also(t -> assertTrue(sut.isSunSpecInitializationCompleted()))) //
 
+				// LOW: block 101, without Scale-Factor in its first read. HIGH: blocks 103
+				// and 701
 				.next(new TestCase() //
 						.output(c(S101.A), null) //
 						.output(c(S101.APH_A), null) //
-						.output(c(S103.A), null) //
-						.output(c(S103.APH_A), null)) //
+						.output(c(S103.A), 1240F) //
+						.output(c(S103.APH_A), 2350F) //
+						.output(c(S701.A_C_TYPE), S701_ACType.SPLIT_PHASE)) //
 
+				// LOW: block 1
 				.next(new TestCase() //
-						.output(c(S101.A), 1230F) //
-						.output(c(S101.APH_A), 2340F) //
-						.output(c(S701.A_C_TYPE), S701_ACType.UNDEFINED)) //
+						.output(c(S101.A), null)) //
 
+				// LOW: block 101
 				.next(new TestCase() //
-						.output(c(S103.A), 1240F) //
-						.output(c(S103.APH_A), 2350F) //
-						.output(c(S701.A_C_TYPE), S701_ACType.SPLIT_PHASE)) //
+						.output(c(S101.A), 1230F) //
+						.output(c(S101.APH_A), 2340F)) //
 
 				.deactivate();
 	}
 
+	@Test
+	public void testLayoutCache() throws Exception {
+		System.setProperty(OPENEMS_DATA_DIR, this.tempFolder.getRoot().getAbsolutePath());
+		try {
+			final var config = MyConfig.create() //
+					.setId("cmp0") //
+					.setModbusId("modbus0") //
+					.setModbusUnitId(UNIT_ID) //
+					.setReadFromModbusBlock(1) //
+					.build();
+
+			// Discover and store the layout
+			final var discovered = new MySunSpecComponentImpl();
+			new ComponentTest(discovered) //
+					.addReference("cm", new DummyConfigurationAdmin()) //
+					.addReference("setModbus", createBridgeWithFingerprint("1.0", true)) //
+					.activate(config) //
+
+					// Common block for the cache key -> "SunS" and blocks 1, 101 and 103
+					.next(new TestCase()) //
+					.next(new TestCase() //
+							.also(t -> assertFalse(discovered.isSunSpecInitializationCompleted()))) //
+
+					// Blocks 701 and 702
+					.next(new TestCase() //
+							.also(t -> assertTrue(discovered.isSunSpecInitializationCompleted()))) //
+					.deactivate();
+
+			// Cache hit: model chain is not walked, so the broken chain does not matter
+			final var cached = new MySunSpecComponentImpl();
+			new ComponentTest(cached) //
+					.addReference("cm", new DummyConfigurationAdmin()) //
+					.addReference("setModbus", createBridgeWithFingerprint("1.0", false)) //
+					.activate(config) //
+
+					.next(new TestCase() //
+							.output(c(S701.A_C_TYPE), S701_ACType.UNDEFINED) //
+							.also(t -> assertTrue(cached.isSunSpecInitializationCompleted()))) //
+
+					.next(new TestCase() //
+							.output(c(S701.A_C_TYPE), S701_ACType.SPLIT_PHASE)) //
+					.deactivate();
+
+			// Firmware update: cache miss; discovery stops at the broken chain
+			final var updated = new MySunSpecComponentImpl();
+			new ComponentTest(updated) //
+					.addReference("cm", new DummyConfigurationAdmin()) //
+					.addReference("setModbus", createBridgeWithFingerprint("2.0", false)) //
+					.activate(config) //
+
+					.next(new TestCase()) //
+					.next(new TestCase() //
+							.also(t -> {
+								assertTrue(updated.isSunSpecInitializationCompleted());
+								assertFalse(updated.getSunSpecChannel(S701.A_C_TYPE).isPresent());
+							})) //
+					.deactivate();
+
+		} finally {
+			System.clearProperty(OPENEMS_DATA_DIR);
+		}
+	}
+
+	/**
+	 * Creates a {@link DummyModbusBridge} with a SunSpec device that has a serial
+	 * number, i.e. a fingerprint for the {@link SunSpecLayoutCache}.
+	 *
+	 * @param version    the firmware version 'Vr' of the Common block
+	 * @param modelChain false to replace the header of the block after the Common
+	 *                   block with END_OF_MAP
+	 * @return the {@link DummyModbusBridge}
+	 */
+	private static DummyModbusBridge createBridgeWithFingerprint(String version, boolean modelChain) {
+		return new DummyModbusBridge("modbus0") //
+				.withRegisters(40000, 0x5375, 0x6e53) // isSunSpec
+				.withRegisters(40002, 1, 66) // Block 1
+				.withRegisters(40004, //
+						toRegisters("My Manufacturer", 16), // S1_MN
+						toRegisters("My Model", 16), // S1_MD
+						toRegisters("", 8), // S1_OPT
+						toRegisters(version, 8), // S1_VR
+						toRegisters("123456", 16), // S1_SN
+						new int[] { 0, 0 }) //
+				.withRegisters(40070, modelChain ? new int[] { 101, 50 } : new int[] { 0xFFFF, 0 }) // Block 101
+				.withRegisters(40072, //
+						new int[] { 123, 234, 345, 456, 1 }, //
+						range(0, 45).map(i -> 0).toArray()) //
+				.withRegisters(40122, 103, 50) // Block 103
+				.withRegisters(40124, //
+						new int[] { 124, 235, 346, 457, 1 }, //
+						range(0, 45).map(i -> 0).toArray()) //
+				.withRegisters(40174, 701, 121) // Block 701
+				.withRegisters(40176, //
+						new int[] { 1, }, //
+						range(0, 120).map(i -> 0).toArray()) //
+				.withRegisters(40297, 702, 50) // Block 702
+				.withRegisters(40299, //
+						new int[] { 1, }, //
+						range(0, 49).map(i -> 0).toArray()) //
+				.withRegisters(40375, 0xFFFF); // END_OF_MAP
+	}
+
+	private static int[] toRegisters(String value, int length) {
+		final var bytes = value.getBytes(StandardCharsets.US_ASCII);
+		final var result = new int[length];
+		for (var i = 0; i < bytes.length; i++) {
+			result[i / 2] |= (bytes[i] & 0xFF) << (i % 2 == 0 ? 8 : 0);
+		}
+		return result;
+	}
+
 	private static ChannelId c(SunSpecPoint point) {
 		return point.getChannelId();
 	}
@@ -0,0 +1,44 @@
+package io.openems.edge.bridge.modbus.sunspec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.openems.edge.bridge.modbus.sunspec.SunSpecLayoutCache.Block;
+
+public class SunSpecLayoutCacheTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	@Test
+	public void testStoreAndLoad() throws Exception {
+		final var sut = new SunSpecLayoutCache(this.tempFolder.getRoot().toPath().resolve("cmp0.json"));
+		assertTrue(sut.isEnabled());
+
+		// Nothing cached yet
+		assertNull(sut.load("foo"));
+
+		final var blocks = List.of(new Block(1, 40_002), new Block(103, 40_070));
+		sut.store("foo", blocks);
+		assertEquals(blocks, sut.load("foo"));
+
+		// Different key, e.g. other serial number
+		assertNull(sut.load("bar"));
+	}
+
+	@Test
+	public void testDisabled() throws Exception {
+		assertFalse(SunSpecLayoutCache.DISABLED.isEnabled());
+		SunSpecLayoutCache.DISABLED.store("foo", List.of(new Block(1, 40_002)));
+		assertNull(SunSpecLayoutCache.DISABLED.load("foo"));
+	}
+
+}
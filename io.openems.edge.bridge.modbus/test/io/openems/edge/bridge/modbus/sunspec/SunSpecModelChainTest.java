@@ -0,0 +1,228 @@
+package io.openems.edge.bridge.modbus.sunspec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.openems.edge.bridge.modbus.sunspec.SunSpecModelChain.Header;
+
+public class SunSpecModelChainTest {
+
+	private static final int MAXIMUM_TASK_LENGTH = 126;
+
+	/**
+	 * A simulated SunSpec device.
+	 *
+	 * <p>
+	 * Holds the defined registers; reading an undefined register fails like an
+	 * "Illegal Data Address" exception.
+	 */
+	private static class Device {
+
+		private final Map<Integer, Integer> registers = new HashMap<>();
+		private final List<Header> headers = new ArrayList<>();
+		private int nextAddress = 40_002;
+
+		private Device() {
+			this.registers.put(40_000, 0x5375);
+			this.registers.put(40_001, 0x6e53);
+		}
+
+		private Device withBlock(int blockId, int length) {
+			this.headers.add(new Header(blockId, this.nextAddress, length));
+			this.registers.put(this.nextAddress, blockId);
+			this.registers.put(this.nextAddress + 1, length);
+			for (var i = 0; i < length; i++) {
+				this.registers.put(this.nextAddress + 2 + i, 0);
+			}
+			this.nextAddress += 2 + length;
+			return this;
+		}
+
+		private Device withEndOfMap() {
+			this.registers.put(this.nextAddress, SunSpecModelChain.END_OF_MAP);
+			this.registers.put(this.nextAddress + 1, 0);
+			return this;
+		}
+
+		private List<Integer> read(SunSpecModelChain.Read read) {
+			final var result = new Integer[read.length()];
+			for (var i = 0; i < result.length; i++) {
+				result[i] = this.registers.get(read.startAddress() + i);
+				if (result[i] == null) {
+					return null;
+				}
+			}
+			return Arrays.asList(result);
+		}
+	}
+
+	/**
+	 * Walks the model chain of the device like the discovery does.
+	 *
+	 * @param device the {@link Device}
+	 * @param chain  the {@link SunSpecModelChain}
+	 * @return the discovered {@link Header}s
+	 */
+	private static List<Header> discover(Device device, SunSpecModelChain chain) {
+		final var result = new ArrayList<Header>();
+		SunSpecModelChain.Read read;
+		while ((read = chain.nextRead()) != null) {
+			final var values = device.read(read);
+			if (values == null) {
+				chain.onError();
+			} else {
+				result.addAll(chain.onResponse(read.startAddress(), values));
+			}
+		}
+		return result;
+	}
+
+	private static Device smallModels(int count) {
+		final var device = new Device().withBlock(1, 66);
+		for (var i = 0; i < count; i++) {
+			device.withBlock(64_100 + i, 10);
+		}
+		return device.withEndOfMap();
+	}
+
+	@Test
+	public void testBulk() {
+		final var device = new Device() //
+				.withBlock(1, 66) //
+				.withBlock(101, 50) //
+				.withBlock(103, 50) //
+				.withBlock(701, 121) //
+				.withBlock(702, 50) //
+				.withEndOfMap();
+		final var sut = new SunSpecModelChain(40_002, MAXIMUM_TASK_LENGTH);
+
+		final var headers = discover(device, sut);
+		assertEquals(device.headers, headers);
+		assertTrue(sut.isFinished());
+
+		// Two reads for all blocks instead of five header reads; reading the
+		// END_OF_MAP fails until the read length was halved down to a single header
+		assertEquals(2 + 7, sut.getReads());
+	}
+
+	@Test
+	public void testFallbackToHeaderReads() {
+		// Only headers are defined
+		final var device = new Device();
+		device.registers.put(40_002, 1);
+		device.registers.put(40_003, 66);
+		device.registers.put(40_070, 101);
+		device.registers.put(40_071, 50);
+		device.registers.put(40_122, SunSpecModelChain.END_OF_MAP);
+		device.registers.put(40_123, 0);
+		final var sut = new SunSpecModelChain(40_002, MAXIMUM_TASK_LENGTH);
+
+		assertEquals(List.of(//
+				new Header(1, 40_002, 66), //
+				new Header(101, 40_070, 50)), discover(device, sut));
+		assertFalse(sut.isBulk());
+		assertEquals(4, sut.getReads()); // one failed bulk read + 3 header reads
+	}
+
+	@Test
+	public void testFallbackAfterEndOfRegisters() {
+		// No END_OF_MAP; the bulk read behind the last block fails
+		final var device = new Device() //
+				.withBlock(1, 66) //
+				.withBlock(101, 50);
+		final var sut = new SunSpecModelChain(40_002, MAXIMUM_TASK_LENGTH);
+
+		assertEquals(device.headers, discover(device, sut));
+		assertFalse(sut.isBulk());
+		assertTrue(sut.isFinished());
+	}
+
+	@Test
+	public void testResponseIncludesMarker() {
+		final var device = smallModels(3);
+		final var sut = new SunSpecModelChain(40_002, MAXIMUM_TASK_LENGTH);
+
+		// "SunS" marker and first blocks with one read
+		final var read = new SunSpecModelChain.Read(40_000, device.registers.size());
+		final var headers = sut.onResponse(read.startAddress(), device.read(read));
+		assertEquals(device.headers, headers);
+		assertTrue(sut.isFinished()); // END_OF_MAP within the same response
+		assertNull(sut.nextRead());
+	}
+
+	@Test
+	public void testFinish() {
+		final var sut = new SunSpecModelChain(40_002, MAXIMUM_TASK_LENGTH);
+		assertEquals(new SunSpecModelChain.Read(40_002, MAXIMUM_TASK_LENGTH), sut.nextRead());
+		sut.finish();
+		assertNull(sut.nextRead());
+	}
+
+	@Test
+	public void testEndOfAddressSpace() {
+		final var sut = new SunSpecModelChain(0xFFF0, MAXIMUM_TASK_LENGTH);
+		assertEquals(new SunSpecModelChain.Read(0xFFF0, 16), sut.nextRead());
+
+		sut.onResponse(0xFFF0, List.of(1, 0xFFFF));
+		assertTrue(sut.isFinished());
+	}
+
+	@Test
+	public void testFleet() {
+		// A bridge executes the discovery reads of all its components in the same
+		// Cycle, i.e. discovery of a fleet takes as many Cycles as the slowest device
+		final var models = 40;
+		final var fleet = new ArrayList<Device>();
+		for (var i = 0; i < 50; i++) {
+			fleet.add(smallModels(models - i % 10));
+		}
+		final var chains = new HashMap<Device, SunSpecModelChain>();
+		final var discovered = new HashMap<Device, List<Header>>();
+		fleet.forEach(d -> {
+			chains.put(d, new SunSpecModelChain(40_002, MAXIMUM_TASK_LENGTH));
+			discovered.put(d, new ArrayList<>());
+		});
+
+		var cycles = 0;
+		while (chains.values().stream().anyMatch(c -> !c.isFinished())) {
+			cycles++;
+			for (var device : fleet) {
+				final var chain = chains.get(device);
+				final var read = chain.nextRead();
+				if (read == null) {
+					continue;
+				}
+				final var values = device.read(read);
+				if (values == null) {
+					chain.onError();
+				} else {
+					discovered.get(device).addAll(chain.onResponse(read.startAddress(), values));
+				}
+			}
+		}
+
+		for (var device : fleet) {
+			assertEquals(device.headers, discovered.get(device));
+		}
+
+		// Full reads for the map of the largest device, plus at most one successful
+		// and one failed read per halving of the read length at the END_OF_MAP
+		final var mapLength = 2 + 68 + models * 12 + 2;
+		final var halvings = 6; // 126 -> 2
+		final var bound = Math.ceilDiv(mapLength, MAXIMUM_TASK_LENGTH - 12) + 2 * halvings + 1;
+		assertTrue("Discovery took " + cycles + " Cycles; expected <= " + bound, cycles <= bound);
+
+		// Header by header takes one Cycle per model, plus "SunS" and END_OF_MAP
+		assertTrue(cycles * 3 <= models + 2);
+	}
+}
@@ -0,0 +1,203 @@
+package io.openems.edge.common.channel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Resolves {@link ChannelAddress}es whose Component-ID and Channel-ID may be
+ * regular expressions (e.g. ".*&#47;.*Power") to {@link Channel}s.
+ *
+ * <p>
+ * Compiled patterns are kept in a bounded cache, so APIs that are polled with
+ * the same address again and again do not compile the expressions for every
+ * Component and Channel. Literal IDs (e.g. "_sum/EssSoc") are resolved by
+ * direct lookup without any regular expression.
+ */
+public final class ChannelAddressMatcher {
+
+	private static final int MAX_CACHED_PATTERNS = 512;
+
+	private static final Predicate<String> MATCH_ALL = id -> true;
+
+	private static final LoadingCache<String, Predicate<String>> MATCHERS = CacheBuilder.newBuilder() //
+			.maximumSize(MAX_CACHED_PATTERNS) //
+			.build(new CacheLoader<String, Predicate<String>>() {
+				@Override
+				public Predicate<String> load(String regex) throws PatternSyntaxException {
+					if (isLiteral(regex)) {
+						return regex::equals;
+					}
+					if (".*".equals(regex)) {
+						return MATCH_ALL;
+					}
+					return Pattern.compile(regex).asMatchPredicate();
+				}
+			});
+
+	private ChannelAddressMatcher() {
+	}
+
+	/**
+	 * Gets a cached {@link Predicate} that matches a full ID against the given
+	 * regular expression.
+	 *
+	 * @param regex the regular expression
+	 * @return the {@link Predicate}
+	 * @throws PatternSyntaxException if the expression is invalid
+	 */
+	public static Predicate<String> matcher(String regex) throws PatternSyntaxException {
+		try {
+			return MATCHERS.get(regex);
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			if (e.getCause() instanceof PatternSyntaxException pse) {
+				throw pse;
+			}
+			throw new IllegalArgumentException(e.getCause());
+		}
+	}
+
+	/**
+	 * Checks if the given ID does not contain any regular expression
+	 * meta-characters, i.e. it only matches itself.
+	 *
+	 * @param id the Component-ID or Channel-ID
+	 * @return true if the ID is a literal
+	 */
+	public static boolean isLiteral(String id) {
+		for (var i = 0; i < id.length(); i++) {
+			switch (id.charAt(i)) {
+			case '\\', '.', '[', ']', '{', '}', '(', ')', '*', '+', '?', '^', '$', '|':
+				return false;
+			default:
+				break;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the given {@link ChannelAddress} is a literal address, i.e.
+	 * Component-ID and Channel-ID contain no regular expression.
+	 *
+	 * @param address the {@link ChannelAddress}
+	 * @return true if the address is a literal
+	 */
+	public static boolean isLiteral(ChannelAddress address) {
+		return isLiteral(address.getComponentId()) && isLiteral(address.getChannelId());
+	}
+
+	/**
+	 * Validates the regular expressions of a {@link ChannelAddress}.
+	 *
+	 * <p>
+	 * Use this when a pattern is stored for repeated lookups, e.g. for a
+	 * subscription, to reject an invalid pattern once instead of failing on every
+	 * lookup.
+	 *
+	 * @param address the {@link ChannelAddress}; Component-ID and Channel-ID may
+	 *                be regular expressions
+	 * @throws OpenemsException if a pattern is invalid
+	 */
+	public static void assertValid(ChannelAddress address) throws OpenemsException {
+		try {
+			matcher(address.getComponentId());
+			matcher(address.getChannelId());
+		} catch (PatternSyntaxException e) {
+			throw new OpenemsException("Invalid Channel pattern [" + address + "]: " + e.getDescription());
+		}
+	}
+
+	/**
+	 * Gets all {@link Channel}s of the given Components that match the
+	 * {@link ChannelAddress} pattern.
+	 *
+	 * @param components the {@link OpenemsComponent}s
+	 * @param address    the {@link ChannelAddress}; Component-ID and Channel-ID
+	 *                   may be regular expressions
+	 * @return the matching {@link Channel}s, ordered by Component and Channel
+	 * @throws PatternSyntaxException if a pattern is invalid
+	 */
+	public static List<Channel<?>> getChannels(Collection<? extends OpenemsComponent> components,
+			ChannelAddress address) throws PatternSyntaxException {
+		final var componentMatcher = matcher(address.getComponentId());
+		final var channelId = address.getChannelId();
+		final var channelIsLiteral = isLiteral(channelId);
+		final var channelMatcher = matcher(channelId);
+
+		final var result = new ArrayList<Channel<?>>();
+		for (var component : components) {
+			if (!componentMatcher.test(component.id())) {
+				continue;
+			}
+			addChannels(result, component, channelId, channelIsLiteral, channelMatcher);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets all {@link Channel}s of enabled Components that match the
+	 * {@link ChannelAddress} pattern.
+	 *
+	 * <p>
+	 * A literal Component-ID is resolved via
+	 * {@link ComponentManager#getComponent(String)} instead of iterating all
+	 * enabled Components.
+	 *
+	 * @param componentManager the {@link ComponentManager}
+	 * @param address          the {@link ChannelAddress}; Component-ID and
+	 *                         Channel-ID may be regular expressions
+	 * @return the matching {@link Channel}s, ordered by Component and Channel
+	 * @throws PatternSyntaxException if a pattern is invalid
+	 */
+	public static List<Channel<?>> getChannels(ComponentManager componentManager, ChannelAddress address)
+			throws PatternSyntaxException {
+		final var componentId = address.getComponentId();
+		if (!isLiteral(componentId)) {
+			return getChannels(componentManager.getEnabledComponents(), address);
+		}
+
+		final OpenemsComponent component;
+		try {
+			component = componentManager.getComponent(componentId);
+		} catch (OpenemsNamedException e) {
+			return List.of();
+		}
+		final var channelId = address.getChannelId();
+		final var result = new ArrayList<Channel<?>>();
+		addChannels(result, component, channelId, isLiteral(channelId), matcher(channelId));
+		return result;
+	}
+
+	private static void addChannels(List<Channel<?>> result, OpenemsComponent component, String channelId,
+			boolean channelIsLiteral, Predicate<String> channelMatcher) {
+		if (channelIsLiteral) {
+			final var channel = component._channel(channelId);
+			if (channel != null) {
+				result.add(channel);
+			}
+			return;
+		}
+		for (var channel : component.channels()) {
+			if (channelMatcher.test(channel.channelId().id())) {
+				result.add(channel);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+package io.openems.edge.common.cycle;
+
+import java.util.Set;
+
+import io.openems.edge.common.event.EdgeEventConstants;
+
+/**
+ * A fast path for the Cycle events.
+ *
+ * <p>
+ * Services that implement this interface are called directly by the Core
+ * Cycle for each of their {@link #getCyclePhases()}, without going through the
+ * OSGi EventAdmin. Listeners are called before the EventAdmin Event of the same
+ * phase is sent, ordered by {@link #getCyclePriority()} and then by
+ * Component-ID.
+ *
+ * <p>
+ * A Component should either implement this interface or subscribe to the same
+ * topic via EventAdmin; otherwise it is notified twice.
+ *
+ * <pre>
+ * &#64;Component(service = { OpenemsComponent.class, CycleListener.class })
+ * public class MyComponent extends AbstractOpenemsComponent implements CycleListener {
+ *
+ * 	&#64;Override
+ * 	public Set&lt;Phase&gt; getCyclePhases() {
+ * 		return EnumSet.of(Phase.BEFORE_PROCESS_IMAGE);
+ * 	}
+ *
+ * 	&#64;Override
+ * 	public void onCyclePhase(Phase phase) {
+ * 		// ...
+ * 	}
+ * }
+ * </pre>
+ */
+public interface CycleListener {
+
+	public enum Phase {
+		BEFORE_PROCESS_IMAGE(EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE), //
+		AFTER_PROCESS_IMAGE(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE), //
+		BEFORE_CONTROLLERS(EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS), //
+		AFTER_CONTROLLERS(EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS), //
+		BEFORE_WRITE(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE), //
+		EXECUTE_WRITE(EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE), //
+		AFTER_WRITE(EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+
+		/** The equivalent EventAdmin topic. */
+		public final String topic;
+
+		private Phase(String topic) {
+			this.topic = topic;
+		}
+	}
+
+	/**
+	 * Gets the {@link Phase}s this listener wants to be called for.
+	 *
+	 * <p>
+	 * The result is cached until the set of registered listeners changes.
+	 *
+	 * @return a Set of {@link Phase}s
+	 */
+	public Set<Phase> getCyclePhases();
+
+	/**
+	 * Gets the priority of this listener; lower values are called first.
+	 *
+	 * @return the priority; defaults to 0
+	 */
+	public default int getCyclePriority() {
+		return 0;
+	}
+
+	/**
+	 * Called once per Cycle for each of the {@link #getCyclePhases()}.
+	 *
+	 * @param phase the current {@link Phase}
+	 */
+	public void onCyclePhase(Phase phase);
+
+}
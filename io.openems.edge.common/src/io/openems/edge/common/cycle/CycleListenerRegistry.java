@@ -0,0 +1,202 @@
+package io.openems.edge.common.cycle;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.CycleListener.Phase;
+
+/**
+ * Holds the registered {@link CycleListener}s and calls them per
+ * {@link Phase}.
+ *
+ * <p>
+ * The ordered listeners per {@link Phase} are cached until a listener is added
+ * or removed, so a Cycle only iterates plain arrays. The execution time of
+ * every listener is measured per {@link Phase}.
+ */
+public class CycleListenerRegistry {
+
+	/**
+	 * A {@link CycleListener} registered for one {@link Phase}, with its timing.
+	 *
+	 * <p>
+	 * Timing values are written by the Cycle thread only.
+	 */
+	public static final class Registration {
+
+		private final CycleListener listener;
+		private final String id;
+		private final Phase phase;
+
+		private volatile long lastNanos = 0;
+		private volatile long maxNanos = 0;
+
+		private Registration(CycleListener listener, String id, Phase phase) {
+			this.listener = listener;
+			this.id = id;
+			this.phase = phase;
+		}
+
+		public CycleListener getListener() {
+			return this.listener;
+		}
+
+		/**
+		 * Gets the Component-ID of the listener; the class name if it is not an
+		 * {@link OpenemsComponent}.
+		 *
+		 * @return the ID
+		 */
+		public String getId() {
+			return this.id;
+		}
+
+		public Phase getPhase() {
+			return this.phase;
+		}
+
+		/**
+		 * Gets the execution time of the last call.
+		 *
+		 * @return the time in [ns]
+		 */
+		public long getLastNanos() {
+			return this.lastNanos;
+		}
+
+		/**
+		 * Gets the maximum execution time since registration.
+		 *
+		 * @return the time in [ns]
+		 */
+		public long getMaxNanos() {
+			return this.maxNanos;
+		}
+
+		private void record(long nanos) {
+			this.lastNanos = nanos;
+			if (nanos > this.maxNanos) {
+				this.maxNanos = nanos;
+			}
+		}
+
+		@Override
+		public String toString() {
+			return this.id + "@" + this.phase;
+		}
+	}
+
+	/**
+	 * The {@link Registration}s by {@link Phase#ordinal()}, as arrays for
+	 * {@link CycleListenerRegistry#execute(Phase, BiConsumer)} and as immutable
+	 * Lists for {@link CycleListenerRegistry#getRegistrations(Phase)}.
+	 */
+	private record Registrations(Registration[][] arrays, List<List<Registration>> lists) {
+	}
+
+	private final List<CycleListener> listeners = new ArrayList<>();
+
+	/** The cached {@link Registrations}. */
+	private volatile Registrations registrations = null;
+
+	/**
+	 * Adds a {@link CycleListener}.
+	 *
+	 * @param listener the {@link CycleListener}
+	 */
+	public synchronized void add(CycleListener listener) {
+		this.listeners.add(listener);
+		this.registrations = null;
+	}
+
+	/**
+	 * Removes a {@link CycleListener}.
+	 *
+	 * @param listener the {@link CycleListener}
+	 */
+	public synchronized void remove(CycleListener listener) {
+		if (this.listeners.remove(listener)) {
+			this.registrations = null;
+		}
+	}
+
+	/**
+	 * Calls all {@link CycleListener}s of the given {@link Phase} in order and
+	 * measures their execution time.
+	 *
+	 * <p>
+	 * An exception of one listener does not stop the other listeners.
+	 *
+	 * @param phase   the {@link Phase}
+	 * @param onError called with the {@link Registration} and the exception of a
+	 *                failed listener
+	 */
+	public void execute(Phase phase, BiConsumer<Registration, RuntimeException> onError) {
+		for (var registration : this.getRegistrations().arrays()[phase.ordinal()]) {
+			final var start = System.nanoTime();
+			try {
+				registration.listener.onCyclePhase(phase);
+			} catch (RuntimeException e) {
+				onError.accept(registration, e);
+			}
+			registration.record(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Gets the ordered {@link Registration}s of the given {@link Phase}.
+	 *
+	 * @param phase the {@link Phase}
+	 * @return an immutable List of {@link Registration}s
+	 */
+	public List<Registration> getRegistrations(Phase phase) {
+		return this.getRegistrations().lists().get(phase.ordinal());
+	}
+
+	private Registrations getRegistrations() {
+		var result = this.registrations;
+		if (result != null) {
+			return result;
+		}
+		synchronized (this) {
+			if (this.registrations == null) {
+				this.registrations = this.build();
+			}
+			return this.registrations;
+		}
+	}
+
+	private Registrations build() {
+		final var sorted = new ArrayList<>(this.listeners);
+		sorted.sort(Comparator //
+				.comparingInt(CycleListener::getCyclePriority) //
+				.thenComparing(CycleListenerRegistry::getId));
+
+		final var phases = Phase.values();
+		final var arrays = new Registration[phases.length][];
+		final var lists = new ArrayList<List<Registration>>(phases.length);
+		for (var phase : phases) {
+			arrays[phase.ordinal()] = sorted.stream() //
+					.filter(l -> {
+						var p = l.getCyclePhases();
+						return p != null && p.contains(phase);
+					}) //
+					.map(l -> new Registration(l, getId(l), phase)) //
+					.toArray(Registration[]::new);
+			lists.add(List.of(arrays[phase.ordinal()]));
+		}
+		return new Registrations(arrays, List.copyOf(lists));
+	}
+
+	private static String getId(CycleListener listener) {
+		if (listener instanceof OpenemsComponent c) {
+			return Objects.toString(c.id(), "");
+		}
+		return listener.getClass().getName();
+	}
+
+}
@@ -0,0 +1,261 @@
+package io.openems.edge.common.type;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.stream.DoubleStream;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Immutable timeseries with one value per 15 minutes, backed by a primitive
+ * {@code double[]}.
+ *
+ * <p>
+ * Missing values are represented as {@link Double#NaN}. Lookups and slices are
+ * O(1); slices share the underlying array.
+ */
+public final class QuarterlyTimeseries {
+
+	private static final long QUARTER_SECONDS = 15 * 60;
+
+	public static final QuarterlyTimeseries EMPTY = new QuarterlyTimeseries(Instant.EPOCH, new double[0], 0, 0);
+
+	/**
+	 * Creates a {@link QuarterlyTimeseries} from the given values.
+	 *
+	 * @param start  the time of the first value, rounded to 15 minutes
+	 * @param values the values; {@link Double#NaN} for missing values
+	 * @return a {@link QuarterlyTimeseries}
+	 */
+	public static QuarterlyTimeseries of(Instant start, double... values) {
+		if (start.getEpochSecond() % QUARTER_SECONDS != 0 || start.getNano() != 0) {
+			throw new IllegalArgumentException("Start must be rounded to quarters: " + start);
+		}
+		if (values.length == 0) {
+			return EMPTY;
+		}
+		return new QuarterlyTimeseries(start, values.clone(), 0, values.length);
+	}
+
+	/**
+	 * Creates a {@link QuarterlyTimeseries} from a map of quarters and values.
+	 * Gaps are filled with {@link Double#NaN}; non-numeric values are treated as
+	 * missing.
+	 *
+	 * @param map the {@link NavigableMap} with keys rounded to 15 minutes
+	 * @return a {@link QuarterlyTimeseries}
+	 */
+	public static QuarterlyTimeseries from(NavigableMap<ZonedDateTime, ?> map) {
+		if (map.isEmpty()) {
+			return EMPTY;
+		}
+		final var start = map.firstKey().toInstant();
+		final var length = (int) ((map.lastKey().toEpochSecond() - start.getEpochSecond()) / QUARTER_SECONDS) + 1;
+		final var values = new double[length];
+		Arrays.fill(values, Double.NaN);
+		for (Entry<ZonedDateTime, ?> entry : map.entrySet()) {
+			final var index = (int) ((entry.getKey().toEpochSecond() - start.getEpochSecond()) / QUARTER_SECONDS);
+			if (entry.getValue() instanceof Number n) {
+				values[index] = n.doubleValue();
+			}
+		}
+		return new QuarterlyTimeseries(start, values, 0, length);
+	}
+
+	private final Instant start;
+	private final double[] values;
+	private final int offset;
+	private final int length;
+
+	private QuarterlyTimeseries(Instant start, double[] values, int offset, int length) {
+		this.start = start;
+		this.values = values;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * Returns {@code true} if there are no values.
+	 *
+	 * @return {@code true} if there are no values
+	 */
+	public boolean isEmpty() {
+		return this.length == 0;
+	}
+
+	/**
+	 * Gets the number of quarters, including missing values.
+	 *
+	 * @return the number of quarters
+	 */
+	public int size() {
+		return this.length;
+	}
+
+	/**
+	 * Gets the time of the first quarter.
+	 *
+	 * @return the {@link Instant}; or null if empty
+	 */
+	public Instant getStart() {
+		return this.isEmpty() ? null : this.start;
+	}
+
+	/**
+	 * Gets the end time, i.e. the end of the last quarter (exclusive).
+	 *
+	 * @return the {@link Instant}; or null if empty
+	 */
+	public Instant getEnd() {
+		return this.isEmpty() ? null : this.start.plusSeconds(this.length * QUARTER_SECONDS);
+	}
+
+	/**
+	 * Gets the index of the quarter containing the given time, relative to
+	 * {@link #getStart()}. The result is negative or greater than or equal to
+	 * {@link #size()} if the time is outside of this timeseries.
+	 *
+	 * @param time the {@link Instant}
+	 * @return the index
+	 */
+	public int indexOf(Instant time) {
+		return (int) Math.floorDiv(time.getEpochSecond() - this.start.getEpochSecond(), QUARTER_SECONDS);
+	}
+
+	/**
+	 * Gets the value at the given index.
+	 *
+	 * @param index the index, relative to {@link #getStart()}
+	 * @return the value; {@link Double#NaN} if missing or out of range
+	 */
+	public double get(int index) {
+		if (index < 0 || index >= this.length) {
+			return Double.NaN;
+		}
+		return this.values[this.offset + index];
+	}
+
+	/**
+	 * Gets the value of the quarter containing the given time.
+	 *
+	 * @param time the {@link ZonedDateTime}
+	 * @return the value; {@link Double#NaN} if missing
+	 */
+	public double getAt(ZonedDateTime time) {
+		return this.getAt(time.toInstant());
+	}
+
+	/**
+	 * Gets the value of the quarter containing the given time.
+	 *
+	 * @param time the {@link Instant}
+	 * @return the value; {@link Double#NaN} if missing
+	 */
+	public double getAt(Instant time) {
+		if (this.isEmpty()) {
+			return Double.NaN;
+		}
+		return this.get(this.indexOf(time));
+	}
+
+	/**
+	 * Gets the value of the quarter containing the given time.
+	 *
+	 * @param time   the {@link ZonedDateTime}
+	 * @param orElse the alternative value
+	 * @return the value; or the alternative value if missing
+	 */
+	public double getAtOrElse(ZonedDateTime time, double orElse) {
+		final var result = this.getAt(time);
+		return Double.isNaN(result) ? orElse : result;
+	}
+
+	/**
+	 * Gets a slice between from (inclusive) and to (exclusive). The slice shares
+	 * the values with this timeseries.
+	 *
+	 * @param from the from {@link ZonedDateTime}
+	 * @param to   the to {@link ZonedDateTime}
+	 * @return a {@link QuarterlyTimeseries}; possibly {@link #EMPTY}
+	 */
+	public QuarterlyTimeseries slice(ZonedDateTime from, ZonedDateTime to) {
+		if (this.isEmpty()) {
+			return EMPTY;
+		}
+		return this.sliceByIndex(this.indexOf(from.toInstant()), this.indexOf(to.toInstant().minusNanos(1)) + 1);
+	}
+
+	/**
+	 * Gets a slice starting at the quarter containing the given time. The slice
+	 * shares the values with this timeseries.
+	 *
+	 * @param from the from {@link ZonedDateTime}
+	 * @return a {@link QuarterlyTimeseries}; possibly {@link #EMPTY}
+	 */
+	public QuarterlyTimeseries sliceFrom(ZonedDateTime from) {
+		if (this.isEmpty()) {
+			return EMPTY;
+		}
+		return this.sliceByIndex(this.indexOf(from.toInstant()), this.length);
+	}
+
+	private QuarterlyTimeseries sliceByIndex(int fromIndex, int toIndex) {
+		fromIndex = Math.max(0, fromIndex);
+		toIndex = Math.min(this.length, toIndex);
+		if (fromIndex >= toIndex) {
+			return EMPTY;
+		}
+		if (fromIndex == 0 && toIndex == this.length) {
+			return this;
+		}
+		return new QuarterlyTimeseries(this.start.plusSeconds(fromIndex * QUARTER_SECONDS), this.values,
+				this.offset + fromIndex, toIndex - fromIndex);
+	}
+
+	/**
+	 * Gets a {@link DoubleStream} of the values between from (inclusive) and to
+	 * (exclusive), skipping missing values.
+	 *
+	 * @param from the from {@link ZonedDateTime}
+	 * @param to   the to {@link ZonedDateTime}
+	 * @return a {@link DoubleStream}; possibly empty
+	 */
+	public DoubleStream getBetween(ZonedDateTime from, ZonedDateTime to) {
+		return this.slice(from, to).stream() //
+				.filter(v -> !Double.isNaN(v));
+	}
+
+	/**
+	 * Gets a {@link DoubleStream} of all values, including missing values as
+	 * {@link Double#NaN}.
+	 *
+	 * @return a {@link DoubleStream}
+	 */
+	public DoubleStream stream() {
+		return Arrays.stream(this.values, this.offset, this.offset + this.length);
+	}
+
+	/**
+	 * Gets a copy of the values.
+	 *
+	 * @return the values; {@link Double#NaN} for missing values
+	 */
+	public double[] toArray() {
+		return Arrays.copyOfRange(this.values, this.offset, this.offset + this.length);
+	}
+
+	@Override
+	public String toString() {
+		var sh = MoreObjects.toStringHelper(this);
+		if (this.isEmpty()) {
+			sh.addValue("EMPTY");
+		} else {
+			sh.add("start", this.start.toString());
+			sh.add("values", Arrays.toString(this.toArray()));
+		}
+		return sh.toString();
+	}
+}
@@ -24,6 +24,11 @@ public abstract class QuarterlyValues<T> {
 	 */
 	protected final ImmutableSortedMap<ZonedDateTime, T> valuePerQuarter;
 
+	/**
+	 * Lazily created {@link QuarterlyTimeseries} view of the values.
+	 */
+	private volatile QuarterlyTimeseries timeseries = null;
+
 	protected QuarterlyValues(ImmutableSortedMap<ZonedDateTime, T> valuePerQuarter) {
 		// Validate times
 		if (valuePerQuarter.keySet().stream() //
@@ -180,6 +185,23 @@ public abstract class QuarterlyValues<T> {
 		return unmodifiableNavigableMap(result);
 	}
 
+	/**
+	 * Gets the values as {@link QuarterlyTimeseries} with one value per quarter
+	 * and {@link Double#NaN} for gaps. The result is created only once per
+	 * instance, i.e. once per update of the provider, and can be shared by all
+	 * consumers.
+	 *
+	 * @return the {@link QuarterlyTimeseries}
+	 */
+	public final QuarterlyTimeseries asTimeseries() {
+		var result = this.timeseries;
+		if (result == null) {
+			result = QuarterlyTimeseries.from(this.valuePerQuarter);
+			this.timeseries = result;
+		}
+		return result;
+	}
+
 	protected T[] asArray(IntFunction<T[]> generator) {
 		return this.valuePerQuarter.values().toArray(generator);
 	}
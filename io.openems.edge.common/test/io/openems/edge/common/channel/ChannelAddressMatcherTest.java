@@ -0,0 +1,67 @@
+package io.openems.edge.common.channel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.test.DummyComponentManager;
+
+public class ChannelAddressMatcherTest {
+
+	@Test
+	public void testIsLiteral() {
+		assertTrue(ChannelAddressMatcher.isLiteral("_sum"));
+		assertTrue(ChannelAddressMatcher.isLiteral("EssSoc"));
+		assertFalse(ChannelAddressMatcher.isLiteral(".*Power"));
+		assertFalse(ChannelAddressMatcher.isLiteral("ess[0-9]"));
+		assertTrue(ChannelAddressMatcher.isLiteral(new ChannelAddress("_sum", "EssSoc")));
+		assertFalse(ChannelAddressMatcher.isLiteral(new ChannelAddress(".*", "EssSoc")));
+	}
+
+	@Test
+	public void testMatcher() {
+		assertTrue(ChannelAddressMatcher.matcher("Ess.*").test("EssSoc"));
+		assertFalse(ChannelAddressMatcher.matcher("Ess").test("EssSoc"));
+		assertTrue(ChannelAddressMatcher.matcher(".*").test("anything"));
+		assertThrows(PatternSyntaxException.class, () -> ChannelAddressMatcher.matcher("*"));
+	}
+
+	@Test
+	public void testAssertValid() throws OpenemsException {
+		ChannelAddressMatcher.assertValid(new ChannelAddress("_sum", "EssSoc"));
+		ChannelAddressMatcher.assertValid(new ChannelAddress("ess[0-9]", ".*Power"));
+		assertThrows(OpenemsException.class,
+				() -> ChannelAddressMatcher.assertValid(new ChannelAddress("*", "EssSoc")));
+		assertThrows(OpenemsException.class,
+				() -> ChannelAddressMatcher.assertValid(new ChannelAddress("_sum", "Ess[")));
+	}
+
+	@Test
+	public void testGetChannels() {
+		final var sum = new DummySum();
+		final var componentManager = new DummyComponentManager() //
+				.addComponent(sum);
+
+		assertEquals(1, ChannelAddressMatcher.getChannels(componentManager, //
+				new ChannelAddress("_sum", "EssSoc")).size());
+		assertEquals(0, ChannelAddressMatcher.getChannels(componentManager, //
+				new ChannelAddress("_sum", "Unknown")).size());
+		assertEquals(0, ChannelAddressMatcher.getChannels(componentManager, //
+				new ChannelAddress("unknown0", "EssSoc")).size());
+
+		final var powerChannels = ChannelAddressMatcher.getChannels(componentManager, //
+				new ChannelAddress(".*", ".*ActivePower"));
+		assertEquals(sum.channels().stream() //
+				.filter(c -> c.channelId().id().endsWith("ActivePower")) //
+				.count(), powerChannels.size());
+	}
+
+}
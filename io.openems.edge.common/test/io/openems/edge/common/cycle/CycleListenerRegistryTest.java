@@ -0,0 +1,78 @@
+package io.openems.edge.common.cycle;
+
+import static io.openems.edge.common.cycle.CycleListener.Phase.AFTER_WRITE;
+import static io.openems.edge.common.cycle.CycleListener.Phase.BEFORE_PROCESS_IMAGE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.openems.edge.common.cycle.CycleListener.Phase;
+
+public class CycleListenerRegistryTest {
+
+	private static class MyListener implements CycleListener {
+		private final String name;
+		private final int priority;
+		private final Set<Phase> phases;
+		private final List<String> calls;
+
+		private MyListener(String name, int priority, Set<Phase> phases, List<String> calls) {
+			this.name = name;
+			this.priority = priority;
+			this.phases = phases;
+			this.calls = calls;
+		}
+
+		@Override
+		public Set<Phase> getCyclePhases() {
+			return this.phases;
+		}
+
+		@Override
+		public int getCyclePriority() {
+			return this.priority;
+		}
+
+		@Override
+		public void onCyclePhase(Phase phase) {
+			this.calls.add(this.name + ":" + phase);
+			if (this.name.equals("fail")) {
+				throw new IllegalStateException("fail");
+			}
+		}
+	}
+
+	@Test
+	public void testOrder() {
+		final var calls = new ArrayList<String>();
+		final var errors = new ArrayList<String>();
+		final var sut = new CycleListenerRegistry();
+		final var c = new MyListener("c", 10, EnumSet.of(BEFORE_PROCESS_IMAGE), calls);
+		sut.add(c);
+		sut.add(new MyListener("fail", 0, EnumSet.of(BEFORE_PROCESS_IMAGE), calls));
+		sut.add(new MyListener("b", -5, EnumSet.allOf(Phase.class), calls));
+
+		sut.execute(BEFORE_PROCESS_IMAGE, (r, e) -> errors.add(r.getId()));
+		assertEquals(List.of("b:BEFORE_PROCESS_IMAGE", "fail:BEFORE_PROCESS_IMAGE", "c:BEFORE_PROCESS_IMAGE"),
+				calls);
+		assertEquals(1, errors.size());
+
+		calls.clear();
+		sut.execute(AFTER_WRITE, (r, e) -> errors.add(r.getId()));
+		assertEquals(List.of("b:AFTER_WRITE"), calls);
+
+		// Registrations are rebuilt after removal
+		sut.remove(c);
+		assertEquals(2, sut.getRegistrations(BEFORE_PROCESS_IMAGE).size());
+		assertSame(sut.getRegistrations(BEFORE_PROCESS_IMAGE), sut.getRegistrations(BEFORE_PROCESS_IMAGE));
+		assertTrue(sut.getRegistrations(AFTER_WRITE).get(0).getMaxNanos() >= 0);
+	}
+
+}
@@ -0,0 +1,91 @@
+package io.openems.edge.common.type;
+
+import static io.openems.common.test.TestUtils.createDummyClock;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSortedMap;
+
+public class QuarterlyTimeseriesTest {
+
+	private static final double DELTA = 0.0001;
+
+	private static class MyQuarterlyValues extends QuarterlyValues<Integer> {
+
+		protected MyQuarterlyValues(ImmutableSortedMap<ZonedDateTime, Integer> valuePerQuarter) {
+			super(valuePerQuarter);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testExpectError() {
+		QuarterlyTimeseries.of(Instant.parse("2020-01-01T00:01:00Z"), 1.);
+	}
+
+	@Test
+	public void testEmpty() {
+		var time = ZonedDateTime.now(createDummyClock());
+		var sut = QuarterlyTimeseries.of(time.toInstant());
+		assertSame(QuarterlyTimeseries.EMPTY, sut);
+		assertTrue(sut.isEmpty());
+		assertNull(sut.getStart());
+		assertNull(sut.getEnd());
+		assertTrue(Double.isNaN(sut.getAt(time)));
+		assertEquals(0, sut.getBetween(time, time.plusHours(1)).count());
+		assertSame(QuarterlyTimeseries.EMPTY, sut.sliceFrom(time));
+		assertEquals("QuarterlyTimeseries{EMPTY}", sut.toString());
+	}
+
+	@Test
+	public void test() {
+		var time = ZonedDateTime.now(createDummyClock());
+		var sut = QuarterlyTimeseries.of(time.toInstant(), 1, 2, Double.NaN, 4, 5);
+		assertEquals(5, sut.size());
+		assertEquals(time.toInstant(), sut.getStart());
+		assertEquals(time.plusMinutes(75).toInstant(), sut.getEnd());
+
+		assertEquals(1, sut.getAt(time), DELTA);
+		assertEquals(2, sut.getAt(time.plusMinutes(20)), DELTA);
+		assertTrue(Double.isNaN(sut.getAt(time.plusMinutes(30))));
+		assertEquals(-1, sut.getAtOrElse(time.plusMinutes(30), -1), DELTA);
+		assertTrue(Double.isNaN(sut.getAt(time.minusMinutes(15))));
+		assertTrue(Double.isNaN(sut.getAt(time.plusMinutes(75))));
+		assertEquals(-1, sut.indexOf(time.minusMinutes(1).toInstant()));
+
+		// Slices
+		var slice = sut.sliceFrom(time.plusMinutes(15));
+		assertEquals(4, slice.size());
+		assertEquals(time.plusMinutes(15).toInstant(), slice.getStart());
+		assertEquals(2, slice.get(0), DELTA);
+		assertArrayEquals(new double[] { 2, Double.NaN, 4, 5 }, slice.toArray(), DELTA);
+		assertSame(sut, sut.sliceFrom(time.minusHours(1)));
+		assertSame(QuarterlyTimeseries.EMPTY, sut.sliceFrom(time.plusHours(2)));
+
+		slice = sut.slice(time.plusMinutes(15), time.plusMinutes(60));
+		assertArrayEquals(new double[] { 2, Double.NaN, 4 }, slice.toArray(), DELTA);
+		assertEquals(6, sut.getBetween(time.plusMinutes(15), time.plusMinutes(60)).sum(), DELTA);
+	}
+
+	@Test
+	public void testFromQuarterlyValues() {
+		var time = ZonedDateTime.now(createDummyClock());
+		var values = new MyQuarterlyValues(ImmutableSortedMap.of(//
+				time, 10, //
+				time.plusMinutes(15), 20, //
+				time.plusMinutes(45), 40));
+		var sut = values.asTimeseries();
+		assertArrayEquals(new double[] { 10, 20, Double.NaN, 40 }, sut.toArray(), DELTA);
+
+		// Memoized
+		assertSame(sut, values.asTimeseries());
+	}
+
+}
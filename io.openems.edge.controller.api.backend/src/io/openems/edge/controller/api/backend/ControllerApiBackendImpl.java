@@ -49,6 +49,7 @@ import io.openems.edge.common.user.User;
 import io.openems.edge.controller.api.Controller;
 import io.openems.edge.controller.api.backend.api.ControllerApiBackend;
 import io.openems.edge.controller.api.common.ApiWorker;
+import io.openems.edge.controller.api.common.ChannelValueSnapshotProvider;
 import io.openems.edge.controller.api.common.handler.ComponentConfigRequestHandler;
 
 @Designate(ocd = Config.class, factory = true)
@@ -59,7 +60,8 @@ import io.openems.edge.controller.api.common.handler.ComponentConfigRequestHandl
 )
 @EventTopics({ //
 		EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE, //
-		EdgeEventConstants.TOPIC_CONFIG_UPDATE //
+		EdgeEventConstants.TOPIC_CONFIG_UPDATE, //
+		EdgeEventConstants.TOPIC_CHANNEL_UPDATE //
 })
 public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		implements ControllerApiBackend, Controller, OpenemsComponent, EventHandler {
@@ -79,6 +81,8 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 	protected ComponentManager componentManager;
 	@Reference
 	protected Cycle cycle;
+	@Reference
+	protected ChannelValueSnapshotProvider channelValueSnapshotProvider;
 
 	@Reference
 	private ResendHistoricDataWorkerFactory resendHistoricDataWorkerFactory;
@@ -152,6 +156,7 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 				this.getUnableToSendChannel().address(), //
 				this.getLastSuccessFulResendChannel().address(), //
 				config.resendPriority(), //
+				config.compressResendData(), //
 				t -> this.getLastSuccessFulResendChannel().setNextValue(t), //
 				t -> this.websocket.sendMessage(t) //
 		));
@@ -209,7 +214,15 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 				this.sendChannelValuesWorker.collectData();
 				break;
 
+			case EdgeEventConstants.TOPIC_CHANNEL_UPDATE:
+				// Channels to resend might have changed
+				this.invalidateChannelsToResend();
+				break;
+
 			case EdgeEventConstants.TOPIC_CONFIG_UPDATE:
+				// Channels to resend might have changed
+				this.invalidateChannelsToResend();
+
 				// Send new EdgeConfig
 				var config = (EdgeConfig) event.getProperty(EdgeEventConstants.TOPIC_CONFIG_UPDATE_KEY);
 				var message = new EdgeConfigNotification(config);
@@ -228,6 +241,13 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		}
 	}
 
+	private void invalidateChannelsToResend() {
+		var resendHistoricDataWorker = this.resendHistoricDataWorker;
+		if (resendHistoricDataWorker != null) {
+			resendHistoricDataWorker.onConfigUpdate();
+		}
+	}
+
 	@Override
 	public boolean isConnected() {
 		return Optional.ofNullable(this.websocket) //
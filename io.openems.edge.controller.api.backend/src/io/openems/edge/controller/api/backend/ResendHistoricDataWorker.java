@@ -1,7 +1,7 @@
 package io.openems.edge.controller.api.backend;
 
 import static io.openems.common.utils.CollectorUtils.toTreeBasedTable;
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toUnmodifiableSet;
 
 import java.time.Instant;
 import java.time.ZonedDateTime;
@@ -11,6 +11,7 @@ import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -33,6 +34,7 @@ import com.google.gson.JsonElement;
 import io.openems.common.channel.AccessMode;
 import io.openems.common.channel.PersistencePriority;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.notification.CompressedResendDataNotification;
 import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
@@ -51,6 +53,7 @@ public final class ResendHistoricDataWorker extends AbstractWorker {
 			ChannelAddress addressForSuccessfulSend, //
 			ChannelAddress addressForSuccessfulResend, //
 			PersistencePriority resendPriority, //
+			boolean compressResendData, //
 			Consumer<? super Long> onLastSuccessfulResendUpdated, //
 			Function<? super JsonrpcMessage, Boolean> onSendData //
 	) {
@@ -72,7 +75,44 @@ public final class ResendHistoricDataWorker extends AbstractWorker {
 	protected static final int DELAY_TRIGGER_TIME = 300_000; // [milliseconds] 5 min
 	private static final int MAX_RANDOM_DELAY = 3_600_000; // [milliseconds] 1 h
 	private static final int BUFFER_SECONDS = 300; // [seconds] 5 min
-	private static final int MAX_RESEND_TIMESPAN_SECONDS = 300; // [seconds] 5 min
+	protected static final int MIN_RESEND_TIMESPAN_SECONDS = 300; // [seconds] 5 min
+	protected static final int MAX_RESEND_TIMESPAN_SECONDS = 21_600; // [seconds] 6 h
+	protected static final int TARGET_VALUES_PER_QUERY = 50_000;
+	protected static final int MAX_VALUES_PER_NOTIFICATION = 10_000;
+
+	/**
+	 * Adapts the length of the resend query windows to the amount of data.
+	 *
+	 * <p>
+	 * Starts with {@link ResendHistoricDataWorker#MIN_RESEND_TIMESPAN_SECONDS}
+	 * and aims at {@link ResendHistoricDataWorker#TARGET_VALUES_PER_QUERY} values
+	 * per query; the window at most doubles from one query to the next.
+	 */
+	protected static class AdaptiveWindow {
+
+		private long seconds = MIN_RESEND_TIMESPAN_SECONDS;
+
+		public long getSeconds() {
+			return this.seconds;
+		}
+
+		/**
+		 * Updates the window length from the result of a query.
+		 *
+		 * @param timespan the timespan of the query in seconds
+		 * @param values   the number of values in the result
+		 */
+		public void update(long timespan, long values) {
+			var seconds = this.seconds * 2;
+			if (values > 0) {
+				seconds = Math.min(seconds, Math.max(1, timespan) * TARGET_VALUES_PER_QUERY / values);
+			}
+			this.seconds = Math.max(MIN_RESEND_TIMESPAN_SECONDS, Math.min(MAX_RESEND_TIMESPAN_SECONDS, seconds));
+		}
+	}
+
+	private record ChannelsToResend(int configVersion, PersistencePriority priority, Set<ChannelAddress> channels) {
+	}
 
 	private final Logger log = LoggerFactory.getLogger(ResendHistoricDataWorker.class);
 
@@ -82,6 +122,13 @@ public final class ResendHistoricDataWorker extends AbstractWorker {
 
 	private Config config;
 
+	/**
+	 * The cached {@link ChannelAddress}es to resend; outdated after a
+	 * configuration update.
+	 */
+	private volatile ChannelsToResend channelsToResend = null;
+	private final AtomicInteger configVersion = new AtomicInteger();
+
 	/**
 	 * Trigger helper variable to delay execution of the forever method by
 	 * DELAY_TRIGGER_TIME. If during the forever method timedata or the
@@ -146,37 +193,122 @@ public final class ResendHistoricDataWorker extends AbstractWorker {
 				.withBuffer(BUFFER_SECONDS, BUFFER_SECONDS);
 
 		final var channelsToResend = this.getChannelsToResend(config.resendPriority());
+		final var window = new AdaptiveWindow();
+
+		for (var timerange : timeranges.getTimerangeAscending()) {
+			var fromSecond = timerange.getMinTimestamp();
+			while (fromSecond <= timerange.getMaxTimestamp()) {
+				final var toSecond = Math.min(timerange.getMaxTimestamp(), fromSecond + window.getSeconds());
+				final var from = Instant.ofEpochSecond(fromSecond).atZone(now.getZone());
+				final var to = Instant.ofEpochSecond(toSecond).atZone(now.getZone());
+
+				timedata = this.timedata;
+				if (timedata == null) {
+					synchronized (this.triggerState) {
+						timedata = this.timedata;
+						if (timedata == null) {
+							this.triggerState.set(TriggerState.WAITING_FOR_TIMEDATA);
+							this.log.info("Missing timedata reference!");
+							return;
+						}
+					}
+				}
 
-		// maximum of 5 minutes range of resend data
-		for (var timerange : timeranges.maxDataInTime(MAX_RESEND_TIMESPAN_SECONDS)) {
-			final var from = Instant.ofEpochSecond(timerange.getMinTimestamp()).atZone(now.getZone());
-			final var to = Instant.ofEpochSecond(timerange.getMaxTimestamp()).atZone(now.getZone());
+				final var data = timedata.queryResendData(from, to, channelsToResend);
 
-			timedata = this.timedata;
-			if (timedata == null) {
-				synchronized (this.triggerState) {
-					timedata = this.timedata;
-					if (timedata == null) {
-						this.triggerState.set(TriggerState.WAITING_FOR_TIMEDATA);
-						this.log.info("Missing timedata reference!");
-						return;
-					}
+				final var successful = streamResendData(data, toSecond, MAX_VALUES_PER_NOTIFICATION, //
+						config.compressResendData(), config.onSendData(), config.onLastSuccessfulResendUpdated());
+
+				if (!successful) {
+					// if data can not be send wait for next trigger
+					this.log.warn("Unable to resend data!");
+					return;
 				}
-			}
 
-			final var data = timedata.queryResendData(from, to, channelsToResend);
+				window.update(toSecond - fromSecond, countValues(data));
+				fromSecond = toSecond + 1;
+			}
+		}
 
-			final var successful = config.onSendData().apply(new ResendDataNotification(mapResendData(data)));
+	}
 
-			if (successful) {
-				config.onLastSuccessfulResendUpdated().accept(timerange.getMaxTimestamp());
-			} else {
-				// if data can not be send wait for next trigger
-				this.log.warn("Unable to resend data!");
-				return;
+	/**
+	 * Sends the queried resend data in {@link ResendDataNotification}s of at most
+	 * 'maxValuesPerNotification' values each and reports the progress after every
+	 * successfully sent notification.
+	 *
+	 * <p>
+	 * The notifications are built from views of the query result one after the
+	 * other, so only one notification is held in memory at a time. Values of one
+	 * timestamp are never split.
+	 *
+	 * @param data                          the query result; possibly null
+	 * @param toSecond                      the end of the queried window in
+	 *                                      seconds; reported after the last
+	 *                                      notification
+	 * @param maxValuesPerNotification      the maximum number of values per
+	 *                                      notification
+	 * @param compress                      send
+	 *                                      {@link CompressedResendDataNotification}s
+	 *                                      instead of
+	 *                                      {@link ResendDataNotification}s
+	 * @param onSendData                    sends a notification; returns true on
+	 *                                      success
+	 * @param onLastSuccessfulResendUpdated receives the progress checkpoint in
+	 *                                      seconds
+	 * @return true if all data was sent
+	 */
+	protected static boolean streamResendData(//
+			final SortedMap<Long, SortedMap<ChannelAddress, JsonElement>> data, //
+			final long toSecond, //
+			final int maxValuesPerNotification, //
+			final boolean compress, //
+			final Function<? super JsonrpcMessage, Boolean> onSendData, //
+			final Consumer<? super Long> onLastSuccessfulResendUpdated //
+	) {
+		if (data != null && !data.isEmpty()) {
+			Long chunkStart = null;
+			var chunkValues = 0;
+			for (var entry : data.entrySet()) {
+				final var values = entry.getValue().size();
+				if (chunkStart != null && chunkValues + values > maxValuesPerNotification) {
+					final var chunk = data.subMap(chunkStart, entry.getKey());
+					if (!onSendData.apply(toNotification(chunk, compress))) {
+						return false;
+					}
+					onLastSuccessfulResendUpdated.accept(chunk.lastKey() / 1000);
+					chunkStart = null;
+					chunkValues = 0;
+				}
+				if (chunkStart == null) {
+					chunkStart = entry.getKey();
+				}
+				chunkValues += values;
+			}
+			if (!onSendData.apply(toNotification(data.tailMap(chunkStart), compress))) {
+				return false;
 			}
 		}
+		onLastSuccessfulResendUpdated.accept(toSecond);
+		return true;
+	}
 
+	private static JsonrpcMessage toNotification(SortedMap<Long, SortedMap<ChannelAddress, JsonElement>> data,
+			boolean compress) {
+		final var table = mapResendData(data);
+		if (compress) {
+			return CompressedResendDataNotification.of(table);
+		}
+		return new ResendDataNotification(table);
+	}
+
+	private static long countValues(SortedMap<Long, SortedMap<ChannelAddress, JsonElement>> data) {
+		if (data == null) {
+			return 0;
+		}
+		return data.values().stream() //
+				.mapToLong(SortedMap::size) //
+				.sum();
 	}
 
 	@Reference(//
@@ -198,15 +330,30 @@ public final class ResendHistoricDataWorker extends AbstractWorker {
 		this.timedata = null;
 	}
 
+	/**
+	 * Invalidates the cached {@link ChannelAddress}es to resend, e.g. because
+	 * Components or Channels were added or removed.
+	 */
+	public void onConfigUpdate() {
+		this.configVersion.incrementAndGet();
+	}
+
 	private Set<ChannelAddress> getChannelsToResend(PersistencePriority resendPriority) {
-		return this.componentManager.getEnabledComponents().stream() //
+		final var configVersion = this.configVersion.get();
+		final var cached = this.channelsToResend;
+		if (cached != null && cached.configVersion() == configVersion && cached.priority() == resendPriority) {
+			return cached.channels();
+		}
+		final var channels = this.componentManager.getEnabledComponents().stream() //
 				.flatMap(component -> component.channels().stream()) //
 				.filter(channel -> //
 				channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
 						&& channel.channelDoc().getPersistencePriority() //
 								.isAtLeast(resendPriority))
 				.map(t -> t.address()) //
-				.collect(toSet());
+				.collect(toUnmodifiableSet());
+		this.channelsToResend = new ChannelsToResend(configVersion, resendPriority, channels);
+		return channels;
 	}
 
 	@Override
@@ -121,7 +121,8 @@ public class SendChannelValuesWorker {
 
 		// Update the values of all channels
 		final var enabledComponents = this.parent.componentManager.getEnabledComponents();
-		final var allValues = this.collectData(enabledComponents);
+		final var allValues = this.parent.channelValueSnapshotProvider.get() //
+				.getValues(this.parent.config.persistencePriority());
 		final var aggregatedValues = this.collectAggregatedData(now, enabledComponents);
 
 		// Add to send Queue
@@ -135,39 +136,6 @@ public class SendChannelValuesWorker {
 		}
 	}
 
-	/**
-	 * Cycles through all Channels and collects the value.
-	 *
-	 * @param enabledComponents the enabled components
-	 * @return collected data
-	 */
-	private ImmutableMap<String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
-		try {
-			return enabledComponents.parallelStream() //
-					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
-					.collect(//
-							ImmutableMap.toImmutableMap(//
-									c -> c.address().toString(), //
-									c -> c.value().asJson(), //
-									// simple/stupid merge function to avoid
-									// 'java.lang.IllegalArgumentException Duplicate Key'
-									(t, u) -> {
-										this.parent.logWarn(this.log, "Duplicate Key [" + t.toString() + "]");
-										return t;
-									}));
-		} catch (Exception e) {
-			// ConcurrentModificationException can happen if Channels are dynamically added
-			// or removed
-			this.parent.logWarn(this.log, "Unable to collect date: " + e.getMessage());
-			return ImmutableMap.of();
-		}
-	}
-
 	private TreeBasedTable<Long, String, JsonElement> collectAggregatedData(ZonedDateTime now,
 			List<OpenemsComponent> enabledComponents) {
 		final var endTime = now.truncatedTo(DurationUnit.ofMinutes(AGGREGATION_MINUTES));
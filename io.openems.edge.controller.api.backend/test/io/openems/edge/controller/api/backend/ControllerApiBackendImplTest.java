@@ -14,6 +14,7 @@ import io.openems.edge.common.sum.DummySum;
 import io.openems.edge.common.test.ComponentTest;
 import io.openems.edge.common.test.DummyComponentManager;
 import io.openems.edge.common.test.DummyCycle;
+import io.openems.edge.controller.api.common.ChannelValueSnapshotProvider;
 
 public class ControllerApiBackendImplTest {
 
@@ -34,9 +35,11 @@ public class ControllerApiBackendImplTest {
 			final var clock = new TimeLeapClock(
 					Instant.ofEpochSecond(1577836800L) /* starts at 1. January 2020 00:00:00 */, ZoneOffset.UTC);
 			final var sut = new ControllerApiBackendImpl();
+			final var componentManager = new DummyComponentManager(clock);
 			new ComponentTest(sut) //
-					.addReference("componentManager", new DummyComponentManager(clock)) //
+					.addReference("componentManager", componentManager) //
 					.addReference("cycle", new DummyCycle(1000)) //
+					.addReference("channelValueSnapshotProvider", new ChannelValueSnapshotProvider(componentManager)) //
 					.addReference("resendHistoricDataWorkerFactory", new DummyResendHistoricDataWorkerFactory()) //
 					.addReference("requestHandlerFactory", new DummyBackendOnRequestFactory()) //
 					.addReference("oem", new DummyOpenemsEdgeOem()) //
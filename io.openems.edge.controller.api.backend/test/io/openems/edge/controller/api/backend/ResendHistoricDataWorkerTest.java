@@ -1,17 +1,25 @@
 package io.openems.edge.controller.api.backend;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
 
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.notification.CompressedResendDataNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.types.ChannelAddress;
+import io.openems.edge.controller.api.backend.ResendHistoricDataWorker.AdaptiveWindow;
 import io.openems.edge.controller.api.backend.ResendHistoricDataWorker.TriggerState;
 
 public class ResendHistoricDataWorkerTest {
@@ -40,4 +48,83 @@ public class ResendHistoricDataWorkerTest {
 		assertEquals(testValue, mapped.get(testTimestamp, testChannel.toString()));
 	}
 
+	private static SortedMap<Long, SortedMap<ChannelAddress, JsonElement>> createData(int timestamps, int channels) {
+		SortedMap<Long, SortedMap<ChannelAddress, JsonElement>> data = new TreeMap<>();
+		for (var t = 1; t <= timestamps; t++) {
+			final var values = data.computeIfAbsent(t * 300_000L, a -> new TreeMap<>());
+			for (var c = 0; c < channels; c++) {
+				values.put(new ChannelAddress("c" + c, "test"), new JsonPrimitive(t));
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void testStreamResendData() {
+		final var sent = new ArrayList<Integer>();
+		final var checkpoints = new ArrayList<Long>();
+
+		// 5 timestamps with 4 values each; max 10 values per notification
+		assertTrue(ResendHistoricDataWorker.streamResendData(createData(5, 4), 1_800, 10, false, //
+				t -> sent.add(((ResendDataNotification) t).getData().rowKeySet().size()), //
+				checkpoints::add));
+		assertEquals(List.of(2, 2, 1), sent);
+		assertEquals(List.of(600L, 1_200L, 1_800L), checkpoints);
+
+		// No data: only the checkpoint
+		sent.clear();
+		checkpoints.clear();
+		assertTrue(ResendHistoricDataWorker.streamResendData(null, 900, 10, false, //
+				t -> sent.add(0), //
+				checkpoints::add));
+		assertTrue(sent.isEmpty());
+		assertEquals(List.of(900L), checkpoints);
+
+		// Stops at the first failed notification
+		checkpoints.clear();
+		final var calls = new AtomicInteger();
+		assertFalse(ResendHistoricDataWorker.streamResendData(createData(5, 4), 1_800, 10, false, //
+				t -> calls.incrementAndGet() < 2, //
+				checkpoints::add));
+		assertEquals(2, calls.get());
+		assertEquals(List.of(600L), checkpoints);
+	}
+
+	@Test
+	public void testStreamCompressedResendData() throws Exception {
+		final var data = createData(5, 4);
+		final var sent = new ArrayList<JsonrpcMessage>();
+		assertTrue(ResendHistoricDataWorker.streamResendData(data, 1_800, 100, true, //
+				sent::add, //
+				t -> {
+				}));
+
+		assertEquals(1, sent.size());
+		final var notification = (CompressedResendDataNotification) sent.get(0);
+		assertEquals(ResendHistoricDataWorker.mapResendData(data),
+				notification.toResendDataNotification().getData());
+	}
+
+	@Test
+	public void testAdaptiveWindow() {
+		final var window = new AdaptiveWindow();
+		assertEquals(ResendHistoricDataWorker.MIN_RESEND_TIMESPAN_SECONDS, window.getSeconds());
+
+		// Few values: grows by doubling up to the maximum
+		window.update(300, 100);
+		assertEquals(600, window.getSeconds());
+		for (var i = 0; i < 10; i++) {
+			window.update(window.getSeconds(), 0);
+		}
+		assertEquals(ResendHistoricDataWorker.MAX_RESEND_TIMESPAN_SECONDS, window.getSeconds());
+
+		// Too many values: shrinks proportionally
+		window.update(21_600, ResendHistoricDataWorker.TARGET_VALUES_PER_QUERY * 4);
+		assertEquals(5_400, window.getSeconds());
+
+		// Never below the minimum
+		window.update(5_400, Long.MAX_VALUE);
+		assertEquals(ResendHistoricDataWorker.MIN_RESEND_TIMESPAN_SECONDS, window.getSeconds());
+	}
+
 }
@@ -0,0 +1,118 @@
+package io.openems.edge.controller.api.common;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.channel.AccessMode;
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.channel.Unit;
+import io.openems.edge.common.channel.value.Value;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Immutable snapshot of the values of all readable Channels of all enabled
+ * Components.
+ *
+ * <p>
+ * Api-Controllers that forward Channel values on every Cycle (e.g. Backend,
+ * MQTT) share one snapshot per Cycle via {@link ChannelValueSnapshotProvider}
+ * instead of each walking all Channels on their own.
+ *
+ * <p>
+ * Values are converted to JSON only when they are read, so Channels that no
+ * consumer forwards - e.g. because of their {@link PersistencePriority} - cost
+ * no conversion.
+ */
+public final class ChannelValueSnapshot {
+
+	/**
+	 * The value of one Channel.
+	 *
+	 * @param componentId         the Component-ID
+	 * @param channelId           the Channel-ID
+	 * @param address             the Channel-Address as String, e.g.
+	 *                            "_sum/EssSoc"
+	 * @param unit                the {@link Unit}
+	 * @param persistencePriority the {@link PersistencePriority}
+	 * @param rawValue            the {@link Value}
+	 */
+	public static record Entry(String componentId, String channelId, String address, Unit unit,
+			PersistencePriority persistencePriority, Value<?> rawValue) {
+
+		/**
+		 * Converts the value to a {@link JsonElement}.
+		 *
+		 * @return the value as {@link JsonElement}
+		 */
+		public JsonElement value() {
+			return this.rawValue.asJson();
+		}
+	}
+
+	public static final ChannelValueSnapshot EMPTY = new ChannelValueSnapshot(List.of());
+
+	private final List<Entry> entries;
+
+	private ChannelValueSnapshot(List<Entry> entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Collects a {@link ChannelValueSnapshot} from the given Components. Values of
+	 * Write-Only Channels are ignored.
+	 *
+	 * @param components the {@link OpenemsComponent}s
+	 * @return the {@link ChannelValueSnapshot}
+	 */
+	public static ChannelValueSnapshot from(Collection<? extends OpenemsComponent> components) {
+		try {
+			return new ChannelValueSnapshot(components.parallelStream() //
+					.flatMap(component -> component.channels().stream() //
+							// Ignore WRITE_ONLY Channels
+							.filter(channel -> channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY) //
+							.map(channel -> {
+								final var doc = channel.channelDoc();
+								final var channelId = channel.channelId().id();
+								return new Entry(component.id(), channelId, component.id() + "/" + channelId,
+										doc.getUnit(), doc.getPersistencePriority(), channel.value());
+							})) //
+					.toList());
+		} catch (RuntimeException e) {
+			// ConcurrentModificationException can happen if Channels are dynamically added
+			// or removed
+			return EMPTY;
+		}
+	}
+
+	/**
+	 * Gets all {@link Entry}s, ordered by Component.
+	 *
+	 * @return the {@link Entry}s
+	 */
+	public List<Entry> entries() {
+		return this.entries;
+	}
+
+	/**
+	 * Gets the values of all Channels with at least the given
+	 * {@link PersistencePriority}, mapped by Channel-Address.
+	 *
+	 * @param priority the minimum {@link PersistencePriority}
+	 * @return a map of Channel-Address to value
+	 */
+	public Map<String, JsonElement> getValues(PersistencePriority priority) {
+		final var result = new LinkedHashMap<String, JsonElement>();
+		for (var entry : this.entries) {
+			if (entry.persistencePriority().isAtLeast(priority)) {
+				result.putIfAbsent(entry.address(), entry.value());
+			}
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+}
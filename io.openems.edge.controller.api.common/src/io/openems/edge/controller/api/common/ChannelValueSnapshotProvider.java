@@ -0,0 +1,55 @@
+package io.openems.edge.controller.api.common;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ServiceScope;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+import org.osgi.service.event.propertytypes.EventTopics;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.event.EdgeEventConstants;
+
+/**
+ * Provides the {@link ChannelValueSnapshot} of the current Cycle.
+ *
+ * <p>
+ * The snapshot is collected lazily on the first call to {@link #get()} after
+ * the process image was switched and then shared by all Api-Controllers that
+ * reference this service.
+ */
+@Component(service = { ChannelValueSnapshotProvider.class, EventHandler.class }, scope = ServiceScope.SINGLETON)
+@EventTopics({ //
+		EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE //
+})
+public class ChannelValueSnapshotProvider implements EventHandler {
+
+	private final ComponentManager componentManager;
+
+	private ChannelValueSnapshot snapshot = null;
+
+	@Activate
+	public ChannelValueSnapshotProvider(@Reference ComponentManager componentManager) {
+		this.componentManager = componentManager;
+	}
+
+	@Override
+	public synchronized void handleEvent(Event event) {
+		// TOPIC_CYCLE_BEFORE_PROCESS_IMAGE: values are about to change
+		this.snapshot = null;
+	}
+
+	/**
+	 * Gets the {@link ChannelValueSnapshot} of the current process image.
+	 *
+	 * @return the {@link ChannelValueSnapshot}
+	 */
+	public synchronized ChannelValueSnapshot get() {
+		if (this.snapshot == null) {
+			this.snapshot = ChannelValueSnapshot.from(this.componentManager.getEnabledComponents());
+		}
+		return this.snapshot;
+	}
+
+}
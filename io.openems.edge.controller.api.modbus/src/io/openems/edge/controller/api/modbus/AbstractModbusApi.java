@@ -5,8 +5,10 @@ import static io.openems.edge.controller.api.modbus.CommonConfig.DEFAULT_UNIT_ID
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -76,6 +78,9 @@ public abstract class AbstractModbusApi extends AbstractOpenemsComponent
 	/** Counts every Write to a Register. */
 	private final AtomicInteger writeCounter = new AtomicInteger();
 
+	/** Pre-encoded values of all Records; swapped once per Cycle. */
+	private volatile RegisterImage registerImage = RegisterImage.EMPTY;
+
 	protected Instant lastModbusProcessImageErrorInstant = Instant.MIN;
 	protected Clock clock;
 
@@ -247,6 +252,7 @@ public abstract class AbstractModbusApi extends AbstractOpenemsComponent
 			return;
 		}
 		this.updateCycleValues();
+		this.updateRegisterImage();
 		this.apiWorker.run();
 		this.resetProcessImageError(this.clock);
 	}
@@ -260,6 +266,7 @@ public abstract class AbstractModbusApi extends AbstractOpenemsComponent
 
 		if (config == null) {
 			this.resetModbusTable();
+			this.updateRegisterImage();
 			return;
 		}
 		final var expectedIds = List.of(config.componentIds());
@@ -269,12 +276,14 @@ public abstract class AbstractModbusApi extends AbstractOpenemsComponent
 
 		if (!availableIds.containsAll(expectedIds)) {
 			this.resetModbusTable();
+			this.updateRegisterImage();
 			this._setComponentMissingFault(true);
 			return;
 		}
 
 		this._setComponentMissingFault(false);
 		this.initializeModbusRecords(config.metaComponent(), config.componentIds());
+		this.updateRegisterImage();
 	}
 
 	protected synchronized void addComponent(OpenemsComponent component) {
@@ -319,6 +328,26 @@ public abstract class AbstractModbusApi extends AbstractOpenemsComponent
 				});
 	}
 
+	/**
+	 * Builds a new {@link RegisterImage} from the current values of all
+	 * {@link ModbusRecord}s and replaces the previous one.
+	 */
+	protected synchronized void updateRegisterImage() {
+		final var components = new HashMap<String, Optional<OpenemsComponent>>();
+		this.registerImage = RegisterImage.from(this.records,
+				componentId -> components.computeIfAbsent(componentId, //
+						id -> Optional.ofNullable(this.getPossiblyDisabledComponent(id))).orElse(null));
+	}
+
+	/**
+	 * Gets the {@link RegisterImage} of the current Cycle.
+	 *
+	 * @return the {@link RegisterImage}
+	 */
+	public RegisterImage getRegisterImage() {
+		return this.registerImage;
+	}
+
 	@Override
 	protected void logDebug(Logger log, String message) {
 		super.logDebug(log, message);
@@ -14,9 +14,7 @@ import com.ghgande.j2mod.modbus.procimg.SimpleDigitalIn;
 import com.ghgande.j2mod.modbus.procimg.SimpleDigitalOut;
 import com.ghgande.j2mod.modbus.procimg.SimpleInputRegister;
 
-import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.modbusslave.ModbusRecord;
-import io.openems.edge.common.modbusslave.ModbusRecordUint16Reserved;
 
 /**
  * This implementation answers Modbus-TCP/RTU Slave requests.
@@ -32,7 +30,7 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		try {
 			this.parent.logDebug(this.log, "Reading Input Registers. Address [" + offset + "] Count [" + count + "].");
 			this.parent.incrementAccessCounter();
@@ -51,7 +49,7 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Reading Registers. Address [" + offset + "] Count [" + count + "].");
 		this.parent.incrementAccessCounter();
 
@@ -68,33 +66,9 @@ public class MyProcessImage implements ProcessImage {
 								+ "Invalid length: " + length + "; max. 126 registers allowed");
 			}
 
-			var records = this.parent.records.subMap(offset, offset + count);
-			var result = new Register[count];
-			for (var i = 0; i < count;) {
-				// Get record for modbus address
-				var ref = i + offset;
-				var record = records.get(ref);
-				if (record == null) {
-					record = new ModbusRecordUint16Reserved(ref);
-				}
-
-				// Get Registers from Record
-				var registers = this.getRecordValueRegisters(record);
-
-				// make sure this Record fits
-				if (result.length < i + registers.length) {
-					throw MyIllegalAddressException.fromWithLog(this::logWarn, //
-							"getRegisterRange(" + offset + ", " + count + ") failed: " //
-									+ "Record for Modbus address [" + ref + "] does not fit in Result.");
-				}
-				for (var j = 0; j < registers.length; j++) {
-					result[i + j] = registers[j];
-				}
-
-				// increase i by word length
-				i += registers.length;
-			}
-			return result;
+			// Served from the pre-encoded image of the current Cycle; no lock required
+			return this.parent.getRegisterImage().getRegisterRange(offset, count, this.parent::incrementWriteCounter,
+					this::logDisabledComponent);
 
 		} catch (Exception e) {
 			this.parent.setProcessImageFault(this.parent.clock);
@@ -104,31 +78,13 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized Register getRegister(int ref) throws MyIllegalAddressException {
+	public Register getRegister(int ref) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Get Register. Address [" + ref + "].");
 		this.parent.incrementAccessCounter();
 
 		try {
-			var record = this.parent.records.get(ref);
-
-			// make sure the ModbusRecord is available
-			if (record == null) {
-				throw MyIllegalAddressException.fromWithLog(this::logWarn, //
-						"getRegister(" + ref + ") failed: " //
-								+ "Record for Modbus address [" + ref + "] is not available");
-			}
-
-			// Get Registers from Record
-			var registers = this.getRecordValueRegisters(record);
-
-			// make sure this Record requires only one Register/Word
-			if (registers.length > 1) {
-				throw MyIllegalAddressException.fromWithLog(this::logWarn, //
-						"getRegister(" + ref + ") failed: " //
-								+ "Record for Modbus address [" + ref + "] requires more than one Register");
-			}
-
-			return registers[0];
+			return this.parent.getRegisterImage().getRegister(ref, this.parent::incrementWriteCounter,
+					this::logDisabledComponent);
 
 		} catch (Exception e) {
 			this.parent.setProcessImageFault(this.parent.clock);
@@ -137,39 +93,6 @@ public class MyProcessImage implements ProcessImage {
 		}
 	}
 
-	/**
-	 * Get value as byte-array and convert it to InputRegisters.
-	 *
-	 * @param record the record
-	 * @return the Register
-	 */
-	private Register[] getRecordValueRegisters(ModbusRecord record) {
-		var result = new MyRegister[record.getType().getWords()];
-		final OpenemsComponent component;
-		{
-			var cmp = this.parent.getPossiblyDisabledComponent(record.getComponentId());
-			if (cmp != null && !cmp.isEnabled()) {
-				this.parent.logWarn(this.log, "Trying to access disabled Component [" + cmp.id() + "] for " + record);
-				component = null;
-			} else {
-				component = cmp;
-			}
-		}
-
-		var value = record.getValue(component);
-		for (var j = 0; j < value.length / 2; j++) {
-			result[j] = new MyRegister(j, value[j * 2], value[j * 2 + 1], //
-					/*
-					 * On Set-Value event:
-					 */
-					register -> {
-						this.parent.incrementWriteCounter();
-						record.writeValue(register.getIndex(), register.getByte1(), register.getByte2());
-					});
-		}
-		return result;
-	}
-
 	/**********************************************
 	 * From here, the methods are not implemented!.
 	 **********************************************
@@ -287,6 +210,10 @@ public class MyProcessImage implements ProcessImage {
 		return 0;
 	}
 
+	private void logDisabledComponent(ModbusRecord record) {
+		this.logWarn("Trying to access disabled Component [" + record.getComponentId() + "] for " + record);
+	}
+
 	private void logWarn(String message) {
 		this.parent.logWarn(this.log, message);
 	}
@@ -0,0 +1,188 @@
+package io.openems.edge.controller.api.modbus;
+
+import java.util.BitSet;
+import java.util.SortedMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.ghgande.j2mod.modbus.procimg.Register;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16Reserved;
+
+/**
+ * Immutable, pre-encoded image of all Modbus registers.
+ *
+ * <p>
+ * The image is built once per Cycle from the current values of all
+ * {@link ModbusRecord}s and swapped atomically, so Modbus read requests are
+ * answered without locking and without converting Channel values per request.
+ * Writes to the returned {@link Register}s are still forwarded to
+ * {@link ModbusRecord#writeValue(int, byte, byte)}.
+ */
+public final class RegisterImage {
+
+	public static final RegisterImage EMPTY = new RegisterImage(new byte[0], new ModbusRecord[0], new BitSet(),
+			new BitSet());
+
+	private static final byte[] RESERVED_VALUE = ModbusRecordUint16.UNDEFINED_VALUE;
+
+	/** Two bytes per Modbus address. */
+	private final byte[] values;
+	/** The {@link ModbusRecord} starting at an address; null otherwise. */
+	private final ModbusRecord[] records;
+	/** Addresses of {@link ModbusRecord}s whose value could not be read. */
+	private final BitSet failed;
+	/** Addresses of {@link ModbusRecord}s of disabled Components. */
+	private final BitSet disabled;
+
+	private RegisterImage(byte[] values, ModbusRecord[] records, BitSet failed, BitSet disabled) {
+		this.values = values;
+		this.records = records;
+		this.failed = failed;
+		this.disabled = disabled;
+	}
+
+	/**
+	 * Builds a {@link RegisterImage} from the current values of the given
+	 * {@link ModbusRecord}s.
+	 *
+	 * @param records      the {@link ModbusRecord}s by Modbus address
+	 * @param getComponent gets the possibly disabled {@link OpenemsComponent} for
+	 *                     a Component-ID; returns null if the Component is not
+	 *                     available
+	 * @return the {@link RegisterImage}
+	 */
+	public static RegisterImage from(SortedMap<Integer, ModbusRecord> records,
+			Function<String, OpenemsComponent> getComponent) {
+		if (records.isEmpty()) {
+			return EMPTY;
+		}
+		final var lastAddress = records.lastKey();
+		final var length = lastAddress + records.get(lastAddress).getType().getWords();
+		final var values = new byte[length * 2];
+		for (var i = 0; i < length; i++) {
+			values[i * 2] = RESERVED_VALUE[0];
+			values[i * 2 + 1] = RESERVED_VALUE[1];
+		}
+		final var recordsByAddress = new ModbusRecord[length];
+		final var failed = new BitSet();
+		final var disabled = new BitSet();
+
+		for (var entry : records.entrySet()) {
+			final int address = entry.getKey();
+			final var record = entry.getValue();
+			recordsByAddress[address] = record;
+			var component = getComponent.apply(record.getComponentId());
+			if (component != null && !component.isEnabled()) {
+				disabled.set(address);
+				component = null;
+			}
+			try {
+				final var value = record.getValue(component);
+				final var byteLength = Math.min(value.length, record.getType().getWords() * 2);
+				System.arraycopy(value, 0, values, address * 2, Math.min(byteLength, values.length - address * 2));
+			} catch (RuntimeException e) {
+				failed.set(address);
+			}
+		}
+		return new RegisterImage(values, recordsByAddress, failed, disabled);
+	}
+
+	/**
+	 * Gets the {@link Register}s for the given range. Addresses without a
+	 * {@link ModbusRecord} are answered with 'Reserved' values.
+	 *
+	 * @param offset              the start address
+	 * @param count               the number of registers
+	 * @param onWrite             callback that is called before a write is
+	 *                            forwarded to the {@link ModbusRecord}
+	 * @param onDisabledComponent callback for a {@link ModbusRecord} of a
+	 *                            disabled Component
+	 * @return the {@link Register}s
+	 * @throws IllegalArgumentException if a {@link ModbusRecord} does not fit in
+	 *                                  the range or its value is not available
+	 */
+	public Register[] getRegisterRange(int offset, int count, Runnable onWrite,
+			Consumer<ModbusRecord> onDisabledComponent) throws IllegalArgumentException {
+		final var result = new Register[count];
+		for (var i = 0; i < count;) {
+			final var ref = i + offset;
+			final var record = this.getRecord(ref);
+			if (record == null) {
+				result[i] = createRegister(0, RESERVED_VALUE[0], RESERVED_VALUE[1],
+						new ModbusRecordUint16Reserved(ref), onWrite);
+				i++;
+				continue;
+			}
+
+			final var words = record.getType().getWords();
+			if (result.length < i + words) {
+				throw new IllegalArgumentException("Record for Modbus address [" + ref + "] does not fit in Result.");
+			}
+			this.assertValueAvailable(ref, record, onDisabledComponent);
+			for (var j = 0; j < words; j++) {
+				result[i + j] = createRegister(j, this.values[(ref + j) * 2], this.values[(ref + j) * 2 + 1], record,
+						onWrite);
+			}
+			i += words;
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the {@link Register} of a single word {@link ModbusRecord}.
+	 *
+	 * @param ref                 the Modbus address
+	 * @param onWrite             callback that is called before a write is
+	 *                            forwarded to the {@link ModbusRecord}
+	 * @param onDisabledComponent callback for a {@link ModbusRecord} of a
+	 *                            disabled Component
+	 * @return the {@link Register}
+	 * @throws IllegalArgumentException if there is no single word
+	 *                                  {@link ModbusRecord} at the address or its
+	 *                                  value is not available
+	 */
+	public Register getRegister(int ref, Runnable onWrite, Consumer<ModbusRecord> onDisabledComponent)
+			throws IllegalArgumentException {
+		final var record = this.getRecord(ref);
+		if (record == null) {
+			throw new IllegalArgumentException("Record for Modbus address [" + ref + "] is not available");
+		}
+		if (record.getType().getWords() > 1) {
+			throw new IllegalArgumentException(
+					"Record for Modbus address [" + ref + "] requires more than one Register");
+		}
+		this.assertValueAvailable(ref, record, onDisabledComponent);
+		return createRegister(0, this.values[ref * 2], this.values[ref * 2 + 1], record, onWrite);
+	}
+
+	private ModbusRecord getRecord(int ref) {
+		if (ref < 0 || ref >= this.records.length) {
+			return null;
+		}
+		return this.records[ref];
+	}
+
+	private void assertValueAvailable(int ref, ModbusRecord record, Consumer<ModbusRecord> onDisabledComponent)
+			throws IllegalArgumentException {
+		if (this.disabled.get(ref)) {
+			onDisabledComponent.accept(record);
+		}
+		if (this.failed.get(ref)) {
+			throw new IllegalArgumentException("Value for Modbus address [" + ref + "] is not available");
+		}
+	}
+
+	private static MyRegister createRegister(int index, byte byte1, byte byte2, ModbusRecord record,
+			Runnable onWrite) {
+		final Consumer<MyRegister> callback = register -> {
+			onWrite.run();
+			record.writeValue(register.getIndex(), register.getByte1(), register.getByte2());
+		};
+		return new MyRegister(index, byte1, byte2, callback);
+	}
+
+}
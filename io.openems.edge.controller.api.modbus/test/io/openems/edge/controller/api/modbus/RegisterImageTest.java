@@ -0,0 +1,64 @@
+package io.openems.edge.controller.api.modbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16;
+import io.openems.edge.common.modbusslave.ModbusRecordUint32;
+
+public class RegisterImageTest {
+
+	private static RegisterImage createImage() {
+		final var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(0, new ModbusRecordUint16(0, "A", (short) 1));
+		records.put(2, new ModbusRecordUint32(2, "B", 0x00020003));
+		return RegisterImage.from(records, id -> null);
+	}
+
+	@Test
+	public void testGetRegisterRange() {
+		final var image = createImage();
+
+		final var registers = image.getRegisterRange(0, 5, () -> {
+		}, record -> {
+		});
+		assertEquals(1, registers[0].getValue());
+		assertEquals(0xFFFF, registers[1].getValue()); // Reserved
+		assertEquals(2, registers[2].getValue());
+		assertEquals(3, registers[3].getValue());
+		assertEquals(0xFFFF, registers[4].getValue()); // outside of image
+
+		// Start in the middle of a Record
+		assertEquals(0xFFFF, image.getRegisterRange(3, 1, () -> {
+		}, record -> {
+		})[0].getValue());
+	}
+
+	@Test
+	public void testRecordDoesNotFit() {
+		final var image = createImage();
+		assertThrows(IllegalArgumentException.class, () -> image.getRegisterRange(2, 1, () -> {
+		}, record -> {
+		}));
+	}
+
+	@Test
+	public void testGetRegister() {
+		final var image = createImage();
+		assertEquals(1, image.getRegister(0, () -> {
+		}, record -> {
+		}).getValue());
+		assertThrows(IllegalArgumentException.class, () -> image.getRegister(1, () -> {
+		}, record -> {
+		}));
+		assertThrows(IllegalArgumentException.class, () -> image.getRegister(2, () -> {
+		}, record -> {
+		}));
+	}
+
+}
@@ -0,0 +1,133 @@
+package io.openems.edge.controller.api.mqtt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.exceptions.OpenemsException;
+
+/**
+ * Decides if a Channel value needs to be published, based on the last
+ * published value, numeric deadbands per {@link Unit} and a minimum publish
+ * interval.
+ *
+ * <p>
+ * This class is not thread-safe; it is used only by the single-threaded
+ * {@link SendChannelValuesWorker}.
+ */
+public class ChannelValueFilter {
+
+	private static record Published(JsonElement value, Instant timestamp) {
+	}
+
+	private final Map<Unit, Double> deadbands;
+	private final Duration minPublishInterval;
+	private final Map<String, Published> published = new HashMap<>();
+
+	public ChannelValueFilter(Map<Unit, Double> deadbands, Duration minPublishInterval) {
+		this.deadbands = deadbands.isEmpty() ? Map.of() : new EnumMap<>(deadbands);
+		this.minPublishInterval = minPublishInterval;
+	}
+
+	/**
+	 * Parses deadband definitions in the format 'Unit-Symbol=Deadband', e.g.
+	 * 'W=50' or 'A=0.5'.
+	 *
+	 * @param deadbands the deadband definitions; may be null
+	 * @return a map of {@link Unit} to deadband
+	 * @throws OpenemsException on parse error
+	 */
+	public static Map<Unit, Double> parseDeadbands(String[] deadbands) throws OpenemsException {
+		final var result = new EnumMap<Unit, Double>(Unit.class);
+		if (deadbands == null) {
+			return result;
+		}
+		for (var deadband : deadbands) {
+			if (deadband == null || deadband.isBlank()) {
+				continue;
+			}
+			final var separator = deadband.lastIndexOf('=');
+			if (separator < 0) {
+				throw new OpenemsException("Unable to parse deadband: '" + deadband + "'");
+			}
+			final var symbol = deadband.substring(0, separator).trim();
+			final var unit = getUnit(symbol);
+			if (unit == null) {
+				throw new OpenemsException("Unknown Unit [" + symbol + "] in deadband: '" + deadband + "'");
+			}
+			try {
+				final var value = Double.parseDouble(deadband.substring(separator + 1).trim());
+				if (value < 0) {
+					throw new OpenemsException("Negative deadband: '" + deadband + "'");
+				}
+				result.put(unit, value);
+			} catch (NumberFormatException e) {
+				throw new OpenemsException("Unable to parse deadband: '" + deadband + "'");
+			}
+		}
+		return result;
+	}
+
+	private static Unit getUnit(String symbol) {
+		for (var unit : Unit.values()) {
+			if (unit.symbol.equals(symbol)) {
+				return unit;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Checks if the given value of a Channel should be published. If yes, the
+	 * value is remembered as the last published value.
+	 *
+	 * @param address the Channel-Address
+	 * @param unit    the {@link Unit} of the Channel
+	 * @param value   the current value
+	 * @param now     the current timestamp
+	 * @return true if the value should be published
+	 */
+	public boolean update(String address, Unit unit, JsonElement value, Instant now) {
+		final var last = this.published.get(address);
+		if (last != null) {
+			if (!this.hasChanged(unit, last.value(), value)) {
+				return false;
+			}
+			if (now.isBefore(last.timestamp().plus(this.minPublishInterval))) {
+				return false;
+			}
+		}
+		this.published.put(address, new Published(value, now));
+		return true;
+	}
+
+	/**
+	 * Forgets all published values, i.e. the next {@link #update} publishes every
+	 * value.
+	 */
+	public void clear() {
+		this.published.clear();
+	}
+
+	private boolean hasChanged(Unit unit, JsonElement last, JsonElement value) {
+		if (Objects.equals(last, value)) {
+			return false;
+		}
+		final var deadband = this.deadbands.get(unit);
+		if (deadband == null || !isNumber(last) || !isNumber(value)) {
+			return true;
+		}
+		return Math.abs(value.getAsDouble() - last.getAsDouble()) >= deadband;
+	}
+
+	private static boolean isNumber(JsonElement json) {
+		return json != null && json.isJsonPrimitive() && json.getAsJsonPrimitive().isNumber();
+	}
+
+}
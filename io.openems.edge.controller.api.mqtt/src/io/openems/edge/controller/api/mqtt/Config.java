@@ -50,6 +50,21 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Persistence Priority", description = "Send only Channels with a Persistence Priority greater-or-equals this.")
 	PersistencePriority persistencePriority() default PersistencePriority.VERY_LOW;
 
+	@AttributeDefinition(name = "Payload Mode", description = "Publish one message per Channel, or bulk messages per Component or per Cycle. Bulk messages contain only changed values and are not retained.")
+	PayloadMode payloadMode() default PayloadMode.CHANNEL;
+
+	@AttributeDefinition(name = "Deadbands", description = "Numeric deadbands per Unit symbol, e.g. 'W=50', 'A=0.5'. Changes smaller than the deadband are not published.")
+	String[] deadbands() default {};
+
+	@AttributeDefinition(name = "Minimum Publish Interval [s]", description = "Publish changed values of a Channel at most once within this interval.")
+	int minPublishInterval() default 0;
+
+	@AttributeDefinition(name = "Maximum Queue Size", description = "Maximum number of messages waiting to be published. If the queue is full, the oldest QoS 0 message is dropped.")
+	int maxQueueSize() default 10000;
+
+	@AttributeDefinition(name = "Maximum Messages in Flight", description = "Maximum number of QoS 1 and 2 messages that are published but not yet acknowledged by the broker. QoS 0 messages are not limited.")
+	int maxInFlight() default 10;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
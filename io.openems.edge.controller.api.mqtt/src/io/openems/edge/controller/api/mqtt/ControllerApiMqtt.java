@@ -2,7 +2,11 @@ package io.openems.edge.controller.api.mqtt;
 
 import org.osgi.service.event.EventHandler;
 
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.controller.api.Controller;
 
@@ -13,6 +17,13 @@ public interface ControllerApiMqtt extends Controller, OpenemsComponent, EventHa
 	public static final String TOPIC_EDGE_CONFIG = "edgeConfig";
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+		QUEUE_DEPTH(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of messages waiting to be published")), //
+		PUBLISH_LATENCY(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Time between queuing and publishing of the last message")), //
+		DROPPED_MESSAGES(Doc.of(OpenemsType.LONG) //
+				.text("Number of messages dropped because the queue was full")), //
 		;
 
 		private final Doc doc;
@@ -26,4 +37,61 @@ public interface ControllerApiMqtt extends Controller, OpenemsComponent, EventHa
 			return this.doc;
 		}
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#QUEUE_DEPTH}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getQueueDepthChannel() {
+		return this.channel(ChannelId.QUEUE_DEPTH);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#QUEUE_DEPTH}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setQueueDepth(Integer value) {
+		this.getQueueDepthChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PUBLISH_LATENCY}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPublishLatencyChannel() {
+		return this.channel(ChannelId.PUBLISH_LATENCY);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#PUBLISH_LATENCY}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPublishLatency(Long value) {
+		this.getPublishLatencyChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#DROPPED_MESSAGES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getDroppedMessagesChannel() {
+		return this.channel(ChannelId.DROPPED_MESSAGES);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#DROPPED_MESSAGES}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setDroppedMessages(Long value) {
+		this.getDroppedMessagesChannel().setNextValue(value);
+	}
 }
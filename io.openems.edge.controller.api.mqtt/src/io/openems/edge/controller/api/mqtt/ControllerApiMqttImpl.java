@@ -5,6 +5,7 @@ import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTerminatio
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -31,6 +32,11 @@ import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import io.openems.common.channel.Unit;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.EdgeConfig;
@@ -39,6 +45,7 @@ import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.controller.api.Controller;
+import io.openems.edge.controller.api.common.ChannelValueSnapshotProvider;
 import io.openems.edge.timedata.api.Timedata;
 
 @Designate(ocd = Config.class, factory = true)
@@ -59,19 +66,23 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 	private static final long INITIAL_RECONNECT_DELAY_SECONDS = 5;
 	private static final long MAX_RECONNECT_DELAY_SECONDS = 300; // 5 minutes maximum delay.
 	private static final double RECONNECT_DELAY_MULTIPLIER = 1.5;
+	private static final int MAX_CACHED_TOPIC_FILTER_RESULTS = 50_000;
 
 	private final Logger log = LoggerFactory.getLogger(ControllerApiMqttImpl.class);
 	private final ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
 	private final AtomicInteger reconnectionAttempt = new AtomicInteger(0);
-	private final SendChannelValuesWorker sendChannelValuesWorker = new SendChannelValuesWorker(this);
 	private final MqttConnector mqttConnector = new MqttConnector();
 
 	protected Config config;
 
 	private volatile ScheduledFuture<?> reconnectFuture = null;
+	private SendChannelValuesWorker sendChannelValuesWorker = null;
 	private String topicPrefix;
 	private IMqttClient mqttClient = null;
 	private List<MqttTopicFilter> topicFilters;
+	private final LoadingCache<String, Boolean> topicFilterResults = CacheBuilder.newBuilder() //
+			.maximumSize(MAX_CACHED_TOPIC_FILTER_RESULTS) //
+			.build(CacheLoader.from(this::matchesTopicFilters));
 
 	@Reference(policy = ReferencePolicy.DYNAMIC, policyOption = ReferencePolicyOption.GREEDY, cardinality = ReferenceCardinality.OPTIONAL)
 	private volatile Timedata timedata = null;
@@ -79,6 +90,9 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 	@Reference
 	protected ComponentManager componentManager;
 
+	@Reference
+	protected ChannelValueSnapshotProvider channelValueSnapshotProvider;
+
 	private static List<MqttTopicFilter> getFilter(Config config) throws OpenemsException {
 		// Expand the filterSpec to the filterList
 		if (config == null || config.topicFilters().length == 0) {
@@ -117,6 +131,7 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 			this.log.warn("Error parsing filter. Filter disabled!: {}", e.getMessage(), e);
 			this.topicFilters = List.of();
 		}
+		this.topicFilterResults.invalidateAll();
 		if (!this.topicFilters.isEmpty()) {
 			this.log.info("Enabled filters: {}", String.join(", ", config.topicFilters()));
 		}
@@ -127,6 +142,14 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 		super.activate(context, config.id(), config.alias(), config.enabled());
 
 		if (this.isEnabled()) {
+			Map<Unit, Double> deadbands;
+			try {
+				deadbands = ChannelValueFilter.parseDeadbands(config.deadbands());
+			} catch (OpenemsException e) {
+				this.log.warn("Error parsing deadbands. Deadbands disabled!: {}", e.getMessage(), e);
+				deadbands = Map.of();
+			}
+			this.sendChannelValuesWorker = new SendChannelValuesWorker(this, config, deadbands);
 			this.scheduleReconnect();
 		}
 	}
@@ -161,6 +184,9 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 	protected void deactivate() {
 		super.deactivate();
 		shutdownAndAwaitTermination(this.scheduledExecutorService, 0);
+		if (this.sendChannelValuesWorker != null) {
+			this.sendChannelValuesWorker.deactivate();
+		}
 
 		if (this.mqttClient != null) {
 			try {
@@ -202,7 +228,8 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 		case EdgeEventConstants.TOPIC_CONFIG_UPDATE:
 			// Send new EdgeConfig
 			var config = (EdgeConfig) event.getProperty(EdgeEventConstants.TOPIC_CONFIG_UPDATE_KEY);
-			this.publish(ControllerApiMqtt.TOPIC_EDGE_CONFIG + "/", config.toJson().toString(), //
+			this.sendChannelValuesWorker.publish(ControllerApiMqtt.TOPIC_EDGE_CONFIG + "/", //
+					config.toJson().toString(), //
 					1 /* QOS */, true /* retain */, new MqttProperties() /* no specific properties */);
 
 			// Trigger sending of all channel values, because a Component might have
@@ -223,6 +250,22 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 	 *         filtered.
 	 */
 	protected MqttPublishStatus publish(String subTopic, MqttMessage message) {
+		if (!this.filterTopic(subTopic)) {
+			return MqttPublishStatus.FILTERED;
+		}
+		return this.send(subTopic, message);
+	}
+
+	/**
+	 * Publish a message to a topic without applying the topic filters.
+	 *
+	 * @param subTopic the MQTT topic. The global MQTT Topic prefix is added in
+	 *                 front of this string
+	 * @param message  the message
+	 * @return MqttPublishStatus enum value: OK if the message was successfully
+	 *         published, ERROR if publishing failed.
+	 */
+	protected MqttPublishStatus send(String subTopic, MqttMessage message) {
 		if (!this.isEnabled()) {
 			return MqttPublishStatus.ERROR;
 		}
@@ -232,9 +275,6 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 			return MqttPublishStatus.ERROR;
 		}
 		try {
-			if (!this.filterTopic(subTopic)) {
-				return MqttPublishStatus.FILTERED;
-			}
 			mqttClient.publish(this.topicPrefix + subTopic, message);
 			return MqttPublishStatus.OK;
 		} catch (MqttException e) {
@@ -266,6 +306,11 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 		if (this.topicFilters.isEmpty()) {
 			return true;
 		}
+		// Topics are stable per Channel; evaluate the filters only once per topic
+		return this.topicFilterResults.getUnchecked(topic);
+	}
+
+	private boolean matchesTopicFilters(String topic) {
 		for (final var filter : this.topicFilters) {
 			if (filter.matches(topic)) {
 				return true;
@@ -0,0 +1,158 @@
+package io.openems.edge.controller.api.mqtt;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+import org.eclipse.paho.mqttv5.common.MqttMessage;
+
+/**
+ * Bounded queue of MQTT messages waiting to be published.
+ *
+ * <ul>
+ * <li>Messages are coalesced per topic: a newer message replaces a queued
+ * message for the same topic, keeping its position.
+ * <li>If the queue is full, the oldest QoS 0 message is dropped. Messages with
+ * QoS 1 or 2 are only rejected if no QoS 0 message can be dropped.
+ * <li>At most 'maxInFlight' messages with QoS 1 or 2 are taken but not yet
+ * {@link #complete(Item) completed}, i.e. waiting for their acknowledgement.
+ * QoS 0 messages are not limited, so they are not held back by a slow broker
+ * acknowledgement.
+ * <li>Only one message per topic is in flight, so messages of one topic are
+ * published in order.
+ * </ul>
+ */
+public class MqttPublishQueue {
+
+	/**
+	 * A queued message.
+	 *
+	 * @param subTopic   the MQTT topic without the global prefix
+	 * @param message    the {@link MqttMessage}
+	 * @param enqueuedAt the {@link System#nanoTime()} when the message was queued
+	 */
+	public static record Item(String subTopic, MqttMessage message, long enqueuedAt) {
+	}
+
+	private final int capacity;
+	private final int maxInFlight;
+	private final LinkedHashMap<String, Item> items = new LinkedHashMap<>();
+	private final Set<String> inFlightTopics = new HashSet<>();
+
+	private int inFlightAcknowledged = 0;
+	private long droppedMessages = 0;
+
+	public MqttPublishQueue(int capacity, int maxInFlight) {
+		this.capacity = Math.max(1, capacity);
+		this.maxInFlight = Math.max(1, maxInFlight);
+	}
+
+	/**
+	 * Adds a message to the queue.
+	 *
+	 * @param subTopic the MQTT topic without the global prefix
+	 * @param message  the {@link MqttMessage}
+	 * @return true if the message was queued; false if it was rejected
+	 */
+	public synchronized boolean offer(String subTopic, MqttMessage message) {
+		final var item = new Item(subTopic, message, System.nanoTime());
+		if (this.items.containsKey(subTopic)) {
+			// Replacing keeps the insertion order
+			this.items.put(subTopic, item);
+			return true;
+		}
+		if (this.items.size() >= this.capacity && !this.dropOldestQos0Message()) {
+			this.droppedMessages++;
+			return false;
+		}
+		this.items.put(subTopic, item);
+		this.notifyAll();
+		return true;
+	}
+
+	/**
+	 * Takes the oldest message that may be published now; waits if there is none.
+	 *
+	 * <p>
+	 * Every taken {@link Item} must be passed to {@link #complete(Item)} once it
+	 * was published or publishing failed.
+	 *
+	 * @return the {@link Item}
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public synchronized Item take() throws InterruptedException {
+		while (true) {
+			final var iterator = this.items.values().iterator();
+			while (iterator.hasNext()) {
+				final var item = iterator.next();
+				if (this.inFlightTopics.contains(item.subTopic())) {
+					continue;
+				}
+				final var acknowledged = item.message().getQos() > 0;
+				if (acknowledged && this.inFlightAcknowledged >= this.maxInFlight) {
+					continue;
+				}
+				iterator.remove();
+				this.inFlightTopics.add(item.subTopic());
+				if (acknowledged) {
+					this.inFlightAcknowledged++;
+				}
+				return item;
+			}
+			this.wait();
+		}
+	}
+
+	/**
+	 * Marks a taken {@link Item} as no longer in flight.
+	 *
+	 * @param item the {@link Item} from {@link #take()}
+	 */
+	public synchronized void complete(Item item) {
+		if (this.inFlightTopics.remove(item.subTopic()) && item.message().getQos() > 0) {
+			this.inFlightAcknowledged--;
+		}
+		this.notifyAll();
+	}
+
+	/**
+	 * Gets the number of messages that are taken but not yet completed.
+	 *
+	 * @return the number of messages
+	 */
+	public synchronized int getInFlight() {
+		return this.inFlightTopics.size();
+	}
+
+	/**
+	 * Gets the number of queued messages.
+	 *
+	 * @return the number of messages
+	 */
+	public synchronized int size() {
+		return this.items.size();
+	}
+
+	/**
+	 * Gets the total number of messages that were dropped or rejected because the
+	 * queue was full.
+	 *
+	 * @return the number of messages
+	 */
+	public synchronized long getDroppedMessages() {
+		return this.droppedMessages;
+	}
+
+	private boolean dropOldestQos0Message() {
+		final var iterator = this.items.values().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().message().getQos() == 0) {
+				iterator.remove();
+				this.droppedMessages++;
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
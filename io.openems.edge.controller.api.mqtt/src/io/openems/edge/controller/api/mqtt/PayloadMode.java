@@ -0,0 +1,17 @@
+package io.openems.edge.controller.api.mqtt;
+
+public enum PayloadMode {
+	/**
+	 * One message per Channel on topic 'channel/Component-ID/Channel-ID'.
+	 */
+	CHANNEL,
+	/**
+	 * One JSON object of changed Channel values per Component on topic
+	 * 'channel/Component-ID'.
+	 */
+	COMPONENT,
+	/**
+	 * One JSON object of all changed Channel values per Cycle on topic 'channel'.
+	 */
+	CYCLE;
+}
@@ -1,39 +1,46 @@
 package io.openems.edge.controller.api.mqtt;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.eclipse.paho.mqttv5.common.MqttMessage;
 import org.eclipse.paho.mqttv5.common.packet.MqttProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableTable;
-import com.google.common.collect.Table;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 
-import io.openems.common.channel.AccessMode;
+import io.openems.common.channel.Unit;
 import io.openems.common.utils.StringUtils;
 import io.openems.common.utils.ThreadPoolUtils;
-import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.controller.api.common.ChannelValueSnapshot;
 
 /**
- * Method {@link #collectData()} is called Synchronously with the Core.Cycle to
- * collect values of Channels. Sending of values is then delegated to an
- * asynchronous task.
+ * Method {@link #collectData()} is called Synchronously with the Core.Cycle
+ * to take the shared {@link ChannelValueSnapshot}. Filtering of changed values
+ * is then delegated to an asynchronous task, which adds the resulting messages
+ * to a bounded {@link MqttPublishQueue}. A pool of publisher threads publishes
+ * the queued messages; as the MQTT client blocks until a QoS 1 or 2 message is
+ * acknowledged, one more thread than the configured maximum number of messages
+ * in flight keeps QoS 0 messages flowing meanwhile.
  *
  * <p>
- * The logic tries to send changed values once per Cycle and all values once
- * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}.
+ * The logic tries to send changed values once per Cycle - respecting the
+ * configured deadbands and minimum publish interval - and all values once every
+ * {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}.
  */
 public class SendChannelValuesWorker {
 
@@ -50,12 +57,17 @@ public class SendChannelValuesWorker {
 
 	private final Logger log = LoggerFactory.getLogger(SendChannelValuesWorker.class);
 	private final ControllerApiMqttImpl parent;
+	private final PayloadMode payloadMode;
+	private final ChannelValueFilter filter;
+	private final MqttPublishQueue queue;
 
 	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.SECONDS,
 			new ArrayBlockingQueue<>(1), //
 			new ThreadFactoryBuilder().setNameFormat(ControllerApiMqttImpl.COMPONENT_NAME + ":SendWorker-%d").build(), //
 			new ThreadPoolExecutor.DiscardOldestPolicy());
 
+	private final ExecutorService publisher;
+
 	/**
 	 * If true: next 'send' sends all channel values.
 	 */
@@ -66,13 +78,18 @@ public class SendChannelValuesWorker {
 	 */
 	private Instant lastSendValuesOfAllChannels = Instant.MIN;
 
-	/**
-	 * Keeps the values of last successful send.
-	 */
-	private Table<String, String, JsonElement> lastAllValues = ImmutableTable.of();
-
-	protected SendChannelValuesWorker(ControllerApiMqttImpl parent) {
+	protected SendChannelValuesWorker(ControllerApiMqttImpl parent, Config config, Map<Unit, Double> deadbands) {
 		this.parent = parent;
+		this.payloadMode = config.payloadMode();
+		this.filter = new ChannelValueFilter(deadbands, Duration.ofSeconds(Math.max(0, config.minPublishInterval())));
+		final var maxInFlight = Math.max(1, config.maxInFlight());
+		this.queue = new MqttPublishQueue(config.maxQueueSize(), maxInFlight);
+		this.publisher = Executors.newFixedThreadPool(maxInFlight + 1, //
+				new ThreadFactoryBuilder().setNameFormat(ControllerApiMqttImpl.COMPONENT_NAME + ":PublishWorker-%d")
+						.build());
+		for (var i = 0; i <= maxInFlight; i++) {
+			this.publisher.execute(this::publishQueuedMessages);
+		}
 	}
 
 	/**
@@ -88,158 +105,191 @@ public class SendChannelValuesWorker {
 	public void deactivate() {
 		// Shutdown executor
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+		// Publishers are blocked waiting for the queue
+		this.publisher.shutdownNow();
 	}
 
 	/**
-	 * Called synchronously on AFTER_PROCESS_IMAGE event. Collects all the data and
-	 * triggers asynchronous sending.
+	 * Called synchronously on AFTER_PROCESS_IMAGE event. Takes the shared
+	 * {@link ChannelValueSnapshot} and triggers asynchronous sending.
 	 */
 	public synchronized void collectData() {
 		var now = Instant.now(this.parent.componentManager.getClock());
 
-		// Update the values of all channels
-		final var enabledComponents = this.parent.componentManager.getEnabledComponents();
-		final var allValues = this.collectData(enabledComponents);
+		final var snapshot = this.parent.channelValueSnapshotProvider.get();
 
 		// Add to send Queue
-		this.executor.execute(new SendTask(this, now, allValues));
+		this.executor.execute(new SendTask(this, now, snapshot));
+
+		this.parent._setQueueDepth(this.queue.size());
+		this.parent._setDroppedMessages(this.queue.getDroppedMessages());
 	}
 
 	/**
-	 * Cycles through all Channels and collects the value.
+	 * Adds a message to the {@link MqttPublishQueue}, if the topic passes the
+	 * configured topic filters.
 	 *
-	 * @param enabledComponents the enabled components
-	 * @return collected data
+	 * @param subTopic   the MQTT topic. The global MQTT Topic prefix is added in
+	 *                   front of this string
+	 * @param message    the message; internally translated to a UTF-8 byte array
+	 * @param qos        the MQTT QOS
+	 * @param retained   the MQTT retained parameter
+	 * @param properties the {@link MqttProperties}
+	 * @return MqttPublishStatus enum value: OK if the message was queued, ERROR if
+	 *         the queue is full, FILTERED if the topic was filtered.
 	 */
-	private ImmutableTable<String, String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
-		try {
-			return enabledComponents.parallelStream() //
-					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
-					.collect(ImmutableTable.toImmutableTable(c -> c.address().getComponentId(),
-							c -> c.address().getChannelId(), c -> c.value().asJson()));
-			// TODO remove values for disappeared components
-//			final Set<String> enabledComponentIds = enabledComponents.stream() //
-//					.map(c -> c.id()) //
-//					.collect(Collectors.toSet());
-//			this.lastValues.rowMap().entrySet().stream() //
-//					.filter(row -> !enabledComponentIds.contains(row.getKey())) //
-//					.forEach(row -> {
-//						row.getValue().entrySet().parallelStream() //
-//								.forEach(column -> {
-//									this.publish(row.getKey() + "/" + column.getKey(), JsonNull.INSTANCE.toString());
-//								});
-//					});
-		} catch (Exception e) {
-			// ConcurrentModificationException can happen if Channels are dynamically added
-			// or removed
-			return ImmutableTable.of();
+	protected MqttPublishStatus publish(String subTopic, String message, int qos, boolean retained,
+			MqttProperties properties) {
+		if (!this.parent.filterTopic(subTopic)) {
+			return MqttPublishStatus.FILTERED;
 		}
+		return this.enqueue(subTopic, message, qos, retained, properties);
+	}
+
+	private MqttPublishStatus enqueue(String subTopic, String message, int qos, boolean retained,
+			MqttProperties properties) {
+		var msg = new MqttMessage(message.getBytes(StandardCharsets.UTF_8), qos, retained, properties);
+		return this.queue.offer(subTopic, msg) //
+				? MqttPublishStatus.OK //
+				: MqttPublishStatus.ERROR;
 	}
 
 	/*
 	 * From here things run asynchronously.
 	 */
 
+	private void publishQueuedMessages() {
+		while (!Thread.currentThread().isInterrupted()) {
+			final MqttPublishQueue.Item item;
+			try {
+				item = this.queue.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			try {
+				switch (this.parent.send(item.subTopic(), item.message())) {
+				case OK, FILTERED -> this.parent._setPublishLatency(//
+						TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - item.enqueuedAt()));
+				// Resend all values on next Cycle
+				case ERROR -> this.sendValuesOfAllChannels.set(true);
+				}
+			} finally {
+				this.queue.complete(item);
+			}
+		}
+	}
+
+	/**
+	 * A changed {@link ChannelValueSnapshot.Entry} with its value converted once.
+	 *
+	 * @param entry the {@link ChannelValueSnapshot.Entry}
+	 * @param value the value as {@link JsonElement}
+	 */
+	private static record Changed(ChannelValueSnapshot.Entry entry, JsonElement value) {
+	}
+
 	private static class SendTask implements Runnable {
 
 		private final SendChannelValuesWorker parent;
 		private final Instant timestamp;
-		private final ImmutableTable<String, String, JsonElement> allValues;
+		private final ChannelValueSnapshot snapshot;
 
-		public SendTask(SendChannelValuesWorker parent, Instant timestamp,
-				ImmutableTable<String, String, JsonElement> allValues) {
+		public SendTask(SendChannelValuesWorker parent, Instant timestamp, ChannelValueSnapshot snapshot) {
 			this.parent = parent;
 			this.timestamp = timestamp;
-			this.allValues = allValues;
+			this.snapshot = snapshot;
 		}
 
 		@Override
 		public void run() {
-			// Holds the data of the last successful send. If the table is empty, it is also
-			// used as a marker to send all data.
-			final Table<String, String, JsonElement> lastAllValues;
-
-			if (this.parent.sendValuesOfAllChannels.getAndSet(false)) {
+			if (this.parent.sendValuesOfAllChannels.getAndSet(false)
+					// Send values of all Channels if explicitly asked for
+					|| Duration.between(this.parent.lastSendValuesOfAllChannels, this.timestamp)
+							.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
 				// Send values of all Channels once in a while
-				lastAllValues = ImmutableTable.of();
-
-			} else if (Duration.between(this.parent.lastSendValuesOfAllChannels, this.timestamp)
-					.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
-				// Send values of all Channels if explicitly asked for
-				lastAllValues = ImmutableTable.of();
-
-			} else {
-				// Actually use the kept 'lastSentValues'
-				// CHECKSTYLE:OFF
-				lastAllValues = this.parent.lastAllValues;
-				// CHECKSTYLE:ON
+				this.parent.filter.clear();
+				this.parent.lastSendValuesOfAllChannels = this.timestamp;
 			}
 
-			// Send changed values
-			var allSendSuccessful = true;
-			List<String> sendTopics = new ArrayList<>();
-			for (Entry<String, Map<String, JsonElement>> row : this.allValues.rowMap().entrySet()) {
-				for (Entry<String, JsonElement> column : row.getValue().entrySet()) {
-					if (!Objects.equals(column.getValue(), lastAllValues.get(row.getKey(), column.getKey()))) {
-						final var subtopic = //
-								ControllerApiMqtt.TOPIC_CHANNEL_PREFIX + "/" + row.getKey() + "/" + column.getKey();
-						final var publishStatus = this.publish(subtopic, column.getValue().toString());
-						switch (publishStatus) {
-						case OK:
-							sendTopics.add(subtopic);
-							break;
-						case ERROR:
-							allSendSuccessful = false;
-							break;
-						case FILTERED:
-							break;
-						}
-					}
+			// Collect changed values
+			final var persistencePriority = this.parent.parent.config.persistencePriority();
+			final var changed = new ArrayList<Changed>();
+			for (var entry : this.snapshot.entries()) {
+				if (!entry.persistencePriority().isAtLeast(persistencePriority)) {
+					continue;
+				}
+				if (!this.parent.parent.filterTopic(getSubTopic(entry))) {
+					continue;
+				}
+				final var value = entry.value();
+				if (this.parent.filter.update(entry.address(), entry.unit(), value, this.timestamp)) {
+					changed.add(new Changed(entry, value));
 				}
 			}
 
+			// Queue changed values
+			var allQueued = switch (this.parent.payloadMode) {
+			case CHANNEL -> this.queuePerChannel(changed);
+			case COMPONENT -> this.queuePerComponent(changed);
+			case CYCLE -> this.queuePerCycle(changed);
+			};
+
 			// Update lastUpdate timestamp
-			this.publish(ControllerApiMqtt.TOPIC_CHANNEL_LAST_UPDATE, String.valueOf(this.timestamp));
+			this.parent.publish(ControllerApiMqtt.TOPIC_CHANNEL_LAST_UPDATE, String.valueOf(this.timestamp), //
+					MQTT_QOS, MQTT_RETAIN, MQTT_PROPERTIES);
 
-			// Successful?
-			if (allSendSuccessful) {
-				if (!sendTopics.isEmpty()) {
-					this.parent.parent.logInfo(this.parent.log, "Successfully sent MQTT topics: "
-							+ StringUtils.toShortString(String.join(", ", sendTopics), 100));
-				}
+			if (!allQueued) {
+				this.parent.parent.logWarn(this.parent.log, "MQTT queue is full. Dropped messages ["
+						+ this.parent.queue.getDroppedMessages() + "]");
+				this.parent.sendValuesOfAllChannels.set(true);
 
-				// update information for next runs
-				this.parent.lastAllValues = this.allValues;
-				if (lastAllValues.isEmpty()) {
-					// 'lastSentValues' was empty, i.e. all values were sent
-					this.parent.lastSendValuesOfAllChannels = this.timestamp;
-				}
-			} else {
-				this.parent.parent.logWarn(this.parent.log, "Error while sending MQTT topics: "
-						+ StringUtils.toShortString(String.join(", ", sendTopics), 100));
+			} else if (!changed.isEmpty() && this.parent.parent.config.debugMode()) {
+				this.parent.parent.logInfo(this.parent.log, "Queued MQTT topics: " + StringUtils.toShortString(
+						String.join(", ", changed.stream().map(c -> c.entry().address()).toList()), 100));
+			}
+		}
+
+		private boolean queuePerChannel(List<Changed> changed) {
+			var allQueued = true;
+			for (var c : changed) {
+				allQueued &= this.parent.enqueue(getSubTopic(c.entry()), c.value().toString(), //
+						MQTT_QOS, MQTT_RETAIN, MQTT_PROPERTIES) == MqttPublishStatus.OK;
+			}
+			return allQueued;
+		}
+
+		private boolean queuePerComponent(List<Changed> changed) {
+			final var components = new LinkedHashMap<String, JsonObject>();
+			for (var c : changed) {
+				components.computeIfAbsent(c.entry().componentId(), id -> new JsonObject()) //
+						.add(c.entry().channelId(), c.value());
+			}
+			var allQueued = true;
+			for (var component : components.entrySet()) {
+				allQueued &= this.parent.enqueue(ControllerApiMqtt.TOPIC_CHANNEL_PREFIX + "/" + component.getKey(),
+						component.getValue().toString(), MQTT_QOS, false /* partial; do not retain */,
+						MQTT_PROPERTIES) == MqttPublishStatus.OK;
+			}
+			return allQueued;
+		}
+
+		private boolean queuePerCycle(List<Changed> changed) {
+			if (changed.isEmpty()) {
+				return true;
+			}
+			final var values = new JsonObject();
+			for (var c : changed) {
+				values.add(c.entry().address(), c.value());
 			}
+			return this.parent.enqueue(ControllerApiMqtt.TOPIC_CHANNEL_PREFIX, values.toString(), MQTT_QOS,
+					false /* partial; do not retain */, MQTT_PROPERTIES) == MqttPublishStatus.OK;
 		}
 
-		/**
-		 * Publish a Channel value message.
-		 *
-		 * @param subTopic the Channel Subtopic
-		 * @param value    the value Json.toString()
-		 * @return true if sent successfully; false otherwise
-		 */
-		private MqttPublishStatus publish(String subTopic, String value) {
-			return this.parent.parent.publish(//
-					/* topic */ subTopic, //
-					/* message */ value.toString(), //
-					MQTT_QOS, MQTT_RETAIN, MQTT_PROPERTIES //
-			);
+		private static String getSubTopic(ChannelValueSnapshot.Entry entry) {
+			return ControllerApiMqtt.TOPIC_CHANNEL_PREFIX + "/" + entry.address();
 		}
 
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package io.openems.edge.controller.api.mqtt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.exceptions.OpenemsException;
+
+public class ChannelValueFilterTest {
+
+	private static final Instant NOW = Instant.ofEpochSecond(1577836800L);
+
+	@Test
+	public void testParseDeadbands() throws OpenemsException {
+		final var deadbands = ChannelValueFilter.parseDeadbands(new String[] { "W=50", " A = 0.5 ", "" });
+		assertEquals(2, deadbands.size());
+		assertEquals(50., deadbands.get(Unit.WATT), 0.001);
+		assertEquals(0.5, deadbands.get(Unit.AMPERE), 0.001);
+
+		assertTrue(ChannelValueFilter.parseDeadbands(null).isEmpty());
+		assertThrows(OpenemsException.class, () -> ChannelValueFilter.parseDeadbands(new String[] { "W" }));
+		assertThrows(OpenemsException.class, () -> ChannelValueFilter.parseDeadbands(new String[] { "XYZ=1" }));
+		assertThrows(OpenemsException.class, () -> ChannelValueFilter.parseDeadbands(new String[] { "W=-1" }));
+	}
+
+	@Test
+	public void testDeadband() {
+		final var filter = new ChannelValueFilter(Map.of(Unit.WATT, 50.), Duration.ZERO);
+
+		assertTrue(filter.update("meter0/ActivePower", Unit.WATT, new JsonPrimitive(1000), NOW));
+		assertFalse(filter.update("meter0/ActivePower", Unit.WATT, new JsonPrimitive(1000), NOW));
+		assertFalse(filter.update("meter0/ActivePower", Unit.WATT, new JsonPrimitive(1049), NOW));
+		assertTrue(filter.update("meter0/ActivePower", Unit.WATT, new JsonPrimitive(1050), NOW));
+		assertTrue(filter.update("meter0/ActivePower", Unit.WATT, JsonNull.INSTANCE, NOW));
+
+		// No deadband for Unit
+		assertTrue(filter.update("meter0/Voltage", Unit.VOLT, new JsonPrimitive(230), NOW));
+		assertTrue(filter.update("meter0/Voltage", Unit.VOLT, new JsonPrimitive(231), NOW));
+
+		filter.clear();
+		assertTrue(filter.update("meter0/Voltage", Unit.VOLT, new JsonPrimitive(231), NOW));
+	}
+
+	@Test
+	public void testMinPublishInterval() {
+		final var filter = new ChannelValueFilter(Map.of(), Duration.ofSeconds(10));
+
+		assertTrue(filter.update("ess0/Soc", Unit.PERCENT, new JsonPrimitive(50), NOW));
+		assertFalse(filter.update("ess0/Soc", Unit.PERCENT, new JsonPrimitive(51), NOW.plusSeconds(5)));
+		assertTrue(filter.update("ess0/Soc", Unit.PERCENT, new JsonPrimitive(51), NOW.plusSeconds(10)));
+		assertFalse(filter.update("ess0/Soc", Unit.PERCENT, new JsonPrimitive(51), NOW.plusSeconds(30)));
+	}
+
+}
@@ -13,6 +13,7 @@ import io.openems.common.test.TimeLeapClock;
 import io.openems.edge.common.sum.DummySum;
 import io.openems.edge.common.test.ComponentTest;
 import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.controller.api.common.ChannelValueSnapshotProvider;
 
 public class ControllerApiMqttImplTest {
 
@@ -20,8 +21,10 @@ public class ControllerApiMqttImplTest {
 	public void test() throws Exception {
 		final var clock = new TimeLeapClock(Instant.ofEpochSecond(1577836800L) /* starts at 1. January 2020 00:00:00 */,
 				ZoneOffset.UTC);
+		final var componentManager = new DummyComponentManager(clock);
 		new ComponentTest(new ControllerApiMqttImpl()) //
-				.addReference("componentManager", new DummyComponentManager(clock)) //
+				.addReference("componentManager", componentManager) //
+				.addReference("channelValueSnapshotProvider", new ChannelValueSnapshotProvider(componentManager)) //
 				.addComponent(new DummySum()) //
 				.activate(MyConfig.create() //
 						.setId("ctrl0") //
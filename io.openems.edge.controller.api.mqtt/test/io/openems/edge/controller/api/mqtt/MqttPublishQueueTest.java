@@ -0,0 +1,78 @@
+package io.openems.edge.controller.api.mqtt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.paho.mqttv5.common.MqttMessage;
+import org.junit.Test;
+
+public class MqttPublishQueueTest {
+
+	private static MqttMessage message(String payload, int qos) {
+		final var message = new MqttMessage(payload.getBytes());
+		message.setQos(qos);
+		return message;
+	}
+
+	@Test
+	public void testCoalesce() throws InterruptedException {
+		final var queue = new MqttPublishQueue(10, 1);
+		assertTrue(queue.offer("a", message("1", 0)));
+		assertTrue(queue.offer("b", message("2", 0)));
+		assertTrue(queue.offer("a", message("3", 0)));
+		assertEquals(2, queue.size());
+
+		final var first = queue.take();
+		assertEquals("a", first.subTopic());
+		assertEquals("3", new String(first.message().getPayload()));
+		assertEquals("b", queue.take().subTopic());
+	}
+
+	@Test
+	public void testDropOldestQos0() throws InterruptedException {
+		final var queue = new MqttPublishQueue(2, 1);
+		assertTrue(queue.offer("config", message("c", 1)));
+		assertTrue(queue.offer("a", message("1", 0)));
+
+		// Drops 'a'
+		assertTrue(queue.offer("b", message("2", 0)));
+		assertEquals(1, queue.getDroppedMessages());
+
+		// Drops 'b'
+		assertTrue(queue.offer("config2", message("c2", 1)));
+		assertEquals(2, queue.getDroppedMessages());
+
+		// Nothing left to drop
+		assertFalse(queue.offer("d", message("4", 0)));
+		assertEquals(3, queue.getDroppedMessages());
+
+		final var config = queue.take();
+		assertEquals("config", config.subTopic());
+		queue.complete(config);
+		assertEquals("config2", queue.take().subTopic());
+	}
+
+	@Test
+	public void testInFlight() throws InterruptedException {
+		final var queue = new MqttPublishQueue(10, 1);
+		assertTrue(queue.offer("config", message("c", 1)));
+		assertTrue(queue.offer("config2", message("c2", 1)));
+		assertTrue(queue.offer("a", message("1", 0)));
+
+		// Only one QoS 1 message is in flight; QoS 0 messages pass
+		final var config = queue.take();
+		assertEquals("config", config.subTopic());
+		final var a = queue.take();
+		assertEquals("a", a.subTopic());
+		assertEquals(2, queue.getInFlight());
+
+		// A topic is not taken again while it is in flight
+		assertTrue(queue.offer("a", message("2", 0)));
+		queue.complete(config);
+		assertEquals("config2", queue.take().subTopic());
+		queue.complete(a);
+		assertEquals("2", new String(queue.take().message().getPayload()));
+	}
+
+}
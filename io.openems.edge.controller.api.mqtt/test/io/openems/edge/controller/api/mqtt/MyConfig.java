@@ -19,6 +19,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private String privateKeyPem;
 		private String trustStorePem;
 		private String[] topicFilters;
+		private PayloadMode payloadMode = PayloadMode.CHANNEL;
+		private String[] deadbands = {};
+		private int minPublishInterval = 0;
+		private int maxQueueSize = 10_000;
+		private int maxInFlight = 10;
 
 		private Builder() {
 		}
@@ -83,6 +88,31 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setPayloadMode(PayloadMode payloadMode) {
+			this.payloadMode = payloadMode;
+			return this;
+		}
+
+		public Builder setDeadbands(String... deadbands) {
+			this.deadbands = deadbands;
+			return this;
+		}
+
+		public Builder setMinPublishInterval(int minPublishInterval) {
+			this.minPublishInterval = minPublishInterval;
+			return this;
+		}
+
+		public Builder setMaxQueueSize(int maxQueueSize) {
+			this.maxQueueSize = maxQueueSize;
+			return this;
+		}
+
+		public Builder setMaxInFlight(int maxInFlight) {
+			this.maxInFlight = maxInFlight;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -158,4 +188,29 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 	public String[] topicFilters() {
 		return this.builder.topicFilters;
 	}
-}
\ No newline at end of file
+
+	@Override
+	public PayloadMode payloadMode() {
+		return this.builder.payloadMode;
+	}
+
+	@Override
+	public String[] deadbands() {
+		return this.builder.deadbands;
+	}
+
+	@Override
+	public int minPublishInterval() {
+		return this.builder.minPublishInterval;
+	}
+
+	@Override
+	public int maxQueueSize() {
+		return this.builder.maxQueueSize;
+	}
+
+	@Override
+	public int maxInFlight() {
+		return this.builder.maxInFlight;
+	}
+}
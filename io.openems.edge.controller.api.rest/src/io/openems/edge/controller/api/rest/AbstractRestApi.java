@@ -2,6 +2,7 @@ package io.openems.edge.controller.api.rest;
 
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jetty.http.UriCompliance;
 import org.eclipse.jetty.server.AcceptRateLimit;
@@ -33,6 +34,9 @@ public abstract class AbstractRestApi extends AbstractOpenemsComponent
 
 	protected final ApiWorker apiWorker = new ApiWorker(this);
 
+	/** Incremented once per Cycle, i.e. whenever the process image was updated. */
+	private final AtomicLong processImageSequence = new AtomicLong();
+
 	private final Logger log = LoggerFactory.getLogger(ControllerApiRestReadOnlyImpl.class);
 	private final String implementationName;
 
@@ -112,9 +116,21 @@ public abstract class AbstractRestApi extends AbstractOpenemsComponent
 
 	@Override
 	public void run() throws OpenemsNamedException {
+		this.processImageSequence.incrementAndGet();
 		this.apiWorker.run();
 	}
 
+	/**
+	 * Gets the sequence number of the current process image. The number is
+	 * incremented once per Cycle and allows clients to detect whether Channel
+	 * values could have changed since their last request.
+	 *
+	 * @return the sequence number
+	 */
+	protected long getProcessImageSequence() {
+		return this.processImageSequence.get();
+	}
+
 	@Override
 	protected void logInfo(Logger log, String message) {
 		super.logInfo(log, message);
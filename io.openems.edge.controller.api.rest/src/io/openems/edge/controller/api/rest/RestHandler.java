@@ -6,14 +6,17 @@ import static io.openems.common.utils.JettyUtils.sendOkResponse;
 import static io.openems.common.utils.JsonUtils.getAsJsonObject;
 import static io.openems.common.utils.JsonUtils.toJsonArray;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpStatus;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.Request;
@@ -22,6 +25,9 @@ import org.eclipse.jetty.util.Callback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 
 import io.openems.common.channel.AccessMode;
@@ -38,6 +44,8 @@ import io.openems.common.utils.JettyUtils;
 import io.openems.common.utils.JsonUtils;
 import io.openems.common.utils.StringUtils;
 import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.ChannelAddressMatcher;
+import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.user.User;
 
@@ -174,6 +182,8 @@ public class RestHandler extends Handler.Abstract {
 		return switch (thisTarget) {
 		case "channel" //
 			-> this.handleChannel(user, remainingTargets, request, response);
+		case "channels" //
+			-> this.handleChannels(user, remainingTargets, request, response);
 		default //
 			-> throw new OpenemsException("Unhandled REST target [" + thisTarget + "]");
 		};
@@ -214,7 +224,6 @@ public class RestHandler extends Handler.Abstract {
 	private boolean handleGet(User user, ChannelAddress channelAddress, Request request, Response response)
 			throws OpenemsNamedException {
 		user.assertRoleIsAtLeast("HTTP GET", Role.GUEST);
-		var components = this.parent.getComponentManager().getEnabledComponents();
 
 		if (this.parent.isDebugModeEnabled()) {
 			this.parent.logInfo(this.log, "Looking for channels matching [" + channelAddress.toString() + "]");
@@ -223,7 +232,7 @@ public class RestHandler extends Handler.Abstract {
 		// Get channels with proper handling of square brackets
 		List<Channel<?>> channels;
 		try {
-			channels = this.getChannels(components, channelAddress);
+			channels = ChannelAddressMatcher.getChannels(this.parent.getComponentManager(), channelAddress);
 		} catch (PatternSyntaxException e) {
 			response.setStatus(HttpStatus.BAD_REQUEST_400);
 			return true;
@@ -264,6 +273,169 @@ public class RestHandler extends Handler.Abstract {
 		return sendOkResponse(response, result);
 	}
 
+	private boolean handleChannels(User user, List<String> targets, Request request, Response response)
+			throws OpenemsNamedException {
+		if (!targets.isEmpty()) {
+			throw new OpenemsException("Unexpected arguments to handle Channels");
+		}
+		user.assertRoleIsAtLeast("HTTP " + request.getMethod(), Role.GUEST);
+
+		// Reading multiple Channels is allowed via POST also in Read-Only mode
+		final var addresses = switch (request.getMethod()) {
+		case "GET" //
+			-> parseChannelAddresses(Request.extractQueryParameters(request).getValues("channels"));
+		case "POST" //
+			-> parseChannelAddresses(List.of(JsonUtils.getAsStringArray(//
+					JsonUtils.getAsJsonArray(parseJson(request), "channels"))));
+		default //
+			-> throw new OpenemsException("Unhandled REST Channels request method [" + request.getMethod() + "]");
+		};
+
+		final JsonObject values;
+		try {
+			values = getChannelValues(this.parent.getComponentManager(), addresses);
+		} catch (PatternSyntaxException e) {
+			response.setStatus(HttpStatus.BAD_REQUEST_400);
+			return true;
+		}
+
+		final var etag = createEtag(values);
+		response.getHeaders().put(HttpHeader.ETAG, etag);
+		if (matchesEtag(request.getHeaders().get(HttpHeader.IF_NONE_MATCH), etag)) {
+			response.setStatus(HttpStatus.NOT_MODIFIED_304);
+			return true;
+		}
+
+		if (this.parent.isDebugModeEnabled()) {
+			this.parent.logInfo(this.log, "REST call by User [" + user.getName() + "]: " + request.getMethod() //
+					+ " Channels " + addresses + " " //
+					+ "Result [" + values.size() + " values]");
+		}
+
+		return sendOkResponse(response, JsonUtils.buildJsonObject() //
+				.addProperty("sequence", this.parent.getProcessImageSequence()) //
+				.add("values", values) //
+				.build());
+	}
+
+	/**
+	 * Parses {@link ChannelAddress}es. Every entry may contain multiple
+	 * comma-separated addresses, e.g. "_sum/EssSoc,_sum/GridActivePower". Commas
+	 * within brackets of a regular expression, e.g. in "{1,3}", do not separate
+	 * addresses.
+	 *
+	 * @param entries the entries
+	 * @return a list of {@link ChannelAddress}es
+	 * @throws OpenemsNamedException on parse error
+	 */
+	protected static List<ChannelAddress> parseChannelAddresses(List<String> entries) throws OpenemsNamedException {
+		if (entries == null || entries.isEmpty()) {
+			throw new OpenemsException("Missing Channels");
+		}
+		final var result = new ArrayList<ChannelAddress>();
+		for (var entry : entries) {
+			var depth = 0;
+			var start = 0;
+			for (var i = 0; i < entry.length(); i++) {
+				switch (entry.charAt(i)) {
+				case '\\' -> i++; // skip escaped character
+				case '(', '[', '{' -> depth++;
+				case ')', ']', '}' -> depth = Math.max(0, depth - 1);
+				case ',' -> {
+					if (depth == 0) {
+						addChannelAddress(result, entry.substring(start, i));
+						start = i + 1;
+					}
+				}
+				default -> {
+				}
+				}
+			}
+			addChannelAddress(result, entry.substring(start));
+		}
+		return result;
+	}
+
+	private static void addChannelAddress(List<ChannelAddress> result, String address) throws OpenemsNamedException {
+		if (!address.isBlank()) {
+			result.add(ChannelAddress.fromString(address.trim()));
+		}
+	}
+
+	/**
+	 * Gets the current values of all Channels that match the given addresses.
+	 *
+	 * <p>
+	 * Literal addresses that do not match any Channel are answered with 'null';
+	 * values of Write-Only Channels are never returned.
+	 *
+	 * @param componentManager the {@link ComponentManager}
+	 * @param addresses        the {@link ChannelAddress}es; Component-ID and
+	 *                         Channel-ID may be regular expressions
+	 * @return a {@link JsonObject} of Channel-Address to value
+	 * @throws PatternSyntaxException if a pattern is invalid
+	 */
+	protected static JsonObject getChannelValues(ComponentManager componentManager, List<ChannelAddress> addresses)
+			throws PatternSyntaxException {
+		final var result = new JsonObject();
+		for (var address : addresses) {
+			final var channels = ChannelAddressMatcher.getChannels(componentManager, address);
+			if (channels.isEmpty() && ChannelAddressMatcher.isLiteral(address)) {
+				result.add(address.toString(), JsonNull.INSTANCE);
+				continue;
+			}
+			for (var channel : channels) {
+				if (channel.channelDoc().getAccessMode() == AccessMode.WRITE_ONLY) {
+					continue;
+				}
+				result.add(channel.address().toString(), channel.value().asJson());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a weak ETag for the given JSON.
+	 *
+	 * <p>
+	 * The ETag is weak, because the response body also contains the 'sequence',
+	 * which changes every Cycle even if the values stay the same.
+	 *
+	 * @param json the {@link JsonElement}
+	 * @return the quoted weak ETag
+	 */
+	protected static String createEtag(JsonElement json) {
+		return "W/\"" + Long.toHexString(Hashing.farmHashFingerprint64() //
+				.hashString(json.toString(), UTF_8) //
+				.asLong()) + "\"";
+	}
+
+	/**
+	 * Checks if an 'If-None-Match' header matches the given ETag.
+	 *
+	 * @param ifNoneMatch the value of the 'If-None-Match' header; possibly null
+	 * @param etag        the current ETag
+	 * @return true if the client already has the current version
+	 */
+	protected static boolean matchesEtag(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		// 'If-None-Match' uses the weak comparison
+		final var opaqueTag = stripWeakPrefix(etag);
+		for (var candidate : ifNoneMatch.split(",")) {
+			candidate = stripWeakPrefix(candidate.trim());
+			if (candidate.equals("*") || candidate.equals(opaqueTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String stripWeakPrefix(String etag) {
+		return etag.startsWith("W/") ? etag.substring(2) : etag;
+	}
+
 	/**
 	 * Gets all channels for a given address, handling both exact matches and regex
 	 * patterns. This version gracefully handles square brackets in patterns.
@@ -275,14 +447,7 @@ public class RestHandler extends Handler.Abstract {
 	 */
 	protected List<Channel<?>> getChannels(List<OpenemsComponent> components, ChannelAddress channelAddress)
 			throws PatternSyntaxException {
-		final var componentId = channelAddress.getComponentId();
-		final var channelId = channelAddress.getChannelId();
-
-		return components.stream() //
-				.filter(component -> Pattern.matches(componentId, component.id())) //
-				.flatMap(component -> component.channels().stream()) //
-				.filter(channel -> Pattern.matches(channelId, channel.channelId().id())) //
-				.toList();
+		return ChannelAddressMatcher.getChannels(components, channelAddress);
 	}
 
 	private boolean handlePost(User user, ChannelAddress channelAddress, Request request, Response response)
@@ -1,14 +1,19 @@
 package io.openems.edge.controller.api.rest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.List;
 
 import org.junit.Test;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.DummyComponentManager;
 
 /**
  * Test class for RestHandler.
@@ -99,4 +104,41 @@ public class RestHandlerTest {
 		assertEquals("Ess[\\/]Soc", parts.get(3));
 	}
 
+	@Test
+	public void testGetChannelValues() throws OpenemsNamedException {
+		var foo0 = new DummyComponent("foo0");
+		var bar0 = new DummyComponent("bar0");
+		var componentManager = new DummyComponentManager() //
+				.addComponent(foo0) //
+				.addComponent(bar0);
+		foo0.channel("DummyChannel").setNextValue(42);
+		foo0.channel("DummyChannel").nextProcessImage();
+
+		var addresses = RestHandler.parseChannelAddresses(List.of("foo0/DummyChannel,unknown0/DummyChannel", //
+				"bar0/Dummy.*"));
+		assertEquals(3, addresses.size());
+
+		// Comma within a regular expression
+		assertEquals(List.of(new ChannelAddress("_sum", "(Ess|Grid)ActivePowerL[1-3]{1,3}"),
+				new ChannelAddress("_sum", "EssSoc")), RestHandler.parseChannelAddresses(List.of(//
+						"_sum/(Ess|Grid)ActivePowerL[1-3]{1,3},_sum/EssSoc")));
+
+		var values = RestHandler.getChannelValues(componentManager, addresses);
+		assertEquals(42, values.get("foo0/DummyChannel").getAsInt());
+		assertTrue(values.get("unknown0/DummyChannel").isJsonNull());
+		assertTrue(values.get("bar0/DummyChannel").isJsonNull());
+
+		var etag = RestHandler.createEtag(values);
+		assertTrue(etag.startsWith("W/\""));
+		assertEquals(etag, RestHandler.createEtag(RestHandler.getChannelValues(componentManager, addresses)));
+		assertTrue(RestHandler.matchesEtag(etag, etag));
+		assertTrue(RestHandler.matchesEtag("\"foo\", " + etag.substring(2), etag));
+		assertFalse(RestHandler.matchesEtag(null, etag));
+		assertFalse(RestHandler.matchesEtag("\"foo\"", etag));
+
+		foo0.channel("DummyChannel").setNextValue(43);
+		foo0.channel("DummyChannel").nextProcessImage();
+		assertNotEquals(etag, RestHandler.createEtag(RestHandler.getChannelValues(componentManager, addresses)));
+	}
+
 }
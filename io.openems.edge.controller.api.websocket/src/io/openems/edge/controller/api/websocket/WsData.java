@@ -15,11 +15,14 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.notification.CurrentDataDeltaNotification;
 import io.openems.common.jsonrpc.notification.CurrentDataNotification;
 import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
+import io.openems.common.jsonrpc.type.SubscribeCurrentDataDelta;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.ChannelAddressMatcher;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.user.User;
@@ -36,17 +39,25 @@ public class WsData extends io.openems.common.websocket.WsData {
 		/**
 		 * Applies a SubscribeChannelsRequest.
 		 *
+		 * <p>
+		 * Patterns are validated once here; a request with an invalid pattern is
+		 * rejected and the previous subscription is kept.
+		 *
 		 * @param request the SubscribeChannelsRequest
-		 * @throws OpenemsNamedException on error
+		 * @throws OpenemsNamedException on error, e.g. an invalid pattern
 		 */
 		public synchronized void handleSubscribeChannelsRequest(SubscribeChannelsRequest request)
 				throws OpenemsNamedException {
 			if (this.lastRequestCount < request.getCount()) {
-				this.lastRequestCount = request.getCount();
-				this.subscribedChannels.clear();
+				final var channels = new TreeSet<ChannelAddress>();
 				for (var channel : request.getChannels()) {
-					this.subscribedChannels.add(ChannelAddress.fromString(channel));
+					final var address = ChannelAddress.fromString(channel);
+					ChannelAddressMatcher.assertValid(address);
+					channels.add(address);
 				}
+				this.lastRequestCount = request.getCount();
+				this.subscribedChannels.clear();
+				this.subscribedChannels.addAll(channels);
 			}
 		}
 
@@ -58,6 +69,14 @@ public class WsData extends io.openems.common.websocket.WsData {
 
 			var result = new HashMap<String, JsonElement>(subscribedChannels.size());
 			for (var channel : subscribedChannels) {
+				if (!ChannelAddressMatcher.isLiteral(channel)) {
+					// Subscription to a pattern, e.g. "ess.*/.*Power"; validated on subscribe
+					for (var c : ChannelAddressMatcher.getChannels(componentManager, channel)) {
+						result.put(c.address().toString(), c.value().asJson());
+					}
+					continue;
+				}
+
 				JsonElement value;
 				try {
 					Channel<?> c = componentManager.getChannel(channel);
@@ -80,6 +99,12 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private final SubscribedChannels subscribedChannels = new SubscribedChannels();
 	private volatile boolean channelChangesSubscribed = false;
 
+	/**
+	 * Encoder for 'currentDataDelta' Notifications; null if 'currentData' is sent
+	 * instead.
+	 */
+	private volatile CurrentDataDeltaNotification.Encoder currentDataDelta = null;
+
 	/**
 	 * The token that is stored in the Browser Cookie. Be aware that this can be
 	 * 'null' for a short period of time on open of the websocket.
@@ -165,6 +190,11 @@ public class WsData extends io.openems.common.websocket.WsData {
 	public synchronized void handleSubscribeChannelsRequest(SubscribeChannelsRequest request)
 			throws OpenemsNamedException {
 		this.subscribedChannels.handleSubscribeChannelsRequest(request);
+
+		final var currentDataDelta = this.currentDataDelta;
+		if (currentDataDelta != null) {
+			currentDataDelta.requestFullUpdate();
+		}
 	}
 
 	/**
@@ -175,6 +205,20 @@ public class WsData extends io.openems.common.websocket.WsData {
 		if (values.isEmpty()) {
 			return;
 		}
+
+		final var currentDataDelta = this.currentDataDelta;
+		if (currentDataDelta != null) {
+			// Build in Cycle order; the receiver reorders by sequence number
+			final var notification = currentDataDelta.next(values);
+			if (notification == null) {
+				return;
+			}
+			this.parent.server.execute(() -> {
+				this.send(new EdgeRpcNotification(ControllerApiWebsocket.EDGE_ID, notification));
+			});
+			return;
+		}
+
 		this.parent.server.execute(() -> {
 			this.send(//
 					new EdgeRpcNotification(ControllerApiWebsocket.EDGE_ID, //
@@ -192,6 +236,26 @@ public class WsData extends io.openems.common.websocket.WsData {
 		this.channelChangesSubscribed = subscribed;
 	}
 
+	/**
+	 * Sets if this connection receives only changed Channel values as
+	 * {@link CurrentDataDeltaNotification}s.
+	 *
+	 * <p>
+	 * Subscribing again while already subscribed forces a full update.
+	 *
+	 * @param subscribed true if subscribed; false for 'currentData'
+	 * @see SubscribeCurrentDataDelta
+	 */
+	public synchronized void setCurrentDataDeltaSubscribed(boolean subscribed) {
+		if (!subscribed) {
+			this.currentDataDelta = null;
+		} else if (this.currentDataDelta == null) {
+			this.currentDataDelta = new CurrentDataDeltaNotification.Encoder();
+		} else {
+			this.currentDataDelta.requestFullUpdate();
+		}
+	}
+
 	/**
 	 * Gets the current subscribe state to channel changes.
 	 * 
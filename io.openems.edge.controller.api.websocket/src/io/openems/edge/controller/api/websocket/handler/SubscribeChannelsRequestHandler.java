@@ -6,6 +6,7 @@ import io.openems.common.jsonrpc.base.GenericJsonrpcResponseSuccess;
 import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
 import io.openems.common.jsonrpc.serialization.EmptyObject;
 import io.openems.common.jsonrpc.type.SubscribeChannelUpdate;
+import io.openems.common.jsonrpc.type.SubscribeCurrentDataDelta;
 import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.jsonapi.JsonApiBuilder;
 import io.openems.edge.controller.api.websocket.OnRequest;
@@ -35,6 +36,21 @@ public class SubscribeChannelsRequestHandler implements JsonApi {
 			wsData.setChannelChangesSubscribed(call.getRequest().subscribe());
 			return EmptyObject.INSTANCE;
 		});
+
+		builder.handleRequest(new SubscribeCurrentDataDelta(), endpoint -> {
+			endpoint.setDescription("""
+					Subscribes to changed values of the subscribed channels only.
+					Subscribing again forces a full update.
+					""");
+			endpoint.applyRequestBuilder(request -> {
+				request.addExample("Subscribe", new SubscribeCurrentDataDelta.Request(true));
+				request.addExample("Unsubscribe", new SubscribeCurrentDataDelta.Request(false));
+			});
+		}, call -> {
+			final var wsData = call.get(OnRequest.WS_DATA_KEY);
+			wsData.setCurrentDataDeltaSubscribed(call.getRequest().subscribe());
+			return EmptyObject.INSTANCE;
+		});
 	}
 
 }
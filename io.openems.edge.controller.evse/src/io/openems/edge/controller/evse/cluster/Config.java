@@ -20,6 +20,9 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Distribution Strategy", description = "How should power be distributed in Surplus-Mode?")
 	DistributionStrategy distributionStrategy() default DistributionStrategy.EQUAL_POWER;
 
+	@AttributeDefinition(name = "Power limit per phase", description = "The maximum power in Watt that can be used by one phase for all Charge-Points; 0 for no limit")
+	int hardwarePowerLimitPerPhase() default 0;
+
 	@AttributeDefinition(name = "Charge-Point-Controller-IDs", description = "IDs of EVSE Charge-Point-Controllers", required = true)
 	String[] ctrl_ids() default { "ctrlEvseSingle0" };
 
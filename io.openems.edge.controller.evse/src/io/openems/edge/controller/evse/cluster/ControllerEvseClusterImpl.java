@@ -105,7 +105,8 @@ public class ControllerEvseClusterImpl extends AbstractOpenemsComponent
 				.map(Period::mode) //
 				.orElse(null);
 
-		calculate(this.componentManager.getClock(), this.config.distributionStrategy(), this.sum, this.ctrls, eshMode, //
+		calculate(this.componentManager.getClock(), this.config.distributionStrategy(),
+				this.config.hardwarePowerLimitPerPhase(), this.sum, this.ctrls, eshMode, //
 				this.config.logVerbosity(), message -> this.logInfo(this.log, message)) //
 				.streamEntries() //
 				.filter(e -> e.params.combinedAbilities().chargePointAbilities() != null) //
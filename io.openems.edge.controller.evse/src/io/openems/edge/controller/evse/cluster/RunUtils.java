@@ -6,6 +6,8 @@ import static io.openems.common.utils.FunctionUtils.doNothing;
 import static io.openems.edge.controller.evse.cluster.LogVerbosity.TRACE;
 import static io.openems.edge.evse.api.chargepoint.Profile.PhaseSwitch.TO_SINGLE_PHASE;
 import static io.openems.edge.evse.api.chargepoint.Profile.PhaseSwitch.TO_THREE_PHASE;
+import static io.openems.edge.evse.api.common.ApplySetPoint.VOLTAGE;
+import static io.openems.edge.evse.api.common.ApplySetPoint.calculatePowerStep;
 import static io.openems.edge.evse.api.common.ApplySetPoint.roundDownToPowerStep;
 import static java.lang.Math.max;
 import static java.util.stream.Collectors.joining;
@@ -105,13 +107,42 @@ public class RunUtils {
 		public final ImmutableList<Entry> entries;
 		public final int totalActivePower;
 
+		private final ImmutableList<Entry> withParams;
+		private final ImmutableList<Entry> actives;
+		private final ImmutableList<Entry> nonActives;
+		private final ImmutableList<Entry> surplus;
+
 		public PowerDistribution(ImmutableList<Entry> entries) {
 			this.entries = entries;
-			this.totalActivePower = this.streamWithParams() //
-					.map(e -> e.params.activePower()) //
-					.filter(Objects::nonNull) //
-					.mapToInt(Integer::intValue) //
-					.sum();
+
+			// Classify all Entries in one pass
+			final var withParams = ImmutableList.<Entry>builder();
+			final var actives = ImmutableList.<Entry>builder();
+			final var nonActives = ImmutableList.<Entry>builder();
+			final var surplus = ImmutableList.<Entry>builder();
+			var totalActivePower = 0;
+			for (var e : entries) {
+				if (e.params == null || e.params.combinedAbilities().applySetPoint() == null) {
+					continue;
+				}
+				withParams.add(e);
+				if (e.params.activePower() != null) {
+					totalActivePower += e.params.activePower();
+				}
+				if (e.params.combinedAbilities().isReadyForCharging() && !e.params.appearsToBeFullyCharged()) {
+					actives.add(e);
+					if (e.actualMode == Mode.Actual.SURPLUS) {
+						surplus.add(e);
+					}
+				} else {
+					nonActives.add(e);
+				}
+			}
+			this.withParams = withParams.build();
+			this.actives = actives.build();
+			this.nonActives = nonActives.build();
+			this.surplus = surplus.build();
+			this.totalActivePower = totalActivePower;
 		}
 
 		/**
@@ -129,8 +160,7 @@ public class RunUtils {
 		 * @return {@link Stream}
 		 */
 		public final Stream<Entry> streamWithParams() {
-			return this.streamEntries() //
-					.filter(e -> e.params != null && e.params.combinedAbilities().applySetPoint() != null);
+			return this.withParams.stream();
 		}
 
 		/**
@@ -140,9 +170,7 @@ public class RunUtils {
 		 * @return {@link Stream}
 		 */
 		public final Stream<Entry> streamActives() {
-			return this.streamWithParams() //
-					.filter(e -> e.params.combinedAbilities().isReadyForCharging()
-							&& !e.params.appearsToBeFullyCharged());
+			return this.actives.stream();
 		}
 
 		/**
@@ -152,9 +180,7 @@ public class RunUtils {
 		 * @return {@link Stream}
 		 */
 		public final Stream<Entry> streamNonActives() {
-			return this.streamWithParams() //
-					.filter(e -> !e.params.combinedAbilities().isReadyForCharging()
-							|| e.params.appearsToBeFullyCharged());
+			return this.nonActives.stream();
 		}
 
 		/**
@@ -164,11 +190,7 @@ public class RunUtils {
 		 * @return {@link Stream}
 		 */
 		public final Stream<Entry> streamSurplus() {
-			return this.streamActives() //
-					.filter(e -> switch (e.actualMode) {
-					case FORCE, MINIMUM, ZERO -> false;
-					case SURPLUS -> true;
-					});
+			return this.surplus.stream();
 		}
 
 		/**
@@ -199,18 +221,20 @@ public class RunUtils {
 	 * Calculate the {@link PowerDistribution} according to the given
 	 * {@link DistributionStrategy}.
 	 * 
-	 * @param clock                the {@link Clock}
-	 * @param distributionStrategy the {@link DistributionStrategy}
-	 * @param sum                  the {@link Sum} component
-	 * @param ctrls                the list of {@link ControllerEvseSingle}
-	 * @param singleModes          the {@link SingleModes}
-	 * @param logVerbosity         the configured {@link LogVerbosity}
-	 * @param logger               a log message consumer
+	 * @param clock                      the {@link Clock}
+	 * @param distributionStrategy       the {@link DistributionStrategy}
+	 * @param hardwarePowerLimitPerPhase the power limit per phase in [W]; 0 for no
+	 *                                   limit
+	 * @param sum                        the {@link Sum} component
+	 * @param ctrls                      the list of {@link ControllerEvseSingle}
+	 * @param singleModes                the {@link SingleModes}
+	 * @param logVerbosity               the configured {@link LogVerbosity}
+	 * @param logger                     a log message consumer
 	 * @return the {@link PowerDistribution}
 	 */
-	protected static PowerDistribution calculate(Clock clock, DistributionStrategy distributionStrategy, Sum sum,
-			List<ControllerEvseSingle> ctrls, SingleModes singleModes, LogVerbosity logVerbosity,
-			Consumer<String> logger) {
+	public static PowerDistribution calculate(Clock clock, DistributionStrategy distributionStrategy,
+			int hardwarePowerLimitPerPhase, Sum sum, List<ControllerEvseSingle> ctrls, SingleModes singleModes,
+			LogVerbosity logVerbosity, Consumer<String> logger) {
 		// Build PowerDistribution
 		var powerDistribution = new PowerDistribution(ctrls.stream() //
 				.map(ctrl -> {
@@ -226,6 +250,7 @@ public class RunUtils {
 		initializeSetPoints(powerDistribution);
 		distributeSurplusPower(powerDistribution, distributionStrategy, sum);
 		permitNonActives(powerDistribution);
+		applyPowerLimitPerPhase(powerDistribution, hardwarePowerLimitPerPhase);
 		applyChangeLimit(clock, powerDistribution);
 
 		// Build Actions
@@ -302,6 +327,138 @@ public class RunUtils {
 		});
 	}
 
+	/**
+	 * Reduces the Set-Points of Controllers, so that the power per phase stays
+	 * within the hardware limit (e.g. the fuse of the charge park).
+	 * 
+	 * <p>
+	 * The phase a single-phase Charge-Point is connected to is not known, so all
+	 * single-phase Charge-Points are assumed to be on the same phase (worst case).
+	 * The load per phase is calculated in the unit the Set-Point is finally
+	 * applied to the Charge-Point (see
+	 * {@link ChargePointAbilities#applySetPoint()}), i.e. it includes the
+	 * rounding to [mA] or [A] and follows phase-switching. The minimum Set-Points
+	 * of Non-Active Controllers count against the limit as well.
+	 * 
+	 * <p>
+	 * Set-Points of active Controllers are first reduced equally down to their
+	 * minimum, in multiples of the power step of the Charge-Point; if that is not
+	 * sufficient, Controllers are stopped starting from the last Non-Active one,
+	 * then from the last active one.
+	 * 
+	 * @param powerDistribution          the {@link PowerDistribution}
+	 * @param hardwarePowerLimitPerPhase the power limit per phase in [W]; 0 for no
+	 *                                   limit
+	 */
+	protected static void applyPowerLimitPerPhase(PowerDistribution powerDistribution,
+			int hardwarePowerLimitPerPhase) {
+		if (hardwarePowerLimitPerPhase <= 0) {
+			return;
+		}
+		final var actives = powerDistribution.streamActives() //
+				.filter(e -> e.setPointInWatt > 0) //
+				.filter(e -> e.params.combinedAbilities().chargePointAbilities() != null) //
+				.toList();
+		final var entries = Stream.concat(actives.stream(), powerDistribution.streamNonActives() //
+				.filter(e -> e.setPointInWatt > 0) //
+				.filter(e -> e.params.combinedAbilities().chargePointAbilities() != null)) //
+				.toList();
+		final var n = entries.size();
+		final var abilities = new ApplySetPoint.Ability[n];
+		final var phases = new int[n];
+		final var steps = new int[n];
+		final var stepBases = new int[n];
+		final var setPoints = new int[n];
+		final var minSetPoints = new int[n];
+		final var loads = new long[n];
+		var excess = -hardwarePowerLimitPerPhase * 1000L; // [mW]
+		for (var i = 0; i < n; i++) {
+			final var e = entries.get(i);
+			abilities[i] = e.params.combinedAbilities().chargePointAbilities().applySetPoint();
+			phases[i] = abilities[i].phase().count;
+			steps[i] = Math.max(1, calculatePowerStep(abilities[i]));
+			stepBases[i] = abilities[i].toPower(abilities[i].min());
+			setPoints[i] = e.setPointInWatt;
+			minSetPoints[i] = i < actives.size() //
+					? Math.min(setPoints[i], e.params.combinedAbilities().applySetPoint().min()) //
+					: setPoints[i]; // Non-Actives are already at their minimum
+			loads[i] = toLoadPerPhase(abilities[i], setPoints[i]);
+			excess += loads[i];
+		}
+		if (excess <= 0) {
+			return;
+		}
+
+		// Reduce equally in [W] per phase; round down to the power step
+		final var wattLoads = new int[n];
+		final var minWattLoads = new int[n];
+		var wattExcess = -hardwarePowerLimitPerPhase;
+		for (var i = 0; i < n; i++) {
+			wattLoads[i] = Math.ceilDiv(setPoints[i], phases[i]);
+			minWattLoads[i] = Math.ceilDiv(minSetPoints[i], phases[i]);
+			wattExcess += wattLoads[i];
+		}
+		if (wattExcess > 0) {
+			final var reducedWattLoads = wattLoads.clone();
+			WaterFilling.distribute(reducedWattLoads, minWattLoads, wattLoads, -wattExcess);
+			for (var i = 0; i < n; i++) {
+				if (reducedWattLoads[i] < wattLoads[i]) {
+					setPoints[i] = Math.max(minSetPoints[i], roundDownToStep(stepBases[i], steps[i],
+							Math.min(setPoints[i], reducedWattLoads[i] * phases[i])));
+					final var load = toLoadPerPhase(abilities[i], setPoints[i]);
+					excess -= loads[i] - load;
+					loads[i] = load;
+				}
+			}
+		}
+
+		// Reduce all by one more step, until rounding leaves no excess
+		var reduced = true;
+		while (excess > 0 && reduced) {
+			reduced = false;
+			for (var i = 0; i < n; i++) {
+				final var setPoint = roundDownToStep(stepBases[i], steps[i], setPoints[i] - 1);
+				if (setPoint < setPoints[i] && setPoint >= minSetPoints[i]) {
+					setPoints[i] = setPoint;
+					final var load = toLoadPerPhase(abilities[i], setPoints[i]);
+					excess -= loads[i] - load;
+					loads[i] = load;
+					reduced = true;
+				}
+			}
+		}
+
+		// Stop Controllers, starting from the last one
+		for (var i = n - 1; i >= 0 && excess > 0; i--) {
+			excess -= loads[i];
+			setPoints[i] = 0;
+		}
+
+		for (var i = 0; i < n; i++) {
+			entries.get(i).setPointInWatt = setPoints[i];
+		}
+	}
+
+	/**
+	 * Calculates the load on one phase in [mW] of a Set-Point, as it is applied
+	 * in the unit of the {@link ApplySetPoint.Ability} of the Charge-Point.
+	 * 
+	 * @param ability        the {@link ApplySetPoint.Ability} of the Charge-Point
+	 * @param setPointInWatt the Set-Point in [W]
+	 * @return the load per phase in [mW]
+	 */
+	private static long toLoadPerPhase(ApplySetPoint.Ability ability, int setPointInWatt) {
+		return switch (ability) {
+		case ApplySetPoint.Ability.MilliAmpere ma -> (long) ma.fromPower(setPointInWatt) * VOLTAGE;
+		case ApplySetPoint.Ability.Ampere a -> (long) a.fromPower(setPointInWatt) * VOLTAGE * 1000;
+		case ApplySetPoint.Ability.Watt w -> Math.ceilDiv(setPointInWatt * 1000L, w.phase().count);
+		};
+	}
+
+	private static int roundDownToStep(int base, int step, int power) {
+		return base + step * Math.floorDiv(power - base, step);
+	}
+
 	/**
 	 * Applies a change limit for set-points.
 	 * 
@@ -416,32 +573,37 @@ public class RunUtils {
 	/**
 	 * Distribute power equally among Controllers.
 	 * 
+	 * <p>
+	 * Uses {@link WaterFilling}, i.e. Controllers that reach their maximum
+	 * Set-Point pass on the rest of their share to the others.
+	 * 
 	 * @param initialEntries            the PowerDistribution Entries
 	 * @param initialDistributablePower the distributable power
 	 */
 	protected static void distributePowerEqual(final List<PowerDistribution.Entry> initialEntries,
 			final int initialDistributablePower) {
-		var entries = initialEntries.stream() //
+		final var entries = initialEntries.stream() //
 				// Only entries that do not already apply max set-point
 				.filter(e -> e.setPointInWatt < e.params.combinedAbilities().applySetPoint().max()) //
 				.toList();
-		if (entries.size() == 0) {
-			return; // avoid divide by zero
+		final var n = entries.size();
+		if (n == 0) {
+			return;
 		}
 
-		final var equalPower = initialDistributablePower / entries.size();
-		var remaining = initialDistributablePower;
-		for (var e : entries) {
-			var before = e.setPointInWatt;
-			var after = e.params.combinedAbilities().applySetPoint().fitWithin(before + equalPower);
-			remaining -= after - before;
-
-			e.setPointInWatt = after;
+		final var values = new int[n];
+		final var min = new int[n];
+		final var max = new int[n];
+		for (var i = 0; i < n; i++) {
+			final var e = entries.get(i);
+			final var asp = e.params.combinedAbilities().applySetPoint();
+			values[i] = e.setPointInWatt;
+			min[i] = asp.min();
+			max[i] = asp.max();
 		}
-
-		if (initialDistributablePower != remaining) {
-			// Recursive call to distribute remaining power
-			distributePowerEqual(entries, remaining);
+		WaterFilling.distribute(values, min, max, initialDistributablePower);
+		for (var i = 0; i < n; i++) {
+			entries.get(i).setPointInWatt = values[i];
 		}
 	}
 
@@ -0,0 +1,78 @@
+package io.openems.edge.controller.evse.cluster;
+
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Distributes an amount equally among values with individual limits
+ * ("water-filling").
+ *
+ * <p>
+ * Instead of repeatedly sharing the remaining amount until nothing changes, the
+ * values are sorted once by their available capacity (i.e. the distance to the
+ * limit in the direction of the amount). Every round all remaining values get
+ * an equal share; values that reach their limit are removed from the front of
+ * the sorted order. Complexity is O(n log n) for n values.
+ */
+public final class WaterFilling {
+
+	private WaterFilling() {
+	}
+
+	/**
+	 * Distributes the amount equally among the values.
+	 *
+	 * <p>
+	 * A positive amount increases the values up to max, a negative amount reduces
+	 * them down to min. Remainders of the integer division are not distributed.
+	 *
+	 * @param values the values; adjusted in place; expected within min and max
+	 * @param min    the minimum per value
+	 * @param max    the maximum per value
+	 * @param amount the amount to distribute
+	 * @return the remaining amount that could not be distributed
+	 */
+	public static int distribute(int[] values, int[] min, int[] max, int amount) {
+		final var n = values.length;
+		if (n == 0 || amount == 0) {
+			return amount;
+		}
+
+		final var increase = amount > 0;
+		final var capacities = new long[n];
+		for (var i = 0; i < n; i++) {
+			capacities[i] = increase //
+					? (long) max[i] - values[i] //
+					: (long) values[i] - min[i];
+		}
+		final var order = IntStream.range(0, n) //
+				.boxed() //
+				.sorted(Comparator.comparingLong(i -> capacities[i])) //
+				.mapToInt(Integer::intValue) //
+				.toArray();
+
+		var remaining = Math.abs((long) amount);
+		var given = 0L; // the share given to every not limited value so far
+		var limited = 0; // values in order[0, limited) reached their limit
+		while (limited < n) {
+			final var share = remaining / (n - limited);
+			if (share == 0) {
+				break;
+			}
+			while (limited < n && capacities[order[limited]] - given <= share) {
+				final var i = order[limited];
+				remaining -= capacities[i] - given;
+				values[i] = increase ? max[i] : min[i];
+				limited++;
+			}
+			remaining -= share * (n - limited);
+			given += share;
+		}
+
+		final var delta = (int) (increase ? given : -given);
+		for (var k = limited; k < n; k++) {
+			values[order[k]] += delta;
+		}
+		return (int) (increase ? remaining : -remaining);
+	}
+}
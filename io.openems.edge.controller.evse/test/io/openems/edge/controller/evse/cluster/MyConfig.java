@@ -10,6 +10,7 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 	public static class Builder {
 		private String id;
 		private DistributionStrategy distributionStrategy;
+		private int hardwarePowerLimitPerPhase = 0;
 		private String[] ctrlIds;
 		private LogVerbosity logVerbosity;
 
@@ -26,6 +27,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setHardwarePowerLimitPerPhase(int hardwarePowerLimitPerPhase) {
+			this.hardwarePowerLimitPerPhase = hardwarePowerLimitPerPhase;
+			return this;
+		}
+
 		public Builder setCtrlIds(String... ctrlIds) {
 			this.ctrlIds = ctrlIds;
 			return this;
@@ -62,6 +68,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.distributionStrategy;
 	}
 
+	@Override
+	public int hardwarePowerLimitPerPhase() {
+		return this.builder.hardwarePowerLimitPerPhase;
+	}
+
 	@Override
 	public String[] ctrl_ids() {
 		return this.builder.ctrlIds;
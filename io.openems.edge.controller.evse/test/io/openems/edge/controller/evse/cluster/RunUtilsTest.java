@@ -109,9 +109,15 @@ public class RunUtilsTest {
 		}
 
 		protected PowerDistributionTester execute(DistributionStrategy distributionStrategy) {
+			return this.execute(distributionStrategy, 0);
+		}
+
+		protected PowerDistributionTester execute(DistributionStrategy distributionStrategy,
+				int hardwarePowerLimitPerPhase) {
 			return new PowerDistributionTester(calculate(//
 					this.clock, //
 					distributionStrategy, //
+					hardwarePowerLimitPerPhase, //
 					this.sum, //
 					this.ctrls.stream() //
 							.<ControllerEvseSingle>map(CtrlBuilder::build) //
@@ -355,4 +361,49 @@ public class RunUtilsTest {
 
 		assertArrayEquals(new int[] { 32000, 31362 }, sut.getApplySetPoints());
 	}
+
+	@Test
+	public void testHardwarePowerLimitPerPhase() {
+		// Reduce equally: 2 x 16 A would be 3680 W per phase each
+		var sut = CalculateTester.generateControllers(2) //
+				.setAll(c -> c //
+						.setMode(FORCE)) //
+				.execute(DistributionStrategy.EQUAL_POWER, 5000);
+		var setPoints = sut.getApplySetPoints();
+		assertArrayEquals(new int[] { 10868, 10868 }, setPoints);
+		assertTrue(setPoints[0] + setPoints[1] <= 5000 * 1000 / 230);
+
+		// Stop the last Controller if minimum power is not available
+		sut = CalculateTester.generateControllers(3) //
+				.setAll(c -> c //
+						.setMode(FORCE)) //
+				.execute(DistributionStrategy.EQUAL_POWER, 3000);
+		assertArrayEquals(new int[] { 6000, 6000, 0 }, sut.getApplySetPoints());
+
+		// Minimum of a Non-Active counts against the limit
+		sut = CalculateTester.generateControllers(3) //
+				.setAll(c -> c //
+						.setMode(FORCE)) //
+				.set(0, c -> c //
+						.setChargePointAbilities(cp -> cp //
+								.setIsReadyForCharging(false))) //
+				.execute(DistributionStrategy.EQUAL_POWER, 5000);
+		assertArrayEquals(new int[] { 6000, 7868, 7868 }, sut.getApplySetPoints());
+
+		// Round down to whole [A] of the Charge-Point: 11 A would be 2530 W per phase
+		sut = CalculateTester.generateControllers(2) //
+				.setAll(c -> c //
+						.setMode(FORCE) //
+						.setChargePointAbilities(cp -> cp //
+								.setApplySetPoint(new ApplySetPoint.Ability.Ampere(THREE_PHASE, 6, 16)))) //
+				.execute(DistributionStrategy.EQUAL_POWER, 5000);
+		assertArrayEquals(new int[] { 10, 10 }, sut.getApplySetPoints());
+
+		// No limit
+		sut = CalculateTester.generateControllers(3) //
+				.setAll(c -> c //
+						.setMode(FORCE)) //
+				.execute(DistributionStrategy.EQUAL_POWER, 0);
+		assertArrayEquals(new int[] { 16000, 16000, 16000 }, sut.getApplySetPoints());
+	}
 }
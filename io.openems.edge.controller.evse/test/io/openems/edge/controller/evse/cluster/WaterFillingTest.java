@@ -0,0 +1,44 @@
+package io.openems.edge.controller.evse.cluster;
+
+import static io.openems.edge.controller.evse.cluster.WaterFilling.distribute;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class WaterFillingTest {
+
+	@Test
+	public void testIncrease() {
+		var values = new int[] { 0, 0, 0 };
+		assertEquals(0, distribute(values, new int[] { 0, 0, 0 }, new int[] { 1000, 5000, 5000 }, 9000));
+		assertArrayEquals(new int[] { 1000, 4000, 4000 }, values);
+
+		// All at max
+		values = new int[] { 0, 0, 0 };
+		assertEquals(2000, distribute(values, new int[] { 0, 0, 0 }, new int[] { 1000, 1000, 1000 }, 5000));
+		assertArrayEquals(new int[] { 1000, 1000, 1000 }, values);
+	}
+
+	@Test
+	public void testDecrease() {
+		var values = new int[] { 3000, 3000, 1000 };
+		assertEquals(0, distribute(values, new int[] { 500, 500, 500 }, new int[] { 5000, 5000, 5000 }, -3000));
+		assertArrayEquals(new int[] { 1750, 1750, 500 }, values);
+
+		// All at min
+		values = new int[] { 3000, 3000 };
+		assertEquals(-1000, distribute(values, new int[] { 1000, 1000 }, new int[] { 5000, 5000 }, -5000));
+		assertArrayEquals(new int[] { 1000, 1000 }, values);
+	}
+
+	@Test
+	public void testRemainder() {
+		var values = new int[] { 0, 0, 0 };
+		assertEquals(1, distribute(values, new int[] { 0, 0, 0 }, new int[] { 1000, 1000, 1000 }, 100));
+		assertArrayEquals(new int[] { 33, 33, 33 }, values);
+
+		// Empty
+		assertEquals(100, distribute(new int[0], new int[0], new int[0], 100));
+	}
+}
@@ -24,6 +24,8 @@ import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.cycle.CycleListener;
+import io.openems.edge.common.cycle.CycleListenerRegistry;
 import io.openems.edge.common.sum.Sum;
 import io.openems.edge.scheduler.api.Scheduler;
 
@@ -57,6 +59,12 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	 */
 	protected final TreeSet<Scheduler> schedulers = new TreeSet<>(Comparator.comparing(Scheduler::id));
 
+	/**
+	 * Holds the {@link CycleListener}s that are called directly by the
+	 * {@link CycleWorker}.
+	 */
+	protected final CycleListenerRegistry cycleListeners = new CycleListenerRegistry();
+
 	private Config config = null;
 
 	@Reference(//
@@ -76,6 +84,18 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		}
 	}
 
+	@Reference(//
+			policy = ReferencePolicy.DYNAMIC, //
+			policyOption = ReferencePolicyOption.GREEDY, //
+			cardinality = ReferenceCardinality.MULTIPLE)
+	protected void addCycleListener(CycleListener listener) {
+		this.cycleListeners.add(listener);
+	}
+
+	protected void removeCycleListener(CycleListener listener) {
+		this.cycleListeners.remove(listener);
+	}
+
 	public CycleImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
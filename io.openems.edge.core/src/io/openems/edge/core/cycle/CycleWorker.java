@@ -1,5 +1,7 @@
 package io.openems.edge.core.cycle;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -11,16 +13,23 @@ import info.faljse.SDNotify.SDNotify;
 import io.openems.common.event.EventBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.worker.AbstractWorker;
-import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.cycle.CycleListener.Phase;
+import io.openems.edge.common.cycle.CycleListenerRegistry.Registration;
 import io.openems.edge.common.sum.Sum;
 import io.openems.edge.controller.api.Controller;
 import io.openems.edge.scheduler.api.Scheduler;
 
 public class CycleWorker extends AbstractWorker {
 
+	/** Slow CycleListeners are logged at most once per interval. */
+	private static final Duration SLOW_LISTENER_LOG_INTERVAL = Duration.ofMinutes(1);
+
 	private final Logger log = LoggerFactory.getLogger(CycleWorker.class);
 	private final CycleImpl parent;
 
+	private Instant lastSlowListenerLog = null;
+	private int suppressedSlowListenerLogs = 0;
+
 	public CycleWorker(CycleImpl parent) {
 		this.parent = parent;
 	}
@@ -47,7 +56,7 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Trigger BEFORE_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			this.triggerPhase(Phase.BEFORE_PROCESS_IMAGE);
 
 			/*
 			 * Before Controllers start: switch to next process image for each channel
@@ -74,12 +83,12 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			this.triggerPhase(Phase.AFTER_PROCESS_IMAGE);
 
 			/*
 			 * Trigger BEFORE_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			this.triggerPhase(Phase.BEFORE_CONTROLLERS);
 
 			var hasDisabledController = false;
 
@@ -146,22 +155,22 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Trigger AFTER_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			this.triggerPhase(Phase.AFTER_CONTROLLERS);
 
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+			this.triggerPhase(Phase.BEFORE_WRITE);
 
 			/*
 			 * Trigger EXECUTE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+			this.triggerPhase(Phase.EXECUTE_WRITE);
 
 			/*
 			 * Trigger AFTER_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.triggerPhase(Phase.AFTER_WRITE);
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -175,4 +184,50 @@ public class CycleWorker extends AbstractWorker {
 		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
 	}
 
+	/**
+	 * Triggers a Cycle {@link Phase}: first the registered CycleListeners, then
+	 * the EventAdmin Event for all other EventHandlers.
+	 *
+	 * @param phase the {@link Phase}
+	 */
+	private void triggerPhase(Phase phase) {
+		this.parent.cycleListeners.execute(phase, (registration, e) -> {
+			this.parent.logWarn(this.log, "Error in CycleListener [" + registration + "]. "
+					+ e.getClass().getSimpleName() + ": " + e.getMessage());
+		});
+		final var cycleTimeNanos = TimeUnit.MILLISECONDS.toNanos(this.getCycleTime());
+		for (var registration : this.parent.cycleListeners.getRegistrations(phase)) {
+			if (registration.getLastNanos() > cycleTimeNanos) {
+				this.logSlowListener(registration);
+			}
+		}
+		EventBuilder.send(this.parent.eventAdmin, phase.topic);
+	}
+
+	/**
+	 * Logs a CycleListener that took longer than the Cycle-Time.
+	 *
+	 * <p>
+	 * A listener that is slow in every Cycle would otherwise flood the log, so
+	 * only one warning per {@link #SLOW_LISTENER_LOG_INTERVAL} is logged.
+	 *
+	 * @param registration the {@link Registration} of the slow listener
+	 */
+	private void logSlowListener(Registration registration) {
+		final var now = Instant.now(this.parent.componentManager.getClock());
+		if (this.lastSlowListenerLog != null
+				&& now.isBefore(this.lastSlowListenerLog.plus(SLOW_LISTENER_LOG_INTERVAL))) {
+			this.suppressedSlowListenerLogs++;
+			return;
+		}
+		this.parent.logWarn(this.log, "CycleListener [" + registration + "] took " //
+				+ TimeUnit.NANOSECONDS.toMillis(registration.getLastNanos()) + " ms; max " //
+				+ TimeUnit.NANOSECONDS.toMillis(registration.getMaxNanos()) + " ms" //
+				+ (this.suppressedSlowListenerLogs > 0 //
+						? ". Suppressed [" + this.suppressedSlowListenerLogs + "] similar warnings"
+						: ""));
+		this.lastSlowListenerLog = now;
+		this.suppressedSlowListenerLogs = 0;
+	}
+
 }
@@ -5,6 +5,7 @@ import static io.openems.edge.bridge.modbus.api.ModbusUtils.FunctionCode.FC3;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.TreeMap;
@@ -26,7 +27,6 @@ import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.ModbusUtils;
 import io.openems.edge.bridge.modbus.api.element.AbstractModbusElement;
-import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
 import io.openems.edge.bridge.modbus.api.element.FloatDoublewordElement;
 import io.openems.edge.bridge.modbus.api.element.FloatQuadruplewordElement;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
@@ -46,6 +46,8 @@ import io.openems.edge.common.taskmanager.Priority;
 public abstract class AbstractEdge2Edge extends AbstractOpenemsModbusComponent
 		implements Edge2Edge, ModbusComponent, OpenemsComponent {
 
+	private static final int MAXIMUM_READ_LENGTH = 126; // limit of j2mod
+
 	private final Logger log = LoggerFactory.getLogger(AbstractEdge2Edge.class);
 
 	private final List<Function<AccessMode, ModbusSlaveNatureTable>> modbusSlaveNatureTableMethods;
@@ -212,7 +214,7 @@ public abstract class AbstractEdge2Edge extends AbstractOpenemsModbusComponent
 				.map(method -> method.apply(this.remoteAccessMode)) //
 				.collect(Collectors.toUnmodifiableList());
 
-		var readElements = new ArrayDeque<ModbusElement>();
+		var readElements = new ArrayList<ModbusElement>();
 		var writeElements = new ArrayDeque<ModbusElement>();
 		for (var entry : natureStartAddresses.entrySet()) {
 			var natureStartAddress = entry.getKey();
@@ -229,24 +231,14 @@ public abstract class AbstractEdge2Edge extends AbstractOpenemsModbusComponent
 				var address = natureStartAddress + 2 /* hash & length */ + record.getOffset();
 
 				/*
-				 * Add element to Read-Task
+				 * Add element to Read-Task; only if it is used locally
 				 */
 				if (record.getAccessMode() == AccessMode.READ_ONLY || record.getAccessMode() == AccessMode.READ_WRITE) {
 					var element = generateModbusElement(record.getType(), address);
 
-					// Fill gaps with DummyModbusElements
-					var lastElement = readElements.peekLast();
-					if (lastElement != null) {
-						var gap = address - lastElement.startAddress - lastElement.length;
-						if (gap > 0) {
-							readElements.add(new DummyRegisterElement(//
-									lastElement.startAddress + lastElement.length,
-									lastElement.startAddress + lastElement.length + gap - 1));
-						}
-					}
-
 					if (record instanceof ModbusRecordChannel r) {
 						m(r.getChannelId(), element);
+						readElements.add(element);
 
 					} else {
 						var onUpdateCallback = this.getOnUpdateCallback(modbusSlaveNatureTable, record);
@@ -254,10 +246,9 @@ public abstract class AbstractEdge2Edge extends AbstractOpenemsModbusComponent
 							// This is guaranteed to work because of sealed abstract classes
 							((AbstractModbusElement<?, ?, ?>) m(element).build())
 									.onUpdateCallback(value -> onUpdateCallback.accept(value));
+							readElements.add(element);
 						}
 					}
-
-					readElements.add(element);
 				}
 
 				/*
@@ -276,23 +267,11 @@ public abstract class AbstractEdge2Edge extends AbstractOpenemsModbusComponent
 		}
 
 		/*
-		 * Add the Read-Task(s)
+		 * Add the Read-Task(s): as few as possible, skipping unused Registers
 		 */
-		{
-			var length = 0;
-			var taskElements = new ArrayDeque<ModbusElement>();
-			var element = readElements.pollFirst();
-			while (element != null) {
-				if (length + element.length > 126 /* limit of j2mod */) {
-					this.addReadTask(taskElements);
-					length = 0;
-					taskElements.clear();
-				}
-				taskElements.add(element);
-				length += element.length;
-				element = readElements.pollFirst();
-			}
-			this.addReadTask(taskElements);
+		for (var read : ReadPlanner.plan(readElements, MAXIMUM_READ_LENGTH)) {
+			this.modbusProtocol.addTask(//
+					new FC3ReadRegistersTask(read.startAddress(), Priority.HIGH, read.toArray()));
 		}
 
 		/*
@@ -357,34 +336,6 @@ public abstract class AbstractEdge2Edge extends AbstractOpenemsModbusComponent
 		};
 	}
 
-	/**
-	 * Adds a Reak-Task with ModbusElements.
-	 * 
-	 * <ul>
-	 * <li>Makes sure there is no DummyRegisterElement in beginning or end of the
-	 * queue
-	 * <li>Adds only if queue is not empty
-	 * </ul>
-	 * 
-	 * @param elements the {@link AbstractModbusElement}s
-	 * @throws OpenemsException on error
-	 */
-	private void addReadTask(Deque<ModbusElement> elements) throws OpenemsException {
-		if (elements.isEmpty()) {
-			return;
-		}
-		while (elements.peekFirst() instanceof DummyRegisterElement) {
-			elements.removeFirst();
-		}
-		while (elements.peekLast() instanceof DummyRegisterElement) {
-			elements.removeLast();
-		}
-		this.modbusProtocol.addTask(//
-				new FC3ReadRegistersTask(//
-						elements.peekFirst().startAddress, Priority.HIGH,
-						elements.toArray(new ModbusElement[elements.size()])));
-	}
-
 	/**
 	 * Adds a Write-Task with ModbusElements.
 	 * 
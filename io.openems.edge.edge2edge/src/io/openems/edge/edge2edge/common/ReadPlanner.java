@@ -0,0 +1,98 @@
+package io.openems.edge.edge2edge.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+
+/**
+ * Plans the FC3 reads of the remote Modbus/TCP-Api.
+ *
+ * <p>
+ * Only the {@link ModbusElement}s of Registers that are actually used locally
+ * are passed in. They are combined - across Nature-Blocks and across unused
+ * Registers in between - to the least number of reads that do not exceed the
+ * maximum read length. Gaps inside a read are filled with
+ * {@link DummyRegisterElement}s.
+ */
+public final class ReadPlanner {
+
+	/**
+	 * One planned read.
+	 *
+	 * @param startAddress the start address
+	 * @param length       the number of Registers
+	 * @param elements     the {@link ModbusElement}s, including
+	 *                     {@link DummyRegisterElement}s for gaps
+	 */
+	public record Read(int startAddress, int length, List<ModbusElement> elements) {
+
+		/**
+		 * Gets the {@link ModbusElement}s as array, e.g. for a Read-Task.
+		 *
+		 * @return the {@link ModbusElement}s
+		 */
+		public ModbusElement[] toArray() {
+			return this.elements.toArray(new ModbusElement[this.elements.size()]);
+		}
+	}
+
+	private ReadPlanner() {
+	}
+
+	/**
+	 * Plans the reads for the given {@link ModbusElement}s.
+	 *
+	 * <p>
+	 * Reads are built greedily in order of the start addresses: an element is
+	 * added to the current read as long as the read - including any gap - stays
+	 * within 'maxLength'. As elements cannot be split, this results in the least
+	 * possible number of reads.
+	 *
+	 * @param elements  the {@link ModbusElement}s; in any order
+	 * @param maxLength the maximum number of Registers per read
+	 * @return the {@link Read}s, ordered by start address
+	 * @throws OpenemsException if elements overlap or an element is longer than
+	 *                          'maxLength'
+	 */
+	public static List<Read> plan(Collection<ModbusElement> elements, int maxLength) throws OpenemsException {
+		final var sorted = new ArrayList<>(elements);
+		sorted.sort(Comparator.comparingInt(e -> e.startAddress));
+
+		final var result = new ArrayList<Read>();
+		var readElements = new ArrayList<ModbusElement>();
+		var startAddress = 0;
+		var endAddress = 0; // exclusive
+		for (var element : sorted) {
+			if (element.length > maxLength) {
+				throw new OpenemsException("Element on address " + element.startAddress + " with length "
+						+ element.length + " exceeds maximum read length " + maxLength);
+			}
+			if (!readElements.isEmpty() && element.startAddress < endAddress) {
+				throw new OpenemsException("Element on address " + element.startAddress + " overlaps with previous");
+			}
+
+			if (!readElements.isEmpty() && element.startAddress + element.length - startAddress > maxLength) {
+				result.add(new Read(startAddress, endAddress - startAddress, readElements));
+				readElements = new ArrayList<>();
+			}
+
+			if (readElements.isEmpty()) {
+				startAddress = element.startAddress;
+			} else if (element.startAddress > endAddress) {
+				// Fill gap
+				readElements.add(new DummyRegisterElement(endAddress, element.startAddress - 1));
+			}
+			readElements.add(element);
+			endAddress = element.startAddress + element.length;
+		}
+		if (!readElements.isEmpty()) {
+			result.add(new Read(startAddress, endAddress - startAddress, readElements));
+		}
+		return result;
+	}
+}
@@ -18,6 +18,11 @@ public class ChannelSubscriber {
 
 	private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
 	private final Set<ChannelAddress> subscribedChannels = new HashSet<>();
+	/**
+	 * Immutable copy of {@link #subscribedChannels}; updated on every change, so
+	 * reading the subscribed channels does not copy.
+	 */
+	private volatile Set<ChannelAddress> subscribedChannelsSnapshot = ImmutableSet.of();
 	private final List<Consumer<Set<ChannelAddress>>> onChannelsSubscribed = new CopyOnWriteArrayList<>();
 	private final List<Consumer<Set<ChannelAddress>>> onChannelsUnsubscribed = new CopyOnWriteArrayList<>();
 
@@ -82,14 +87,15 @@ public class ChannelSubscriber {
 	 */
 	public Set<ChannelAddress> unsubscribeAll() {
 		final Set<ChannelAddress> channels;
-		this.readWriteLock.readLock().lock();
+		this.readWriteLock.writeLock().lock();
 		try {
 			channels = new HashSet<>(this.subscribedChannels);
 			this.subscribedChannels.clear();
+			this.updateSnapshot();
 
 			this.notifyChannelsUnsubscribed(channels);
 		} finally {
-			this.readWriteLock.readLock().unlock();
+			this.readWriteLock.writeLock().unlock();
 		}
 		return channels;
 	}
@@ -141,15 +147,14 @@ public class ChannelSubscriber {
 	/**
 	 * Gets the currently subscribed channels.
 	 * 
-	 * @return the channels
+	 * @return the channels as immutable {@link Set}
 	 */
 	public Set<ChannelAddress> getSubscribedChannels() {
-		this.readWriteLock.readLock().lock();
-		try {
-			return ImmutableSet.copyOf(this.subscribedChannels);
-		} finally {
-			this.readWriteLock.readLock().unlock();
-		}
+		return this.subscribedChannelsSnapshot;
+	}
+
+	private void updateSnapshot() {
+		this.subscribedChannelsSnapshot = ImmutableSet.copyOf(this.subscribedChannels);
 	}
 
 	private void setChannels(Set<ChannelAddress> channels) {
@@ -163,6 +168,7 @@ public class ChannelSubscriber {
 			final var addedChannels = channels.stream() //
 					.filter(this.subscribedChannels::add) //
 					.collect(toSet());
+			this.updateSnapshot();
 
 			this.notifyChannelsSubscribed(addedChannels);
 			this.notifyChannelsUnsubscribed(removedChannels);
@@ -177,6 +183,9 @@ public class ChannelSubscriber {
 			final var changes = channels.stream() //
 					.filter(this.subscribedChannels::add) //
 					.collect(toSet());
+			if (!changes.isEmpty()) {
+				this.updateSnapshot();
+			}
 
 			this.notifyChannelsSubscribed(changes);
 		} finally {
@@ -190,6 +199,9 @@ public class ChannelSubscriber {
 			final var changes = channels.stream() //
 					.filter(this.subscribedChannels::remove) //
 					.collect(toSet());
+			if (!changes.isEmpty()) {
+				this.updateSnapshot();
+			}
 
 			this.notifyChannelsUnsubscribed(changes);
 		} finally {
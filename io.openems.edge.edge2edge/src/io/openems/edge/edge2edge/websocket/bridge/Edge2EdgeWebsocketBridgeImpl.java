@@ -1,14 +1,16 @@
 package io.openems.edge.edge2edge.websocket.bridge;
 
 import static java.util.Collections.emptyMap;
-import static java.util.stream.Collectors.toMap;
 
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -16,7 +18,6 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -40,12 +41,14 @@ import io.openems.common.jsonrpc.base.GenericJsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseError;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.notification.CurrentDataDeltaNotification;
 import io.openems.common.jsonrpc.request.AuthenticateWithPasswordRequest;
 import io.openems.common.jsonrpc.request.EdgeRpcRequest;
 import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
 import io.openems.common.jsonrpc.serialization.EmptyObject;
 import io.openems.common.jsonrpc.type.SetChannelValue;
 import io.openems.common.jsonrpc.type.SubscribeChannelUpdate;
+import io.openems.common.jsonrpc.type.SubscribeCurrentDataDelta;
 import io.openems.common.session.Role;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.EdgeConfig;
@@ -77,6 +80,12 @@ public class Edge2EdgeWebsocketBridgeImpl extends AbstractOpenemsComponent
 
 	}
 
+	/**
+	 * Maximum number of 'currentDataDelta' Notifications that are held back
+	 * waiting for a missing sequence number, before a full update is requested.
+	 */
+	private static final int MAX_PENDING_CURRENT_DATA_DELTAS = 10;
+
 	private final Logger log = LoggerFactory.getLogger(Edge2EdgeWebsocketBridgeImpl.class);
 
 	private volatile ConnectionState connectionState = ConnectionState.NOT_CONNECTED;
@@ -85,6 +94,8 @@ public class Edge2EdgeWebsocketBridgeImpl extends AbstractOpenemsComponent
 	private volatile Config config;
 	private final AtomicInteger subscribeChannelsCounter = new AtomicInteger(1);
 	private final Map<ChannelAddress, Integer> subscribedChannels = new ConcurrentHashMap<>();
+	private final CurrentDataDeltaNotification.Decoder currentDataDelta = new CurrentDataDeltaNotification.Decoder(
+			MAX_PENDING_CURRENT_DATA_DELTAS);
 
 	private List<Consumer<EdgeConfig>> onEdgeConfigChangeListener = new ArrayList<>();
 	private List<Runnable> onChannelChangeListener = new ArrayList<>();
@@ -110,6 +121,7 @@ public class Edge2EdgeWebsocketBridgeImpl extends AbstractOpenemsComponent
 				this._setNoConnection(true);
 				this._setNotAuthenticated(false);
 				channelSubscriber.unsubscribeAll();
+				this.currentDataDelta.reset();
 			}
 			case AUTHENTICATING -> {
 				this._setNoConnection(false);
@@ -136,6 +148,7 @@ public class Edge2EdgeWebsocketBridgeImpl extends AbstractOpenemsComponent
 					.whenComplete((response, error) -> {
 						if (response != null) {
 							this.setConnectionState(ConnectionState.CONNECTED);
+							this.subscribeCurrentDataDelta();
 							return;
 						}
 						this.log.error("Unable to authenticate to remote edge", error);
@@ -171,7 +184,7 @@ public class Edge2EdgeWebsocketBridgeImpl extends AbstractOpenemsComponent
 
 		this.client = new WebsocketClient(config.id(), URI.create("ws://" + config.ip() + ":" + config.port()),
 				emptyMap(), AbstractWebsocketClient.NO_PROXY, this::setConnectionState, this::onCurrentData,
-				this::onEdgeConfig, this::onChannelChange);
+				this::onCurrentDataDelta, this::onEdgeConfig, this::onChannelChange);
 
 		this.client.start();
 	}
@@ -209,6 +222,7 @@ public class Edge2EdgeWebsocketBridgeImpl extends AbstractOpenemsComponent
 
 		final var subscribeListener = channelSubscriber.addSubscribeListener(t -> {
 			var change = false;
+			final var alreadySubscribed = new HashSet<ChannelAddress>();
 			for (var channelAddress : t) {
 				final var value = this.subscribedChannels.compute(channelAddress, (channel, current) -> {
 					if (current == null) {
@@ -220,12 +234,17 @@ public class Edge2EdgeWebsocketBridgeImpl extends AbstractOpenemsComponent
 
 				if (value == 1) {
 					change = true;
+				} else {
+					alreadySubscribed.add(channelAddress);
 				}
 			}
 
 			if (change) {
 				this.updateSubscribe();
 			}
+			if (!alreadySubscribed.isEmpty()) {
+				this.onChannelsAlreadySubscribed(subscriber, alreadySubscribed);
+			}
 		});
 
 		final var unsubscribeListener = channelSubscriber.addUnsubscribeListener(t -> {
@@ -262,11 +281,47 @@ public class Edge2EdgeWebsocketBridgeImpl extends AbstractOpenemsComponent
 		};
 	}
 
+	/**
+	 * Passes the last known values of Channels that were already subscribed by
+	 * another {@link ChannelSubscriber} to a new {@link Subscriber}. With
+	 * 'currentDataDelta' the remote Edge sends them again only on change.
+	 * 
+	 * @param subscriber the {@link Subscriber}
+	 * @param channels   the already subscribed Channels
+	 */
+	private void onChannelsAlreadySubscribed(Subscriber subscriber, Set<ChannelAddress> channels) {
+		final var values = this.currentDataDelta.getValues();
+		final var data = new HashMap<ChannelAddress, JsonElement>();
+		for (var channel : channels) {
+			final var value = values.get(channel.toString());
+			if (value != null) {
+				data.put(channel, value);
+			}
+		}
+		if (data.isEmpty()) {
+			return;
+		}
+		subscriber.onData().accept(data);
+	}
+
 	private void onCurrentData(Map<ChannelAddress, JsonElement> currentData) {
 		for (var subscriber : this.subscriber) {
-			final var data = subscriber.channelSubscriber.getSubscribedChannels().stream() //
-					.filter(currentData::containsKey) //
-					.collect(toMap(Function.identity(), currentData::get));
+			final var subscribedChannels = subscriber.channelSubscriber.getSubscribedChannels();
+			final var data = new HashMap<ChannelAddress, JsonElement>();
+			if (currentData.size() < subscribedChannels.size()) {
+				for (var entry : currentData.entrySet()) {
+					if (subscribedChannels.contains(entry.getKey())) {
+						data.put(entry.getKey(), entry.getValue());
+					}
+				}
+			} else {
+				for (var channel : subscribedChannels) {
+					final var value = currentData.get(channel);
+					if (value != null) {
+						data.put(channel, value);
+					}
+				}
+			}
 			if (data.isEmpty()) {
 				continue;
 			}
@@ -274,6 +329,41 @@ public class Edge2EdgeWebsocketBridgeImpl extends AbstractOpenemsComponent
 		}
 	}
 
+	protected void onCurrentDataDelta(CurrentDataDeltaNotification notification) {
+		final var result = this.currentDataDelta.apply(notification);
+		if (result.requestFullUpdate()) {
+			this.log.info("Missing currentDataDelta before sequence [" + notification.getSequence()
+					+ "]. Requesting full update.");
+			this.subscribeCurrentDataDelta();
+		}
+		if (result.changes().isEmpty()) {
+			return;
+		}
+		final var changes = new HashMap<ChannelAddress, JsonElement>(result.changes().size());
+		for (var entry : result.changes().entrySet()) {
+			try {
+				changes.put(ChannelAddress.fromString(entry.getKey()), entry.getValue());
+			} catch (OpenemsNamedException e) {
+				this.log.warn("Invalid Channel-Address [" + entry.getKey() + "]");
+			}
+		}
+		this.onCurrentData(changes);
+	}
+
+	/**
+	 * Subscribes to changed Channel values only; subscribing again requests a full
+	 * update. Remote Edges that do not support this keep sending 'currentData'.
+	 */
+	private void subscribeCurrentDataDelta() {
+		this.sendRequest(GenericJsonrpcRequest.createRequest(new SubscribeCurrentDataDelta(),
+				new SubscribeCurrentDataDelta.Request(true))) //
+				.whenComplete((response, error) -> {
+					if (error != null) {
+						this.log.info("Remote edge does not support currentDataDelta: " + error.getMessage());
+					}
+				});
+	}
+
 	private void onEdgeConfig(EdgeConfig edgeConfig) {
 		for (var listener : this.onEdgeConfigChangeListener) {
 			listener.accept(edgeConfig);
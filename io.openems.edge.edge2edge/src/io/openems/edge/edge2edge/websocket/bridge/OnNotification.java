@@ -17,6 +17,7 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.notification.ChannelUpdateNotification;
+import io.openems.common.jsonrpc.notification.CurrentDataDeltaNotification;
 import io.openems.common.jsonrpc.notification.CurrentDataNotification;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.jsonrpc.serialization.JsonSerializer;
@@ -30,16 +31,19 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 	private final Logger log = LoggerFactory.getLogger(OnNotification.class);
 
 	private final Consumer<Map<ChannelAddress, JsonElement>> onCurrentData;
+	private final Consumer<CurrentDataDeltaNotification> onCurrentDataDelta;
 	private final Consumer<EdgeConfig> onEdgeConfig;
 	private final Runnable onChannelUpdate;
 
 	public OnNotification(//
 			Consumer<Map<ChannelAddress, JsonElement>> onCurrentData, //
+			Consumer<CurrentDataDeltaNotification> onCurrentDataDelta, //
 			Consumer<EdgeConfig> onEdgeConfig, //
 			Runnable onChannelUpdate //
 	) {
 		super();
 		this.onCurrentData = onCurrentData;
+		this.onCurrentDataDelta = onCurrentDataDelta;
 		this.onEdgeConfig = onEdgeConfig;
 		this.onChannelUpdate = onChannelUpdate;
 	}
@@ -57,6 +61,9 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 				final var data = currentDataSerializer().deserialize(n.getParams());
 				this.onCurrentData.accept(data);
 			}
+			case CurrentDataDeltaNotification.METHOD -> {
+				this.onCurrentDataDelta.accept(CurrentDataDeltaNotification.from(n));
+			}
 			case ChannelUpdateNotification.METHOD -> {
 				this.onChannelUpdate.run();
 			}
@@ -13,6 +13,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
 
+import io.openems.common.jsonrpc.notification.CurrentDataDeltaNotification;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.EdgeConfig;
 import io.openems.common.websocket.AbstractWebsocketClient;
@@ -35,13 +36,15 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 	public WebsocketClient(String name, URI serverUri, Map<String, String> httpHeaders, Proxy proxy,
 			Consumer<ConnectionState> onStateChange, //
 			Consumer<Map<ChannelAddress, JsonElement>> onCurrentData, //
+			Consumer<CurrentDataDeltaNotification> onCurrentDataDelta, //
 			Consumer<EdgeConfig> onEdgeConfig, //
 			Runnable onChannelChange //
 	) {
 		super(name, serverUri, DEFAULT_DRAFT, httpHeaders, proxy, null /* onConnectedChange */,
 				new ClientReconnectorWorker.Config(5, 10, 5, 5 * 1000));
 		this.onOpen = new OnOpen(onStateChange);
-		this.onNotification = new OnNotification(onCurrentData, onEdgeConfig, onChannelChange);
+		this.onNotification = new OnNotification(onCurrentData, onCurrentDataDelta, onEdgeConfig,
+				onChannelChange);
 		this.onRequest = new OnRequest();
 		this.onError = new OnError();
 		this.onClose = (ws, code, reason, remote) -> {
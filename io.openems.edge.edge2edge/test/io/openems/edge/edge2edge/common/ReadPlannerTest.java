@@ -0,0 +1,99 @@
+package io.openems.edge.edge2edge.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.FloatDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.element.StringWordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+
+public class ReadPlannerTest {
+
+	private static final int MAXIMUM_READ_LENGTH = 126;
+
+	@Test
+	public void testEmpty() throws OpenemsException {
+		assertTrue(ReadPlanner.plan(List.of(), MAXIMUM_READ_LENGTH).isEmpty());
+	}
+
+	@Test
+	public void testFillGaps() throws OpenemsException {
+		final var reads = ReadPlanner.plan(List.of(//
+				new FloatDoublewordElement(110), //
+				new UnsignedWordElement(100), //
+				new UnsignedWordElement(101)), MAXIMUM_READ_LENGTH);
+
+		assertEquals(1, reads.size());
+		final var read = reads.get(0);
+		assertEquals(100, read.startAddress());
+		assertEquals(12, read.length());
+		assertEquals(4, read.elements().size());
+		final var gap = read.elements().get(2);
+		assertTrue(gap instanceof DummyRegisterElement);
+		assertEquals(102, gap.startAddress);
+		assertEquals(8, gap.length);
+	}
+
+	@Test
+	public void testSplitAtMaximumLength() throws OpenemsException {
+		final var reads = ReadPlanner.plan(List.of(//
+				new UnsignedWordElement(0), //
+				new UnsignedWordElement(125), // last Register of the first read
+				new FloatDoublewordElement(200), //
+				new StringWordElement(320, 16)), MAXIMUM_READ_LENGTH);
+
+		assertEquals(3, reads.size());
+		assertEquals(0, reads.get(0).startAddress());
+		assertEquals(126, reads.get(0).length());
+		assertEquals(200, reads.get(1).startAddress());
+		assertEquals(2, reads.get(1).length());
+		assertEquals(320, reads.get(2).startAddress());
+		assertEquals(16, reads.get(2).length());
+	}
+
+	@Test
+	public void testInvalid() {
+		assertThrows(OpenemsException.class, () -> ReadPlanner.plan(List.of(//
+				new UnsignedWordElement(100), //
+				new FloatDoublewordElement(99)), MAXIMUM_READ_LENGTH));
+		assertThrows(OpenemsException.class,
+				() -> ReadPlanner.plan(List.of(new StringWordElement(0, 16)), 10));
+	}
+
+	@Test
+	public void testRemoteComponent() throws OpenemsException {
+		// Four Nature-Blocks of 80 Registers, each with few used Registers; the
+		// previous implementation read every Register from the first to the last
+		// used one in chunks of 126
+		final var elements = new ArrayList<ModbusElement>();
+		for (var nature = 0; nature < 4; nature++) {
+			final var natureStartAddress = 1000 + nature * 80;
+			elements.add(new UnsignedWordElement(natureStartAddress + 2));
+			elements.add(new FloatDoublewordElement(natureStartAddress + 40));
+		}
+		elements.add(new FloatDoublewordElement(5000)); // far away
+
+		final var reads = ReadPlanner.plan(elements, MAXIMUM_READ_LENGTH);
+		assertEquals(3, reads.size());
+		var registers = 0;
+		for (var read : reads) {
+			assertTrue(read.length() <= MAXIMUM_READ_LENGTH);
+			assertEquals(read.length(), read.elements().stream().mapToInt(e -> e.length).sum());
+			registers += read.length();
+		}
+		// 'far away' does not add a gap of ~3700 Registers
+		assertEquals(9, reads.stream()
+				.mapToLong(r -> r.elements().stream().filter(e -> !(e instanceof DummyRegisterElement)).count())
+				.sum());
+		assertTrue(registers < 4 * 80);
+	}
+}
@@ -0,0 +1,60 @@
+package io.openems.edge.edge2edge.websocket.bridge;
+
+import static io.openems.common.utils.ReflectionUtils.setAttributeViaReflection;
+import static java.util.Collections.emptyMap;
+import static org.junit.Assert.assertEquals;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.jsonrpc.notification.CurrentDataDeltaNotification;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.websocket.AbstractWebsocketClient;
+
+public class Edge2EdgeWebsocketBridgeImplTest {
+
+	private static final ChannelAddress ACTIVE_POWER = new ChannelAddress("meter0", "ActivePower");
+
+	@Test
+	public void testSecondSubscriberOnCurrentDataDelta() {
+		final var sut = new Edge2EdgeWebsocketBridgeImpl();
+		// not started, i.e. subscribe requests are not sent
+		setAttributeViaReflection(sut, "client", new WebsocketClient("edge2edge0", URI.create("ws://127.0.0.1:8085"),
+				emptyMap(), AbstractWebsocketClient.NO_PROXY, s -> {
+				}, d -> {
+				}, d -> {
+				}, c -> {
+				}, () -> {
+				}));
+
+		final var first = new ArrayList<Map<ChannelAddress, JsonElement>>();
+		final var firstSubscriber = new ChannelSubscriber();
+		sut.addChannelSubscriber(firstSubscriber, first::add);
+		firstSubscriber.subscribeChannel(ACTIVE_POWER);
+
+		sut.onCurrentDataDelta(new CurrentDataDeltaNotification(1, true, //
+				Map.of(ACTIVE_POWER.toString(), new JsonPrimitive(1000))));
+		assertEquals(List.of(Map.of(ACTIVE_POWER, new JsonPrimitive(1000))), first);
+
+		// Remote Edge does not send the unchanged value again
+		final var second = new ArrayList<Map<ChannelAddress, JsonElement>>();
+		final var secondSubscriber = new ChannelSubscriber();
+		sut.addChannelSubscriber(secondSubscriber, second::add);
+		secondSubscriber.subscribeChannel(ACTIVE_POWER);
+		assertEquals(List.of(Map.of(ACTIVE_POWER, new JsonPrimitive(1000))), second);
+		assertEquals(1, first.size());
+
+		sut.onCurrentDataDelta(new CurrentDataDeltaNotification(2, false, //
+				Map.of(ACTIVE_POWER.toString(), new JsonPrimitive(2000))));
+		assertEquals(Map.of(ACTIVE_POWER, new JsonPrimitive(2000)), first.get(1));
+		assertEquals(Map.of(ACTIVE_POWER, new JsonPrimitive(2000)), second.get(1));
+	}
+
+}
@@ -385,23 +385,24 @@ public record GlobalOptimizationContext(//
 			final var periodLengthHourFromIndex = calculatePeriodDurationHourFromIndex(startTime);
 
 			// Prediction values
-			final var consumptions = this.predictorManager.getPrediction(SUM_UNMANAGED_CONSUMPTION);
-			final var productions = this.predictorManager.getPrediction(SUM_PRODUCTION);
+			final var consumptions = this.predictorManager.getPrediction(SUM_UNMANAGED_CONSUMPTION).asTimeseries();
+			final var productions = this.predictorManager.getPrediction(SUM_PRODUCTION).asTimeseries();
 
 			// Prices contains the price values and the time it is retrieved.
-			final var prices = this.timeOfUseTariff.getPrices();
+			final var prices = this.timeOfUseTariff.getPrices().asTimeseries();
 
 			// Helpers
 			final IntFunction<Period.Quarter> toQuarterPeriod = (i) -> {
 				final var time = startTime.plusMinutes(i * 15);
 				final var consumption = consumptions.getAt(time);
 				final var price = prices.getAt(time);
-				if (consumption == null || price == null) {
+				if (Double.isNaN(consumption) || Double.isNaN(price)) {
 					return null;
 				}
 				final var production = productions.getAtOrElse(time, 0);
 				return new Period.Quarter(i, time, //
-						QUARTER.convertPowerToEnergy(production), QUARTER.convertPowerToEnergy(consumption), price);
+						QUARTER.convertPowerToEnergy((int) production), QUARTER.convertPowerToEnergy((int) consumption),
+						price);
 			};
 			final IntFunction<Period.Hour> toHourPeriod = (j) -> {
 				final var i = periodLengthHourFromIndex + j * 4;
@@ -410,11 +411,10 @@ public record GlobalOptimizationContext(//
 
 				final var consumption = consumptions //
 						.getBetween(rangeStart, rangeEnd) //
-						.mapToInt(Integer::intValue) //
+						.mapToInt(v -> (int) v) //
 						.toArray();
 				final var priceRange = prices //
 						.getBetween(rangeStart, rangeEnd) //
-						.mapToDouble(Double::doubleValue) //
 						.toArray();
 				if (consumption.length == 0 || priceRange.length == 0) {
 					return null;
@@ -422,7 +422,7 @@ public record GlobalOptimizationContext(//
 				final var price = stream(priceRange).average().getAsDouble();
 				final var production = productions //
 						.getBetween(rangeStart, rangeEnd) //
-						.mapToInt(Integer::intValue) //
+						.mapToInt(v -> (int) v) //
 						.sum();
 				final var quarterPeriods = IntStream.range(i, i + 4) //
 						.mapToObj(toQuarterPeriod) //
@@ -445,9 +445,9 @@ public record GlobalOptimizationContext(//
 
 			if (periods.isEmpty()) {
 				this.logWarn("No forecast periods available. " //
-						+ "Consumptions[" + consumptions.asArray().length + "] " //
-						+ "Productions[" + productions.asArray().length + "] " //
-						+ "Prices[" + prices.asArray().length + "]");
+						+ "Consumptions[" + consumptions.size() + "] " //
+						+ "Productions[" + productions.size() + "] " //
+						+ "Prices[" + prices.size() + "]");
 				return null;
 			}
 
@@ -467,9 +467,9 @@ public record GlobalOptimizationContext(//
 
 			this.log.info("OPTIMIZER GlobalOptimizationContext: " //
 					+ "startTime=" + startTime + "; " //
-					+ "consumptions=" + consumptions.asArray().length + "; " //
-					+ "productions=" + productions.asArray().length + "; " //
-					+ "prices=" + prices.asArray().length + "; " //
+					+ "consumptions=" + consumptions.size() + "; " //
+					+ "productions=" + productions.size() + "; " //
+					+ "prices=" + prices.size() + "; " //
 					+ "periods=" + periods.size());
 
 			return new GlobalOptimizationContext(clock, this.riskLevel, startTime, //
@@ -23,6 +23,9 @@ import io.openems.edge.ess.power.api.SolverStrategy;
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default EssPower.DEFAULT_DEBUG_MODE;
 
+	@AttributeDefinition(name = "Fast-Path Solver", description = "Solves simple problems (power limits and cluster sums) without linear program; distributes cluster power proportionally to available power. Falls back to the configured strategy otherwise. In Debug Mode both results are compared.")
+	boolean fastPath() default false;
+
 	@AttributeDefinition(name = "Enable PID Filter", description = "Enables the PID Filter with the settings for P, I and D below")
 	boolean enablePid() default true;
 
@@ -7,15 +7,19 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.apache.commons.math3.optim.linear.LinearConstraint;
+
 import com.google.common.collect.Streams;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.common.type.Phase.SingleOrAllPhase;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.core.power.data.ConstraintUtil;
+import io.openems.edge.ess.core.power.data.LinearSolverUtil;
 import io.openems.edge.ess.core.power.data.WeightsUtil;
 import io.openems.edge.ess.power.api.Coefficient;
 import io.openems.edge.ess.power.api.Coefficients;
@@ -40,9 +44,26 @@ public class Data {
 	private final List<Constraint> constraints = new CopyOnWriteArrayList<>();
 	private final Coefficients coefficients = new Coefficients();
 
+	/**
+	 * Incremented whenever the Constraints generated from the Ess (i.e. generic,
+	 * static, meta,... Constraints) may have changed.
+	 */
+	private final AtomicLong essConstraintsVersion = new AtomicLong();
+
+	/**
+	 * Incremented whenever any Constraint may have changed.
+	 */
+	private final AtomicLong version = new AtomicLong();
+
 	private boolean symmetricMode = EssPower.DEFAULT_SYMMETRIC_MODE;
 	private Consumer<Boolean> onStaticConstraintsFailed = null;
 
+	private static record Versioned<T>(long version, List<T> values) {
+	}
+
+	private volatile Versioned<Constraint> cachedEssConstraints = null;
+	private volatile Versioned<LinearConstraint> cachedLinearConstraints = null;
+
 	/**
 	 * Adds a callback for onStaticConstraintsFailed event.
 	 *
@@ -104,6 +125,8 @@ public class Data {
 		// Initially sort Inverters
 		WeightsUtil.updateWeightsFromSoc(this.inverters, this.esss);
 		WeightsUtil.sortByWeights(this.inverters);
+
+		this.invalidateEssConstraints();
 	}
 
 	protected synchronized void initializeCycle() {
@@ -112,6 +135,30 @@ public class Data {
 		// Update sorting of Inverters
 		WeightsUtil.updateWeightsFromSoc(this.inverters, this.esss);
 		WeightsUtil.adjustSortingByWeights(this.inverters);
+
+		this.invalidateEssConstraints();
+	}
+
+	/**
+	 * Invalidates the cached Constraints that are generated from the Ess. Must be
+	 * called whenever Channel values of the Ess might have changed, i.e. after
+	 * the process image was updated.
+	 */
+	protected void invalidateEssConstraints() {
+		this.essConstraintsVersion.incrementAndGet();
+		this.version.incrementAndGet();
+	}
+
+	/**
+	 * Gets the version of the current set of Constraints. The version changes
+	 * whenever a Constraint is added or removed, an Ess is added or removed or a
+	 * new Cycle is started. Results that were calculated from the Constraints can
+	 * be cached as long as the version stays the same.
+	 *
+	 * @return the version
+	 */
+	public long getVersion() {
+		return this.version.get();
 	}
 
 	protected List<ManagedSymmetricEss> getEsss() {
@@ -124,10 +171,13 @@ public class Data {
 
 	protected void addConstraint(Constraint constraint) {
 		this.constraints.add(constraint);
+		this.version.incrementAndGet();
 	}
 
 	protected void removeConstraint(Constraint constraint) {
-		this.constraints.remove(constraint);
+		if (this.constraints.remove(constraint)) {
+			this.version.incrementAndGet();
+		}
 	}
 
 	/**
@@ -148,7 +198,7 @@ public class Data {
 			phase = SingleOrAllPhase.ALL;
 			value *= 3;
 		}
-		this.constraints.add(ConstraintUtil.createSimpleConstraint(this.coefficients, //
+		this.addConstraint(ConstraintUtil.createSimpleConstraint(this.coefficients, //
 				description, essId, phase, pwr, relationship, value));
 	}
 
@@ -196,6 +246,26 @@ public class Data {
 		return this.getConstraintsWithoutDisabledInverters(disabledInverters);
 	}
 
+	/**
+	 * Gets all Constraints for all Inverters converted to
+	 * {@link LinearConstraint}s. The result is cached as long as the
+	 * {@link #getVersion()} does not change.
+	 *
+	 * @return an unmodifiable List of {@link LinearConstraint}s
+	 * @throws OpenemsException on error
+	 */
+	public List<LinearConstraint> getLinearConstraintsForAllInverters() throws OpenemsException {
+		final var version = this.version.get();
+		final var cached = this.cachedLinearConstraints;
+		if (cached != null && cached.version() == version) {
+			return cached.values();
+		}
+		final var result = Collections.unmodifiableList(
+				LinearSolverUtil.convertToLinearConstraints(this.coefficients, this.getConstraintsForAllInverters()));
+		this.cachedLinearConstraints = new Versioned<>(version, result);
+		return result;
+	}
+
 	/**
 	 * Gets Constraints without the 'disabledInverters'.
 	 *
@@ -205,17 +275,37 @@ public class Data {
 	 */
 	public List<Constraint> getConstraintsWithoutDisabledInverters(Collection<Inverter> disabledInverters)
 			throws OpenemsException {
-		return Streams.concat(//
-				ConstraintUtil.createDisableConstraintsForInactiveInverters(this.coefficients, disabledInverters)
-						.stream(),
+		final var result = new ArrayList<Constraint>(
+				ConstraintUtil.createDisableConstraintsForInactiveInverters(this.coefficients, disabledInverters));
+		result.addAll(this.getEssConstraints());
+		result.addAll(this.constraints);
+		return result;
+	}
+
+	/**
+	 * Gets the Constraints that are generated from the Ess. The result is cached
+	 * until {@link #invalidateEssConstraints()} is called.
+	 *
+	 * @return an unmodifiable List of {@link Constraint}s
+	 * @throws OpenemsException on error
+	 */
+	private List<Constraint> getEssConstraints() throws OpenemsException {
+		final var version = this.essConstraintsVersion.get();
+		final var cached = this.cachedEssConstraints;
+		if (cached != null && cached.version() == version) {
+			return cached.values();
+		}
+		final var result = Collections.unmodifiableList(Streams.concat(//
 				ConstraintUtil.createGenericEssConstraints(this.coefficients, this.esss, this.symmetricMode).stream(), //
 				ConstraintUtil.createStaticEssConstraints(this.esss, this.onStaticConstraintsFailed).stream(), //
 				ConstraintUtil.createMetaEssConstraints(this.coefficients, this.esss, this.symmetricMode).stream(), //
 				ConstraintUtil.createSumOfPhasesConstraints(this.coefficients, this.esss, this.symmetricMode).stream(), //
 				ConstraintUtil.createSymmetricEssConstraints(this.coefficients, this.esss, this.symmetricMode).stream(), //
 				ConstraintUtil.createSinglePhaseEssConstraints(this.coefficients, this.inverters, this.symmetricMode)
-						.stream(), //
-				this.constraints.stream()).collect(Collectors.toList());
+						.stream()) //
+				.collect(Collectors.toList()));
+		this.cachedEssConstraints = new Versioned<>(version, result);
+		return result;
 	}
 
 	protected ManagedSymmetricEss getEss(String essId) {
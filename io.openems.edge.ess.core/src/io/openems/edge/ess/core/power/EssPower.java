@@ -5,6 +5,7 @@ import org.osgi.service.event.EventHandler;
 import io.openems.common.channel.Level;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.BooleanReadChannel;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.channel.EnumReadChannel;
 import io.openems.edge.common.channel.IntegerReadChannel;
@@ -46,6 +47,40 @@ public interface EssPower extends OpenemsComponent, EventHandler, Power {
 		 * </ul>
 		 */
 		SOLVE_STRATEGY(Doc.of(SolverStrategy.values())),
+		/**
+		 * The number of linear programs solved within the last Cycle, including
+		 * calculation of Min-/Max-Power.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		SOLVE_COUNT(Doc.of(OpenemsType.INTEGER)),
+		/**
+		 * Whether the Power problem was solved by the fast path, i.e. without linear
+		 * program.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Boolean
+		 * </ul>
+		 */
+		SOLVED_BY_FAST_PATH(Doc.of(OpenemsType.BOOLEAN)),
+		/**
+		 * The cumulated time spent in the linear program solver within the last
+		 * Cycle, including calculation of Min-/Max-Power.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Unit: milliseconds
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		SOLVER_TIME(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.MILLISECONDS)),
 		/**
 		 * Whether the Power problem could be solved.
 		 *
@@ -134,6 +169,63 @@ public interface EssPower extends OpenemsComponent, EventHandler, Power {
 		this.getSolveStrategyChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#SOLVE_COUNT}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getSolveCountChannel() {
+		return this.channel(ChannelId.SOLVE_COUNT);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#SOLVE_COUNT}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSolveCount(int value) {
+		this.getSolveCountChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SOLVED_BY_FAST_PATH}.
+	 *
+	 * @return the Channel
+	 */
+	public default BooleanReadChannel getSolvedByFastPathChannel() {
+		return this.channel(ChannelId.SOLVED_BY_FAST_PATH);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#SOLVED_BY_FAST_PATH} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSolvedByFastPath(boolean value) {
+		this.getSolvedByFastPathChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SOLVER_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getSolverTimeChannel() {
+		return this.channel(ChannelId.SOLVER_TIME);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#SOLVER_TIME}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSolverTime(int value) {
+		this.getSolverTimeChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets the Channel for {@link ChannelId#STATIC_CONSTRAINTS_FAILED}.
 	 *
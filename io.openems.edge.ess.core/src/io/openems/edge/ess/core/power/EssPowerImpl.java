@@ -2,8 +2,11 @@ package io.openems.edge.ess.core.power;
 
 import static io.openems.edge.ess.core.power.data.LogUtil.debugLogConstraints;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.commons.math3.optim.linear.LinearConstraint;
 import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -34,6 +37,7 @@ import io.openems.edge.common.type.Phase.SingleOrAllPhase;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
+import io.openems.edge.ess.core.power.solver.SolverStatistics;
 import io.openems.edge.ess.power.api.Coefficient;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Power;
@@ -50,6 +54,7 @@ import io.openems.edge.ess.power.api.Relationship;
 				"enabled=true" //
 		})
 @EventTopics({ //
+		EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE, //
 		EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE, //
 		EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE //
 })
@@ -68,6 +73,16 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 	private Config config;
 	private PidFilter pidFilter;
 
+	private static record ExtremaKey(String essId, SingleOrAllPhase phase, Pwr pwr, GoalType goal) {
+	}
+
+	/**
+	 * Caches results of {@link #getActivePowerExtrema}; valid as long as
+	 * {@link Data#getVersion()} equals {@link #extremaCacheVersion}.
+	 */
+	private final Map<ExtremaKey, Integer> extremaCache = new HashMap<>();
+	private long extremaCacheVersion = -1;
+
 	public EssPowerImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
@@ -81,6 +96,7 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 			this._setNotSolved(!isSolved);
 			this._setSolveDuration(duration);
 			this._setSolveStrategy(strategy);
+			this._setSolvedByFastPath(this.solver.isSolvedByFastPath());
 		});
 	}
 
@@ -114,6 +130,7 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 		this.data.setSymmetricMode(config.symmetricMode());
 		this.debugMode = config.debugMode();
 		this.solver.setDebugMode(config.debugMode());
+		this.solver.setFastPath(config.fastPath());
 		this.config = config;
 
 		if (config.enablePid()) {
@@ -196,35 +213,59 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 		return this.getActivePowerExtrema(ess, phase, pwr, GoalType.MINIMIZE);
 	}
 
-	private int getActivePowerExtrema(ManagedSymmetricEss ess, SingleOrAllPhase phase, Pwr pwr, GoalType goal) {
-		final List<Constraint> allConstraints;
+	private synchronized int getActivePowerExtrema(ManagedSymmetricEss ess, SingleOrAllPhase phase, Pwr pwr,
+			GoalType goal) {
+		final var version = this.data.getVersion();
+		if (version != this.extremaCacheVersion) {
+			this.extremaCache.clear();
+			this.extremaCacheVersion = version;
+		}
+		final var key = new ExtremaKey(ess.id(), phase, pwr, goal);
+		final var cached = this.extremaCache.get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		final List<LinearConstraint> allConstraints;
 		try {
-			allConstraints = this.data.getConstraintsForAllInverters();
+			allConstraints = this.data.getLinearConstraintsForAllInverters();
 		} catch (OpenemsException e) {
 			this.logError(this.log, "Unable to get Constraints " + e.getMessage());
 			return 0;
 		}
-		var power = CalculatePowerExtrema.from(this.data.getCoefficients(), allConstraints, ess.id(), phase, pwr, goal);
+		var power = CalculatePowerExtrema.fromLinearConstraints(this.data.getCoefficients(), allConstraints, ess.id(),
+				phase, pwr, goal);
 		if (power <= Integer.MIN_VALUE || power >= Integer.MAX_VALUE) {
 			this.logError(this.log, goal.name() + " Power for [" + ess.toString() + "," + phase.toString() + ","
 					+ pwr.toString() + "=" + power + "] is out of bounds. Returning '0'");
 			return 0;
 		}
+		final int result;
 		if (goal == GoalType.MAXIMIZE) {
-			return (int) Math.floor(power);
+			result = (int) Math.floor(power);
+		} else {
+			result = (int) Math.ceil(power);
 		}
-		return (int) Math.ceil(power);
+		this.extremaCache.put(key, result);
+		return result;
 	}
 
 	@Override
 	public void handleEvent(Event event) {
 		try {
 			switch (event.getTopic()) {
+			case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE //
+				-> this.data.invalidateEssConstraints();
+
 			case EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE //
 				-> this.solver.solve(this.config.strategy());
 
-			case EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE //
-				-> this.data.initializeCycle();
+			case EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE -> {
+				final var statistics = SolverStatistics.getAndReset();
+				this._setSolveCount(statistics.solveCount());
+				this._setSolverTime(statistics.solveMillis());
+				this.data.initializeCycle();
+			}
 			}
 
 		} catch (Exception e) {
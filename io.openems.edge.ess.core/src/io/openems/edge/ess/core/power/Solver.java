@@ -33,6 +33,7 @@ import io.openems.edge.ess.core.power.optimizers.KeepAllNearEqual;
 import io.openems.edge.ess.core.power.optimizers.KeepTargetDirectionAndMaximizeInOrder;
 import io.openems.edge.ess.core.power.optimizers.MoveTowardsTarget;
 import io.openems.edge.ess.core.power.optimizers.Optimizers;
+import io.openems.edge.ess.core.power.solver.BoundPropagationSolver;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
 import io.openems.edge.ess.core.power.solver.PowerTuple;
 import io.openems.edge.ess.power.api.Constraint;
@@ -51,6 +52,8 @@ public class Solver {
 	private final Optimizers optimizers = new Optimizers();
 
 	private boolean debugMode = EssPower.DEFAULT_DEBUG_MODE;
+	private boolean fastPath = false;
+	private boolean solvedByFastPath = false;
 	private OnSolved onSolvedCallback = (isSolved, duration, strategy) -> {
 	};
 
@@ -70,7 +73,7 @@ public class Solver {
 		 */
 		this.solveWithDisabledInverters = disabledInverters -> {
 			var constraints = this.data.getConstraintsWithoutDisabledInverters(disabledInverters);
-			return ConstraintSolver.solve(this.data.getCoefficients(), constraints);
+			return ConstraintSolver.findFeasibleSolution(this.data.getCoefficients(), constraints);
 		};
 	}
 
@@ -90,7 +93,7 @@ public class Solver {
 	 */
 	public void isSolvableOrError() throws OpenemsException {
 		try {
-			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
+			ConstraintSolver.findFeasibleSolution(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
 		} catch (NoFeasibleSolutionException e) {
 			throw new PowerException(Type.NO_FEASIBLE_SOLUTION);
 		} catch (UnboundedSolutionException e) {
@@ -105,7 +108,7 @@ public class Solver {
 	 */
 	public boolean isSolvable() {
 		try {
-			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
+			ConstraintSolver.findFeasibleSolution(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
 			return true;
 		} catch (NoFeasibleSolutionException | UnboundedSolutionException | OpenemsException e) {
 			return false;
@@ -136,64 +139,77 @@ public class Solver {
 
 		List<Constraint> allConstraints = new ArrayList<>();
 		TargetDirection targetDirection = null;
+		SolveSolution fastPathSolution = null;
 		try {
 			// Check if the Problem is solvable at all.
 			allConstraints = this.data.getConstraintsForAllInverters();
 
-			// Add Strict constraints if required
-			AddConstraintsForNotStrictlyDefinedCoefficients.apply(allInverters, this.data.getCoefficients(),
-					allConstraints);
+			// Try to solve simple problems without linear program
+			if (this.fastPath) {
+				var points = BoundPropagationSolver.solve(this.data.getCoefficients(), this.data.getEsss(),
+						allConstraints);
+				if (points != null) {
+					fastPathSolution = new SolveSolution(strategy, new PointValuePair(points, 0));
+				}
+			}
 
-			// Print log with currently active EQUALS != 0 Constraints
-			if (this.debugMode) {
-				this.log.info("Currently active EQUALS constraints");
-				for (Constraint c : allConstraints) {
-					if (c.getRelationship() == Relationship.EQUALS && c.getValue().orElse(0d) != 0d) {
-						this.log.info("- " + c.toString());
+			// In Debug-Mode the linear program is always solved to compare the results
+			if (fastPathSolution == null || this.debugMode) {
+				// Add Strict constraints if required
+				AddConstraintsForNotStrictlyDefinedCoefficients.apply(allInverters, this.data.getCoefficients(),
+						allConstraints);
+
+				// Print log with currently active EQUALS != 0 Constraints
+				if (this.debugMode) {
+					this.log.info("Currently active EQUALS constraints");
+					for (Constraint c : allConstraints) {
+						if (c.getRelationship() == Relationship.EQUALS && c.getValue().orElse(0d) != 0d) {
+							this.log.info("- " + c.toString());
+						}
 					}
 				}
-			}
 
-			// Evaluates whether it is a CHARGE or DISCHARGE problem.
-			targetDirection = TargetDirection.from(//
-					this.data.getInverters(), //
-					this.data.getCoefficients(), //
-					this.data.getConstraintsForAllInverters() //
-			);
-
-			// Gets the target-Inverters, i.e. the Inverters that are minimally required to
-			// solve the Problem.
-			var targetInverters = this.optimizers.reduceNumberOfUsedInverters.apply(allInverters, targetDirection,
-					this.solveWithDisabledInverters);
-
-			solution = switch (strategy) {
-			case UNDEFINED, ALL_CONSTRAINTS, NONE //
-				-> this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints);
-
-			case OPTIMIZE_BY_MOVING_TOWARDS_TARGET //
-				-> this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						OPTIMIZE_BY_MOVING_TOWARDS_TARGET,
-						OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER);
-
-			case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER //
-				-> this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
-						OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
-
-			case OPTIMIZE_BY_KEEPING_ALL_EQUAL //
-				-> this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						OPTIMIZE_BY_KEEPING_ALL_EQUAL, //
-						OPTIMIZE_BY_KEEPING_ALL_NEAR_EQUAL, //
-						OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
-						OPTIMIZE_BY_MOVING_TOWARDS_TARGET); //
-
-			case OPTIMIZE_BY_KEEPING_ALL_NEAR_EQUAL //
-				-> this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						OPTIMIZE_BY_KEEPING_ALL_NEAR_EQUAL, //
-						OPTIMIZE_BY_KEEPING_ALL_EQUAL, //
-						OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
-						OPTIMIZE_BY_MOVING_TOWARDS_TARGET); // //
-			};
+				// Evaluates whether it is a CHARGE or DISCHARGE problem.
+				targetDirection = TargetDirection.from(//
+						this.data.getInverters(), //
+						this.data.getCoefficients(), //
+						this.data.getConstraintsForAllInverters() //
+				);
+
+				// Gets the target-Inverters, i.e. the Inverters that are minimally required to
+				// solve the Problem.
+				var targetInverters = this.optimizers.reduceNumberOfUsedInverters.apply(allInverters, targetDirection,
+						this.solveWithDisabledInverters);
+
+				solution = switch (strategy) {
+				case UNDEFINED, ALL_CONSTRAINTS, NONE //
+					-> this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints);
+
+				case OPTIMIZE_BY_MOVING_TOWARDS_TARGET //
+					-> this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
+							OPTIMIZE_BY_MOVING_TOWARDS_TARGET,
+							OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER);
+
+				case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER //
+					-> this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
+							OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
+							OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
+
+				case OPTIMIZE_BY_KEEPING_ALL_EQUAL //
+					-> this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
+							OPTIMIZE_BY_KEEPING_ALL_EQUAL, //
+							OPTIMIZE_BY_KEEPING_ALL_NEAR_EQUAL, //
+							OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
+							OPTIMIZE_BY_MOVING_TOWARDS_TARGET); //
+
+				case OPTIMIZE_BY_KEEPING_ALL_NEAR_EQUAL //
+					-> this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
+							OPTIMIZE_BY_KEEPING_ALL_NEAR_EQUAL, //
+							OPTIMIZE_BY_KEEPING_ALL_EQUAL, //
+							OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
+							OPTIMIZE_BY_MOVING_TOWARDS_TARGET); // //
+				};
+			}
 
 		} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
 			if (this.debugMode) {
@@ -206,6 +222,21 @@ public class Solver {
 			this.log.warn("Power-Solver: Solve failed: " + e.getMessage());
 		}
 
+		// Use result of fast path
+		this.solvedByFastPath = fastPathSolution != null;
+		if (fastPathSolution != null) {
+			if (this.debugMode) {
+				this.logFastPathComparison(fastPathSolution, solution);
+			}
+			solution = fastPathSolution;
+			try {
+				targetDirection = TargetDirection.from(allInverters, this.data.getCoefficients(),
+						fastPathSolution.getPoints().getPoint());
+			} catch (OpenemsException e) {
+				this.log.warn("Power-Solver: Solve failed: " + e.getMessage());
+			}
+		}
+
 		// finish time measure (in milliseconds)
 		var duration = (int) (System.nanoTime() - startTime) / 1_000_000;
 
@@ -283,6 +314,36 @@ public class Solver {
 		return new SolveSolution(SolverStrategy.NONE, null);
 	}
 
+	/**
+	 * Logs the difference between the solution of the fast path and the solution
+	 * of the linear program.
+	 *
+	 * @param fastPathSolution the solution of {@link BoundPropagationSolver}
+	 * @param solution         the solution of the linear program
+	 */
+	private void logFastPathComparison(SolveSolution fastPathSolution, SolveSolution solution) {
+		if (solution.getPoints() == null) {
+			this.log.info("Power-Solver: Fast path solved a problem that the linear program could not solve");
+			return;
+		}
+		var fastPathPoints = fastPathSolution.getPoints().getPoint();
+		var points = solution.getPoints().getPoint();
+		var maxDifference = 0d;
+		for (var i = 0; i < Math.min(fastPathPoints.length, points.length); i++) {
+			maxDifference = Math.max(maxDifference, Math.abs(fastPathPoints[i] - points[i]));
+		}
+		this.log.info("Power-Solver: Fast path vs. [" + solution.getSolvedBy() + "]: max difference ["
+				+ Math.round(maxDifference) + "]");
+		for (var c : this.data.getCoefficients().getAll()) {
+			var index = c.getIndex();
+			if (index < fastPathPoints.length && index < points.length
+					&& Math.abs(fastPathPoints[index] - points[index]) >= 1) {
+				this.log.info("- " + c + ": fast path [" + Math.round(fastPathPoints[index]) + "] linear program ["
+						+ Math.round(points[index]) + "]");
+			}
+		}
+	}
+
 	private Map<Inverter, PowerTuple> getZeroSolution(List<Inverter> allInverters) {
 		Map<Inverter, PowerTuple> result = new HashMap<>();
 		for (Inverter inv : allInverters) {
@@ -411,4 +472,17 @@ public class Solver {
 	protected void setDebugMode(boolean debugMode) {
 		this.debugMode = debugMode;
 	}
+
+	protected void setFastPath(boolean fastPath) {
+		this.fastPath = fastPath;
+	}
+
+	/**
+	 * Was the last problem solved by the {@link BoundPropagationSolver}?.
+	 *
+	 * @return true if solved without linear program
+	 */
+	public boolean isSolvedByFastPath() {
+		return this.solvedByFastPath;
+	}
 }
@@ -6,16 +6,34 @@ import static org.apache.commons.math3.optim.linear.Relationship.LEQ;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.apache.commons.math3.optim.linear.LinearConstraint;
 import org.apache.commons.math3.optim.linear.LinearObjectiveFunction;
+import org.apache.commons.math3.optim.linear.Relationship;
 
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
 
 public class LinearSolverUtil {
 
+	private static final double FEASIBILITY_TOLERANCE = 1e-6;
+
+	private static record Converted(int noOfCoefficients, Relationship relationship, double value,
+			LinearConstraint linearConstraint) {
+	}
+
+	/**
+	 * Caches the conversion of each {@link Constraint} instance, so that the same
+	 * {@link LinearConstraint} is reused when a problem is solved repeatedly, e.g.
+	 * by the optimizers within one Cycle. Entries are removed once the
+	 * {@link Constraint} is garbage collected.
+	 */
+	private static final Map<Constraint, Converted> CONVERTED = Collections.synchronizedMap(new WeakHashMap<>());
+
 	/**
 	 * Gets all Constraints converted to Linear Constraints.
 	 *
@@ -25,13 +43,27 @@ public class LinearSolverUtil {
 	 */
 	public static List<LinearConstraint> convertToLinearConstraints(Coefficients coefficients,
 			List<Constraint> constraints) {
-		final var result = new ArrayList<LinearConstraint>();
+		final var noOfCoefficients = coefficients.getNoOfCoefficients();
+		final var result = new ArrayList<LinearConstraint>(constraints.size());
 		for (Constraint c : constraints) {
 			final var value = c.getValue();
 			if (value.isEmpty()) {
 				continue;
 			}
 
+			final var relationship = switch (c.getRelationship()) {
+			case EQUALS -> EQ;
+			case GREATER_OR_EQUALS -> GEQ;
+			case LESS_OR_EQUALS -> LEQ;
+			};
+
+			final var cached = CONVERTED.get(c);
+			if (cached != null && cached.noOfCoefficients() == noOfCoefficients
+					&& cached.relationship() == relationship && cached.value() == value.get()) {
+				result.add(cached.linearConstraint());
+				continue;
+			}
+
 			final var cos = generateEmptyCoefficientsArray(coefficients.getNoOfCoefficients());
 			for (var co : c.getCoefficients()) {
 				var index = co.getCoefficient().getIndex();
@@ -41,15 +73,89 @@ public class LinearSolverUtil {
 				cos[index] = co.getValue();
 			}
 
-			final var relationship = switch (c.getRelationship()) {
-			case EQUALS -> EQ;
-			case GREATER_OR_EQUALS -> GEQ;
-			case LESS_OR_EQUALS -> LEQ;
+			final var linearConstraint = new LinearConstraint(cos, relationship, value.get());
+			CONVERTED.put(c, new Converted(noOfCoefficients, relationship, value.get(), linearConstraint));
+			result.add(linearConstraint);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether the given point satisfies all {@link LinearConstraint}s.
+	 *
+	 * @param point       the point
+	 * @param constraints a list of {@link LinearConstraint}s
+	 * @return true if the point is feasible
+	 */
+	public static boolean isFeasible(double[] point, List<LinearConstraint> constraints) {
+		for (var c : constraints) {
+			final var cos = c.getCoefficients();
+			if (cos.getDimension() != point.length) {
+				return false;
+			}
+			var activity = 0d;
+			for (var i = 0; i < point.length; i++) {
+				activity += cos.getEntry(i) * point[i];
+			}
+			final var tolerance = FEASIBILITY_TOLERANCE * Math.max(1, Math.abs(c.getValue()));
+			final var isSatisfied = switch (c.getRelationship()) {
+			case EQ -> Math.abs(activity - c.getValue()) <= tolerance;
+			case GEQ -> activity >= c.getValue() - tolerance;
+			case LEQ -> activity <= c.getValue() + tolerance;
 			};
+			if (!isSatisfied) {
+				return false;
+			}
+		}
+		return true;
+	}
 
-			result.add(new LinearConstraint(cos, relationship, value.get()));
+	/**
+	 * Checks whether every Coefficient has a lower bound that is given by a
+	 * {@link LinearConstraint} on this Coefficient alone.
+	 *
+	 * <p>
+	 * In this case the {@link #getDefaultObjectiveFunction(int)} - minimize the
+	 * sum of all Coefficients - is bounded, i.e. a feasible problem is never
+	 * unbounded.
+	 *
+	 * @param noOfCoefficients the number of Coefficients
+	 * @param constraints      a list of {@link LinearConstraint}s
+	 * @return true if every Coefficient is bounded below
+	 */
+	public static boolean isEveryCoefficientBoundedBelow(int noOfCoefficients, List<LinearConstraint> constraints) {
+		final var isBounded = new boolean[noOfCoefficients];
+		var remaining = noOfCoefficients;
+		for (var c : constraints) {
+			final var cos = c.getCoefficients();
+			if (cos.getDimension() != noOfCoefficients) {
+				return false;
+			}
+			var index = -1;
+			for (var i = 0; i < noOfCoefficients; i++) {
+				if (cos.getEntry(i) == 0) {
+					continue;
+				}
+				if (index != -1) {
+					index = -1; // more than one Coefficient
+					break;
+				}
+				index = i;
+			}
+			if (index == -1 || isBounded[index]) {
+				continue;
+			}
+			final var isLowerBound = switch (c.getRelationship()) {
+			case EQ -> true;
+			case GEQ -> cos.getEntry(index) > 0;
+			case LEQ -> cos.getEntry(index) < 0;
+			};
+			if (isLowerBound) {
+				isBounded[index] = true;
+				remaining--;
+			}
 		}
-		return result;
+		return remaining == 0;
 	}
 
 	/**
@@ -35,25 +35,49 @@ public enum TargetDirection {
 		var equals0 = createSumOfPConstraint(inverters, coefficients, Relationship.EQUALS, 0);
 		constraints.add(equals0);
 		try {
-			ConstraintSolver.solve(coefficients, constraints);
+			ConstraintSolver.findFeasibleSolution(coefficients, constraints);
 			return TargetDirection.KEEP_ZERO;
 		} catch (MathIllegalStateException e) {
 			constraints.remove(equals0);
 			var greaterOrEquals0 = createSumOfPConstraint(inverters, coefficients, Relationship.GREATER_OR_EQUALS, 0);
 			constraints.add(greaterOrEquals0);
 			try {
-				ConstraintSolver.solve(coefficients, constraints);
+				ConstraintSolver.findFeasibleSolution(coefficients, constraints);
 				return TargetDirection.DISCHARGE;
 			} catch (MathIllegalStateException e2) {
 				constraints.remove(greaterOrEquals0);
 				var lessOrEquals0 = createSumOfPConstraint(inverters, coefficients, Relationship.LESS_OR_EQUALS, 0);
 				constraints.add(lessOrEquals0);
-				ConstraintSolver.solve(coefficients, constraints);
+				ConstraintSolver.findFeasibleSolution(coefficients, constraints);
 				return TargetDirection.CHARGE;
 			}
 		}
 	}
 
+	/**
+	 * Gets the TargetDirection of a solution, i.e. whether the sum of active power
+	 * of all Inverters is positive (DISCHARGE), negative (CHARGE) or zero.
+	 *
+	 * @param inverters    list of {@link Inverter}s
+	 * @param coefficients the {@link Coefficients}
+	 * @param points       the solution, indexed like the {@link Coefficients}
+	 * @return the {@link TargetDirection}
+	 * @throws OpenemsException on error
+	 */
+	public static TargetDirection from(List<Inverter> inverters, Coefficients coefficients, double[] points)
+			throws OpenemsException {
+		var sum = 0d;
+		for (Inverter inverter : inverters) {
+			sum += points[coefficients.of(inverter.getEssId(), inverter.getPhase(), Pwr.ACTIVE).getIndex()];
+		}
+		if (Math.round(sum) > 0) {
+			return TargetDirection.DISCHARGE;
+		} else if (Math.round(sum) < 0) {
+			return TargetDirection.CHARGE;
+		}
+		return TargetDirection.KEEP_ZERO;
+	}
+
 	/**
 	 * Creates Constraints for Sum of P.
 	 *
@@ -14,6 +14,7 @@ import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.core.power.data.LinearSolverUtil;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.SolverStatistics;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
@@ -48,6 +49,7 @@ public class AddConstraintsForNotStrictlyDefinedCoefficients {
 
 			// get Max value over all relevant Coefficients
 			double max;
+			var startNanos = System.nanoTime();
 			try {
 				var solver = new SimplexSolver();
 				var solution = solver.optimize(//
@@ -62,9 +64,12 @@ public class AddConstraintsForNotStrictlyDefinedCoefficients {
 				}
 			} catch (Exception e) {
 				max = Double.MAX_VALUE;
+			} finally {
+				SolverStatistics.record(startNanos);
 			}
 			// get Min value over all relevant Coefficients
 			double min;
+			startNanos = System.nanoTime();
 			try {
 				var solver = new SimplexSolver();
 				var solution = solver.optimize(//
@@ -79,6 +84,8 @@ public class AddConstraintsForNotStrictlyDefinedCoefficients {
 				}
 			} catch (Exception e) {
 				min = Double.MIN_VALUE;
+			} finally {
+				SolverStatistics.record(startNanos);
 			}
 
 			if (min == max) {
@@ -130,7 +137,7 @@ public class AddConstraintsForNotStrictlyDefinedCoefficients {
 			allConstraints.addAll(newConstraints);
 			for (Constraint constraint : newConstraints) {
 				try {
-					ConstraintSolver.solve(coefficients, allConstraints);
+					ConstraintSolver.findFeasibleSolution(coefficients, allConstraints);
 					break;
 				} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
 					// Unable to add Constraint
@@ -0,0 +1,404 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.common.type.Phase.SingleOrAllPhase;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.api.MetaEss;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+
+/**
+ * Solves simple Power problems analytically, without a linear program.
+ *
+ * <p>
+ * Supported are symmetric problems whose Constraints - after interval
+ * propagation - are only bounds on single Coefficients and the 'Sum of'
+ * Constraints of {@link MetaEss} Clusters. The value of every Ess that is not
+ * part of a Cluster is set to the value closest to zero within its bounds
+ * (like {@code AddConstraintsForNotStrictlyDefinedCoefficients}); the value of
+ * a Cluster is distributed to its Ess proportionally to their available power.
+ * Reactive power is distributed before active power.
+ *
+ * <p>
+ * Every result is verified against all Constraints. If the problem is not
+ * supported or the result violates a Constraint, null is returned and the
+ * caller has to fall back to the linear program.
+ */
+public final class BoundPropagationSolver {
+
+	private static final int MAX_ITERATIONS = 100;
+	private static final double EPSILON = 1e-6;
+	private static final double TOLERANCE = 1e-3;
+
+	private static record Row(int[] indices, double[] values, Relationship relationship, double value) {
+	}
+
+	private BoundPropagationSolver() {
+	}
+
+	/**
+	 * Tries to solve the problem analytically.
+	 *
+	 * @param coefficients the {@link Coefficients}
+	 * @param esss         all {@link ManagedSymmetricEss}s, including
+	 *                     {@link MetaEss}s
+	 * @param constraints  all {@link Constraint}s
+	 * @return the solution, indexed like the {@link Coefficients}; null if the
+	 *         problem is not supported
+	 * @throws OpenemsException on error
+	 */
+	public static double[] solve(Coefficients coefficients, List<ManagedSymmetricEss> esss,
+			List<Constraint> constraints) throws OpenemsException {
+		// Only symmetric problems with one Coefficient per Ess and Pwr
+		for (var c : coefficients.getAll()) {
+			if (c.getPhase() != SingleOrAllPhase.ALL) {
+				return null;
+			}
+		}
+
+		final var noOfCoefficients = coefficients.getNoOfCoefficients();
+		final var rows = toRows(constraints, noOfCoefficients);
+		if (rows == null) {
+			return null;
+		}
+		final var lower = new double[noOfCoefficients];
+		final var upper = new double[noOfCoefficients];
+		for (var i = 0; i < noOfCoefficients; i++) {
+			lower[i] = Double.NEGATIVE_INFINITY;
+			upper[i] = Double.POSITIVE_INFINITY;
+		}
+		if (!propagate(rows, lower, upper)) {
+			return null;
+		}
+
+		// Build the Cluster hierarchy
+		final var children = new HashMap<String, List<String>>();
+		final var allChildren = new HashSet<String>();
+		for (var ess : esss) {
+			if (ess instanceof MetaEss e) {
+				final var ids = List.of(e.getEssIds());
+				children.put(ess.id(), ids);
+				allChildren.addAll(ids);
+			}
+		}
+
+		for (var pwr : new Pwr[] { Pwr.REACTIVE, Pwr.ACTIVE }) {
+			final var indices = new HashMap<String, Integer>();
+			for (var ess : esss) {
+				indices.put(ess.id(), coefficients.of(ess.id(), SingleOrAllPhase.ALL, pwr).getIndex());
+			}
+			if (!isSupported(rows, coefficients, pwr, children, indices, lower, upper)) {
+				return null;
+			}
+
+			// Roots are Ess that are not part of any Cluster
+			final var roots = esss.stream() //
+					.map(ManagedSymmetricEss::id) //
+					.filter(id -> !allChildren.contains(id)) //
+					.toList();
+			final var unfixedRoots = roots.stream() //
+					.filter(id -> !isFixed(lower, upper, indices.get(id))) //
+					.toList();
+			if (unfixedRoots.size() > 1) {
+				// Choosing the value closest to zero per root is only equal to choosing it for
+				// the sum if zero is within all bounds
+				for (var id : unfixedRoots) {
+					final int index = indices.get(id);
+					if (lower[index] > EPSILON || upper[index] < -EPSILON) {
+						return null;
+					}
+				}
+			}
+			for (var id : roots) {
+				final int index = indices.get(id);
+				if (!assign(id, closestToZero(lower[index], upper[index]), children, indices, lower, upper)) {
+					return null;
+				}
+			}
+			if (!propagate(rows, lower, upper)) {
+				return null;
+			}
+		}
+
+		// Verify the solution
+		for (var i = 0; i < noOfCoefficients; i++) {
+			if (!isFixed(lower, upper, i)) {
+				return null;
+			}
+		}
+		final var result = lower.clone();
+		for (var row : rows) {
+			if (!isSatisfied(row, result)) {
+				return null;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Converts the {@link Constraint}s to {@link Row}s.
+	 *
+	 * @param constraints      the {@link Constraint}s
+	 * @param noOfCoefficients the number of Coefficients
+	 * @return a list of {@link Row}s; null on a race condition
+	 */
+	private static List<Row> toRows(List<Constraint> constraints, int noOfCoefficients) {
+		final var result = new ArrayList<Row>(constraints.size());
+		for (var c : constraints) {
+			final var value = c.getValue();
+			if (value.isEmpty()) {
+				continue;
+			}
+			final var cos = c.getCoefficients();
+			final var indices = new int[cos.length];
+			final var values = new double[cos.length];
+			for (var i = 0; i < cos.length; i++) {
+				indices[i] = cos[i].getCoefficient().getIndex();
+				if (indices[i] >= noOfCoefficients) { // check for race conditions
+					return null;
+				}
+				values[i] = cos[i].getValue();
+			}
+			result.add(new Row(indices, values, c.getRelationship(), value.get()));
+		}
+		return result;
+	}
+
+	/**
+	 * Tightens the bounds of all Coefficients until a fixpoint is reached.
+	 *
+	 * @param rows  the {@link Row}s
+	 * @param lower the lower bounds; updated in place
+	 * @param upper the upper bounds; updated in place
+	 * @return false if the problem is infeasible
+	 */
+	private static boolean propagate(List<Row> rows, double[] lower, double[] upper) {
+		for (var iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+			var changed = false;
+			for (var row : rows) {
+				if (row.relationship() != Relationship.GREATER_OR_EQUALS) {
+					changed |= tighten(row, 1, lower, upper); // sum(a*x) <= b
+				}
+				if (row.relationship() != Relationship.LESS_OR_EQUALS) {
+					changed |= tighten(row, -1, lower, upper); // sum(-a*x) <= -b
+				}
+			}
+			for (var i = 0; i < lower.length; i++) {
+				if (lower[i] > upper[i] + TOLERANCE) {
+					return false;
+				}
+				if (lower[i] > upper[i]) {
+					lower[i] = upper[i] = (lower[i] + upper[i]) / 2;
+				}
+			}
+			if (!changed) {
+				break;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Tightens the bounds of the Coefficients of one {@link Row} of the form
+	 * 'sign * sum(a*x) &lt;= sign * b'.
+	 *
+	 * @param row   the {@link Row}
+	 * @param sign  1 or -1
+	 * @param lower the lower bounds; updated in place
+	 * @param upper the upper bounds; updated in place
+	 * @return true if any bound was changed
+	 */
+	private static boolean tighten(Row row, int sign, double[] lower, double[] upper) {
+		// Minimum activity of the row; infinite contributions are counted separately
+		var minActivity = 0d;
+		var noOfInfinite = 0;
+		for (var i = 0; i < row.indices().length; i++) {
+			final var contribution = minContribution(sign * row.values()[i], row.indices()[i], lower, upper);
+			if (Double.isInfinite(contribution)) {
+				noOfInfinite++;
+			} else {
+				minActivity += contribution;
+			}
+		}
+		if (noOfInfinite > 1) {
+			return false;
+		}
+
+		var changed = false;
+		final var b = sign * row.value();
+		for (var i = 0; i < row.indices().length; i++) {
+			final var a = sign * row.values()[i];
+			if (a == 0) {
+				continue;
+			}
+			final var index = row.indices()[i];
+			final var contribution = minContribution(a, index, lower, upper);
+			final double residual;
+			if (Double.isInfinite(contribution)) {
+				residual = minActivity;
+			} else if (noOfInfinite == 0) {
+				residual = minActivity - contribution;
+			} else {
+				continue;
+			}
+			final var bound = (b - residual) / a;
+			if (a > 0 && bound < upper[index] - EPSILON) {
+				upper[index] = bound;
+				changed = true;
+			} else if (a < 0 && bound > lower[index] + EPSILON) {
+				lower[index] = bound;
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	private static double minContribution(double a, int index, double[] lower, double[] upper) {
+		if (a == 0) {
+			return 0;
+		}
+		return a > 0 ? a * lower[index] : a * upper[index];
+	}
+
+	/**
+	 * Checks whether every {@link Row} has at most one not yet fixed Coefficient of
+	 * the given {@link Pwr} - except the 'Sum of' Constraints of Clusters.
+	 *
+	 * @param rows         the {@link Row}s
+	 * @param coefficients the {@link Coefficients}
+	 * @param pwr          the {@link Pwr}
+	 * @param children     the Cluster hierarchy
+	 * @param indices      the Coefficient index of each Ess for the {@link Pwr}
+	 * @param lower        the lower bounds
+	 * @param upper        the upper bounds
+	 * @return true if the structure is supported
+	 */
+	private static boolean isSupported(List<Row> rows, Coefficients coefficients, Pwr pwr,
+			Map<String, List<String>> children, Map<String, Integer> indices, double[] lower, double[] upper) {
+		final var clusterRows = new HashSet<Set<Integer>>();
+		for (var entry : children.entrySet()) {
+			final var set = new HashSet<Integer>();
+			set.add(indices.get(entry.getKey()));
+			for (var child : entry.getValue()) {
+				final var index = indices.get(child);
+				if (index == null) {
+					return false;
+				}
+				set.add(index);
+			}
+			clusterRows.add(set);
+		}
+		final var all = coefficients.getAll();
+		for (var row : rows) {
+			var noOfUnfixed = 0;
+			for (var index : row.indices()) {
+				if (all.get(index).getPwr() == pwr && !isFixed(lower, upper, index)) {
+					noOfUnfixed++;
+				}
+			}
+			if (noOfUnfixed < 2) {
+				continue;
+			}
+			final var set = new HashSet<Integer>();
+			for (var index : row.indices()) {
+				set.add(index);
+			}
+			if (row.relationship() != Relationship.EQUALS || !clusterRows.contains(set)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Assigns a value to an Ess; for a Cluster the value is distributed to its Ess
+	 * proportionally to their available power.
+	 *
+	 * @param essId    the ID of the Ess
+	 * @param value    the value
+	 * @param children the Cluster hierarchy
+	 * @param indices  the Coefficient index of each Ess for the current
+	 *                 {@link Pwr}
+	 * @param lower    the lower bounds; updated in place
+	 * @param upper    the upper bounds; updated in place
+	 * @return false if the value cannot be distributed
+	 */
+	private static boolean assign(String essId, double value, Map<String, List<String>> children,
+			Map<String, Integer> indices, double[] lower, double[] upper) {
+		final int index = indices.get(essId);
+		lower[index] = value;
+		upper[index] = value;
+
+		final var childIds = children.get(essId);
+		if (childIds == null) {
+			return true;
+		}
+		final var base = new double[childIds.size()];
+		final var headroom = new double[childIds.size()];
+		var remaining = value;
+		for (var i = 0; i < childIds.size(); i++) {
+			final int childIndex = indices.get(childIds.get(i));
+			base[i] = closestToZero(lower[childIndex], upper[childIndex]);
+			remaining -= base[i];
+		}
+		var totalHeadroom = 0d;
+		for (var i = 0; i < childIds.size(); i++) {
+			final int childIndex = indices.get(childIds.get(i));
+			headroom[i] = remaining > 0 //
+					? upper[childIndex] - base[i] //
+					: base[i] - lower[childIndex];
+			if (Double.isInfinite(headroom[i])) {
+				// unbounded
+				return false;
+			}
+			totalHeadroom += headroom[i];
+		}
+		if (Math.abs(remaining) > totalHeadroom + TOLERANCE) {
+			return false;
+		}
+		final var share = totalHeadroom > 0 ? Math.min(1, Math.abs(remaining) / totalHeadroom) : 0;
+		for (var i = 0; i < childIds.size(); i++) {
+			final var childValue = base[i] + Math.signum(remaining) * headroom[i] * share;
+			if (!assign(childIds.get(i), childValue, children, indices, lower, upper)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static double closestToZero(double lower, double upper) {
+		if (lower > 0) {
+			return lower;
+		}
+		if (upper < 0) {
+			return upper;
+		}
+		return 0;
+	}
+
+	private static boolean isFixed(double[] lower, double[] upper, int index) {
+		return upper[index] - lower[index] <= EPSILON;
+	}
+
+	private static boolean isSatisfied(Row row, double[] points) {
+		var activity = 0d;
+		for (var i = 0; i < row.indices().length; i++) {
+			activity += row.values()[i] * points[row.indices()[i]];
+		}
+		return switch (row.relationship()) {
+		case EQUALS -> Math.abs(activity - row.value()) <= TOLERANCE;
+		case GREATER_OR_EQUALS -> activity >= row.value() - TOLERANCE;
+		case LESS_OR_EQUALS -> activity <= row.value() + TOLERANCE;
+		};
+	}
+
+}
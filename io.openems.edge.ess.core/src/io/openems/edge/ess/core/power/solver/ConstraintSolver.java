@@ -6,12 +6,26 @@ import org.apache.commons.math3.optim.PointValuePair;
 import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
 import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import io.openems.edge.ess.core.power.data.LinearSolverUtil;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
 
 public class ConstraintSolver {
 
+	private static final int MAX_CACHED_SOLUTIONS = 16;
+
+	/**
+	 * The last solution per {@link Coefficients} instance. Keys are weak and
+	 * compared by identity.
+	 */
+	private static final Cache<Coefficients, double[]> LAST_SOLUTIONS = CacheBuilder.newBuilder() //
+			.weakKeys() //
+			.maximumSize(MAX_CACHED_SOLUTIONS) //
+			.build();
+
 	/**
 	 * Solves the problem with the given list of Constraints.
 	 *
@@ -24,7 +38,43 @@ public class ConstraintSolver {
 	public static PointValuePair solve(Coefficients coefficients, List<Constraint> constraints)
 			throws NoFeasibleSolutionException, UnboundedSolutionException {
 		var linearConstraints = LinearSolverUtil.convertToLinearConstraints(coefficients, constraints);
-		return LinearConstraintsSolver.solve(coefficients, linearConstraints);
+		var result = LinearConstraintsSolver.solve(coefficients, linearConstraints);
+		LAST_SOLUTIONS.put(coefficients, result.getPoint());
+		return result;
+	}
+
+	/**
+	 * Finds any solution for the given list of Constraints; use this method if
+	 * only the feasibility of the problem is of interest.
+	 *
+	 * <p>
+	 * Feasibility shortcut: the last solution for the same {@link Coefficients}
+	 * is returned without solving, if it satisfies all Constraints and if every
+	 * Coefficient is bounded below by a Constraint, so the problem can not be
+	 * unbounded. Otherwise the linear program is solved from scratch - the simplex
+	 * tableau is not reused - which throws an {@link UnboundedSolutionException}
+	 * for an unbounded problem.
+	 *
+	 * @param coefficients the {@link Coefficients}
+	 * @param constraints  a list of Constraints
+	 * @return a feasible solution, not necessarily optimal
+	 * @throws NoFeasibleSolutionException if not solvable
+	 * @throws UnboundedSolutionException  if not solvable
+	 */
+	public static PointValuePair findFeasibleSolution(Coefficients coefficients, List<Constraint> constraints)
+			throws NoFeasibleSolutionException, UnboundedSolutionException {
+		var linearConstraints = LinearSolverUtil.convertToLinearConstraints(coefficients, constraints);
+		var lastSolution = LAST_SOLUTIONS.getIfPresent(coefficients);
+		final var noOfCoefficients = coefficients.getNoOfCoefficients();
+		if (lastSolution != null //
+				&& LinearSolverUtil.isFeasible(lastSolution, linearConstraints) //
+				&& LinearSolverUtil.isEveryCoefficientBoundedBelow(noOfCoefficients, linearConstraints)) {
+			return new PointValuePair(lastSolution,
+					LinearSolverUtil.getDefaultObjectiveFunction(noOfCoefficients).value(lastSolution));
+		}
+		var result = LinearConstraintsSolver.solve(coefficients, linearConstraints);
+		LAST_SOLUTIONS.put(coefficients, result.getPoint());
+		return result;
 	}
 
 }
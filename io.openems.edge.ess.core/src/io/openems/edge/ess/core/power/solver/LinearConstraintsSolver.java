@@ -27,12 +27,17 @@ public class LinearConstraintsSolver {
 			throws MathIllegalStateException {
 		var objectiveFunction = LinearSolverUtil.getDefaultObjectiveFunction(coefficients.getNoOfCoefficients());
 
-		var solver = new SimplexSolver();
-		return solver.optimize(//
-				objectiveFunction, //
-				new LinearConstraintSet(constraints), //
-				GoalType.MINIMIZE, //
-				PivotSelectionRule.BLAND);
+		final var startNanos = System.nanoTime();
+		try {
+			var solver = new SimplexSolver();
+			return solver.optimize(//
+					objectiveFunction, //
+					new LinearConstraintSet(constraints), //
+					GoalType.MINIMIZE, //
+					PivotSelectionRule.BLAND);
+		} finally {
+			SolverStatistics.record(startNanos);
+		}
 	}
 
 }
@@ -0,0 +1,57 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the linear programs that are solved by the Power-Solver and the time
+ * spent solving them. The values are collected and reset once per Cycle by
+ * {@link #getAndReset()}.
+ */
+public final class SolverStatistics {
+
+	/**
+	 * The statistics since the last reset.
+	 *
+	 * @param solveCount the number of solved linear programs
+	 * @param solveNanos the cumulated solve time in nanoseconds
+	 */
+	public static record Snapshot(int solveCount, long solveNanos) {
+
+		/**
+		 * Gets the cumulated solve time in milliseconds.
+		 *
+		 * @return the solve time
+		 */
+		public int solveMillis() {
+			return (int) TimeUnit.NANOSECONDS.toMillis(this.solveNanos);
+		}
+	}
+
+	private static final LongAdder SOLVE_COUNT = new LongAdder();
+	private static final LongAdder SOLVE_NANOS = new LongAdder();
+
+	private SolverStatistics() {
+	}
+
+	/**
+	 * Records one solved linear program.
+	 *
+	 * @param startNanos the {@link System#nanoTime()} when solving started
+	 */
+	public static void record(long startNanos) {
+		SOLVE_COUNT.increment();
+		SOLVE_NANOS.add(System.nanoTime() - startNanos);
+	}
+
+	/**
+	 * Gets the statistics since the last call and resets them.
+	 *
+	 * @return the {@link Snapshot}
+	 */
+	public static Snapshot getAndReset() {
+		// Values are reset every Cycle, i.e. they fit in an int
+		return new Snapshot((int) SOLVE_COUNT.sumThenReset(), SOLVE_NANOS.sumThenReset());
+	}
+
+}
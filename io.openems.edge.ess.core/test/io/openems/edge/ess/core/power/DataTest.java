@@ -1,6 +1,8 @@
 package io.openems.edge.ess.core.power;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 
 import java.util.List;
 
@@ -9,7 +11,11 @@ import org.junit.Test;
 
 import com.google.common.collect.Lists;
 
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.common.type.Phase.SingleOrAllPhase;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
 import io.openems.edge.ess.test.DummyManagedSymmetricEss;
 import io.openems.edge.ess.test.DummyMetaEss;
 
@@ -55,4 +61,31 @@ public class DataTest {
 		data.setSymmetricMode(false);
 		assertEquals(esss.size() * 4 /* phases + all */ * 2 /* pwr */, data.getCoefficients().getNoOfCoefficients());
 	}
+
+	@Test
+	public void testVersionAndCache() throws OpenemsException {
+		var version = data.getVersion();
+		var linearConstraints = data.getLinearConstraintsForAllInverters();
+		var noOfConstraints = data.getConstraintsForAllInverters().size();
+
+		// Unchanged version -> cached result
+		assertEquals(version, data.getVersion());
+		assertSame(linearConstraints, data.getLinearConstraintsForAllInverters());
+
+		// Adding a Constraint changes the version
+		data.addSimpleConstraint("test", "ess1", SingleOrAllPhase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 1000);
+		assertNotEquals(version, data.getVersion());
+		assertEquals(noOfConstraints + 1, data.getConstraintsForAllInverters().size());
+		assertEquals(linearConstraints.size() + 1, data.getLinearConstraintsForAllInverters().size());
+
+		// Returned List is a copy
+		data.getConstraintsForAllInverters().clear();
+		assertEquals(noOfConstraints + 1, data.getConstraintsForAllInverters().size());
+
+		// New Cycle removes Constraints and changes the version
+		version = data.getVersion();
+		data.initializeCycle();
+		assertNotEquals(version, data.getVersion());
+		assertEquals(noOfConstraints, data.getConstraintsForAllInverters().size());
+	}
 }
@@ -10,6 +10,7 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private SolverStrategy strategy;
 		private boolean symmetricMode;
 		private boolean debugMode;
+		private boolean fastPath;
 		private boolean enablePid;
 		private double p;
 		private double i;
@@ -33,6 +34,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setFastPath(boolean fastPath) {
+			this.fastPath = fastPath;
+			return this;
+		}
+
 		public Builder setEnablePid(boolean enablePid) {
 			this.enablePid = enablePid;
 			return this;
@@ -89,6 +95,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.debugMode;
 	}
 
+	@Override
+	public boolean fastPath() {
+		return this.builder.fastPath;
+	}
+
 	@Override
 	public boolean enablePid() {
 		return this.builder.enablePid;
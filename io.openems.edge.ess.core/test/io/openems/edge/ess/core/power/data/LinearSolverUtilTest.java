@@ -3,9 +3,14 @@ package io.openems.edge.ess.core.power.data;
 import static io.openems.edge.common.type.Phase.SingleOrAllPhase.ALL;
 import static io.openems.edge.ess.core.power.data.ConstraintUtil.createSimpleConstraint;
 import static io.openems.edge.ess.power.api.Pwr.ACTIVE;
+import static io.openems.edge.ess.power.api.Pwr.REACTIVE;
 import static io.openems.edge.ess.power.api.Relationship.EQUALS;
 import static io.openems.edge.ess.power.api.Relationship.GREATER_OR_EQUALS;
 import static io.openems.edge.ess.power.api.Relationship.LESS_OR_EQUALS;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 import java.util.Set;
@@ -41,4 +46,59 @@ public class LinearSolverUtilTest {
 		LinearSolverUtil.convertToLinearConstraints(coefficients, constraints);
 	}
 
+	@Test
+	public void testConvertToLinearConstraintsIsCached() throws OpenemsException {
+		final var coefficients = new Coefficients();
+		coefficients.initialize(true, Set.of("ess0"));
+		var constraint = createSimpleConstraint(coefficients, //
+				"Dummy EQUALS", "ess0", ALL, ACTIVE, EQUALS, 1000);
+		var first = LinearSolverUtil.convertToLinearConstraints(coefficients, List.of(constraint)).get(0);
+		assertSame(first, LinearSolverUtil.convertToLinearConstraints(coefficients, List.of(constraint)).get(0));
+
+		// Changed layout -> converted again
+		coefficients.initialize(true, Set.of("ess0", "ess1"));
+		assertNotSame(first, LinearSolverUtil.convertToLinearConstraints(coefficients, List.of(constraint)).get(0));
+	}
+
+	@Test
+	public void testIsFeasible() throws OpenemsException {
+		final var coefficients = new Coefficients();
+		coefficients.initialize(true, Set.of("ess0"));
+		var index = coefficients.of("ess0", ALL, ACTIVE).getIndex();
+		var constraints = LinearSolverUtil.convertToLinearConstraints(coefficients, List.of(//
+				createSimpleConstraint(coefficients, //
+						"Dummy GREATER_OR_EQUALS", "ess0", ALL, ACTIVE, GREATER_OR_EQUALS, -1000), //
+				createSimpleConstraint(coefficients, //
+						"Dummy LESS_OR_EQUALS", "ess0", ALL, ACTIVE, LESS_OR_EQUALS, 1000)));
+
+		var point = new double[coefficients.getNoOfCoefficients()];
+		point[index] = 500;
+		assertTrue(LinearSolverUtil.isFeasible(point, constraints));
+		point[index] = 1500;
+		assertFalse(LinearSolverUtil.isFeasible(point, constraints));
+		assertFalse(LinearSolverUtil.isFeasible(new double[0], constraints));
+	}
+
+	@Test
+	public void testIsEveryCoefficientBoundedBelow() throws OpenemsException {
+		final var coefficients = new Coefficients();
+		coefficients.initialize(true, Set.of("ess0"));
+		final var noOfCoefficients = coefficients.getNoOfCoefficients();
+		final var activeUpper = createSimpleConstraint(coefficients, //
+				"Dummy ACTIVE LESS_OR_EQUALS", "ess0", ALL, ACTIVE, LESS_OR_EQUALS, 1000);
+		final var activeLower = createSimpleConstraint(coefficients, //
+				"Dummy ACTIVE GREATER_OR_EQUALS", "ess0", ALL, ACTIVE, GREATER_OR_EQUALS, -1000);
+		final var reactive = createSimpleConstraint(coefficients, //
+				"Dummy REACTIVE EQUALS", "ess0", ALL, REACTIVE, EQUALS, 0);
+
+		assertTrue(LinearSolverUtil.isEveryCoefficientBoundedBelow(noOfCoefficients,
+				LinearSolverUtil.convertToLinearConstraints(coefficients, List.of(activeLower, reactive))));
+		// ACTIVE has no lower bound
+		assertFalse(LinearSolverUtil.isEveryCoefficientBoundedBelow(noOfCoefficients,
+				LinearSolverUtil.convertToLinearConstraints(coefficients, List.of(activeUpper, reactive))));
+		// REACTIVE is not constrained at all
+		assertFalse(LinearSolverUtil.isEveryCoefficientBoundedBelow(noOfCoefficients,
+				LinearSolverUtil.convertToLinearConstraints(coefficients, List.of(activeLower))));
+	}
+
 }
@@ -0,0 +1,126 @@
+package io.openems.edge.ess.core.power.solver;
+
+import static io.openems.edge.common.type.Phase.SingleOrAllPhase.ALL;
+import static io.openems.edge.ess.power.api.Pwr.ACTIVE;
+import static io.openems.edge.ess.power.api.Pwr.REACTIVE;
+import static io.openems.edge.ess.power.api.Relationship.EQUALS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.core.power.Data;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.LinearCoefficient;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+import io.openems.edge.ess.test.DummyMetaEss;
+
+public class BoundPropagationSolverTest {
+
+	private static final double DELTA = 0.001;
+
+	@Test
+	public void testSingleEss() throws OpenemsException {
+		var ess0 = new DummyManagedSymmetricEss("ess0") //
+				.withAllowedChargePower(-10000) //
+				.withAllowedDischargePower(10000) //
+				.withMaxApparentPower(12000);
+		var data = new MyData(ess0);
+
+		data.addSimpleConstraint("", "ess0", ALL, ACTIVE, EQUALS, 3000);
+		var points = solve(data);
+		assertNotNull(points);
+		assertEquals(3000, points[index(data, "ess0", ACTIVE)], DELTA);
+		assertEquals(0, points[index(data, "ess0", REACTIVE)], DELTA);
+
+		// Not strictly defined -> closest to zero
+		data.initializeCycle();
+		points = solve(data);
+		assertNotNull(points);
+		assertEquals(0, points[index(data, "ess0", ACTIVE)], DELTA);
+
+		// Infeasible
+		data.initializeCycle();
+		data.addSimpleConstraint("", "ess0", ALL, ACTIVE, EQUALS, 20000);
+		assertNull(solve(data));
+	}
+
+	@Test
+	public void testCluster() throws OpenemsException {
+		var ess1 = new DummyManagedSymmetricEss("ess1") //
+				.withAllowedChargePower(-10000) //
+				.withAllowedDischargePower(10000) //
+				.withMaxApparentPower(10000);
+		var ess2 = new DummyManagedSymmetricEss("ess2") //
+				.withAllowedChargePower(-30000) //
+				.withAllowedDischargePower(30000) //
+				.withMaxApparentPower(30000);
+		var ess0 = new DummyMetaEss("ess0", ess1, ess2);
+		var data = new MyData(ess0, ess1, ess2);
+
+		// Proportional distribution
+		data.addSimpleConstraint("", "ess0", ALL, ACTIVE, EQUALS, 8000);
+		var points = solve(data);
+		assertNotNull(points);
+		assertEquals(8000, points[index(data, "ess0", ACTIVE)], DELTA);
+		assertEquals(2000, points[index(data, "ess1", ACTIVE)], DELTA);
+		assertEquals(6000, points[index(data, "ess2", ACTIVE)], DELTA);
+
+		// Fixed Ess within Cluster
+		data.initializeCycle();
+		data.addSimpleConstraint("", "ess0", ALL, ACTIVE, EQUALS, -12000);
+		data.addSimpleConstraint("", "ess1", ALL, ACTIVE, EQUALS, -1000);
+		points = solve(data);
+		assertNotNull(points);
+		assertEquals(-1000, points[index(data, "ess1", ACTIVE)], DELTA);
+		assertEquals(-11000, points[index(data, "ess2", ACTIVE)], DELTA);
+
+		// General Constraint -> not supported
+		data.initializeCycle();
+		data.addConstraint(new Constraint("", new LinearCoefficient[] { //
+				new LinearCoefficient(data.getCoefficients().of("ess1", ALL, ACTIVE), 1), //
+				new LinearCoefficient(data.getCoefficients().of("ess2", ALL, ACTIVE), 2) //
+		}, EQUALS, 5000));
+		assertNull(solve(data));
+	}
+
+	private static double[] solve(MyData data) throws OpenemsException {
+		return BoundPropagationSolver.solve(data.getCoefficients(), data.getEsss(),
+				data.getConstraintsForAllInverters());
+	}
+
+	private static int index(MyData data, String essId, Pwr pwr) throws OpenemsException {
+		return data.getCoefficients().of(essId, ALL, pwr).getIndex();
+	}
+
+	private static class MyData extends Data {
+
+		public MyData(ManagedSymmetricEss... esss) {
+			for (var ess : esss) {
+				this.addEss(ess);
+			}
+			this.initializeCycle();
+		}
+
+		@Override
+		protected List<ManagedSymmetricEss> getEsss() {
+			return super.getEsss();
+		}
+
+		@Override
+		protected void addConstraint(Constraint constraint) {
+			super.addConstraint(constraint);
+		}
+
+		@Override
+		protected synchronized void initializeCycle() {
+			super.initializeCycle();
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package io.openems.edge.ess.core.power.solver;
+
+import static io.openems.edge.common.type.Phase.SingleOrAllPhase.ALL;
+import static io.openems.edge.ess.core.power.data.ConstraintUtil.createSimpleConstraint;
+import static io.openems.edge.ess.power.api.Pwr.ACTIVE;
+import static io.openems.edge.ess.power.api.Pwr.REACTIVE;
+import static io.openems.edge.ess.power.api.Relationship.EQUALS;
+import static io.openems.edge.ess.power.api.Relationship.GREATER_OR_EQUALS;
+import static io.openems.edge.ess.power.api.Relationship.LESS_OR_EQUALS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.power.api.Coefficients;
+
+public class ConstraintSolverTest {
+
+	@Test
+	public void testFindFeasibleSolution() throws OpenemsException {
+		final var coefficients = new Coefficients();
+		coefficients.initialize(true, Set.of("ess0"));
+		final var index = coefficients.of("ess0", ALL, ACTIVE).getIndex();
+		final var activeLower = createSimpleConstraint(coefficients, //
+				"Dummy ACTIVE GREATER_OR_EQUALS", "ess0", ALL, ACTIVE, GREATER_OR_EQUALS, -1000);
+		final var activeUpper = createSimpleConstraint(coefficients, //
+				"Dummy ACTIVE LESS_OR_EQUALS", "ess0", ALL, ACTIVE, LESS_OR_EQUALS, 1000);
+		final var reactive = createSimpleConstraint(coefficients, //
+				"Dummy REACTIVE EQUALS", "ess0", ALL, REACTIVE, EQUALS, 0);
+
+		final var solution = ConstraintSolver.findFeasibleSolution(coefficients,
+				List.of(activeLower, activeUpper, reactive));
+		assertEquals(-1000, solution.getPoint()[index], 0.001);
+
+		// Feasibility shortcut: the last solution is still feasible
+		assertEquals(-1000, ConstraintSolver.findFeasibleSolution(coefficients, //
+				List.of(activeLower, reactive)).getPoint()[index], 0.001);
+
+		// The last solution is still feasible, but the problem is unbounded
+		assertThrows(UnboundedSolutionException.class,
+				() -> ConstraintSolver.findFeasibleSolution(coefficients, List.of(activeUpper, reactive)));
+	}
+
+}
@@ -4,7 +4,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -346,11 +346,13 @@ public class CoreEventHandlerImpl implements ServerCoreEventHandler {
 		AbstractManagedOcppEvcsComponent evcs;
 		var evcss = this.getEvcssBySessionIndex(sessionIndex);
 		if (evcss.size() == 1) {
-			evcs = evcss.get(0);
+			evcs = evcss.iterator().next();
 		} else {
 			evcs = this.getEvcsBySessionIndexAndConnector(sessionIndex, request.getTransactionId());
 		}
-		evcs._setStatus(Status.CHARGING_REJECTED);
+		if (evcs != null) {
+			evcs._setStatus(Status.CHARGING_REJECTED);
+		}
 
 		var response = new StopTransactionConfirmation();
 		response.setIdTagInfo(tag);
@@ -367,11 +369,14 @@ public class CoreEventHandlerImpl implements ServerCoreEventHandler {
 	 * by itself.
 	 *
 	 * @param sessionIndex given session
-	 * @return List of AbstractOcppEvcsComponent
+	 * @return Collection of AbstractOcppEvcsComponent
 	 */
-	private List<AbstractManagedOcppEvcsComponent> getEvcssBySessionIndex(UUID sessionIndex) {
-		return this.parent.activeEvcsSessions.getOrDefault(sessionIndex,
-				new ArrayList<AbstractManagedOcppEvcsComponent>());
+	private Collection<AbstractManagedOcppEvcsComponent> getEvcssBySessionIndex(UUID sessionIndex) {
+		var session = this.parent.sessions.get(sessionIndex);
+		if (session == null) {
+			return List.of();
+		}
+		return session.getEvcss();
 	}
 
 	/**
@@ -387,12 +392,11 @@ public class CoreEventHandlerImpl implements ServerCoreEventHandler {
 	 * @return EVCS Component with the given session and connectorId.
 	 */
 	private AbstractManagedOcppEvcsComponent getEvcsBySessionIndexAndConnector(UUID sessionIndex, int connectorId) {
-		var evcss = this.getEvcssBySessionIndex(sessionIndex);
-		if (evcss != null) {
-			for (AbstractManagedOcppEvcsComponent ocppEvcs : evcss) {
-				if (ocppEvcs.getConfiguredConnectorId().equals(connectorId)) {
-					return ocppEvcs;
-				}
+		var session = this.parent.sessions.get(sessionIndex);
+		if (session != null) {
+			var evcs = session.getEvcs(connectorId);
+			if (evcs != null) {
+				return evcs;
 			}
 		}
 		this.logDebug("No Chargingstation for session " + sessionIndex + " and connector " + connectorId + " found.");
@@ -1,13 +1,14 @@
 package io.openems.edge.evcs.ocpp.server;
 
 import java.net.UnknownHostException;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -30,6 +31,9 @@ import eu.chargetime.ocpp.OccurenceConstraintException;
 import eu.chargetime.ocpp.UnsupportedFeatureException;
 import eu.chargetime.ocpp.model.Confirmation;
 import eu.chargetime.ocpp.model.Request;
+import io.openems.common.channel.AccessMode;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -52,21 +56,59 @@ public class EvcsOcppServer extends AbstractOpenemsComponent implements OpenemsC
 	public static final String DEFAULT_IP = "0.0.0.0";
 	public static final int DEFAULT_PORT = 8887;
 
+	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+		/**
+		 * Number of connected Charging Stations.
+		 */
+		SESSIONS(Doc.of(OpenemsType.INTEGER) //
+				.accessMode(AccessMode.READ_ONLY)), //
+		/**
+		 * Maximum number of pending outbound tasks of one Charging Station.
+		 */
+		MAX_QUEUE_SIZE(Doc.of(OpenemsType.INTEGER) //
+				.accessMode(AccessMode.READ_ONLY)), //
+		/**
+		 * Number of outbound tasks that were dropped because a queue was full, since
+		 * activation of the Component.
+		 */
+		DROPPED_TASKS(Doc.of(OpenemsType.INTEGER) //
+				.accessMode(AccessMode.READ_ONLY)), //
+		/**
+		 * Maximum response time of the last confirmations of all Charging Stations.
+		 */
+		MAX_RESPONSE_TIME(Doc.of(OpenemsType.INTEGER) //
+				.unit(io.openems.common.channel.Unit.MILLISECONDS) //
+				.accessMode(AccessMode.READ_ONLY));
+
+		private final Doc doc;
+
+		private ChannelId(Doc doc) {
+			this.doc = doc;
+		}
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+	}
+
 	private final Logger log = LoggerFactory.getLogger(EvcsOcppServer.class);
 
 	/** The JSON server - responsible for the OCPP communication. */
 	private final MyJsonServer myJsonServer = new MyJsonServer(this);
-	/** Currently connected sessions with their related evcs components. */
-	protected final Map<UUID, List<AbstractManagedOcppEvcsComponent>> activeEvcsSessions = new HashMap<>();
+	/** Current sessions (Existing connections between server and evcs hardware). */
+	protected final Map<UUID, OcppSession> sessions = new ConcurrentHashMap<>();
+	/** Current sessions by OCPP-ID. */
+	protected final Map<String, OcppSession> sessionsByOcppId = new ConcurrentHashMap<>();
+	/** Dropped outbound tasks of all sessions, including closed ones. */
+	protected final AtomicInteger droppedTasks = new AtomicInteger(0);
+	/** Currently configured ocpp evcss by OCPP-ID. */
+	protected final Map<String, List<AbstractManagedOcppEvcsComponent>> ocppEvcss = new ConcurrentHashMap<>();
 
 	@Reference
 	protected ComponentManager componentManager;
 
 	protected Config config;
-	/** Currently configured ocpp evcss. */
-	protected Map<String, List<AbstractManagedOcppEvcsComponent>> ocppEvcss = new HashMap<>();
-	/** Current sessions (Existing connections between server and evcs hardware). */
-	protected Map<String, UUID> ocppSessions = new HashMap<>();
 
 	/**
 	 * Adds each Evcs component to a list and checks whether there is a matching
@@ -79,23 +121,16 @@ public class EvcsOcppServer extends AbstractOpenemsComponent implements OpenemsC
 		if (!(evcs instanceof AbstractManagedOcppEvcsComponent ocppEvcs) || evcs == null) {
 			return;
 		}
-		var presentEvcss = this.ocppEvcss.get(ocppEvcs.getConfiguredOcppId());
-
-		if (presentEvcss == null) {
-			var initEvcssArr = new ArrayList<AbstractManagedOcppEvcsComponent>();
-			initEvcssArr.add(ocppEvcs);
-			this.ocppEvcss.put(ocppEvcs.getConfiguredOcppId(), initEvcssArr);
-		} else {
-			presentEvcss.add(ocppEvcs);
-		}
+		this.ocppEvcss.computeIfAbsent(ocppEvcs.getConfiguredOcppId(), id -> new CopyOnWriteArrayList<>()) //
+				.add(ocppEvcs);
 
-		var sessionId = this.ocppSessions.get(ocppEvcs.getConfiguredOcppId());
-		if (sessionId == null) {
+		var session = this.sessionsByOcppId.get(ocppEvcs.getConfiguredOcppId());
+		if (session == null) {
 			return;
 		}
-		this.activeEvcsSessions.put(sessionId, presentEvcss);
-		ocppEvcs.newSession(this, sessionId);
-		this.myJsonServer.sendInitialRequests(sessionId, ocppEvcs);
+		session.addEvcs(ocppEvcs);
+		ocppEvcs.newSession(this, session.getSessionId());
+		this.myJsonServer.sendInitialRequests(session, List.of(ocppEvcs));
 	}
 
 	/**
@@ -108,20 +143,24 @@ public class EvcsOcppServer extends AbstractOpenemsComponent implements OpenemsC
 		if (!(evcs instanceof AbstractManagedOcppEvcsComponent ocppEvcs) || evcs == null) {
 			return;
 		}
-		var evcss = this.activeEvcsSessions.get(ocppEvcs.getSessionId());
-		if (evcss != null) {
-			if (evcss.size() < 2) {
-				this.activeEvcsSessions.remove(ocppEvcs.getSessionId());
-			} else {
-				this.activeEvcsSessions.get(ocppEvcs.getSessionId()).remove(ocppEvcs);
+		var sessionId = ocppEvcs.getSessionId();
+		if (sessionId != null) {
+			var session = this.sessions.get(sessionId);
+			if (session != null) {
+				session.removeEvcs(ocppEvcs);
 			}
 		}
-		this.ocppEvcss.remove(ocppEvcs.getConfiguredOcppId());
+		this.ocppEvcss.computeIfPresent(ocppEvcs.getConfiguredOcppId(), (id, evcss) -> {
+			evcss.remove(ocppEvcs);
+			return evcss.isEmpty() ? null : evcss;
+		});
 		ocppEvcs.lostSession();
 	}
 
 	public EvcsOcppServer() {
-		super(OpenemsComponent.ChannelId.values() //
+		super(//
+				OpenemsComponent.ChannelId.values(), //
+				ChannelId.values() //
 		);
 	}
 
@@ -145,10 +184,17 @@ public class EvcsOcppServer extends AbstractOpenemsComponent implements OpenemsC
 	public void handleEvent(Event event) {
 		switch (event.getTopic()) {
 		case EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE:
-			for (Entry<UUID, List<AbstractManagedOcppEvcsComponent>> evcsSessions : this.activeEvcsSessions
-					.entrySet()) {
-				this.myJsonServer.sendPermanentRequests(evcsSessions.getValue());
+			var maxQueueSize = 0;
+			var maxResponseTime = 0;
+			for (var session : this.sessions.values()) {
+				this.myJsonServer.sendPermanentRequests(session);
+				maxQueueSize = Math.max(maxQueueSize, session.getQueueSize());
+				maxResponseTime = Math.max(maxResponseTime, session.getLastResponseTime());
 			}
+			this.channel(ChannelId.SESSIONS).setNextValue(this.sessions.size());
+			this.channel(ChannelId.MAX_QUEUE_SIZE).setNextValue(maxQueueSize);
+			this.channel(ChannelId.DROPPED_TASKS).setNextValue(this.droppedTasks.get());
+			this.channel(ChannelId.MAX_RESPONSE_TIME).setNextValue(maxResponseTime);
 			break;
 		}
 	}
@@ -159,6 +205,17 @@ public class EvcsOcppServer extends AbstractOpenemsComponent implements OpenemsC
 		return this.myJsonServer.send(session, request);
 	}
 
+	@Override
+	public String debugLog() {
+		if (this.config == null || !this.config.debugMode() || this.sessions.isEmpty()) {
+			return null;
+		}
+		return this.sessions.values().stream() //
+				.map(OcppSession::toString) //
+				.sorted() //
+				.collect(Collectors.joining(" "));
+	}
+
 	@Override
 	public void logInfo(Logger log, String message) {
 		super.logInfo(log, message);
@@ -1,12 +1,12 @@
 package io.openems.edge.evcs.ocpp.server;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
-import java.util.Map.Entry;
 import java.util.UUID;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -40,6 +40,12 @@ public class MyJsonServer {
 
 	private final EvcsOcppServer parent;
 
+	/**
+	 * Executes the outbound tasks of all {@link OcppSession}s, one virtual thread
+	 * per busy session.
+	 */
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
 	/**
 	 * The JSON OCPP server.
 	 *
@@ -89,44 +95,45 @@ public class MyJsonServer {
 						+ "IP: " + information.getAddress());
 
 				var ocppIdentifier = information.getIdentifier().replace("/", "");
+				final var parent = MyJsonServer.this.parent;
+				var session = new OcppSession(sessionIndex, ocppIdentifier, MyJsonServer.this.executor,
+						parent.droppedTasks::incrementAndGet);
+
+				parent.sessions.put(sessionIndex, session);
+				var previousSession = parent.sessionsByOcppId.put(ocppIdentifier, session);
+				if (previousSession != null) {
+					// Charging Station reconnected before the old session was closed
+					previousSession.close();
+				}
 
-				MyJsonServer.this.parent.ocppSessions.put(ocppIdentifier, sessionIndex);
-
-				var presentEvcss = MyJsonServer.this.parent.ocppEvcss.get(ocppIdentifier);
-
+				var presentEvcss = parent.ocppEvcss.get(ocppIdentifier);
 				if (presentEvcss == null) {
 					return;
 				}
-				MyJsonServer.this.parent.activeEvcsSessions.put(sessionIndex, presentEvcss);
-
-				for (AbstractManagedOcppEvcsComponent evcs : presentEvcss) {
-					evcs.newSession(MyJsonServer.this.parent, sessionIndex);
-					MyJsonServer.this.sendInitialRequests(sessionIndex, evcs);
+				for (var evcs : presentEvcss) {
+					session.addEvcs(evcs);
+					evcs.newSession(parent, sessionIndex);
 				}
+				MyJsonServer.this.sendInitialRequests(session, session.getEvcss());
 			}
 
 			@Override
 			public void lostSession(UUID sessionIndex) {
 				MyJsonServer.this.logDebug("Session " + sessionIndex + " lost connection");
 
-				var sessionEvcss = MyJsonServer.this.parent.activeEvcsSessions.getOrDefault(sessionIndex,
-						new ArrayList<>());
-
-				if (sessionEvcss != null) {
-					for (AbstractManagedOcppEvcsComponent ocppEvcs : sessionEvcss) {
-						ocppEvcs.lostSession();
-					}
+				final var parent = MyJsonServer.this.parent;
+				var session = parent.sessions.remove(sessionIndex);
+				if (session == null) {
+					return;
 				}
+				parent.sessionsByOcppId.remove(session.getOcppId(), session);
+				session.close();
 
-				var ocppId = "";
-				for (Entry<String, UUID> session : MyJsonServer.this.parent.ocppSessions.entrySet()) {
-					if (session.getValue().equals(sessionIndex)) {
-						ocppId = session.getKey();
+				for (var ocppEvcs : session.getEvcss()) {
+					if (sessionIndex.equals(ocppEvcs.getSessionId())) {
+						ocppEvcs.lostSession();
 					}
 				}
-
-				MyJsonServer.this.parent.ocppSessions.remove(ocppId);
-				MyJsonServer.this.parent.activeEvcsSessions.remove(sessionIndex);
 			}
 
 			@Override
@@ -139,6 +146,7 @@ public class MyJsonServer {
 
 	protected void deactivate() {
 		this.server.close();
+		this.executor.shutdownNow();
 	}
 
 	/**
@@ -162,10 +170,16 @@ public class MyJsonServer {
 	 * @param session given session
 	 * @param request given request
 	 */
-	public void sendDefault(UUID session, Request request) {
+	public void sendDefault(OcppSession session, Request request) {
+		final var start = System.nanoTime();
 		try {
-			this.send(session, request).whenComplete((confirmation, throwable) -> {
-				this.logDebug(confirmation.toString());
+			this.send(session.getSessionId(), request).whenComplete((confirmation, throwable) -> {
+				session.recordResponseTime(System.nanoTime() - start);
+				if (throwable != null) {
+					this.logDebug("Request [" + request + "] failed: " + throwable.getMessage());
+				} else {
+					this.logDebug(String.valueOf(confirmation));
+				}
 			});
 		} catch (OccurenceConstraintException e) {
 			this.logWarn("This is not a valid OCPP request: " + request);
@@ -177,42 +191,50 @@ public class MyJsonServer {
 	}
 
 	/**
-	 * Sending initially all required requests to the EVCS.
+	 * Queues all initially required requests for the given EVCSs of one session.
 	 *
-	 * @param sessionIndex given session
-	 * @param ocppEvcs     given evcs
+	 * <p>
+	 * The requests are sent as one batch on the session queue; the configuration
+	 * of the Charging Station is read once per batch instead of once per EVCS.
+	 *
+	 * @param session given session
+	 * @param evcss   given evcss
 	 */
-	protected void sendInitialRequests(UUID sessionIndex, AbstractManagedOcppEvcsComponent ocppEvcs) {
-		// Setting the Evcss of this session id to available
-		var changeAvailabilityRequest = new ChangeAvailabilityRequest(ocppEvcs.getConfiguredConnectorId(),
-				AvailabilityType.Operative);
-		this.sendDefault(sessionIndex, changeAvailabilityRequest);
-
-		// Sending all required requests defined for each EVCS
-		var requiredRequests = ocppEvcs.getRequiredRequestsAfterConnection();
-		for (Request request : requiredRequests) {
-			this.sendDefault(sessionIndex, request);
-		}
+	protected void sendInitialRequests(OcppSession session, Collection<AbstractManagedOcppEvcsComponent> evcss) {
+		var queued = session.execute(() -> {
+			for (var ocppEvcs : evcss) {
+				// Setting the Evcss of this session id to available
+				var changeAvailabilityRequest = new ChangeAvailabilityRequest(ocppEvcs.getConfiguredConnectorId(),
+						AvailabilityType.Operative);
+				this.sendDefault(session, changeAvailabilityRequest);
+
+				// Sending all required requests defined for each EVCS
+				for (Request request : ocppEvcs.getRequiredRequestsAfterConnection()) {
+					this.sendDefault(session, request);
+				}
+			}
 
-		var configuration = this.getConfiguration(sessionIndex);
-		this.logDebug(configuration.toString());
+			var configuration = this.getConfiguration(session.getSessionId());
+			this.logDebug(configuration.toString());
+		});
+		if (!queued) {
+			this.logWarn("Outbound queue of [" + session.getOcppId() + "] is full. Initial requests were dropped");
+		}
 	}
 
 	/**
-	 * Sending all permanently required requests to the EVCS.
+	 * Queues all permanently required requests for the EVCSs of one session.
 	 *
-	 * @param evcss given evcss
+	 * @param session given session
 	 */
-	protected void sendPermanentRequests(List<AbstractManagedOcppEvcsComponent> evcss) {
-		if (evcss == null) {
-			return;
-		}
-		for (AbstractManagedOcppEvcsComponent ocppEvcs : evcss) {
-			var requiredRequests = ocppEvcs.getRequiredRequestsDuringConnection();
-			for (Request request : requiredRequests) {
-				this.sendDefault(ocppEvcs.getSessionId(), request);
+	protected void sendPermanentRequests(OcppSession session) {
+		session.executePermanentRequests(() -> {
+			for (var ocppEvcs : session.getEvcss()) {
+				for (Request request : ocppEvcs.getRequiredRequestsDuringConnection()) {
+					this.sendDefault(session, request);
+				}
 			}
-		}
+		});
 	}
 
 	private HashMap<String, String> getConfiguration(UUID sessionIndex) {
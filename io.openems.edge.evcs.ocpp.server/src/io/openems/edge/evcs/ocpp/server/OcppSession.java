@@ -0,0 +1,220 @@
+package io.openems.edge.evcs.ocpp.server;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.edge.evcs.ocpp.common.AbstractManagedOcppEvcsComponent;
+
+/**
+ * A connected OCPP Charging Station.
+ *
+ * <p>
+ * Holds the EVCS Components of the session indexed by their connector-id and a
+ * bounded outbound queue. Tasks - i.e. batches of requests for the Charging
+ * Station - are executed one after the other on the given {@link Executor}, so
+ * the order is kept per session while neither the OCPP websocket threads nor
+ * the Cycle wait for a slow Charging Station.
+ */
+public class OcppSession {
+
+	/** Maximum number of pending tasks per session. */
+	public static final int QUEUE_CAPACITY = 20;
+
+	private final Logger log = LoggerFactory.getLogger(OcppSession.class);
+
+	private final UUID sessionId;
+	private final String ocppId;
+	private final Executor executor;
+	private final Runnable onTaskDropped;
+	private final Map<Integer, AbstractManagedOcppEvcsComponent> evcsByConnectorId = new ConcurrentHashMap<>();
+	private final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+	private final AtomicBoolean draining = new AtomicBoolean(false);
+	private final AtomicBoolean permanentRequestsPending = new AtomicBoolean(false);
+	private final AtomicInteger droppedTasks = new AtomicInteger(0);
+
+	private volatile int lastResponseTime = 0; // [ms]
+
+	public OcppSession(UUID sessionId, String ocppId, Executor executor, Runnable onTaskDropped) {
+		this.sessionId = sessionId;
+		this.ocppId = ocppId;
+		this.executor = executor;
+		this.onTaskDropped = onTaskDropped;
+	}
+
+	public UUID getSessionId() {
+		return this.sessionId;
+	}
+
+	public String getOcppId() {
+		return this.ocppId;
+	}
+
+	/**
+	 * Adds an EVCS to this session.
+	 *
+	 * @param evcs the {@link AbstractManagedOcppEvcsComponent}
+	 */
+	public void addEvcs(AbstractManagedOcppEvcsComponent evcs) {
+		var connectorId = evcs.getConfiguredConnectorId();
+		if (connectorId == null) {
+			return;
+		}
+		this.evcsByConnectorId.put(connectorId, evcs);
+	}
+
+	/**
+	 * Removes an EVCS from this session.
+	 *
+	 * @param evcs the {@link AbstractManagedOcppEvcsComponent}
+	 */
+	public void removeEvcs(AbstractManagedOcppEvcsComponent evcs) {
+		this.evcsByConnectorId.values().remove(evcs);
+	}
+
+	/**
+	 * Gets the EVCS with the given connector-id.
+	 *
+	 * @param connectorId the connector-id
+	 * @return the {@link AbstractManagedOcppEvcsComponent}; null if there is none
+	 */
+	public AbstractManagedOcppEvcsComponent getEvcs(int connectorId) {
+		return this.evcsByConnectorId.get(connectorId);
+	}
+
+	/**
+	 * Gets all EVCSs of this session.
+	 *
+	 * @return the {@link AbstractManagedOcppEvcsComponent}s
+	 */
+	public Collection<AbstractManagedOcppEvcsComponent> getEvcss() {
+		return this.evcsByConnectorId.values();
+	}
+
+	/**
+	 * Queues a task for this session.
+	 *
+	 * @param task the task
+	 * @return false if the queue is full and the task was dropped
+	 */
+	public boolean execute(Runnable task) {
+		if (!this.queue.offer(task)) {
+			this.droppedTasks.incrementAndGet();
+			this.onTaskDropped.run();
+			return false;
+		}
+		this.scheduleDrain();
+		return true;
+	}
+
+	/**
+	 * Queues the task that sends the permanently required requests.
+	 *
+	 * <p>
+	 * The task is skipped if the task of a previous Cycle is still pending, i.e.
+	 * a slow Charging Station gets the latest requests instead of a growing
+	 * backlog.
+	 *
+	 * @param task the task
+	 */
+	public void executePermanentRequests(Runnable task) {
+		if (!this.permanentRequestsPending.compareAndSet(false, true)) {
+			return;
+		}
+		var queued = this.execute(() -> {
+			this.permanentRequestsPending.set(false);
+			task.run();
+		});
+		if (!queued) {
+			this.permanentRequestsPending.set(false);
+		}
+	}
+
+	/**
+	 * Drops all pending tasks.
+	 */
+	public void close() {
+		this.queue.clear();
+	}
+
+	/**
+	 * Records the time between sending a request and receiving its confirmation.
+	 *
+	 * @param nanos the response time in [ns]
+	 */
+	public void recordResponseTime(long nanos) {
+		this.lastResponseTime = (int) TimeUnit.NANOSECONDS.toMillis(nanos);
+	}
+
+	/**
+	 * Gets the number of pending tasks.
+	 *
+	 * @return the queue size
+	 */
+	public int getQueueSize() {
+		return this.queue.size();
+	}
+
+	/**
+	 * Gets the number of tasks that were dropped because the queue was full.
+	 *
+	 * @return the number of dropped tasks
+	 */
+	public int getDroppedTasks() {
+		return this.droppedTasks.get();
+	}
+
+	/**
+	 * Gets the response time of the last confirmation.
+	 *
+	 * @return the response time in [ms]
+	 */
+	public int getLastResponseTime() {
+		return this.lastResponseTime;
+	}
+
+	@Override
+	public String toString() {
+		return this.ocppId + "[Queue:" + this.getQueueSize() //
+				+ "|Dropped:" + this.getDroppedTasks() //
+				+ "|Response:" + this.lastResponseTime + "ms]";
+	}
+
+	private void scheduleDrain() {
+		if (!this.draining.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			this.executor.execute(this::drain);
+		} catch (RejectedExecutionException e) {
+			this.draining.set(false);
+		}
+	}
+
+	private void drain() {
+		do {
+			Runnable task;
+			while ((task = this.queue.poll()) != null) {
+				try {
+					task.run();
+				} catch (RuntimeException e) {
+					this.log.warn("Error in OCPP session [" + this.ocppId + "]: " + e.getMessage());
+				}
+			}
+			this.draining.set(false);
+
+			// Another task might have been queued after the last poll
+		} while (!this.queue.isEmpty() && this.draining.compareAndSet(false, true));
+	}
+}
@@ -0,0 +1,76 @@
+package io.openems.edge.evcs.ocpp.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class OcppSessionTest {
+
+	/** Collects the drain tasks, so they can be run manually. */
+	private static class ManualExecutor implements java.util.concurrent.Executor {
+		private final List<Runnable> tasks = new ArrayList<>();
+
+		@Override
+		public void execute(Runnable command) {
+			this.tasks.add(command);
+		}
+
+		private void runAll() {
+			while (!this.tasks.isEmpty()) {
+				this.tasks.remove(0).run();
+			}
+		}
+	}
+
+	@Test
+	public void testOrderAndCapacity() {
+		final var executor = new ManualExecutor();
+		final var droppedTasks = new AtomicInteger();
+		final var sut = new OcppSession(UUID.randomUUID(), "ocpp0", executor, droppedTasks::incrementAndGet);
+		final var result = new ArrayList<Integer>();
+
+		for (var i = 0; i < OcppSession.QUEUE_CAPACITY; i++) {
+			final var value = i;
+			assertTrue(sut.execute(() -> result.add(value)));
+		}
+		assertFalse(sut.execute(() -> result.add(-1)));
+		assertEquals(OcppSession.QUEUE_CAPACITY, sut.getQueueSize());
+		assertEquals(1, sut.getDroppedTasks());
+		assertEquals(1, droppedTasks.get());
+
+		// Only one drain task per session
+		assertEquals(1, executor.tasks.size());
+		executor.runAll();
+		assertEquals(OcppSession.QUEUE_CAPACITY, result.size());
+		assertEquals(0, (int) result.get(0));
+		assertEquals(OcppSession.QUEUE_CAPACITY - 1, (int) result.get(result.size() - 1));
+		assertEquals(0, sut.getQueueSize());
+	}
+
+	@Test
+	public void testPermanentRequests() {
+		final var executor = new ManualExecutor();
+		final var sut = new OcppSession(UUID.randomUUID(), "ocpp0", executor, () -> {
+		});
+		final var result = new ArrayList<String>();
+
+		// Pending permanent requests are not queued again
+		sut.executePermanentRequests(() -> result.add("a"));
+		sut.executePermanentRequests(() -> result.add("b"));
+		assertEquals(1, sut.getQueueSize());
+		executor.runAll();
+		assertEquals(List.of("a"), result);
+
+		sut.executePermanentRequests(() -> result.add("c"));
+		executor.runAll();
+		assertEquals(List.of("a", "c"), result);
+	}
+
+}
@@ -19,6 +19,11 @@ import io.openems.edge.common.type.TypeUtils;
  */
 public final class ApplySetPoint {
 
+	/**
+	 * Voltage per phase in [V] used for conversions between current and power.
+	 */
+	public static final int VOLTAGE = 230;
+
 	/**
 	 * Min Current in [mA].
 	 */
@@ -40,7 +45,7 @@ public final class ApplySetPoint {
 	 * @return the value in [W]
 	 */
 	public static int convertMilliAmpereToWatt(SingleOrThreePhase phase, int current) {
-		return round(current / 1000f * phase.count * 230f);
+		return round(current / 1000f * phase.count * VOLTAGE);
 	}
 
 	/**
@@ -62,7 +67,7 @@ public final class ApplySetPoint {
 	 * @return the value in [mA]
 	 */
 	public static int convertWattToMilliAmpere(SingleOrThreePhase phase, int power) {
-		return round(power * 1000 / phase.count / 230f);
+		return round(power * 1000 / phase.count / (float) VOLTAGE);
 	}
 
 	/**
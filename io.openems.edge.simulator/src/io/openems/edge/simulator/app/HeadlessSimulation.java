@@ -0,0 +1,333 @@
+package io.openems.edge.simulator.app;
+
+import static io.openems.edge.common.event.EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS;
+import static io.openems.edge.common.event.EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE;
+import static io.openems.edge.common.event.EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE;
+import static io.openems.edge.common.event.EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS;
+import static io.openems.edge.common.event.EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE;
+import static io.openems.edge.common.event.EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE;
+import static io.openems.edge.common.event.EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.ObjectName;
+
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.test.TimeLeapClock;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.CycleListener;
+import io.openems.edge.common.cycle.CycleListenerRegistry;
+import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.controller.api.Controller;
+
+/**
+ * Runs Cycles of a set of Components headless, i.e. without OSGi and without
+ * waiting for the configured Cycle-Time.
+ *
+ * <p>
+ * Cycles are executed back-to-back as fast as possible. After every Cycle the
+ * {@link TimeLeapClock} is advanced by the simulated Cycle-Time, so e.g. a
+ * year of Datasource values can be replayed through the Controllers in
+ * minutes. The execution follows the order of the Core Cycle: process image,
+ * Sum, Controllers and write events.
+ *
+ * <p>
+ * There is no configuration-driven bootstrap: unlike {@link SimulatorAppImpl},
+ * this class does not create Components from factory PIDs and properties. The
+ * caller instantiates, wires and activates every Component, e.g. via
+ * {@link io.openems.edge.common.test.ComponentTest#addReference(String, Object)}
+ * with {@link #getComponentManager()} as 'componentManager', and adds it via
+ * {@link #addComponent(OpenemsComponent)}. Event handlers are notified and
+ * Controllers are executed in the order they were added;
+ * {@link CycleListener}s are called before the Event handlers of a phase.
+ */
+public class HeadlessSimulation {
+
+	/**
+	 * The phases of one Cycle, as measured by {@link HeadlessSimulation}.
+	 */
+	public static enum Phase {
+		BEFORE_PROCESS_IMAGE(TOPIC_CYCLE_BEFORE_PROCESS_IMAGE), //
+		PROCESS_IMAGE(null), //
+		AFTER_PROCESS_IMAGE(TOPIC_CYCLE_AFTER_PROCESS_IMAGE), //
+		BEFORE_CONTROLLERS(TOPIC_CYCLE_BEFORE_CONTROLLERS), //
+		CONTROLLERS(null), //
+		AFTER_CONTROLLERS(TOPIC_CYCLE_AFTER_CONTROLLERS), //
+		BEFORE_WRITE(TOPIC_CYCLE_BEFORE_WRITE), //
+		EXECUTE_WRITE(TOPIC_CYCLE_EXECUTE_WRITE), //
+		AFTER_WRITE(TOPIC_CYCLE_AFTER_WRITE);
+
+		private final String topic;
+
+		private Phase(String topic) {
+			this.topic = topic;
+		}
+	}
+
+	/**
+	 * The result of {@link HeadlessSimulation#run(long)}.
+	 *
+	 * @param cycles         the number of executed Cycles
+	 * @param durationNanos  the total wall-clock duration in [ns]
+	 * @param phaseNanos     the total duration per {@link Phase} in [ns]
+	 * @param allocatedBytes the bytes allocated by the simulation thread; -1 if
+	 *                       not supported by the JVM
+	 */
+	public static record Result(long cycles, long durationNanos, Map<Phase, Long> phaseNanos,
+			long allocatedBytes) {
+
+		/**
+		 * Gets the number of Cycles per wall-clock second.
+		 *
+		 * @return Cycles per second
+		 */
+		public double cyclesPerSecond() {
+			return this.durationNanos == 0 ? 0 : this.cycles * 1e9 / this.durationNanos;
+		}
+
+		/**
+		 * Gets the average duration of a {@link Phase} per Cycle.
+		 *
+		 * @param phase the {@link Phase}
+		 * @return the duration in [us]
+		 */
+		public double averageMicros(Phase phase) {
+			return this.cycles == 0 ? 0 : this.phaseNanos.getOrDefault(phase, 0L) / 1e3 / this.cycles;
+		}
+
+		/**
+		 * Gets the average allocated bytes per Cycle.
+		 *
+		 * @return the bytes; -1 if not supported by the JVM
+		 */
+		public double allocatedBytesPerCycle() {
+			if (this.allocatedBytes < 0) {
+				return -1;
+			}
+			return this.cycles == 0 ? 0 : (double) this.allocatedBytes / this.cycles;
+		}
+
+		/**
+		 * Gets the allocation rate per wall-clock second.
+		 *
+		 * @return the bytes per second; -1 if not supported by the JVM
+		 */
+		public double allocatedBytesPerSecond() {
+			if (this.allocatedBytes < 0) {
+				return -1;
+			}
+			return this.durationNanos == 0 ? 0 : this.allocatedBytes * 1e9 / this.durationNanos;
+		}
+
+		@Override
+		public String toString() {
+			var b = new StringBuilder() //
+					.append(String.format("Cycles: %d in %d ms (%.1f cycles/s)", this.cycles,
+							TimeUnit.NANOSECONDS.toMillis(this.durationNanos), this.cyclesPerSecond()));
+			for (var phase : Phase.values()) {
+				b.append(String.format("%n  %-20s %10.1f us/cycle", phase, this.averageMicros(phase)));
+			}
+			if (this.allocatedBytes >= 0) {
+				b.append(String.format("%nAllocated: %.0f bytes/cycle (%.1f MB/s)", this.allocatedBytesPerCycle(),
+						this.allocatedBytesPerSecond() / 1_000_000));
+			}
+			return b.toString();
+		}
+	}
+
+	private final Logger log = LoggerFactory.getLogger(HeadlessSimulation.class);
+	private final TimeLeapClock clock;
+	private final Duration cycleTime;
+	private final DummyComponentManager componentManager;
+	private final List<OpenemsComponent> components = new ArrayList<>();
+	private final List<EventHandler> eventHandlers = new ArrayList<>();
+	private final List<Controller> controllers = new ArrayList<>();
+	private final CycleListenerRegistry cycleListeners = new CycleListenerRegistry();
+
+	private Sum sum = null;
+
+	public HeadlessSimulation(TimeLeapClock clock, Duration cycleTime) {
+		this.clock = clock;
+		this.cycleTime = cycleTime;
+		this.componentManager = new DummyComponentManager(clock);
+	}
+
+	/**
+	 * Gets the {@link DummyComponentManager}, that knows all added Components and
+	 * provides the {@link TimeLeapClock}.
+	 *
+	 * @return the {@link DummyComponentManager}
+	 */
+	public DummyComponentManager getComponentManager() {
+		return this.componentManager;
+	}
+
+	/**
+	 * Gets the simulated {@link TimeLeapClock}.
+	 *
+	 * @return the {@link TimeLeapClock}
+	 */
+	public TimeLeapClock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Adds a Component to the simulation.
+	 *
+	 * @param component the {@link OpenemsComponent}
+	 * @return myself
+	 */
+	public HeadlessSimulation addComponent(OpenemsComponent component) {
+		this.componentManager.addComponent(component);
+		this.components.add(component);
+		if (component instanceof Sum s) {
+			this.sum = s;
+		}
+		if (component instanceof EventHandler eh) {
+			this.eventHandlers.add(eh);
+		}
+		if (component instanceof CycleListener cl) {
+			this.cycleListeners.add(cl);
+		}
+		if (component instanceof Controller c) {
+			this.controllers.add(c);
+		}
+		return this;
+	}
+
+	/**
+	 * Runs Cycles until the {@link TimeLeapClock} reaches the given end.
+	 *
+	 * @param end the end of the simulation
+	 * @return the {@link Result}
+	 */
+	public Result runUntil(Instant end) {
+		var cycles = Duration.between(this.clock.instant(), end).toMillis() / this.cycleTime.toMillis();
+		return this.run(Math.max(0, cycles));
+	}
+
+	/**
+	 * Runs the given number of Cycles.
+	 *
+	 * @param cycles the number of Cycles
+	 * @return the {@link Result}
+	 */
+	public Result run(long cycles) {
+		final var phaseNanos = new long[Phase.values().length];
+		final var allocatedBefore = getCurrentThreadAllocatedBytes();
+		final var start = System.nanoTime();
+
+		for (var i = 0L; i < cycles; i++) {
+			this.executeCycle(phaseNanos);
+			this.clock.leap(this.cycleTime.toMillis(), ChronoUnit.MILLIS);
+		}
+
+		final var duration = System.nanoTime() - start;
+		final var allocatedAfter = getCurrentThreadAllocatedBytes();
+
+		final var phases = new EnumMap<Phase, Long>(Phase.class);
+		for (var phase : Phase.values()) {
+			phases.put(phase, phaseNanos[phase.ordinal()]);
+		}
+		return new Result(cycles, duration, Collections.unmodifiableMap(phases),
+				allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore);
+	}
+
+	private void executeCycle(long[] phaseNanos) {
+		var time = System.nanoTime();
+		for (var phase : Phase.values()) {
+			switch (phase) {
+			case PROCESS_IMAGE -> this.switchProcessImage();
+			case CONTROLLERS -> this.runControllers();
+			default -> this.handleEvent(phase);
+			}
+			final var now = System.nanoTime();
+			phaseNanos[phase.ordinal()] += now - time;
+			time = now;
+		}
+	}
+
+	private void handleEvent(Phase phase) {
+		// CycleListeners first, like the Core Cycle
+		this.cycleListeners.execute(CycleListener.Phase.valueOf(phase.name()), (registration, e) -> {
+			this.log.warn("Error in CycleListener [" + registration + "]: " + e.getMessage());
+		});
+
+		// A new Event per Cycle, like EventAdmin; some handlers rely on its identity
+		final var topic = phase.topic;
+		var event = new Event(topic, Map.of());
+		for (var eventHandler : this.eventHandlers) {
+			try {
+				eventHandler.handleEvent(event);
+			} catch (RuntimeException e) {
+				this.log.warn("Error in EventHandler [" + eventHandler + "] on [" + topic + "]: " + e.getMessage());
+			}
+		}
+	}
+
+	private void switchProcessImage() {
+		for (var component : this.components) {
+			if (component instanceof Sum) {
+				continue;
+			}
+			component.channels().forEach(channel -> {
+				channel.nextProcessImage();
+			});
+		}
+		if (this.sum != null) {
+			this.sum.updateChannelsBeforeProcessImage();
+			this.sum.channels().forEach(channel -> {
+				channel.nextProcessImage();
+			});
+		}
+	}
+
+	private void runControllers() {
+		for (var controller : this.controllers) {
+			try {
+				controller.run();
+				controller._setRunFailed(false);
+
+			} catch (OpenemsNamedException e) {
+				controller._setRunFailed(true);
+
+			} catch (Exception e) {
+				this.log.warn("Error in Controller [" + controller.id() + "]. " + e.getClass().getSimpleName() + ": "
+						+ e.getMessage());
+				controller._setRunFailed(true);
+			}
+		}
+	}
+
+	/**
+	 * Gets the bytes allocated by the current Thread via the JVM specific
+	 * 'CurrentThreadAllocatedBytes' attribute of the Threading MXBean.
+	 *
+	 * @return the bytes; -1 if not supported
+	 */
+	private static long getCurrentThreadAllocatedBytes() {
+		try {
+			var value = ManagementFactory.getPlatformMBeanServer().getAttribute(
+					new ObjectName(ManagementFactory.THREAD_MXBEAN_NAME), "CurrentThreadAllocatedBytes");
+			return value instanceof Long l ? l : -1;
+		} catch (Exception e) {
+			return -1;
+		}
+	}
+
+}
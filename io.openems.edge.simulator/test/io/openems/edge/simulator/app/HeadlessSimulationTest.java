@@ -0,0 +1,70 @@
+package io.openems.edge.simulator.app;
+
+import static io.openems.edge.common.event.EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE;
+import static io.openems.edge.common.event.EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+import io.openems.common.test.TimeLeapClock;
+import io.openems.edge.controller.test.DummyController;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+import io.openems.edge.simulator.app.HeadlessSimulation.Phase;
+
+public class HeadlessSimulationTest {
+
+	@Test
+	public void test() {
+		final var clock = new TimeLeapClock(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+		final var sut = new HeadlessSimulation(clock, Duration.ofSeconds(1));
+		final var runs = new ArrayList<Instant>();
+		final var ctrl0 = new DummyController("ctrl0") //
+				.setRunCallback(() -> runs.add(Instant.now(clock)));
+		final var handler0 = new MyEventHandler("handler0");
+		sut //
+				.addComponent(new DummyManagedSymmetricEss("ess0")) //
+				.addComponent(handler0) //
+				.addComponent(ctrl0);
+
+		var result = sut.run(10);
+		assertEquals(10, result.cycles());
+		assertEquals(10, runs.size());
+		assertEquals(Instant.parse("2024-01-01T00:00:09Z"), runs.get(9));
+		assertEquals(Instant.parse("2024-01-01T00:00:10Z"), Instant.now(clock));
+		assertEquals(10 * 7, handler0.topics.size());
+		assertEquals(TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, handler0.topics.get(0));
+		assertEquals(TOPIC_CYCLE_AFTER_PROCESS_IMAGE, handler0.topics.get(1));
+		assertEquals(Phase.values().length, result.phaseNanos().size());
+		assertTrue(result.cyclesPerSecond() > 0);
+
+		// Run until end of the first hour
+		result = sut.runUntil(Instant.parse("2024-01-01T01:00:00Z"));
+		assertEquals(3590, result.cycles());
+		assertEquals(3600, runs.size());
+		assertEquals(Instant.parse("2024-01-01T01:00:00Z"), Instant.now(clock));
+	}
+
+	private static class MyEventHandler extends DummyController implements EventHandler {
+
+		private final List<String> topics = new ArrayList<>();
+
+		public MyEventHandler(String id) {
+			super(id);
+		}
+
+		@Override
+		public void handleEvent(Event event) {
+			this.topics.add(event.getTopic());
+		}
+	}
+
+}
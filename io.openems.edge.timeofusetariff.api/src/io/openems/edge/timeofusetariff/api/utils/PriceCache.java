@@ -0,0 +1,120 @@
+package io.openems.edge.timeofusetariff.api.utils;
+
+import static io.openems.common.utils.JsonUtils.buildJsonArray;
+import static io.openems.common.utils.JsonUtils.buildJsonObject;
+import static io.openems.common.utils.JsonUtils.getAsJsonArray;
+import static io.openems.common.utils.JsonUtils.getAsString;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.gson.JsonNull;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.utils.JsonFileCache;
+import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
+
+/**
+ * Persists the last fetched {@link TimeOfUsePrices} of a Time-of-Use Tariff
+ * provider in the OpenEMS Data Directory.
+ *
+ * <p>
+ * After a restart the provider reloads the cached prices at activation, so
+ * that a schedule can be created before the first successful API request.
+ * Cached prices are only used if they were stored with the same key, e.g. a
+ * combination of all configuration parameters that influence the prices.
+ * Storage is delegated to a {@link JsonFileCache}.
+ */
+public class PriceCache {
+
+	/**
+	 * A {@link PriceCache} that never stores nor loads anything.
+	 */
+	public static final PriceCache DISABLED = new PriceCache(JsonFileCache.DISABLED);
+
+	private static final String CACHE_FOLDER = "timeofusetariff";
+	private static final int VERSION = 2;
+
+	/**
+	 * Gets the {@link PriceCache} for the given Component-ID.
+	 *
+	 * <p>
+	 * The cache is {@link #DISABLED} if no OpenEMS Data Directory is configured.
+	 *
+	 * @param componentId the Component-ID
+	 * @return the {@link PriceCache}
+	 */
+	public static PriceCache of(String componentId) {
+		return new PriceCache(JsonFileCache.of(CACHE_FOLDER, componentId, VERSION));
+	}
+
+	private final JsonFileCache cache;
+
+	public PriceCache(Path file) {
+		this(new JsonFileCache(file, VERSION));
+	}
+
+	private PriceCache(JsonFileCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Loads the cached prices, skipping prices before now.
+	 *
+	 * @param clock the {@link Clock}
+	 * @param key   the expected key, see {@link #store(String, TimeOfUsePrices)}
+	 * @return the {@link TimeOfUsePrices}; {@link TimeOfUsePrices#EMPTY_PRICES} if
+	 *         nothing valid was cached
+	 */
+	public TimeOfUsePrices load(Clock clock, String key) {
+		final var json = this.cache.load(key);
+		if (json == null) {
+			return TimeOfUsePrices.EMPTY_PRICES;
+		}
+		try {
+			var time = ZonedDateTime.ofInstant(Instant.parse(getAsString(json, "start")), clock.getZone());
+			final var map = ImmutableSortedMap.<ZonedDateTime, Double>orderedBy(Comparator.naturalOrder());
+			for (var value : getAsJsonArray(json, "prices")) {
+				if (!value.isJsonNull()) {
+					map.put(time, value.getAsDouble());
+				}
+				time = time.plusMinutes(15);
+			}
+			return TimeOfUsePrices.from(ZonedDateTime.now(clock), TimeOfUsePrices.from(map.build()));
+
+		} catch (OpenemsNamedException | RuntimeException e) {
+			return TimeOfUsePrices.EMPTY_PRICES;
+		}
+	}
+
+	/**
+	 * Stores the prices, replacing any previously cached prices.
+	 *
+	 * @param key    the key, e.g. built from configuration parameters
+	 * @param prices the {@link TimeOfUsePrices}
+	 * @throws IOException on error
+	 */
+	public void store(String key, TimeOfUsePrices prices) throws IOException {
+		if (!this.cache.isEnabled() || prices.isEmpty()) {
+			return;
+		}
+		final var timeseries = prices.asTimeseries();
+		final var values = buildJsonArray();
+		timeseries.stream().forEach(v -> {
+			if (Double.isNaN(v)) {
+				values.add(JsonNull.INSTANCE);
+			} else {
+				values.add(v);
+			}
+		});
+		this.cache.store(key, buildJsonObject() //
+				.addProperty("start", timeseries.getStart()) //
+				.add("prices", values.build()) //
+				.build());
+	}
+}
@@ -0,0 +1,56 @@
+package io.openems.edge.timeofusetariff.api.utils;
+
+import static io.openems.common.test.TestUtils.createDummyClock;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
+
+public class PriceCacheTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	@Test
+	public void testStoreAndLoad() throws Exception {
+		final var clock = createDummyClock();
+		final var now = ZonedDateTime.now(clock);
+		final var cache = new PriceCache(this.tempFolder.getRoot().toPath().resolve("tou0.json"));
+
+		// Nothing cached yet
+		assertTrue(cache.load(clock, "foo").isEmpty());
+
+		cache.store("foo", TimeOfUsePrices.from(now, 100., 200., 300., 400.));
+		var prices = cache.load(clock, "foo");
+		assertArrayEquals(new Double[] { 100., 200., 300., 400. }, prices.asArray());
+		assertEquals(now.toInstant(), prices.getFirstTime().toInstant());
+
+		// Different key
+		assertTrue(cache.load(clock, "bar").isEmpty());
+
+		// Skip past prices
+		clock.leap(30, ChronoUnit.MINUTES);
+		prices = cache.load(clock, "foo");
+		assertArrayEquals(new Double[] { 300., 400. }, prices.asArray());
+
+		// All prices in the past
+		clock.leap(1, ChronoUnit.HOURS);
+		assertTrue(cache.load(clock, "foo").isEmpty());
+	}
+
+	@Test
+	public void testDisabled() throws Exception {
+		final var clock = createDummyClock();
+		PriceCache.DISABLED.store("foo", TimeOfUsePrices.from(ZonedDateTime.now(clock), 100.));
+		assertTrue(PriceCache.DISABLED.load(clock, "foo").isEmpty());
+	}
+
+}
@@ -0,0 +1,266 @@
+package io.openems.edge.timeofusetariff.entsoe;
+
+import java.io.StringReader;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * The relevant content of an ENTSO-E 'Publication_MarketDocument'.
+ *
+ * <p>
+ * The XML is read in one pass with a StAX stream reader; only the
+ * 'period.timeInterval', the currency, the classification sequence and the
+ * 'Period'/'Point' elements are extracted. Prices are kept in primitive arrays
+ * instead of a DOM tree.
+ *
+ * @param timeInterval the global {@link TimeInterval}; null if not available
+ * @param currency     the currency of the first 'TimeSeries'; null if not
+ *                     available
+ * @param timeSeries   the {@link TimeSeries}
+ */
+public record EntsoeDocument(TimeInterval timeInterval, String currency, List<TimeSeries> timeSeries) {
+
+	private static final ZoneId UTC = ZoneId.of("UTC");
+	private static final DateTimeFormatter FORMATTER_MINUTES = DateTimeFormatter.ofPattern("u-MM-dd'T'HH:mmX");
+
+	private static final XMLInputFactory XML_INPUT_FACTORY;
+
+	static {
+		XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+		XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+	}
+
+	/**
+	 * A time interval in UTC.
+	 *
+	 * @param start the start (inclusive)
+	 * @param end   the end (exclusive)
+	 */
+	public record TimeInterval(ZonedDateTime start, ZonedDateTime end) {
+	}
+
+	/**
+	 * One 'TimeSeries' element.
+	 *
+	 * @param sequence the 'classificationSequence_AttributeInstanceComponent.position';
+	 *                 0 if not available
+	 * @param periods  the {@link Period}s
+	 */
+	public record TimeSeries(int sequence, List<Period> periods) {
+	}
+
+	/**
+	 * One 'Period' element.
+	 *
+	 * <p>
+	 * Missing 'Point' positions are filled with the last known price;
+	 * {@link Double#NaN} if there is no previous price.
+	 *
+	 * @param resolution   the resolution, e.g. 'PT15M' or 'PT60M'
+	 * @param timeInterval the {@link TimeInterval}
+	 * @param prices       one price per resolution step, starting at
+	 *                     {@link TimeInterval#start()}
+	 */
+	public record Period(Duration resolution, TimeInterval timeInterval, double[] prices) {
+
+		/**
+		 * Gets the start time of the price at the given index.
+		 *
+		 * @param index the index in {@link #prices()}
+		 * @return the {@link ZonedDateTime}
+		 */
+		public ZonedDateTime getTime(int index) {
+			return this.timeInterval.start.plus(this.resolution.multipliedBy(index));
+		}
+	}
+
+	/**
+	 * Parses an ENTSO-E XML response.
+	 *
+	 * @param xml the XML string
+	 * @return the {@link EntsoeDocument}
+	 * @throws XMLStreamException on error
+	 */
+	public static EntsoeDocument parse(String xml) throws XMLStreamException {
+		final var reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+		try {
+			return new Parser().parse(reader);
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Returns true if any {@link TimeSeries} has a classification sequence.
+	 *
+	 * @return true if sequences are available
+	 */
+	public boolean hasSequence() {
+		return this.timeSeries.stream() //
+				.anyMatch(ts -> ts.sequence != 0);
+	}
+
+	private static class Parser {
+
+		private final ArrayDeque<String> path = new ArrayDeque<>();
+		private final StringBuilder text = new StringBuilder();
+		private final List<TimeSeries> timeSeries = new ArrayList<>();
+
+		private ZonedDateTime globalStart;
+		private ZonedDateTime globalEnd;
+		private String currency;
+
+		// Current TimeSeries
+		private int sequence;
+		private List<Period> periods;
+
+		// Current Period
+		private Duration resolution;
+		private ZonedDateTime periodStart;
+		private ZonedDateTime periodEnd;
+		private int[] positions = new int[100];
+		private double[] amounts = new double[100];
+		private int points;
+
+		// Current Point
+		private int position;
+		private double amount;
+
+		private EntsoeDocument parse(XMLStreamReader reader) throws XMLStreamException {
+			while (reader.hasNext()) {
+				switch (reader.next()) {
+				case XMLStreamConstants.START_ELEMENT -> {
+					this.path.push(reader.getLocalName());
+					this.text.setLength(0);
+					this.onStartElement(reader.getLocalName());
+				}
+				case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+					this.text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+				}
+				case XMLStreamConstants.END_ELEMENT -> {
+					this.path.pop();
+					this.onEndElement(reader.getLocalName(), this.path.peek(), this.text.toString().trim());
+					this.text.setLength(0);
+				}
+				default -> {
+				}
+				}
+			}
+			final var timeInterval = this.globalStart != null && this.globalEnd != null //
+					? new TimeInterval(this.globalStart, this.globalEnd) //
+					: null;
+			return new EntsoeDocument(timeInterval, this.currency, List.copyOf(this.timeSeries));
+		}
+
+		private void onStartElement(String name) {
+			switch (name) {
+			case "TimeSeries" -> {
+				this.sequence = 0;
+				this.periods = new ArrayList<>();
+			}
+			case "Period" -> {
+				this.resolution = null;
+				this.periodStart = null;
+				this.periodEnd = null;
+				this.points = 0;
+			}
+			case "Point" -> {
+				this.position = 0;
+				this.amount = Double.NaN;
+			}
+			default -> {
+			}
+			}
+		}
+
+		private void onEndElement(String name, String parent, String value) {
+			switch (name) {
+			case "start" -> {
+				if ("period.timeInterval".equals(parent)) {
+					this.globalStart = parseTime(value);
+				} else if ("timeInterval".equals(parent)) {
+					this.periodStart = parseTime(value);
+				}
+			}
+			case "end" -> {
+				if ("period.timeInterval".equals(parent)) {
+					this.globalEnd = parseTime(value);
+				} else if ("timeInterval".equals(parent)) {
+					this.periodEnd = parseTime(value);
+				}
+			}
+			case "currency_Unit.name" -> {
+				if (this.currency == null) {
+					this.currency = value;
+				}
+			}
+			case "classificationSequence_AttributeInstanceComponent.position" //
+				-> this.sequence = Integer.parseInt(value);
+			case "resolution" -> this.resolution = Duration.parse(value); // "PT15M" or "PT60M"
+			case "position" -> this.position = Integer.parseInt(value);
+			case "price.amount" -> this.amount = Double.parseDouble(value);
+			case "Point" -> this.addPoint();
+			case "Period" -> this.addPeriod();
+			case "TimeSeries" -> {
+				if (this.periods != null) {
+					this.timeSeries.add(new TimeSeries(this.sequence, List.copyOf(this.periods)));
+				}
+				this.periods = null;
+			}
+			default -> {
+			}
+			}
+		}
+
+		private void addPoint() {
+			if (this.points == this.positions.length) {
+				this.positions = Arrays.copyOf(this.positions, this.points * 2);
+				this.amounts = Arrays.copyOf(this.amounts, this.points * 2);
+			}
+			this.positions[this.points] = this.position;
+			this.amounts[this.points] = this.amount;
+			this.points++;
+		}
+
+		private void addPeriod() {
+			if (this.periods == null || this.resolution == null || this.periodStart == null
+					|| this.periodEnd == null) {
+				return;
+			}
+			final var length = (int) (Duration.between(this.periodStart, this.periodEnd).toSeconds()
+					/ this.resolution.toSeconds());
+			final var prices = new double[Math.max(0, length)];
+			Arrays.fill(prices, Double.NaN);
+			for (var i = 0; i < this.points; i++) {
+				final var index = this.positions[i] - 1;
+				if (index >= 0 && index < prices.length) {
+					prices[index] = this.amounts[i];
+				}
+			}
+			// Fill missing positions using the last known price
+			for (var i = 1; i < prices.length; i++) {
+				if (Double.isNaN(prices[i])) {
+					prices[i] = prices[i - 1];
+				}
+			}
+			this.periods.add(new Period(this.resolution, new TimeInterval(this.periodStart, this.periodEnd), prices));
+		}
+
+		private static ZonedDateTime parseTime(String value) {
+			// e.g. <start>2025-01-17T23:00Z</start>
+			return ZonedDateTime.parse(value, FORMATTER_MINUTES).withZoneSameInstant(UTC);
+		}
+	}
+}
@@ -5,10 +5,10 @@ import static io.openems.edge.common.channel.ChannelUtils.setValue;
 import static io.openems.edge.timeofusetariff.api.TouManualHelper.EMPTY_TOU_MANUAL_HELPER;
 import static io.openems.edge.timeofusetariff.api.utils.ExchangeRateApi.getExchangeRateOrElse;
 import static io.openems.edge.timeofusetariff.api.utils.TimeOfUseTariffUtils.generateDebugLog;
-import static io.openems.edge.timeofusetariff.entsoe.Utils.parseCurrency;
 import static io.openems.edge.timeofusetariff.entsoe.Utils.parsePrices;
 import static io.openems.edge.timeofusetariff.entsoe.Utils.parseToSchedule;
 import static io.openems.edge.timeofusetariff.entsoe.Utils.processPrices;
+import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.HOURS;
 import static java.time.temporal.ChronoUnit.SECONDS;
 
@@ -19,7 +19,7 @@ import java.time.ZonedDateTime;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -30,7 +30,6 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.xml.sax.SAXException;
 
 import io.openems.common.bridge.http.api.BridgeHttp;
 import io.openems.common.bridge.http.api.BridgeHttp.Endpoint;
@@ -42,6 +41,7 @@ import io.openems.common.bridge.http.time.DelayTimeProviderChain;
 import io.openems.common.bridge.http.time.HttpBridgeTimeService;
 import io.openems.common.bridge.http.time.HttpBridgeTimeServiceDefinition;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.oem.OpenemsEdgeOem;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
@@ -51,6 +51,7 @@ import io.openems.edge.common.meta.Meta;
 import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
 import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
 import io.openems.edge.timeofusetariff.api.TouManualHelper;
+import io.openems.edge.timeofusetariff.api.utils.PriceCache;
 
 @Designate(ocd = Config.class, factory = true)
 @Component(//
@@ -83,6 +84,7 @@ public class TouEntsoeImpl extends AbstractOpenemsComponent implements TouEntsoe
 	private Config config = null;
 	private String securityToken = null;
 	private TouManualHelper helper = TouManualHelper.EMPTY_TOU_MANUAL_HELPER;
+	private PriceCache priceCache = PriceCache.DISABLED;
 
 	public TouEntsoeImpl() {
 		super(//
@@ -114,7 +116,13 @@ public class TouEntsoeImpl extends AbstractOpenemsComponent implements TouEntsoe
 		this.meta.getCurrencyChannel().onChange(this.onCurrencyChange);
 		this.timeService = this.httpBridge.createService(HttpBridgeTimeServiceDefinition.INSTANCE);
 
-		this.timeService.subscribeTime(new EntsoeDelayTimeProvider(this.componentManager.getClock()), //
+		// Restore prices from last run; fetch only if they are incomplete
+		final var clock = this.componentManager.getClock();
+		this.priceCache = PriceCache.of(config.id());
+		final var cachedPrices = this.priceCache.load(clock, this.getPriceCacheKey());
+		this.prices.set(cachedPrices);
+
+		this.timeService.subscribeTime(new EntsoeDelayTimeProvider(clock, cachedPrices.getLastTime()), //
 				this::createEntsoeEndpoint, //
 				this::handleEndpointResponse, //
 				this::handleEndpointError);
@@ -145,28 +153,52 @@ public class TouEntsoeImpl extends AbstractOpenemsComponent implements TouEntsoe
 	 * Handles successful response from ENTSO-E API.
 	 *
 	 * @param response the HTTP response
-	 * @throws OpenemsNamedException        if processing fails
-	 * @throws IOException                  on Error
-	 * @throws SAXException                 on Error
-	 * @throws ParserConfigurationException on Error
+	 * @throws OpenemsNamedException if processing fails
+	 * @throws XMLStreamException    on Error
 	 */
 	private void handleEndpointResponse(HttpResponse<String> response)
-			throws OpenemsNamedException, ParserConfigurationException, SAXException, IOException {
+			throws OpenemsNamedException, XMLStreamException {
 		setValue(this, TouEntsoe.ChannelId.HTTP_STATUS_CODE, response.status().code());
 		setValue(this, TouEntsoe.ChannelId.UNABLE_TO_UPDATE_PRICES, false);
 
-		final var result = response.data();
-		final var entsoeCurrency = parseCurrency(result);
+		final var document = EntsoeDocument.parse(response.data());
+		final var entsoeCurrency = document.currency();
+		if (entsoeCurrency == null) {
+			throw new OpenemsException("ENTSO-E response contains no TimeSeries");
+		}
 		final var globalCurrency = this.meta.getCurrency();
 		final double exchangeRate = getExchangeRateOrElse(entsoeCurrency, globalCurrency, 1.);
 		final var gridFees = this.helper.getPrices();
 
 		// Parse the response for the prices
-		final var parsedPrices = parsePrices(result, this.config.resolution(), this.config.biddingZone());
+		final var parsedPrices = parsePrices(document, this.config.resolution(), this.config.biddingZone());
 		final var processedPrices = processPrices(this.componentManager.getClock(), parsedPrices, exchangeRate,
 				gridFees);
 
 		this.prices.set(processedPrices);
+
+		try {
+			this.priceCache.store(this.getPriceCacheKey(), processedPrices);
+		} catch (IOException e) {
+			this.logWarn(this.log, "Unable to store prices in cache: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Gets the key for the {@link PriceCache}. Cached prices are only valid for
+	 * the same configuration and currency.
+	 *
+	 * @return the key
+	 */
+	private String getPriceCacheKey() {
+		if (this.config == null) {
+			return null;
+		}
+		return String.join("|", //
+				this.config.biddingZone().name(), //
+				this.config.resolution().name(), //
+				String.valueOf(this.config.ancillaryCosts()), //
+				this.meta.getCurrency().name());
 	}
 
 	/**
@@ -192,14 +224,26 @@ public class TouEntsoeImpl extends AbstractOpenemsComponent implements TouEntsoe
 	public static class EntsoeDelayTimeProvider implements DelayTimeProvider {
 
 		private final Clock clock;
+		private final ZonedDateTime cachedUntil;
 
 		public EntsoeDelayTimeProvider(Clock clock) {
+			this(clock, null);
+		}
+
+		public EntsoeDelayTimeProvider(Clock clock, ZonedDateTime cachedUntil) {
 			this.clock = clock;
+			this.cachedUntil = cachedUntil;
 		}
 
 		@Override
 		public Delay onFirstRunDelay() {
-			return Delay.immediate();
+			// Fetch immediately, unless cached prices cover the next day until its end;
+			// 'cachedUntil' is the start of the last cached quarter
+			final var endOfTomorrow = ZonedDateTime.now(this.clock).truncatedTo(DAYS).plusDays(2);
+			if (this.cachedUntil == null || this.cachedUntil.plusMinutes(15).isBefore(endOfTomorrow)) {
+				return Delay.immediate();
+			}
+			return Utils.calculateDelay(this.clock, this.cachedUntil);
 		}
 
 		@Override
@@ -215,7 +259,7 @@ public class TouEntsoeImpl extends AbstractOpenemsComponent implements TouEntsoe
 			try {
 				return Utils.calculateDelay(this.clock, result.data());
 
-			} catch (ParserConfigurationException | SAXException | IOException e) {
+			} catch (XMLStreamException e) {
 				// Wait 30 minutes before retry
 				return Delay.of(Duration.ofMinutes(30));
 			}
@@ -1,36 +1,20 @@
 package io.openems.edge.timeofusetariff.entsoe;
 
 import static io.openems.common.utils.DateUtils.roundDownToQuarter;
-import static io.openems.common.utils.XmlUtils.getXmlRootDocument;
-import static io.openems.common.utils.XmlUtils.stream;
 import static io.openems.edge.timeofusetariff.api.AncillaryCosts.parseForGermany;
-import static java.lang.Double.parseDouble;
-import static java.lang.Integer.parseInt;
 
-import java.io.IOException;
-import java.io.StringReader;
 import java.time.Clock;
 import java.time.Duration;
-import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.List;
 import java.util.Objects;
-import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
+import javax.xml.stream.XMLStreamException;
 
 import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.ImmutableTable;
@@ -43,16 +27,13 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jscalendar.JSCalendar;
 import io.openems.common.timedata.DurationUnit;
 import io.openems.common.utils.DateUtils;
-import io.openems.common.utils.XmlUtils;
 import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
+import io.openems.edge.timeofusetariff.entsoe.EntsoeDocument.Period;
+import io.openems.edge.timeofusetariff.entsoe.EntsoeDocument.TimeInterval;
 
 public class Utils {
 
-	private record TimeInterval(ZonedDateTime start, ZonedDateTime end) {
-	}
-
 	private static final int API_EXECUTE_HOUR = 14;
-	protected static final DateTimeFormatter FORMATTER_MINUTES = DateTimeFormatter.ofPattern("u-MM-dd'T'HH:mmX");
 
 	/**
 	 * Parses the XML response from the Entso-E API to get the Day-Ahead prices.
@@ -61,17 +42,29 @@ public class Utils {
 	 * @param preferredResolution The user preferred resolution.
 	 * @param biddingZone         The {@link BiddingZone}
 	 * @return The {@link ImmutableSortedMap}
-	 * @throws ParserConfigurationException on error.
-	 * @throws SAXException                 on error
-	 * @throws IOException                  on error
+	 * @throws XMLStreamException on error
 	 */
 	protected static ImmutableSortedMap<ZonedDateTime, Double> parsePrices(String xml, Resolution preferredResolution,
-			BiddingZone biddingZone) throws ParserConfigurationException, SAXException, IOException {
-		var root = getXmlRootDocument(xml);
+			BiddingZone biddingZone) throws XMLStreamException {
+		return parsePrices(EntsoeDocument.parse(xml), preferredResolution, biddingZone);
+	}
 
-		final var globalTimeInterval = parseTimeInterval(root, "period.timeInterval");
+	/**
+	 * Gets the Day-Ahead prices from a parsed {@link EntsoeDocument}.
+	 * 
+	 * @param document            The {@link EntsoeDocument}.
+	 * @param preferredResolution The user preferred resolution.
+	 * @param biddingZone         The {@link BiddingZone}
+	 * @return The {@link ImmutableSortedMap}
+	 */
+	protected static ImmutableSortedMap<ZonedDateTime, Double> parsePrices(EntsoeDocument document,
+			Resolution preferredResolution, BiddingZone biddingZone) {
+		final var globalTimeInterval = document.timeInterval();
+		if (globalTimeInterval == null) {
+			return ImmutableSortedMap.of();
+		}
 
-		var allPrices = parseXmlWithFallback(root, preferredResolution, globalTimeInterval, biddingZone);
+		var allPrices = parseXmlWithFallback(document, preferredResolution, globalTimeInterval, biddingZone);
 
 		if (allPrices.isEmpty()) {
 			return ImmutableSortedMap.of();
@@ -83,8 +76,8 @@ public class Utils {
 				.toList();
 
 		return Stream //
-				.iterate(globalTimeInterval.start, //
-						t -> t.isBefore(globalTimeInterval.end), //
+				.iterate(globalTimeInterval.start(), //
+						t -> t.isBefore(globalTimeInterval.end()), //
 						t -> t.plusMinutes(15)) //
 				.collect(ImmutableSortedMap.<ZonedDateTime, ZonedDateTime, Double>toImmutableSortedMap(//
 						Comparator.naturalOrder(), //
@@ -109,22 +102,17 @@ public class Utils {
 
 	}
 
-	protected static ImmutableTable<Duration, ZonedDateTime, Double> parseXmlWithFallback(Element root,
+	protected static ImmutableTable<Duration, ZonedDateTime, Double> parseXmlWithFallback(EntsoeDocument document,
 			Resolution preferredResolution, TimeInterval globalTimeInterval, BiddingZone biddingZone) {
-		// Check if classificationSequence exists
-		var hasClassificationSequence = stream(root) //
-				.filter(n -> n.getNodeName() == "TimeSeries") //
-				.anyMatch(timeSeries -> hasSequence(timeSeries));
-
-		if (!hasClassificationSequence) {
+		if (!document.hasSequence()) {
 			// Fallback to old logic - parse all TimeSeries without position filtering
-			return parseXml(root);
+			return parseXml(document);
 		} else {
 			// merge sequence 1 and position 2
-			var sequence1Prices = parseXmlForSequence(root, 1);
-			var sequence2Prices = parseXmlForSequence(root, 2);
+			var sequence1Prices = parseXmlForSequence(document, 1);
+			var sequence2Prices = parseXmlForSequence(document, 2);
 
-			return mergeSequences(sequence1Prices, sequence2Prices, root, preferredResolution, globalTimeInterval,
+			return mergeSequences(sequence1Prices, sequence2Prices, preferredResolution, globalTimeInterval,
 					biddingZone);
 		}
 	}
@@ -167,74 +155,33 @@ public class Utils {
 		return TimeOfUsePrices.from(resultBuilder.build());
 	}
 
-	protected static ImmutableTable<Duration, ZonedDateTime, Double> parseXml(Element root) {
+	protected static ImmutableTable<Duration, ZonedDateTime, Double> parseXml(EntsoeDocument document) {
 		var result = ImmutableTable.<Duration, ZonedDateTime, Double>builder();
-		stream(root) //
-				// <TimeSeries>
-				.filter(n -> n.getNodeName() == "TimeSeries") //
-				.flatMap(XmlUtils::stream) //
-				// <Period>
-				.filter(n -> n.getNodeName() == "Period") //
-				// Find Period with correct resolution
-				.forEach(period -> {
-					try {
-						parsePeriod(result, period);
-					} catch (Exception e) {
-						e.printStackTrace();
-					}
-				});
+		for (var timeSeries : document.timeSeries()) {
+			for (var period : timeSeries.periods()) {
+				parsePeriod(result, period);
+			}
+		}
 		return result.build();
 	}
 
-	protected static TimeInterval parseTimeInterval(Node node, String nodeName) {
-		return parseTimeInterval(stream(node) //
-				// <period.timeInterval>
-				.filter(n -> n.getNodeName() == nodeName) //
-				.flatMap(XmlUtils::stream) //
-				.toList());
-	}
-
-	private static TimeInterval parseTimeInterval(List<Node> nodes) {
-		var start = ZonedDateTime.parse(//
-				nodes.stream() //
-						// <start>2025-01-17T23:00Z</start>
-						.filter(n -> n.getNodeName() == "start") //
-						.map(XmlUtils::getContentAsString) //
-						.findFirst().get(),
-				FORMATTER_MINUTES).withZoneSameInstant(ZoneId.of("UTC"));
-		var end = ZonedDateTime.parse(//
-				nodes.stream() //
-						// <end>2025-01-18T23:00Z</end>
-						.filter(n -> n.getNodeName() == "end") //
-						.map(XmlUtils::getContentAsString) //
-						.findFirst().get(),
-				FORMATTER_MINUTES).withZoneSameInstant(ZoneId.of("UTC"));
-		return new TimeInterval(start, end);
-	}
-
-	protected static ImmutableTable<Duration, ZonedDateTime, Double> parseXmlForSequence(Element root, int position) {
+	protected static ImmutableTable<Duration, ZonedDateTime, Double> parseXmlForSequence(EntsoeDocument document,
+			int position) {
 		var result = ImmutableTable.<Duration, ZonedDateTime, Double>builder();
-		stream(root) //
-				// <TimeSeries>
-				.filter(n -> n.getNodeName() == "TimeSeries") //
-				.filter(timeSeries -> hasExpectedSequence(timeSeries, position)) //
-				.flatMap(XmlUtils::stream) //
-				// <Period>
-				.filter(n -> n.getNodeName() == "Period") //
-				// Find Period with correct resolution
-				.forEach(period -> {
-					try {
-						parsePeriod(result, period);
-					} catch (Exception e) {
-						e.printStackTrace();
-					}
-				});
+		for (var timeSeries : document.timeSeries()) {
+			if (timeSeries.sequence() != position) {
+				continue;
+			}
+			for (var period : timeSeries.periods()) {
+				parsePeriod(result, period);
+			}
+		}
 		return result.build();
 	}
 
 	private static ImmutableTable<Duration, ZonedDateTime, Double> mergeSequences(
 			ImmutableTable<Duration, ZonedDateTime, Double> sequence1,
-			ImmutableTable<Duration, ZonedDateTime, Double> sequence2, Element root, Resolution preferredResolution,
+			ImmutableTable<Duration, ZonedDateTime, Double> sequence2, Resolution preferredResolution,
 			TimeInterval globalTimeInterval, BiddingZone biddingZone) {
 
 		var result = ImmutableTable.<Duration, ZonedDateTime, Double>builder();
@@ -253,8 +200,8 @@ public class Utils {
 		var duration = getDuration(sequence1, preferredResolution);
 
 		// Iterate through all expected time slots
-		var currentTime = globalTimeInterval.start;
-		while (currentTime.isBefore(globalTimeInterval.end)) {
+		var currentTime = globalTimeInterval.start();
+		while (currentTime.isBefore(globalTimeInterval.end())) {
 
 			Double price;
 
@@ -289,23 +236,6 @@ public class Utils {
 		return result.build();
 	}
 
-	private static boolean hasSequence(Node timeSeries) {
-		return stream(timeSeries) //
-				// <classificationSequence_AttributeInstanceComponent.position>
-				.filter(n -> n.getNodeName() == "classificationSequence_AttributeInstanceComponent.position") //
-				.findAny() //
-				.isPresent();
-	}
-
-	private static boolean hasExpectedSequence(Node timeSeries, int expectedSequence) {
-		return stream(timeSeries) //
-				// <classificationSequence_AttributeInstanceComponent.position>
-				.filter(n -> n.getNodeName() == "classificationSequence_AttributeInstanceComponent.position") //
-				.map(XmlUtils::getContentAsString) //
-				.map(Integer::parseInt) //
-				.anyMatch(position -> position == expectedSequence);
-	}
-
 	private static Double getPrice(ImmutableTable<Duration, ZonedDateTime, Double> sequence,
 			ZonedDateTime currentTime) {
 
@@ -317,43 +247,12 @@ public class Utils {
 		return null;
 	}
 
-	protected static void parsePeriod(ImmutableTable.Builder<Duration, ZonedDateTime, Double> result, Node period)
-			throws Exception {
-		final var duration = Duration.parse(stream(period) //
-				// <resolution>
-				.filter(n -> n.getNodeName() == "resolution") //
-				.map(XmlUtils::getContentAsString) //
-				.findFirst().get() /* "PT15M" or "PT60M" */);
-		final var timeInterval = parseTimeInterval(period, "timeInterval");
-		final var prices = new TreeMap<Integer, Double>();
-		stream(period) //
-				// <Point>
-				.filter(n -> n.getNodeName() == "Point") //
-				.forEach(point -> {
-					final var position = stream(point) //
-							// <position>
-							.filter(n -> n.getNodeName() == "position") //
-							.map(XmlUtils::getContentAsString) //
-							.map(s -> parseInt(s)) //
-							.findFirst().get();
-					final var price = stream(point) //
-							// <price.amount>
-							.filter(n -> n.getNodeName() == "price.amount") //
-							.map(XmlUtils::getContentAsString) //
-							.map(s -> parseDouble(s)) //
-							.findFirst().get();
-					prices.put(position, price);
-				});
-
-		// Fill missing positions using the last known price
-		Double price = null;
-		for (var pos = 1;; pos++) {
-			var timestamp = timeInterval.start.plusMinutes((pos - 1) * duration.toMinutes());
-			if (!timestamp.isBefore(timeInterval.end)) {
-				break;
+	protected static void parsePeriod(ImmutableTable.Builder<Duration, ZonedDateTime, Double> result, Period period) {
+		final var prices = period.prices();
+		for (var i = 0; i < prices.length; i++) {
+			if (!Double.isNaN(prices[i])) {
+				result.put(period.resolution(), period.getTime(i), prices[i]);
 			}
-			price = prices.getOrDefault(pos, price);
-			result.put(duration, timestamp, price);
 		}
 	}
 
@@ -362,28 +261,11 @@ public class Utils {
 	 * associated with the prices.
 	 * 
 	 * @param xml The XML string to be parsed.
-	 * @return The currency string.
-	 * @throws ParserConfigurationException on error.
-	 * @throws SAXException                 on error
-	 * @throws IOException                  on error
+	 * @return The currency string; null if not available
+	 * @throws XMLStreamException on error
 	 */
-	protected static String parseCurrency(String xml) throws ParserConfigurationException, SAXException, IOException {
-		var dbFactory = DocumentBuilderFactory.newInstance();
-		var dBuilder = dbFactory.newDocumentBuilder();
-		var is = new InputSource(new StringReader(xml));
-		var doc = dBuilder.parse(is);
-		var root = doc.getDocumentElement();
-
-		var result = stream(root) //
-				// <TimeSeries>
-				.filter(n -> n.getNodeName() == "TimeSeries") //
-				.flatMap(XmlUtils::stream) //
-				// <currency_Unit.name>
-				.filter(n -> n.getNodeName() == "currency_Unit.name") //
-				.map(XmlUtils::getContentAsString) //
-				.findFirst().get();
-
-		return result;
+	protected static String parseCurrency(String xml) throws XMLStreamException {
+		return EntsoeDocument.parse(xml).currency();
 	}
 
 	/**
@@ -451,41 +333,55 @@ public class Utils {
 	 * @param clock the Clock
 	 * @param xml   xml response from API
 	 * @return {@link Delay}
-	 * @throws ParserConfigurationException on Error
-	 * @throws SAXException                 on Error
-	 * @throws IOException                  on Error
+	 * @throws XMLStreamException on Error
 	 */
-	public static Delay calculateDelay(Clock clock, String xml)
-			throws ParserConfigurationException, SAXException, IOException {
-		final var now = ZonedDateTime.now(clock);
-		final var root = getXmlRootDocument(xml);
-
-		final var hasClassificationSequence = stream(root) //
-				.filter(n -> n.getNodeName() == "TimeSeries") //
-				.anyMatch(timeSeries -> hasSequence(timeSeries));
+	public static Delay calculateDelay(Clock clock, String xml) throws XMLStreamException {
+		return calculateDelay(clock, EntsoeDocument.parse(xml));
+	}
 
+	/**
+	 * Calculates the Delay for the next run.
+	 * 
+	 * @param clock    the Clock
+	 * @param document the parsed {@link EntsoeDocument}
+	 * @return {@link Delay}
+	 */
+	public static Delay calculateDelay(Clock clock, EntsoeDocument document) {
 		final ImmutableTable<Duration, ZonedDateTime, Double> prices;
 
-		if (!hasClassificationSequence) {
+		if (!document.hasSequence()) {
 			// Without Sequences
-			prices = parseXml(root);
+			prices = parseXml(document);
 		} else {
 			// only sequence 1
-			prices = parseXmlForSequence(root, 1);
+			prices = parseXmlForSequence(document, 1);
 		}
 
+		var lastTimestamp = prices.columnKeySet().stream().max(Comparator.naturalOrder()).orElse(null);
+		return calculateDelay(clock, lastTimestamp);
+	}
+
+	/**
+	 * Calculates the Delay for the next run, given the last available price.
+	 * 
+	 * @param clock         the Clock
+	 * @param lastTimestamp the time of the last available price; null if there
+	 *                      are no prices
+	 * @return {@link Delay}
+	 */
+	public static Delay calculateDelay(Clock clock, ZonedDateTime lastTimestamp) {
+		final var now = ZonedDateTime.now(clock);
 		var nextRun = DateUtils.roundDownToQuarter(now.plusHours(1));
 
 		// Case 1: No prices at all
-		if (prices.isEmpty()) {
+		if (lastTimestamp == null) {
 			return Delay.of(Duration.between(now, nextRun).minusMinutes(1));
 		}
 
-		var lastTimestamp = prices.columnKeySet().stream().max(Comparator.naturalOrder()).orElse(null);
 		var nextMidnight = now.truncatedTo(ChronoUnit.DAYS).plusDays(1);
 
 		// Case 2: Data doesn't extend to next day (incomplete)
-		if (lastTimestamp == null || lastTimestamp.isBefore(nextMidnight)) {
+		if (lastTimestamp.isBefore(nextMidnight)) {
 			return Delay.of(Duration.between(now, nextRun).minusMinutes(1));
 		}
 
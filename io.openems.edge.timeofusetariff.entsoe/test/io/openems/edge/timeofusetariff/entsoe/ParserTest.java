@@ -6,17 +6,18 @@ import static io.openems.edge.timeofusetariff.entsoe.Utils.parseCurrency;
 import static io.openems.edge.timeofusetariff.entsoe.Utils.parsePrices;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
-import java.io.IOException;
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 
 import org.junit.Test;
-import org.xml.sax.SAXException;
 
 import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.ImmutableTable;
@@ -5507,6 +5508,37 @@ public class ParserTest {
 			</Publication_MarketDocument>
 			""";
 
+	@Test
+	public void testParseDocument() throws Exception {
+		var document = EntsoeDocument.parse(XML);
+		assertEquals("EUR", document.currency());
+		assertEquals(Instant.parse("2025-10-14T22:00:00Z"), document.timeInterval().start().toInstant());
+		assertEquals(Instant.parse("2025-10-16T22:00:00Z"), document.timeInterval().end().toInstant());
+		assertTrue(document.hasSequence());
+		assertEquals(2, document.timeSeries().size());
+
+		var timeSeries = document.timeSeries().get(0);
+		assertEquals(1, timeSeries.sequence());
+		var period = timeSeries.periods().get(0);
+		assertEquals(Duration.ofMinutes(15), period.resolution());
+		assertEquals(96, period.prices().length);
+		assertEquals(120.26, period.prices()[0], 0.001);
+		assertEquals(116.09, period.prices()[1], 0.001);
+		assertEquals(Instant.parse("2025-10-14T22:15:00Z"), period.getTime(1).toInstant());
+
+		// Missing positions are filled with the last known price
+		for (var ts : document.timeSeries()) {
+			for (var p : ts.periods()) {
+				assertTrue(Arrays.stream(p.prices()).noneMatch(Double::isNaN));
+			}
+		}
+
+		document = EntsoeDocument.parse("<root></root>");
+		assertNull(document.timeInterval());
+		assertNull(document.currency());
+		assertTrue(document.timeSeries().isEmpty());
+	}
+
 	@Test
 	public void testParseCurrency() throws Exception {
 		var res = parseCurrency(XML);
@@ -5669,7 +5701,7 @@ public class ParserTest {
 	}
 
 	@Test
-	public void testCalculateDelay() throws ParserConfigurationException, SAXException, IOException {
+	public void testCalculateDelay() throws XMLStreamException {
 
 		var baseTime = ZonedDateTime.parse("2025-01-01T10:00:00Z");
 		var clock = Clock.fixed(baseTime.toInstant(), baseTime.getZone());
@@ -6,7 +6,9 @@ import static io.openems.common.utils.JsonUtils.buildJsonObject;
 import static io.openems.edge.common.currency.Currency.EUR;
 import static io.openems.edge.timeofusetariff.entsoe.Utils.parseToSchedule;
 import static java.time.LocalTime.MIN;
+import static java.time.temporal.ChronoUnit.DAYS;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -21,6 +23,7 @@ import java.util.Comparator;
 import org.junit.Test;
 
 import io.openems.common.bridge.http.dummy.DummyBridgeHttpFactory;
+import io.openems.common.bridge.http.time.DelayTimeProvider.Delay;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.oem.DummyOpenemsEdgeOem;
 import io.openems.common.test.TimeLeapClock;
@@ -30,6 +33,7 @@ import io.openems.edge.common.test.DummyMeta;
 import io.openems.edge.timeofusetariff.api.AncillaryCosts.GridFee;
 import io.openems.edge.timeofusetariff.api.GermanDSO;
 import io.openems.edge.timeofusetariff.api.TouManualHelper;
+import io.openems.edge.timeofusetariff.entsoe.TouEntsoeImpl.EntsoeDelayTimeProvider;
 
 public class TouEntsoeTest {
 	private static final long FULL_DAY_MINUTES = 1440;
@@ -272,4 +276,21 @@ public class TouEntsoeTest {
 		var testTime = toZonedDateTime(2025, 2, 1, 10, 0);
 		assertEquals(0.0, helper.getPrices().getAt(testTime), 0.01);
 	}
+
+	@Test
+	public void testOnFirstRunDelayWithCachedPrices() {
+		var clock = new TimeLeapClock(Instant.parse("2025-02-01T09:00:00Z"), GERMAN_ZONE_ID);
+		var tomorrow = ZonedDateTime.now(clock).truncatedTo(DAYS).plusDays(1);
+
+		// Nothing cached
+		assertEquals(Delay.immediate(), new EntsoeDelayTimeProvider(clock).onFirstRunDelay());
+
+		// Cached prices end in the middle of tomorrow
+		assertEquals(Delay.immediate(),
+				new EntsoeDelayTimeProvider(clock, tomorrow.plusHours(12)).onFirstRunDelay());
+
+		// Cached prices cover tomorrow until its last quarter
+		assertNotEquals(Delay.immediate(),
+				new EntsoeDelayTimeProvider(clock, tomorrow.plusDays(1).minusMinutes(15)).onFirstRunDelay());
+	}
 }
@@ -3,12 +3,16 @@ package io.openems.shared.influxdb;
 import static java.util.Collections.emptySortedMap;
 
 import java.net.URI;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -47,8 +51,11 @@ public class InfluxConnector {
 	private static final int CONNECT_TIMEOUT = 10; // [s]
 	private static final int READ_TIMEOUT = 300; // [s]
 	private static final int WRITE_TIMEOUT = 10; // [s]
+	private static final int QUERY_POOL_SIZE = 4;
 
 	protected final ThreadPoolExecutor executor;
+	private final ExecutorService queryExecutor = Executors.newFixedThreadPool(QUERY_POOL_SIZE,
+			new ThreadFactoryBuilder().setNameFormat("InfluxDB-Query-%d").build());
 
 	private final Logger log = LoggerFactory.getLogger(InfluxConnector.class);
 
@@ -213,6 +220,7 @@ public class InfluxConnector {
 	 * Close current {@link InfluxDBClient}.
 	 */
 	public synchronized void deactivate() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.queryExecutor, 0);
 		if (this.influxConnection != null) {
 			this.influxConnection.client.close();
 		}
@@ -290,8 +298,12 @@ public class InfluxConnector {
 			return emptySortedMap();
 		}
 
-		return this.queryProxy.queryHistoricEnergyPerPeriod(this.getInfluxConnection(), this.bucket, measurement,
-				influxEdgeId, fromDate, toDate, channels, resolution);
+		// Energy per period is the difference to the previous period -> split only by
+		// Channels
+		final var queries = QueryPlanner.plan(fromDate, toDate, channels, null);
+		return this.executePlanned(queries, fromDate.getZone(),
+				query -> this.queryProxy.queryHistoricEnergyPerPeriod(this.getInfluxConnection(), this.bucket,
+						measurement, influxEdgeId, query.fromDate(), query.toDate(), query.channels(), resolution));
 	}
 
 	/**
@@ -340,8 +352,34 @@ public class InfluxConnector {
 			return emptySortedMap();
 		}
 
-		return this.queryProxy.queryHistoricData(this.getInfluxConnection(), this.bucket, measurement, influxEdgeId,
-				fromDate, toDate, channels, resolution);
+		final var queries = QueryPlanner.plan(fromDate, toDate, channels,
+				this.queryProxy.isHistoricDataSliceable(fromDate, resolution) ? resolution : null);
+		return this.executePlanned(queries, fromDate.getZone(),
+				query -> this.queryProxy.queryHistoricData(this.getInfluxConnection(), this.bucket, measurement,
+						influxEdgeId, query.fromDate(), query.toDate(), query.channels(), resolution));
+	}
+
+	/**
+	 * Executes the {@link QueryPlanner.Query Queries} of one request.
+	 *
+	 * <p>
+	 * The query limit of the {@link QueryProxy} applies to the request as a whole,
+	 * not to each of its sub-queries.
+	 *
+	 * @param queries  the planned {@link QueryPlanner.Query Queries}
+	 * @param zone     the {@link ZoneId} of the timestamps of the result
+	 * @param function the {@link QueryPlanner.QueryFunction}
+	 * @return the merged result
+	 * @throws OpenemsNamedException on error
+	 */
+	private SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> executePlanned(
+			List<QueryPlanner.Query> queries, ZoneId zone, QueryPlanner.QueryFunction function)
+			throws OpenemsNamedException {
+		if (queries.size() == 1) {
+			return function.apply(queries.get(0));
+		}
+		return this.queryProxy.executeSplitRequest(() -> QueryPlanner.execute(this.queryExecutor, queries, zone,
+				query -> this.queryProxy.executeSubQuery(() -> function.apply(query))));
 	}
 
 	/**
@@ -0,0 +1,241 @@
+package io.openems.shared.influxdb;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Splits large historic data queries into smaller {@link Query Queries} that
+ * are executed concurrently.
+ *
+ * <p>
+ * Queries are split
+ * <ul>
+ * <li>by groups of Channels - the values of one Channel never depend on other
+ * Channels
+ * <li>by time slices, if the {@link io.openems.shared.influxdb.proxy.QueryProxy}
+ * aggregates every period on its own, i.e. slices that start on a period
+ * boundary return exactly the periods of the unsplit query
+ * </ul>
+ *
+ * <p>
+ * The results are merged as soon as each of them arrived, so only the merged
+ * table and the results of the currently running queries are kept in memory.
+ */
+public class QueryPlanner {
+
+	/**
+	 * Maximum number of Channels per query.
+	 */
+	public static final int MAX_CHANNELS_PER_QUERY = 16;
+
+	/**
+	 * Minimum duration of a time slice.
+	 */
+	public static final Duration MIN_SLICE_DURATION = Duration.ofDays(7);
+
+	/**
+	 * Maximum number of time slices per query.
+	 */
+	public static final int MAX_SLICES = 8;
+
+	/**
+	 * One planned query.
+	 *
+	 * @param fromDate the From-Date
+	 * @param toDate   the To-Date
+	 * @param channels the Channels
+	 */
+	public record Query(ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels) {
+	}
+
+	@FunctionalInterface
+	public static interface QueryFunction {
+
+		/**
+		 * Executes a {@link Query}.
+		 *
+		 * @param query the {@link Query}
+		 * @return the result; possibly null
+		 * @throws OpenemsNamedException on error
+		 */
+		public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> apply(Query query)
+				throws OpenemsNamedException;
+	}
+
+	private QueryPlanner() {
+	}
+
+	/**
+	 * Plans the {@link Query Queries} for a historic data request.
+	 *
+	 * @param fromDate       the From-Date
+	 * @param toDate         the To-Date
+	 * @param channels       the Channels
+	 * @param sliceByPeriods the {@link Resolution} of the periods, if the query
+	 *                       may be split into time slices; null otherwise
+	 * @return the {@link Query Queries}; one {@link Query} if no split is required
+	 */
+	public static List<Query> plan(ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels,
+			Resolution sliceByPeriods) {
+		final var slices = splitTime(fromDate, toDate, sliceByPeriods);
+		final var channelGroups = splitChannels(channels, MAX_CHANNELS_PER_QUERY);
+		final var result = new ArrayList<Query>(slices.size() * channelGroups.size());
+		for (var slice : slices) {
+			for (var group : channelGroups) {
+				result.add(new Query(slice[0], slice[1], group));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Splits the Channels into groups of at most 'maxChannels'.
+	 *
+	 * <p>
+	 * Groups are of similar size; Channels of the same Component end up in the
+	 * same group.
+	 *
+	 * @param channels    the Channels
+	 * @param maxChannels the maximum number of Channels per group
+	 * @return the groups
+	 */
+	protected static List<Set<ChannelAddress>> splitChannels(Set<ChannelAddress> channels, int maxChannels) {
+		if (channels.size() <= maxChannels) {
+			return List.of(channels);
+		}
+		final var groups = Math.ceilDiv(channels.size(), maxChannels);
+		final var result = new ArrayList<Set<ChannelAddress>>(groups);
+		final var sorted = new ArrayList<>(new TreeSet<>(channels));
+		for (var i = 0; i < groups; i++) {
+			result.add(new TreeSet<>(sorted.subList(//
+					i * sorted.size() / groups, (i + 1) * sorted.size() / groups)));
+		}
+		return result;
+	}
+
+	/**
+	 * Splits the time range into slices that start on period boundaries.
+	 *
+	 * <p>
+	 * All slices keep the UTC offset of the From-Date, so the periods of every
+	 * slice are aligned to the same boundaries, even across daylight saving time
+	 * changes.
+	 *
+	 * @param fromDate       the From-Date
+	 * @param toDate         the To-Date
+	 * @param sliceByPeriods the {@link Resolution}; null to not split
+	 * @return the slices as [fromDate, toDate]
+	 */
+	protected static List<ZonedDateTime[]> splitTime(ZonedDateTime fromDate, ZonedDateTime toDate,
+			Resolution sliceByPeriods) {
+		final List<ZonedDateTime[]> unsplit = List.<ZonedDateTime[]>of(new ZonedDateTime[] { fromDate, toDate });
+		if (sliceByPeriods == null) {
+			return unsplit;
+		}
+		final var seconds = toDate.toEpochSecond() - fromDate.toEpochSecond();
+		final var slices = Math.min(MAX_SLICES, seconds / MIN_SLICE_DURATION.toSeconds());
+		if (slices < 2) {
+			return unsplit;
+		}
+
+		final var period = sliceByPeriods.toSeconds();
+		final var sliceSeconds = Math.ceilDiv(Math.ceilDiv(seconds, slices), period) * period;
+		final var offset = fromDate.getOffset();
+		final var result = new ArrayList<ZonedDateTime[]>();
+		for (var start = fromDate.toInstant(); start.isBefore(toDate.toInstant()); start = start
+				.plusSeconds(sliceSeconds)) {
+			var end = start.plusSeconds(sliceSeconds);
+			if (end.isAfter(toDate.toInstant())) {
+				end = toDate.toInstant();
+			}
+			result.add(new ZonedDateTime[] { ZonedDateTime.ofInstant(start, offset),
+					ZonedDateTime.ofInstant(end, offset) });
+		}
+		return result;
+	}
+
+	/**
+	 * Executes the {@link Query Queries} and merges their results.
+	 *
+	 * <p>
+	 * A single {@link Query} is executed in the calling thread. If any
+	 * {@link Query} fails, the remaining ones are cancelled.
+	 *
+	 * @param executor the {@link Executor} for concurrent queries
+	 * @param queries  the {@link Query Queries}
+	 * @param zone     the {@link ZoneId} of the timestamps of the result
+	 * @param function the {@link QueryFunction}
+	 * @return the merged result
+	 * @throws OpenemsNamedException on error
+	 */
+	public static SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> execute(Executor executor,
+			List<Query> queries, ZoneId zone, QueryFunction function) throws OpenemsNamedException {
+		if (queries.size() == 1) {
+			return function.apply(queries.get(0));
+		}
+
+		final var completionService = new ExecutorCompletionService<SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>>(
+				executor);
+		final var futures = new ArrayList<Future<?>>(queries.size());
+		for (var query : queries) {
+			futures.add(completionService.submit(() -> function.apply(query)));
+		}
+
+		final var result = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		try {
+			for (var i = 0; i < queries.size(); i++) {
+				merge(result, completionService.take().get(), zone);
+			}
+			return result;
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OpenemsException("Interrupted while querying historic data");
+
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof OpenemsNamedException one) {
+				throw one;
+			}
+			throw new OpenemsException("Unable to query historic data: " + e.getCause().getMessage());
+
+		} finally {
+			futures.forEach(f -> f.cancel(true));
+		}
+	}
+
+	/**
+	 * Merges the result of a {@link Query} into the complete result.
+	 *
+	 * @param result  the complete result
+	 * @param partial the result of one {@link Query}; possibly null
+	 * @param zone    the {@link ZoneId} of the timestamps of the complete result
+	 */
+	protected static void merge(SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> result,
+			SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> partial, ZoneId zone) {
+		if (partial == null) {
+			return;
+		}
+		for (var entry : partial.entrySet()) {
+			result.computeIfAbsent(entry.getKey().withZoneSameInstant(zone), t -> new TreeMap<>()) //
+					.putAll(entry.getValue());
+		}
+	}
+}
@@ -275,11 +275,11 @@ public class FluxProxy extends QueryProxy {
 		try {
 			queryResult = influxConnection.client.getQueryApi().query(query);
 		} catch (RuntimeException e) {
-			this.queryLimit.increase();
+			this.onQueryResult(false);
 			LOG.error("InfluxDB query runtime error. Query: " + query + ", Error: " + e.getMessage());
 			throw new OpenemsException(e.getMessage());
 		}
-		this.queryLimit.decrease();
+		this.onQueryResult(true);
 		return queryResult;
 	}
 
@@ -109,6 +109,20 @@ public class InfluxQlProxy extends QueryProxy {
 		return convertHistoricDataQueryResult(queryResult, fromDate, resolution, channels, Average::new);
 	}
 
+	@Override
+	public boolean isHistoricDataSliceable(ZonedDateTime fromDate, Resolution resolution) {
+		// Periods are aggregated on their own by 'GROUP BY time()', aligned to the
+		// UTC offset of the From-Date
+		return switch (resolution.getUnit()) {
+		case SECONDS, MINUTES, HOURS, DAYS -> {
+			final var period = resolution.toSeconds();
+			yield period > 0 //
+					&& Math.floorMod(fromDate.toEpochSecond() + fromDate.getOffset().getTotalSeconds(), period) == 0;
+		}
+		default -> false;
+		};
+	}
+
 	protected static class Average implements BiFunction<JsonElement, JsonElement, JsonElement> {
 
 		private int count = 1;
@@ -450,11 +464,11 @@ public class InfluxQlProxy extends QueryProxy {
 			queryResult = influxConnection.client.getInfluxQLQueryApi().query(new InfluxQLQuery(query, database) //
 					.setPrecision(InfluxQLQuery.InfluxQLPrecision.MILLISECONDS));
 		} catch (RuntimeException e) {
-			this.queryLimit.increase();
+			this.onQueryResult(false);
 			LOG.error("InfluxDB query runtime error. Query: " + query + ", Error: " + e.getMessage());
 			throw new OpenemsException(e.getMessage());
 		}
-		this.queryLimit.decrease();
+		this.onQueryResult(true);
 		return queryResult;
 	}
 
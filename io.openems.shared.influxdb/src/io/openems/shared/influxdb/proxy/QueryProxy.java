@@ -209,6 +209,21 @@ public abstract class QueryProxy {
 			Set<ChannelAddress> channels //
 	) throws OpenemsNamedException;
 
+	/**
+	 * Can a {@link #queryHistoricData} query be split into time slices that start
+	 * on period boundaries, without changing the result?
+	 *
+	 * <p>
+	 * Slices keep the UTC offset of the From-Date.
+	 *
+	 * @param fromDate   the From-Date
+	 * @param resolution the {@link Resolution}
+	 * @return true if time slices are supported
+	 */
+	public boolean isHistoricDataSliceable(ZonedDateTime fromDate, Resolution resolution) {
+		return false;
+	}
+
 	public static class RandomLimit {
 		private static final double MAX_LIMIT = 0.95;
 		private static final double MIN_LIMIT = 0;
@@ -249,16 +264,100 @@ public abstract class QueryProxy {
 
 	public final RandomLimit queryLimit = new RandomLimit();
 
+	/**
+	 * Set while a sub-query of a split request is executed on the current thread.
+	 */
+	private final ThreadLocal<Boolean> isSubQuery = ThreadLocal.withInitial(() -> false);
+
 	public boolean isLimitReached() {
 		return Math.random() < this.queryLimit.getLimit();
 	}
 
 	protected void assertQueryLimit() throws OpenemsException {
+		if (this.isSubQuery.get()) {
+			// checked once for the whole split request
+			return;
+		}
 		if (this.isLimitReached()) {
 			throw new OpenemsException("InfluxDB read is temporarily blocked [" + this.queryLimit + "].");
 		}
 	}
 
+	/**
+	 * Adjusts the {@link #queryLimit} after a query; unless it is a sub-query of
+	 * a split request.
+	 *
+	 * @param success true if the query succeeded
+	 */
+	protected void onQueryResult(boolean success) {
+		if (this.isSubQuery.get()) {
+			return;
+		}
+		if (success) {
+			this.queryLimit.decrease();
+		} else {
+			this.queryLimit.increase();
+		}
+	}
+
+	@FunctionalInterface
+	public static interface QueryCall<T> {
+
+		/**
+		 * Executes the query.
+		 *
+		 * @return the result
+		 * @throws OpenemsNamedException on error
+		 */
+		public T call() throws OpenemsNamedException;
+	}
+
+	/**
+	 * Executes a request that is split into multiple sub-queries.
+	 *
+	 * <p>
+	 * The {@link #queryLimit} is checked and adjusted once for the whole request,
+	 * like for a single query. Sub-queries must be executed via
+	 * {@link #executeSubQuery(QueryCall)}.
+	 *
+	 * @param <T>     the type of the result
+	 * @param request the request
+	 * @return the result
+	 * @throws OpenemsNamedException on error
+	 */
+	public <T> T executeSplitRequest(QueryCall<T> request) throws OpenemsNamedException {
+		this.assertQueryLimit();
+		final T result;
+		try {
+			result = request.call();
+		} catch (OpenemsNamedException | RuntimeException e) {
+			this.onQueryResult(false);
+			throw e;
+		}
+		this.onQueryResult(true);
+		return result;
+	}
+
+	/**
+	 * Executes one sub-query of a split request, without checking or adjusting
+	 * the {@link #queryLimit}.
+	 *
+	 * @param <T>      the type of the result
+	 * @param subQuery the sub-query
+	 * @return the result
+	 * @throws OpenemsNamedException on error
+	 * @see #executeSplitRequest(QueryCall)
+	 */
+	public <T> T executeSubQuery(QueryCall<T> subQuery) throws OpenemsNamedException {
+		final var previous = this.isSubQuery.get();
+		this.isSubQuery.set(true);
+		try {
+			return subQuery.call();
+		} finally {
+			this.isSubQuery.set(previous);
+		}
+	}
+
 	// TODO refactor to single parameter
 	protected abstract String buildHistoricDataQuery(//
 			String bucket, //
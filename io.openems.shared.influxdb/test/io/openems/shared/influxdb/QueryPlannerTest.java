@@ -0,0 +1,144 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.shared.influxdb.QueryPlanner.Query;
+
+public class QueryPlannerTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+	private static final ZonedDateTime FROM_DATE = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZONE);
+	private static final ZonedDateTime TO_DATE = FROM_DATE.plusYears(1);
+	private static final Resolution RESOLUTION = new Resolution(1, ChronoUnit.DAYS);
+
+	private static Set<ChannelAddress> channels(int count) {
+		final var result = new HashSet<ChannelAddress>();
+		for (var i = 0; i < count; i++) {
+			result.add(new ChannelAddress("meter" + i / 4, "Channel" + i % 4));
+		}
+		return result;
+	}
+
+	/**
+	 * Simulates a query that aggregates every period on its own, like 'GROUP BY
+	 * time()' with the UTC offset of the From-Date.
+	 *
+	 * @param query the {@link Query}
+	 * @return the result
+	 */
+	private static SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> simulate(Query query) {
+		final var result = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		for (var timestamp = query.fromDate(); timestamp.isBefore(query.toDate()); timestamp = timestamp
+				.plusSeconds(RESOLUTION.toSeconds())) {
+			final var row = new TreeMap<ChannelAddress, JsonElement>();
+			for (var channel : query.channels()) {
+				row.put(channel, new JsonPrimitive(timestamp.toEpochSecond() + channel.hashCode()));
+			}
+			result.put(timestamp, row);
+		}
+		return result;
+	}
+
+	@Test
+	public void testSplitChannels() {
+		assertEquals(1, QueryPlanner.splitChannels(channels(16), 16).size());
+
+		final var groups = QueryPlanner.splitChannels(channels(40), 16);
+		assertEquals(3, groups.size());
+		final var all = new HashSet<ChannelAddress>();
+		for (var group : groups) {
+			assertTrue(group.size() >= 13 && group.size() <= 14);
+			all.addAll(group);
+		}
+		assertEquals(channels(40), all);
+	}
+
+	@Test
+	public void testSplitTime() {
+		// Short range or not sliceable
+		assertEquals(1, QueryPlanner.splitTime(FROM_DATE, FROM_DATE.plusDays(10), RESOLUTION).size());
+		assertEquals(1, QueryPlanner.splitTime(FROM_DATE, TO_DATE, null).size());
+
+		final var slices = QueryPlanner.splitTime(FROM_DATE, TO_DATE, RESOLUTION);
+		assertEquals(QueryPlanner.MAX_SLICES, slices.size());
+		assertTrue(slices.get(0)[0].isEqual(FROM_DATE));
+		assertTrue(slices.get(slices.size() - 1)[1].isEqual(TO_DATE));
+		for (var i = 0; i < slices.size(); i++) {
+			final var slice = slices.get(i);
+			// Same UTC offset, start on a period boundary
+			assertEquals(FROM_DATE.getOffset(), slice[0].getOffset());
+			assertEquals(0, (slice[0].toEpochSecond() - FROM_DATE.toEpochSecond()) % RESOLUTION.toSeconds());
+			if (i > 0) {
+				assertTrue(slices.get(i - 1)[1].isEqual(slice[0]));
+			}
+		}
+	}
+
+	@Test
+	public void testPlan() {
+		assertEquals(1, QueryPlanner.plan(FROM_DATE, TO_DATE, channels(4), null).size());
+		assertEquals(3 * QueryPlanner.MAX_SLICES,
+				QueryPlanner.plan(FROM_DATE, TO_DATE, channels(40), RESOLUTION).size());
+	}
+
+	@Test
+	public void testExecute() throws Exception {
+		final var channels = channels(40);
+		final var expected = simulate(new Query(FROM_DATE, TO_DATE, channels));
+		final var executor = Executors.newFixedThreadPool(4);
+		try {
+			final var queries = QueryPlanner.plan(FROM_DATE, TO_DATE, channels, RESOLUTION);
+			final var count = new AtomicInteger();
+			final var result = QueryPlanner.execute(executor, queries, ZONE, query -> {
+				count.incrementAndGet();
+				return simulate(query);
+			});
+
+			assertEquals(queries.size(), count.get());
+			assertEquals(expected, result);
+			assertEquals(ZONE, result.firstKey().getZone());
+
+		} finally {
+			ThreadPoolUtils.shutdownAndAwaitTermination(executor, 5);
+		}
+	}
+
+	@Test
+	public void testExecuteError() {
+		final var executor = Executors.newFixedThreadPool(4);
+		try {
+			final var queries = QueryPlanner.plan(FROM_DATE, TO_DATE, channels(40), RESOLUTION);
+			final var count = new AtomicInteger();
+			assertThrows(OpenemsException.class, () -> QueryPlanner.execute(executor, queries, ZONE, query -> {
+				if (count.incrementAndGet() == 3) {
+					throw new OpenemsException("Query failed");
+				}
+				return simulate(query);
+			}));
+
+		} finally {
+			ThreadPoolUtils.shutdownAndAwaitTermination(executor, 5);
+		}
+	}
+}
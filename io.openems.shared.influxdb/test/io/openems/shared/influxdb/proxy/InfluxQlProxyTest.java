@@ -2,7 +2,12 @@ package io.openems.shared.influxdb.proxy;
 
 import static io.openems.shared.influxdb.proxy.InfluxQlProxy.parseToJsonElement;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import org.junit.Test;
@@ -11,6 +16,7 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
+import io.openems.common.timedata.Resolution;
 import io.openems.shared.influxdb.proxy.InfluxQlProxy.Average;
 
 public class InfluxQlProxyTest {
@@ -43,4 +49,21 @@ public class InfluxQlProxyTest {
 		assertEquals(JsonNull.INSTANCE, parseToJsonElement(null));
 		assertEquals(JsonNull.INSTANCE, parseToJsonElement(""));
 	}
+
+	@Test
+	public void testIsHistoricDataSliceable() {
+		final var sut = new InfluxQlProxy("edge");
+		final var midnight = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneId.of("Europe/Berlin"));
+
+		assertTrue(sut.isHistoricDataSliceable(midnight, new Resolution(1, ChronoUnit.DAYS)));
+		assertTrue(sut.isHistoricDataSliceable(midnight, new Resolution(15, ChronoUnit.MINUTES)));
+		assertTrue(sut.isHistoricDataSliceable(midnight.plusMinutes(15), new Resolution(15, ChronoUnit.MINUTES)));
+
+		// From-Date is not on a period boundary
+		assertFalse(sut.isHistoricDataSliceable(midnight.plusMinutes(10), new Resolution(15, ChronoUnit.MINUTES)));
+		assertFalse(sut.isHistoricDataSliceable(midnight.plusHours(1), new Resolution(1, ChronoUnit.DAYS)));
+
+		// Periods of variable length
+		assertFalse(sut.isHistoricDataSliceable(midnight, new Resolution(1, ChronoUnit.MONTHS)));
+	}
 }
@@ -0,0 +1,97 @@
+package io.openems.shared.influxdb.proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+
+public class QueryProxyTest {
+
+	private static final String QUERY_FAILED = "Query failed";
+
+	/**
+	 * Simulates a split request like InfluxConnector does: every sub-query runs
+	 * the same limit checks as a single query.
+	 *
+	 * @param sut        the {@link QueryProxy}
+	 * @param subQueries the number of sub-queries
+	 * @param fail       true if the last sub-query fails
+	 * @throws OpenemsNamedException on error
+	 */
+	private static void splitRequest(QueryProxy sut, int subQueries, boolean fail)
+			throws OpenemsNamedException {
+		sut.executeSplitRequest(() -> {
+			for (var i = 0; i < subQueries; i++) {
+				final var last = i == subQueries - 1;
+				sut.executeSubQuery(() -> {
+					sut.assertQueryLimit();
+					if (fail && last) {
+						sut.onQueryResult(false);
+						throw new OpenemsException(QUERY_FAILED);
+					}
+					sut.onQueryResult(true);
+					return null;
+				});
+			}
+			return null;
+		});
+	}
+
+	@Test
+	public void testSubQueriesIgnoreLimit() throws OpenemsNamedException {
+		final var sut = new InfluxQlProxy("edge");
+		for (var i = 0; i < 9; i++) {
+			sut.queryLimit.increase();
+		}
+		assertEquals(0.9, sut.queryLimit.getLimit(), 0.001);
+
+		// Sub-queries neither get rejected nor change the limit
+		for (var i = 0; i < 1_000; i++) {
+			sut.executeSubQuery(() -> {
+				sut.assertQueryLimit();
+				sut.onQueryResult(false);
+				return null;
+			});
+		}
+		assertEquals(0.9, sut.queryLimit.getLimit(), 0.001);
+	}
+
+	@Test
+	public void testSplitRequestWithLimit() {
+		final var sut = new InfluxQlProxy("edge");
+		sut.queryLimit.increase(); // 0.1
+
+		// 56 sub-queries are rejected as a whole with a probability of 0.1; not
+		// with 1 - 0.9^56
+		var rejected = 0;
+		for (var i = 0; i < 100; i++) {
+			try {
+				splitRequest(sut, 56, false);
+			} catch (OpenemsNamedException e) {
+				rejected++;
+			}
+		}
+		assertTrue("Rejected " + rejected + " of 100", rejected < 40);
+
+		// A failed request increases the limit by one step only
+		sut.queryLimit.increase();
+		while (true) {
+			final var before = sut.queryLimit.getLimit();
+			try {
+				splitRequest(sut, 56, true);
+				fail();
+			} catch (OpenemsNamedException e) {
+				if (e.getMessage().equals(QUERY_FAILED)) {
+					assertEquals(before + 0.1, sut.queryLimit.getLimit(), 0.001);
+					return;
+				}
+				// rejected by the limit before executing; limit is unchanged
+				assertEquals(before, sut.queryLimit.getLimit(), 0.001);
+			}
+		}
+	}
+}
@@ -168,6 +168,9 @@ update_bndrun() {
 		if [[ "$D" == *api ]]; then
 			continue # ignore api bundle
 		fi
+		if [[ "$D" == *benchmark ]]; then
+			continue # ignore benchmark bundle
+		fi
 		echo "	bnd.identity;id='${D}',\\" >> "$bndrun.new"
 	done
 	local runbundles=$(grep -n '\-runbundles:' $bndrun | grep -Eo '^[^:]+' | head -n1)